@@ -2,6 +2,11 @@ package com.saimir.gasa.releasevitals.config;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Properties specific to Release Vitals.
  * <p>
@@ -11,4 +16,330 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
 
+    private final Backfill backfill = new Backfill();
+
+    private final ReleaseHealth releaseHealth = new ReleaseHealth();
+
+    private final BurndownAnomaly burndownAnomaly = new BurndownAnomaly();
+
+    private final BulkImport bulkImport = new BulkImport();
+
+    private final ReadReplicas readReplicas = new ReadReplicas();
+
+    private final Cache cache = new Cache();
+
+    private final CacheWarmUp cacheWarmUp = new CacheWarmUp();
+
+    public Backfill getBackfill() {
+        return backfill;
+    }
+
+    public ReleaseHealth getReleaseHealth() {
+        return releaseHealth;
+    }
+
+    public BurndownAnomaly getBurndownAnomaly() {
+        return burndownAnomaly;
+    }
+
+    public BulkImport getBulkImport() {
+        return bulkImport;
+    }
+
+    public ReadReplicas getReadReplicas() {
+        return readReplicas;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public CacheWarmUp getCacheWarmUp() {
+        return cacheWarmUp;
+    }
+
+    public static class Backfill {
+
+        private int parallelism = 4;
+
+        private int writesPerSecond = 5000;
+
+        private int chunkSize = 500;
+
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * @return the rows all the backfill workers may write per second, or 0 for no limit
+         */
+        public int getWritesPerSecond() {
+            return writesPerSecond;
+        }
+
+        public void setWritesPerSecond(int writesPerSecond) {
+            this.writesPerSecond = writesPerSecond;
+        }
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    public static class ReleaseHealth {
+
+        private long recomputeDelay = 10000;
+
+        /**
+         * @return the milliseconds between two recomputations of the releases marked dirty
+         */
+        public long getRecomputeDelay() {
+            return recomputeDelay;
+        }
+
+        public void setRecomputeDelay(long recomputeDelay) {
+            this.recomputeDelay = recomputeDelay;
+        }
+    }
+
+    public static class BurndownAnomaly {
+
+        private boolean digestEnabled = false;
+
+        private String digestCron = "0 0 7 * * MON-FRI";
+
+        /**
+         * @return true to mail the flagged epics to the administrators
+         */
+        public boolean isDigestEnabled() {
+            return digestEnabled;
+        }
+
+        public void setDigestEnabled(boolean digestEnabled) {
+            this.digestEnabled = digestEnabled;
+        }
+
+        public String getDigestCron() {
+            return digestCron;
+        }
+
+        public void setDigestCron(String digestCron) {
+            this.digestCron = digestCron;
+        }
+    }
+
+    public static class BulkImport {
+
+        private int chunkSize = 1000;
+
+        /**
+         * @return the rows imported per transaction
+         */
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    public static class ReadReplicas {
+
+        private boolean enabled = false;
+
+        private long maxLag = 10000;
+
+        private long lagCheckInterval = 5000;
+
+        private String lagQuery = "select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0 " +
+            "else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()) * 1000, 0) end";
+
+        private final List<Replica> replicas = new ArrayList<>();
+
+        /**
+         * @return true to route the read-only transactions to the replicas
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return the milliseconds a replica may lag behind the primary and still serve reads
+         */
+        public long getMaxLag() {
+            return maxLag;
+        }
+
+        public void setMaxLag(long maxLag) {
+            this.maxLag = maxLag;
+        }
+
+        /**
+         * @return the milliseconds between two measures of the lag of the replicas
+         */
+        public long getLagCheckInterval() {
+            return lagCheckInterval;
+        }
+
+        public void setLagCheckInterval(long lagCheckInterval) {
+            this.lagCheckInterval = lagCheckInterval;
+        }
+
+        /**
+         * @return the query returning the lag of a replica in milliseconds
+         */
+        public String getLagQuery() {
+            return lagQuery;
+        }
+
+        public void setLagQuery(String lagQuery) {
+            this.lagQuery = lagQuery;
+        }
+
+        public List<Replica> getReplicas() {
+            return replicas;
+        }
+    }
+
+    public static class Replica {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+
+    public static class Cache {
+
+        private final Map<String, CacheRegion> regions = new HashMap<>();
+
+        /**
+         * @return the settings of the cache regions, by region name relative to the domain package
+         */
+        public Map<String, CacheRegion> getRegions() {
+            return regions;
+        }
+    }
+
+    public static class CacheRegion {
+
+        private Long heapEntries;
+
+        private Long timeToLiveSeconds;
+
+        private long offHeapMegabytes;
+
+        /**
+         * @return the entries kept on the heap, or null for jhipster.cache.ehcache.max-entries
+         */
+        public Long getHeapEntries() {
+            return heapEntries;
+        }
+
+        public void setHeapEntries(Long heapEntries) {
+            this.heapEntries = heapEntries;
+        }
+
+        /**
+         * @return the seconds an entry stays cached, or null for jhipster.cache.ehcache.time-to-live-seconds
+         */
+        public Long getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+
+        /**
+         * @return the megabytes of the off-heap tier below the heap, or 0 for none
+         */
+        public long getOffHeapMegabytes() {
+            return offHeapMegabytes;
+        }
+
+        public void setOffHeapMegabytes(long offHeapMegabytes) {
+            this.offHeapMegabytes = offHeapMegabytes;
+        }
+    }
+
+    public static class CacheWarmUp {
+
+        private boolean enabled = true;
+
+        private long timeBudget = 30000;
+
+        private int releaseBatchSize = 50;
+
+        /**
+         * @return true to preload the active releases into the second-level cache once the application is ready
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * @return the milliseconds after which the warm-up loads no more batch
+         */
+        public long getTimeBudget() {
+            return timeBudget;
+        }
+
+        public void setTimeBudget(long timeBudget) {
+            this.timeBudget = timeBudget;
+        }
+
+        /**
+         * @return the releases loaded, with their projects, versions and epics, per batch of queries
+         */
+        public int getReleaseBatchSize() {
+            return releaseBatchSize;
+        }
+
+        public void setReleaseBatchSize(int releaseBatchSize) {
+            this.releaseBatchSize = releaseBatchSize;
+        }
+    }
 }
@@ -1,61 +1,99 @@
 package com.saimir.gasa.releasevitals.config;
 
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
 import org.ehcache.config.builders.*;
+import org.ehcache.config.units.MemoryUnit;
 import org.ehcache.jsr107.Eh107Configuration;
 
 import io.github.jhipster.config.jcache.BeanClassLoaderAwareJCacheRegionFactory;
 import io.github.jhipster.config.JHipsterProperties;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.*;
 
+/**
+ * Every cache takes the jhipster.cache.ehcache size and time to live, unless application.cache.regions
+ * sizes it on its own; a large region may add an off-heap tier, so its entries do not evict the reference
+ * data from the heap. The JCache statistics of every cache are enabled, and reported per cache by the
+ * JCacheGaugeSet of the MetricsConfiguration.
+ */
 @Configuration
 @EnableCaching
 public class CacheConfiguration {
 
-    private final javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration;
+    private static final String DOMAIN_PACKAGE = "com.saimir.gasa.releasevitals.domain.";
 
-    public CacheConfiguration(JHipsterProperties jHipsterProperties) {
-        BeanClassLoaderAwareJCacheRegionFactory.setBeanClassLoader(this.getClass().getClassLoader());
-        JHipsterProperties.Cache.Ehcache ehcache =
-            jHipsterProperties.getCache().getEhcache();
+    private final Logger log = LoggerFactory.getLogger(CacheConfiguration.class);
 
-        jcacheConfiguration = Eh107Configuration.fromEhcacheCacheConfiguration(
-            CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
-                ResourcePoolsBuilder.heap(ehcache.getMaxEntries()))
-                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ehcache.getTimeToLiveSeconds())))
-                .build());
+    private final JHipsterProperties.Cache.Ehcache ehcache;
+
+    private final Map<String, ApplicationProperties.CacheRegion> regions;
+
+    public CacheConfiguration(JHipsterProperties jHipsterProperties, ApplicationProperties applicationProperties) {
+        BeanClassLoaderAwareJCacheRegionFactory.setBeanClassLoader(this.getClass().getClassLoader());
+        this.ehcache = jHipsterProperties.getCache().getEhcache();
+        this.regions = applicationProperties.getCache().getRegions();
     }
 
     @Bean
     public JCacheManagerCustomizer cacheManagerCustomizer() {
         return cm -> {
-            cm.createCache(com.saimir.gasa.releasevitals.repository.UserRepository.USERS_BY_LOGIN_CACHE, jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.repository.UserRepository.USERS_BY_EMAIL_CACHE, jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.User.class.getName(), jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Authority.class.getName(), jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.User.class.getName() + ".authorities", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Release.class.getName(), jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Release.class.getName() + ".projects", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Sprint.class.getName(), jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Sprint.class.getName() + ".issues", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Project.class.getName(), jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Project.class.getName() + ".versions", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Project.class.getName() + ".epics", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Project.class.getName() + ".issues", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Version.class.getName(), jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Epic.class.getName(), jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Epic.class.getName() + ".unestimatedIssues", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Issue.class.getName(), jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Issue.class.getName() + ".statuses", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Issue.class.getName() + ".fixVersions", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Status.class.getName(), jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Epic.class.getName() + ".projects", jcacheConfiguration);
-            cm.createCache(com.saimir.gasa.releasevitals.domain.Version.class.getName() + ".projects", jcacheConfiguration);
+            createCache(cm, com.saimir.gasa.releasevitals.repository.UserRepository.USERS_BY_LOGIN_CACHE);
+            createCache(cm, com.saimir.gasa.releasevitals.repository.UserRepository.USERS_BY_EMAIL_CACHE);
+            createCache(cm, com.saimir.gasa.releasevitals.domain.User.class.getName());
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Authority.class.getName());
+            createCache(cm, com.saimir.gasa.releasevitals.domain.User.class.getName() + ".authorities");
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Release.class.getName());
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Release.class.getName() + ".projects");
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Sprint.class.getName());
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Project.class.getName());
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Project.class.getName() + ".versions");
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Project.class.getName() + ".epics");
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Version.class.getName());
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Epic.class.getName());
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Epic.class.getName() + ".unestimatedIssues");
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Issue.class.getName());
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Issue.class.getName() + ".statuses");
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Issue.class.getName() + ".fixVersions");
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Status.class.getName());
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Epic.class.getName() + ".projects");
+            createCache(cm, com.saimir.gasa.releasevitals.domain.Version.class.getName() + ".projects");
             // jhipster-needle-ehcache-add-entry
+            Set<String> unknownRegions = new HashSet<>(regions.keySet());
+            cm.getCacheNames().forEach(cacheName -> unknownRegions.remove(regionName(cacheName)));
+            if (!unknownRegions.isEmpty()) {
+                log.warn("No cache for the configured regions {}", unknownRegions);
+            }
         };
     }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        cm.createCache(cacheName, jcacheConfiguration(cacheName));
+        cm.enableStatistics(cacheName, true);
+    }
+
+    javax.cache.configuration.Configuration<Object, Object> jcacheConfiguration(String cacheName) {
+        ApplicationProperties.CacheRegion region = regions.getOrDefault(regionName(cacheName), new ApplicationProperties.CacheRegion());
+        long heapEntries = region.getHeapEntries() == null ? ehcache.getMaxEntries() : region.getHeapEntries();
+        long timeToLiveSeconds = region.getTimeToLiveSeconds() == null ? ehcache.getTimeToLiveSeconds() : region.getTimeToLiveSeconds();
+        ResourcePoolsBuilder resourcePools = ResourcePoolsBuilder.heap(heapEntries);
+        if (region.getOffHeapMegabytes() > 0) {
+            resourcePools = resourcePools.offheap(region.getOffHeapMegabytes(), MemoryUnit.MB);
+        }
+        return Eh107Configuration.fromEhcacheCacheConfiguration(
+            CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class, resourcePools)
+                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(timeToLiveSeconds)))
+                .build());
+    }
+
+    private static String regionName(String cacheName) {
+        return cacheName.startsWith(DOMAIN_PACKAGE) ? cacheName.substring(DOMAIN_PACKAGE.length()) : cacheName;
+    }
 }
@@ -29,11 +29,11 @@ public class JacksonConfiguration {
 
 
     /*
-     * Support for Hibernate types in Jackson.
+     * Support for Hibernate types in Jackson. A lazy association that was not fetched is written as its id.
      */
     @Bean
     public Hibernate5Module hibernate5Module() {
-        return new Hibernate5Module();
+        return new Hibernate5Module().enable(Hibernate5Module.Feature.SERIALIZE_IDENTIFIER_FOR_LAZY_NOT_LOADED_OBJECTS);
     }
 
     /*
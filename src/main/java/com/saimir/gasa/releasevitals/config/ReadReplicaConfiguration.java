@@ -0,0 +1,88 @@
+package com.saimir.gasa.releasevitals.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes the read-only transactions to the read replicas of application.read-replicas, when enabled.
+ * <p>
+ * The primary pool is configured as Spring Boot would configure it, from spring.datasource; each replica
+ * pool takes the same spring.datasource.hikari settings with its own url, and its own credentials if given.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.read-replicas", name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    private final Logger log = LoggerFactory.getLogger(ReadReplicaConfiguration.class);
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             DataSourceProperties dataSourceProperties,
+                                                             ApplicationProperties applicationProperties, Environment environment) {
+        ApplicationProperties.ReadReplicas properties = applicationProperties.getReadReplicas();
+        List<ApplicationProperties.Replica> replicas = properties.getReplicas();
+        Map<String, DataSource> replicaDataSources = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = new HikariDataSource();
+            Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(replica));
+            replica.setPoolName(name);
+            replica.setDriverClassName(dataSourceProperties.determineDriverClassName());
+            replica.setJdbcUrl(replicas.get(i).getUrl());
+            // the credentials of the primary unless the replica has its own
+            replica.setUsername(replicas.get(i).getUsername() == null ?
+                dataSourceProperties.determineUsername() : replicas.get(i).getUsername());
+            replica.setPassword(replicas.get(i).getUsername() == null ?
+                dataSourceProperties.determinePassword() : replicas.get(i).getPassword());
+            replica.setReadOnly(true);
+            // start even when the replica is down; the lag checks keep it out of the rotation
+            replica.setInitializationFailTimeout(-1);
+            replicaDataSources.put(name, replica);
+        }
+        log.info("Routing the read-only transactions to {} replicas lagging by at most {} ms", replicas.size(), properties.getMaxLag());
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaDataSources, properties.getMaxLag(), properties.getLagQuery());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource, HikariDataSource primaryDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(replicaRoutingDataSource);
+        // given the connection defaults, the proxy does not start the pools before the metrics are attached
+        dataSource.setDefaultAutoCommit(primaryDataSource.isAutoCommit());
+        dataSource.setDefaultTransactionIsolation(primaryDataSource.getTransactionIsolation() == null ?
+            Connection.TRANSACTION_READ_COMMITTED : transactionIsolation(primaryDataSource.getTransactionIsolation()));
+        return dataSource;
+    }
+
+    private static int transactionIsolation(String name) {
+        try {
+            return Connection.class.getField(name).getInt(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Unknown transaction isolation " + name, e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.saimir.gasa.releasevitals.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource sending the read-only transactions to the replicas that keep up with the primary, and
+ * everything else to the primary.
+ * <p>
+ * The lag of every replica is measured every application.read-replicas.lag-check-interval; a replica
+ * lagging by more than application.read-replicas.max-lag, or failing the measure, serves no read until a
+ * later measure finds it back in time. With no replica in time, the reads go to the primary. The reads
+ * filling a cache that outlives the request run in read-write transactions, so they never cache the lag.
+ * <p>
+ * The transaction managers take their connection before they mark the transaction read-only, so this
+ * DataSource must be used through a {@link LazyConnectionDataSourceProxy}: the connection is then chosen
+ * at the first statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    static final String PRIMARY = "primary";
+
+    private final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final List<Replica> replicas = new ArrayList<>();
+
+    private final long maxLag;
+
+    private final String lagQuery;
+
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile List<String> inTime = new ArrayList<>();
+
+    /**
+     * @param primary the primary
+     * @param replicas the replicas by name
+     * @param maxLag the milliseconds a replica may lag behind the primary and still serve reads
+     * @param lagQuery the query returning the lag of a replica in milliseconds
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxLag, String lagQuery) {
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        List<String> candidates = inTime;
+        if (candidates.isEmpty() || !TransactionSynchronizationManager.isActualTransactionActive()
+            || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    /**
+     * Measure the lag of every replica, and route the reads to the replicas in time.
+     */
+    @Scheduled(fixedDelayString = "${application.read-replicas.lag-check-interval:5000}")
+    public synchronized void checkReplicas() {
+        List<String> names = new ArrayList<>();
+        for (Replica replica : replicas) {
+            boolean wasInTime = replica.inTime;
+            boolean firstCheck = !replica.checked;
+            replica.checked = true;
+            replica.inTime = false;
+            try {
+                long lag = replica.measureLag(lagQuery);
+                replica.inTime = lag <= maxLag;
+                if (!replica.inTime && (wasInTime || firstCheck)) {
+                    log.warn("Replica {} lags by {} ms, reading from the other replicas or the primary", replica.name, lag);
+                }
+            } catch (SQLException e) {
+                if (wasInTime || firstCheck) {
+                    log.warn("Replica {} is unavailable, reading from the other replicas or the primary: {}", replica.name, e.getMessage());
+                }
+            }
+            if (replica.inTime) {
+                if (!wasInTime) {
+                    log.info("Replica {} is in time, reading from it", replica.name);
+                }
+                names.add(replica.name);
+            }
+        }
+        inTime = names;
+    }
+
+    /**
+     * @return the names of the replicas serving reads
+     */
+    public List<String> getReplicasInTime() {
+        return inTime;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable) {
+                ((Closeable) replica.dataSource).close();
+            }
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+
+        private final DataSource dataSource;
+
+        private boolean inTime;
+
+        private boolean checked;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private long measureLag(String lagQuery) throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                return resultSet.next() ? resultSet.getLong(1) : 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import org.hibernate.envers.RevisionEntity;
+import org.hibernate.envers.RevisionNumber;
+import org.hibernate.envers.RevisionTimestamp;
+
+import javax.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A revision of the audited entities, written by Envers with each transaction that changes them.
+ */
+@Entity
+@RevisionEntity
+@Table(name = "audit_revision")
+public class AuditRevision implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    @RevisionNumber
+    private Long id;
+
+    @RevisionTimestamp
+    @Column(name = "revision_timestamp", nullable = false)
+    private Long timestamp;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return the time of the revision, in milliseconds since the epoch
+     */
+    public Long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(Long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        AuditRevision auditRevision = (AuditRevision) o;
+        if (auditRevision.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), auditRevision.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "AuditRevision{" +
+            "id=" + getId() +
+            ", timestamp=" + getTimestamp() +
+            "}";
+    }
+}
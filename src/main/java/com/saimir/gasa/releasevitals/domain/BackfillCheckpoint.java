@@ -0,0 +1,113 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A unit of the history backfill, a project or an epic, written in the same transaction as its results.
+ * The backfill skips the units it finds here when resumed.
+ */
+@Entity
+@Table(name = "backfill_checkpoint")
+public class BackfillCheckpoint implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "unit_key", nullable = false, unique = true)
+    private String unitKey;
+
+    @NotNull
+    @Column(name = "completed_at", nullable = false)
+    private Instant completedAt;
+
+    @NotNull
+    @Column(name = "row_count", nullable = false)
+    private Integer rowCount;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getUnitKey() {
+        return unitKey;
+    }
+
+    public BackfillCheckpoint unitKey(String unitKey) {
+        this.unitKey = unitKey;
+        return this;
+    }
+
+    public void setUnitKey(String unitKey) {
+        this.unitKey = unitKey;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public BackfillCheckpoint completedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+        return this;
+    }
+
+    public void setCompletedAt(Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public Integer getRowCount() {
+        return rowCount;
+    }
+
+    public BackfillCheckpoint rowCount(Integer rowCount) {
+        this.rowCount = rowCount;
+        return this;
+    }
+
+    public void setRowCount(Integer rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BackfillCheckpoint backfillCheckpoint = (BackfillCheckpoint) o;
+        if (backfillCheckpoint.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), backfillCheckpoint.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "BackfillCheckpoint{" +
+            "id=" + getId() +
+            ", unitKey='" + getUnitKey() + "'" +
+            ", completedAt=" + getCompletedAt() +
+            ", rowCount=" + getRowCount() +
+            "}";
+    }
+}
@@ -0,0 +1,312 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import com.saimir.gasa.releasevitals.domain.enumeration.BurndownAnomalyType;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The rolling statistics of the burndown of an epic, updated by each refresh of the epic without reading
+ * its past refreshes. The last refresh is kept, with the exponentially weighted mean and variance of the
+ * change of remaining points, the exponentially weighted mean of the completion rate, and the anomaly
+ * flagged by the last refresh.
+ */
+@Entity
+@Table(name = "burndown_stats")
+public class BurndownStats implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "epic_id", unique = true, nullable = false)
+    private Long epicId;
+
+    @NotNull
+    @Column(name = "observation_count", nullable = false)
+    private Integer observationCount;
+
+    @NotNull
+    @Column(name = "observed_at", nullable = false)
+    private Instant observedAt;
+
+    @NotNull
+    @Column(name = "remaining_points", nullable = false)
+    private Double remainingPoints;
+
+    @NotNull
+    @Column(name = "completed_points", nullable = false)
+    private Double completedPoints;
+
+    @NotNull
+    @Column(name = "remaining_delta_count", nullable = false)
+    private Integer remainingDeltaCount;
+
+    @NotNull
+    @Column(name = "remaining_delta_mean", nullable = false)
+    private Double remainingDeltaMean;
+
+    @NotNull
+    @Column(name = "remaining_delta_variance", nullable = false)
+    private Double remainingDeltaVariance;
+
+    @NotNull
+    @Column(name = "completion_rate_count", nullable = false)
+    private Integer completionRateCount;
+
+    @NotNull
+    @Column(name = "completion_rate_mean", nullable = false)
+    private Double completionRateMean;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "anomaly")
+    private BurndownAnomalyType anomaly;
+
+    @Column(name = "anomaly_value")
+    private Double anomalyValue;
+
+    @Column(name = "anomaly_threshold")
+    private Double anomalyThreshold;
+
+    @Column(name = "flagged_at")
+    private Instant flaggedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public BurndownStats epicId(Long epicId) {
+        this.epicId = epicId;
+        return this;
+    }
+
+    public void setEpicId(Long epicId) {
+        this.epicId = epicId;
+    }
+
+    public Integer getObservationCount() {
+        return observationCount;
+    }
+
+    public BurndownStats observationCount(Integer observationCount) {
+        this.observationCount = observationCount;
+        return this;
+    }
+
+    public void setObservationCount(Integer observationCount) {
+        this.observationCount = observationCount;
+    }
+
+    public Instant getObservedAt() {
+        return observedAt;
+    }
+
+    public BurndownStats observedAt(Instant observedAt) {
+        this.observedAt = observedAt;
+        return this;
+    }
+
+    public void setObservedAt(Instant observedAt) {
+        this.observedAt = observedAt;
+    }
+
+    public Double getRemainingPoints() {
+        return remainingPoints;
+    }
+
+    public BurndownStats remainingPoints(Double remainingPoints) {
+        this.remainingPoints = remainingPoints;
+        return this;
+    }
+
+    public void setRemainingPoints(Double remainingPoints) {
+        this.remainingPoints = remainingPoints;
+    }
+
+    public Double getCompletedPoints() {
+        return completedPoints;
+    }
+
+    public BurndownStats completedPoints(Double completedPoints) {
+        this.completedPoints = completedPoints;
+        return this;
+    }
+
+    public void setCompletedPoints(Double completedPoints) {
+        this.completedPoints = completedPoints;
+    }
+
+    public Integer getRemainingDeltaCount() {
+        return remainingDeltaCount;
+    }
+
+    public BurndownStats remainingDeltaCount(Integer remainingDeltaCount) {
+        this.remainingDeltaCount = remainingDeltaCount;
+        return this;
+    }
+
+    public void setRemainingDeltaCount(Integer remainingDeltaCount) {
+        this.remainingDeltaCount = remainingDeltaCount;
+    }
+
+    public Double getRemainingDeltaMean() {
+        return remainingDeltaMean;
+    }
+
+    public BurndownStats remainingDeltaMean(Double remainingDeltaMean) {
+        this.remainingDeltaMean = remainingDeltaMean;
+        return this;
+    }
+
+    public void setRemainingDeltaMean(Double remainingDeltaMean) {
+        this.remainingDeltaMean = remainingDeltaMean;
+    }
+
+    public Double getRemainingDeltaVariance() {
+        return remainingDeltaVariance;
+    }
+
+    public BurndownStats remainingDeltaVariance(Double remainingDeltaVariance) {
+        this.remainingDeltaVariance = remainingDeltaVariance;
+        return this;
+    }
+
+    public void setRemainingDeltaVariance(Double remainingDeltaVariance) {
+        this.remainingDeltaVariance = remainingDeltaVariance;
+    }
+
+    public Integer getCompletionRateCount() {
+        return completionRateCount;
+    }
+
+    public BurndownStats completionRateCount(Integer completionRateCount) {
+        this.completionRateCount = completionRateCount;
+        return this;
+    }
+
+    public void setCompletionRateCount(Integer completionRateCount) {
+        this.completionRateCount = completionRateCount;
+    }
+
+    public Double getCompletionRateMean() {
+        return completionRateMean;
+    }
+
+    public BurndownStats completionRateMean(Double completionRateMean) {
+        this.completionRateMean = completionRateMean;
+        return this;
+    }
+
+    public void setCompletionRateMean(Double completionRateMean) {
+        this.completionRateMean = completionRateMean;
+    }
+
+    public BurndownAnomalyType getAnomaly() {
+        return anomaly;
+    }
+
+    public BurndownStats anomaly(BurndownAnomalyType anomaly) {
+        this.anomaly = anomaly;
+        return this;
+    }
+
+    public void setAnomaly(BurndownAnomalyType anomaly) {
+        this.anomaly = anomaly;
+    }
+
+    public Double getAnomalyValue() {
+        return anomalyValue;
+    }
+
+    public BurndownStats anomalyValue(Double anomalyValue) {
+        this.anomalyValue = anomalyValue;
+        return this;
+    }
+
+    public void setAnomalyValue(Double anomalyValue) {
+        this.anomalyValue = anomalyValue;
+    }
+
+    public Double getAnomalyThreshold() {
+        return anomalyThreshold;
+    }
+
+    public BurndownStats anomalyThreshold(Double anomalyThreshold) {
+        this.anomalyThreshold = anomalyThreshold;
+        return this;
+    }
+
+    public void setAnomalyThreshold(Double anomalyThreshold) {
+        this.anomalyThreshold = anomalyThreshold;
+    }
+
+    public Instant getFlaggedAt() {
+        return flaggedAt;
+    }
+
+    public BurndownStats flaggedAt(Instant flaggedAt) {
+        this.flaggedAt = flaggedAt;
+        return this;
+    }
+
+    public void setFlaggedAt(Instant flaggedAt) {
+        this.flaggedAt = flaggedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        BurndownStats burndownStats = (BurndownStats) o;
+        if (burndownStats.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), burndownStats.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "BurndownStats{" +
+            "id=" + getId() +
+            ", epicId=" + getEpicId() +
+            ", observationCount=" + getObservationCount() +
+            ", observedAt='" + getObservedAt() + "'" +
+            ", remainingPoints=" + getRemainingPoints() +
+            ", completedPoints=" + getCompletedPoints() +
+            ", remainingDeltaCount=" + getRemainingDeltaCount() +
+            ", remainingDeltaMean=" + getRemainingDeltaMean() +
+            ", remainingDeltaVariance=" + getRemainingDeltaVariance() +
+            ", completionRateCount=" + getCompletionRateCount() +
+            ", completionRateMean=" + getCompletionRateMean() +
+            ", anomaly='" + getAnomaly() + "'" +
+            ", anomalyValue=" + getAnomalyValue() +
+            ", anomalyThreshold=" + getAnomalyThreshold() +
+            ", flaggedAt='" + getFlaggedAt() + "'" +
+            "}";
+    }
+}
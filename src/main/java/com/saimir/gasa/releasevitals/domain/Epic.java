@@ -3,6 +3,7 @@ package com.saimir.gasa.releasevitals.domain;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.envers.Audited;
 
 import javax.persistence.*;
 
@@ -14,6 +15,9 @@ import java.util.Objects;
 
 /**
  * A Epic.
+ * <p>
+ * The metric fields are audited, so each Jira refresh that changes them leaves a revision in epic_aud.
+ * The version makes a refresh or an edit based on a stale epic fail instead of overwriting a newer one.
  */
 @Entity
 @Table(name = "epic")
@@ -31,18 +35,23 @@ public class Epic implements Serializable {
     @Column(name = "name")
     private String name;
 
+    @Audited
     @Column(name = "total_story_points")
     private Double totalStoryPoints = 0d;
 
+    @Audited
     @Column(name = "story_points_completed")
     private Double storyPointsCompleted = 0d;
 
+    @Audited
     @Column(name = "remaining_story_points")
     private Double remainingStoryPoints = 0d;
 
+    @Audited
     @Column(name = "total_issue_count")
     private Integer totalIssueCount = 0;
 
+    @Audited
     @Column(name = "percentage_completed")
     private Double percentageCompleted;
 
@@ -52,6 +61,10 @@ public class Epic implements Serializable {
     @Column(name = "epic_browser_url")
     private String epicBrowserURL;
 
+    @javax.persistence.Version
+    @Column(name = "version", nullable = false)
+    private Integer version;
+
     @OneToMany(mappedBy = "epic")
     @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
     private Set<Issue> unestimatedIssues = new HashSet<>();
@@ -175,6 +188,14 @@ public class Epic implements Serializable {
         this.epicBrowserURL = epicBrowserURL;
     }
 
+    public Integer getVersion() {
+        return version;
+    }
+
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Set<Issue> getUnestimatedIssues() {
         return unestimatedIssues;
     }
@@ -256,6 +277,7 @@ public class Epic implements Serializable {
             ", percentageCompleted=" + getPercentageCompleted() +
             ", key='" + getKey() + "'" +
             ", epicBrowserURL='" + getEpicBrowserURL() + "'" +
+            ", version=" + getVersion() +
             "}";
     }
 
@@ -0,0 +1,226 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The distribution of the story point estimates of the issues of an epic in one project, as fixed
+ * bucket counters replaced by every Jira refresh of the epic. A bucket holds the estimates up to its
+ * upper bound and above the bound of the previous bucket; the last bucket is open.
+ */
+@Entity
+@Table(name = "estimate_histogram")
+public class EstimateHistogram implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The upper bounds of the buckets, all but the last which holds the larger estimates.
+     */
+    public static final double[] UPPER_BOUNDS = {0, 1, 2, 3, 5, 8, 13, 21};
+
+    public static final int BUCKET_COUNT = UPPER_BOUNDS.length + 1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "epic_id", nullable = false)
+    private Long epicId;
+
+    @Column(name = "project_key")
+    private String projectKey;
+
+    @NotNull
+    @Column(name = "issue_count", nullable = false)
+    private Integer issueCount;
+
+    @NotNull
+    @Column(name = "unestimated_count", nullable = false)
+    private Integer unestimatedCount;
+
+    @NotNull
+    @Column(name = "up_to_0", nullable = false)
+    private Integer upTo0;
+
+    @NotNull
+    @Column(name = "up_to_1", nullable = false)
+    private Integer upTo1;
+
+    @NotNull
+    @Column(name = "up_to_2", nullable = false)
+    private Integer upTo2;
+
+    @NotNull
+    @Column(name = "up_to_3", nullable = false)
+    private Integer upTo3;
+
+    @NotNull
+    @Column(name = "up_to_5", nullable = false)
+    private Integer upTo5;
+
+    @NotNull
+    @Column(name = "up_to_8", nullable = false)
+    private Integer upTo8;
+
+    @NotNull
+    @Column(name = "up_to_13", nullable = false)
+    private Integer upTo13;
+
+    @NotNull
+    @Column(name = "up_to_21", nullable = false)
+    private Integer upTo21;
+
+    @NotNull
+    @Column(name = "over_21", nullable = false)
+    private Integer over21;
+
+    /**
+     * @param estimate the story points of an issue
+     * @return the index of the bucket holding the estimate
+     */
+    public static int bucketOf(double estimate) {
+        for (int i = 0; i < UPPER_BOUNDS.length; i++) {
+            if (estimate <= UPPER_BOUNDS[i]) {
+                return i;
+            }
+        }
+        return UPPER_BOUNDS.length;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public EstimateHistogram epicId(Long epicId) {
+        this.epicId = epicId;
+        return this;
+    }
+
+    public void setEpicId(Long epicId) {
+        this.epicId = epicId;
+    }
+
+    public String getProjectKey() {
+        return projectKey;
+    }
+
+    public EstimateHistogram projectKey(String projectKey) {
+        this.projectKey = projectKey;
+        return this;
+    }
+
+    public void setProjectKey(String projectKey) {
+        this.projectKey = projectKey;
+    }
+
+    public Integer getIssueCount() {
+        return issueCount;
+    }
+
+    public EstimateHistogram issueCount(Integer issueCount) {
+        this.issueCount = issueCount;
+        return this;
+    }
+
+    public void setIssueCount(Integer issueCount) {
+        this.issueCount = issueCount;
+    }
+
+    public Integer getUnestimatedCount() {
+        return unestimatedCount;
+    }
+
+    public EstimateHistogram unestimatedCount(Integer unestimatedCount) {
+        this.unestimatedCount = unestimatedCount;
+        return this;
+    }
+
+    public void setUnestimatedCount(Integer unestimatedCount) {
+        this.unestimatedCount = unestimatedCount;
+    }
+
+    /**
+     * @return the counters of the buckets, in the order of {@link #UPPER_BOUNDS}
+     */
+    public int[] getBucketCounts() {
+        return new int[] {upTo0, upTo1, upTo2, upTo3, upTo5, upTo8, upTo13, upTo21, over21};
+    }
+
+    /**
+     * @param bucketCounts the counters of the buckets, in the order of {@link #UPPER_BOUNDS}
+     * @return this histogram
+     */
+    public EstimateHistogram bucketCounts(int[] bucketCounts) {
+        setBucketCounts(bucketCounts);
+        return this;
+    }
+
+    public void setBucketCounts(int[] bucketCounts) {
+        if (bucketCounts.length != BUCKET_COUNT) {
+            throw new IllegalArgumentException("Expected " + BUCKET_COUNT + " buckets, got " + bucketCounts.length);
+        }
+        this.upTo0 = bucketCounts[0];
+        this.upTo1 = bucketCounts[1];
+        this.upTo2 = bucketCounts[2];
+        this.upTo3 = bucketCounts[3];
+        this.upTo5 = bucketCounts[4];
+        this.upTo8 = bucketCounts[5];
+        this.upTo13 = bucketCounts[6];
+        this.upTo21 = bucketCounts[7];
+        this.over21 = bucketCounts[8];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EstimateHistogram estimateHistogram = (EstimateHistogram) o;
+        if (estimateHistogram.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), estimateHistogram.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "EstimateHistogram{" +
+            "id=" + getId() +
+            ", epicId=" + getEpicId() +
+            ", projectKey='" + getProjectKey() + "'" +
+            ", issueCount=" + getIssueCount() +
+            ", unestimatedCount=" + getUnestimatedCount() +
+            ", upTo0=" + upTo0 +
+            ", upTo1=" + upTo1 +
+            ", upTo2=" + upTo2 +
+            ", upTo3=" + upTo3 +
+            ", upTo5=" + upTo5 +
+            ", upTo8=" + upTo8 +
+            ", upTo13=" + upTo13 +
+            ", upTo21=" + upTo21 +
+            ", over21=" + over21 +
+            "}";
+    }
+}
@@ -15,15 +15,24 @@ import java.util.Objects;
 
 /**
  * A Issue.
+ * <p>
+ * The sprint, project and epic are lazy; each use case names the ones it reads with an entity graph.
  */
 @Entity
 @Table(name = "issue")
+@NamedEntityGraph(name = Issue.GRAPH_DETAIL, attributeNodes = {
+    @NamedAttributeNode("sprint"), @NamedAttributeNode("project"), @NamedAttributeNode("epic")})
 @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Document(indexName = "issue")
 public class Issue implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The fetch plan of a single issue, with every reference it is edited with.
+     */
+    public static final String GRAPH_DETAIL = "Issue.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
     @SequenceGenerator(name = "sequenceGenerator")
@@ -41,15 +50,15 @@ public class Issue implements Serializable {
     @Column(name = "browser_url")
     private String browserURL;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties("issues")
     private Sprint sprint;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties("issues")
     private Project project;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties("unestimatedIssues")
     private Epic epic;
 
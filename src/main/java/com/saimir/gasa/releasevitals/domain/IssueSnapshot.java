@@ -0,0 +1,267 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The state of one issue of an epic, for one of its fix versions, between two Jira refreshes.
+ * A row is current while validTo is null. Rows are never updated except to set validTo.
+ */
+@Entity
+@Table(name = "issue_snapshot")
+public class IssueSnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "epic_id", nullable = false)
+    private Long epicId;
+
+    @Column(name = "release_id")
+    private Long releaseId;
+
+    @NotNull
+    @Column(name = "key_hash", nullable = false)
+    private Long keyHash;
+
+    @NotNull
+    @Column(name = "issue_key", nullable = false)
+    private String issueKey;
+
+    @Column(name = "fix_version")
+    private String fixVersion;
+
+    @Column(name = "project_key")
+    private String projectKey;
+
+    @Column(name = "status")
+    private String status;
+
+    @Column(name = "resolution")
+    private String resolution;
+
+    @Column(name = "estimate")
+    private Double estimate;
+
+    @Column(name = "resolution_date")
+    private Instant resolutionDate;
+
+    @NotNull
+    @Column(name = "valid_from", nullable = false)
+    private Instant validFrom;
+
+    @Column(name = "valid_to")
+    private Instant validTo;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public IssueSnapshot epicId(Long epicId) {
+        this.epicId = epicId;
+        return this;
+    }
+
+    public void setEpicId(Long epicId) {
+        this.epicId = epicId;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public IssueSnapshot releaseId(Long releaseId) {
+        this.releaseId = releaseId;
+        return this;
+    }
+
+    public void setReleaseId(Long releaseId) {
+        this.releaseId = releaseId;
+    }
+
+    public Long getKeyHash() {
+        return keyHash;
+    }
+
+    public IssueSnapshot keyHash(Long keyHash) {
+        this.keyHash = keyHash;
+        return this;
+    }
+
+    public void setKeyHash(Long keyHash) {
+        this.keyHash = keyHash;
+    }
+
+    public String getIssueKey() {
+        return issueKey;
+    }
+
+    public IssueSnapshot issueKey(String issueKey) {
+        this.issueKey = issueKey;
+        return this;
+    }
+
+    public void setIssueKey(String issueKey) {
+        this.issueKey = issueKey;
+    }
+
+    public String getFixVersion() {
+        return fixVersion;
+    }
+
+    public IssueSnapshot fixVersion(String fixVersion) {
+        this.fixVersion = fixVersion;
+        return this;
+    }
+
+    public void setFixVersion(String fixVersion) {
+        this.fixVersion = fixVersion;
+    }
+
+    public String getProjectKey() {
+        return projectKey;
+    }
+
+    public IssueSnapshot projectKey(String projectKey) {
+        this.projectKey = projectKey;
+        return this;
+    }
+
+    public void setProjectKey(String projectKey) {
+        this.projectKey = projectKey;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public IssueSnapshot status(String status) {
+        this.status = status;
+        return this;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getResolution() {
+        return resolution;
+    }
+
+    public IssueSnapshot resolution(String resolution) {
+        this.resolution = resolution;
+        return this;
+    }
+
+    public void setResolution(String resolution) {
+        this.resolution = resolution;
+    }
+
+    public Double getEstimate() {
+        return estimate;
+    }
+
+    public IssueSnapshot estimate(Double estimate) {
+        this.estimate = estimate;
+        return this;
+    }
+
+    public void setEstimate(Double estimate) {
+        this.estimate = estimate;
+    }
+
+    public Instant getResolutionDate() {
+        return resolutionDate;
+    }
+
+    public IssueSnapshot resolutionDate(Instant resolutionDate) {
+        this.resolutionDate = resolutionDate;
+        return this;
+    }
+
+    public void setResolutionDate(Instant resolutionDate) {
+        this.resolutionDate = resolutionDate;
+    }
+
+    public Instant getValidFrom() {
+        return validFrom;
+    }
+
+    public IssueSnapshot validFrom(Instant validFrom) {
+        this.validFrom = validFrom;
+        return this;
+    }
+
+    public void setValidFrom(Instant validFrom) {
+        this.validFrom = validFrom;
+    }
+
+    public Instant getValidTo() {
+        return validTo;
+    }
+
+    public IssueSnapshot validTo(Instant validTo) {
+        this.validTo = validTo;
+        return this;
+    }
+
+    public void setValidTo(Instant validTo) {
+        this.validTo = validTo;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IssueSnapshot issueSnapshot = (IssueSnapshot) o;
+        if (issueSnapshot.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), issueSnapshot.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "IssueSnapshot{" +
+            "id=" + getId() +
+            ", epicId=" + getEpicId() +
+            ", releaseId=" + getReleaseId() +
+            ", keyHash=" + getKeyHash() +
+            ", issueKey='" + getIssueKey() + "'" +
+            ", fixVersion='" + getFixVersion() + "'" +
+            ", projectKey='" + getProjectKey() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", resolution='" + getResolution() + "'" +
+            ", estimate=" + getEstimate() +
+            ", resolutionDate='" + getResolutionDate() + "'" +
+            ", validFrom='" + getValidFrom() + "'" +
+            ", validTo='" + getValidTo() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,164 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The time an issue spent in a status, summed over its finished visits, computed from its Status rows.
+ * The project and release of the issue are copied so the sums need no join.
+ */
+@Entity
+@Table(name = "issue_status_duration")
+public class IssueStatusDuration implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "issue_id", nullable = false)
+    private Long issueId;
+
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "release_id")
+    private Long releaseId;
+
+    @NotNull
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @NotNull
+    @Column(name = "visit_count", nullable = false)
+    private Integer visitCount;
+
+    @NotNull
+    @Column(name = "duration_seconds", nullable = false)
+    private Long durationSeconds;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getIssueId() {
+        return issueId;
+    }
+
+    public IssueStatusDuration issueId(Long issueId) {
+        this.issueId = issueId;
+        return this;
+    }
+
+    public void setIssueId(Long issueId) {
+        this.issueId = issueId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public IssueStatusDuration projectId(Long projectId) {
+        this.projectId = projectId;
+        return this;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public IssueStatusDuration releaseId(Long releaseId) {
+        this.releaseId = releaseId;
+        return this;
+    }
+
+    public void setReleaseId(Long releaseId) {
+        this.releaseId = releaseId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public IssueStatusDuration status(String status) {
+        this.status = status;
+        return this;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Integer getVisitCount() {
+        return visitCount;
+    }
+
+    public IssueStatusDuration visitCount(Integer visitCount) {
+        this.visitCount = visitCount;
+        return this;
+    }
+
+    public void setVisitCount(Integer visitCount) {
+        this.visitCount = visitCount;
+    }
+
+    public Long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public IssueStatusDuration durationSeconds(Long durationSeconds) {
+        this.durationSeconds = durationSeconds;
+        return this;
+    }
+
+    public void setDurationSeconds(Long durationSeconds) {
+        this.durationSeconds = durationSeconds;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        IssueStatusDuration issueStatusDuration = (IssueStatusDuration) o;
+        if (issueStatusDuration.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), issueStatusDuration.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "IssueStatusDuration{" +
+            "id=" + getId() +
+            ", issueId=" + getIssueId() +
+            ", projectId=" + getProjectId() +
+            ", releaseId=" + getReleaseId() +
+            ", status='" + getStatus() + "'" +
+            ", visitCount=" + getVisitCount() +
+            ", durationSeconds=" + getDurationSeconds() +
+            "}";
+    }
+}
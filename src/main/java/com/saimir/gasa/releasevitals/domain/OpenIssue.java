@@ -0,0 +1,165 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * An unresolved issue of an epic with its current status, kept up to date by every Jira refresh of the epic.
+ * statusEnteredAt is the time the issue was first seen in its current status.
+ */
+@Entity
+@Table(name = "open_issue")
+public class OpenIssue implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "epic_id", nullable = false)
+    private Long epicId;
+
+    @NotNull
+    @Column(name = "issue_key", nullable = false)
+    private String issueKey;
+
+    @Column(name = "project_key")
+    private String projectKey;
+
+    @NotNull
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @NotNull
+    @Column(name = "status_entered_at", nullable = false)
+    private Instant statusEnteredAt;
+
+    @Column(name = "estimate")
+    private Double estimate;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public OpenIssue epicId(Long epicId) {
+        this.epicId = epicId;
+        return this;
+    }
+
+    public void setEpicId(Long epicId) {
+        this.epicId = epicId;
+    }
+
+    public String getIssueKey() {
+        return issueKey;
+    }
+
+    public OpenIssue issueKey(String issueKey) {
+        this.issueKey = issueKey;
+        return this;
+    }
+
+    public void setIssueKey(String issueKey) {
+        this.issueKey = issueKey;
+    }
+
+    public String getProjectKey() {
+        return projectKey;
+    }
+
+    public OpenIssue projectKey(String projectKey) {
+        this.projectKey = projectKey;
+        return this;
+    }
+
+    public void setProjectKey(String projectKey) {
+        this.projectKey = projectKey;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public OpenIssue status(String status) {
+        this.status = status;
+        return this;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Instant getStatusEnteredAt() {
+        return statusEnteredAt;
+    }
+
+    public OpenIssue statusEnteredAt(Instant statusEnteredAt) {
+        this.statusEnteredAt = statusEnteredAt;
+        return this;
+    }
+
+    public void setStatusEnteredAt(Instant statusEnteredAt) {
+        this.statusEnteredAt = statusEnteredAt;
+    }
+
+    public Double getEstimate() {
+        return estimate;
+    }
+
+    public OpenIssue estimate(Double estimate) {
+        this.estimate = estimate;
+        return this;
+    }
+
+    public void setEstimate(Double estimate) {
+        this.estimate = estimate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        OpenIssue openIssue = (OpenIssue) o;
+        if (openIssue.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), openIssue.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "OpenIssue{" +
+            "id=" + getId() +
+            ", epicId=" + getEpicId() +
+            ", issueKey='" + getIssueKey() + "'" +
+            ", projectKey='" + getProjectKey() + "'" +
+            ", status='" + getStatus() + "'" +
+            ", statusEnteredAt=" + getStatusEnteredAt() +
+            ", estimate=" + getEstimate() +
+            "}";
+    }
+}
@@ -28,12 +28,20 @@ import java.util.Objects;
 @ApiModel(description = "entity Theme { name String, totalIssueCount Integer } entity Feature { name String, key String }")
 @Entity
 @Table(name = "project")
+@NamedEntityGraph(name = Project.GRAPH_DETAIL, attributeNodes = {
+    @NamedAttributeNode("release"), @NamedAttributeNode("versions")})
 @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 @Document(indexName = "project")
 public class Project implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * The fetch plan of a project with its release and versions: a single project, or the projects of an
+     * epic refreshed from Jira, which reads the release window and the fix versions of each project.
+     */
+    public static final String GRAPH_DETAIL = "Project.detail";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
     @SequenceGenerator(name = "sequenceGenerator")
@@ -45,13 +53,10 @@ public class Project implements Serializable {
     @Column(name = "jhi_key")
     private String key;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JsonIgnoreProperties("projects")
     private Release release;
 
-    @OneToMany(mappedBy = "project")
-    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
-    private Set<Issue> issues = new HashSet<>();
     @ManyToMany
     @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
     @JoinTable(name = "project_version",
@@ -107,31 +112,6 @@ public class Project implements Serializable {
         this.release = release;
     }
 
-    public Set<Issue> getIssues() {
-        return issues;
-    }
-
-    public Project issues(Set<Issue> issues) {
-        this.issues = issues;
-        return this;
-    }
-
-    public Project addIssue(Issue issue) {
-        this.issues.add(issue);
-        issue.setProject(this);
-        return this;
-    }
-
-    public Project removeIssue(Issue issue) {
-        this.issues.remove(issue);
-        issue.setProject(null);
-        return this;
-    }
-
-    public void setIssues(Set<Issue> issues) {
-        this.issues = issues;
-    }
-
     public Set<Version> getVersions() {
         return versions;
     }
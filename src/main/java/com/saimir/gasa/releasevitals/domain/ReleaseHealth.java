@@ -0,0 +1,183 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * The health of a release, recomputed only when the data of the release changes, so the release list
+ * reads it without computing anything. The score, from 0 to 100, combines the percentage completed,
+ * the burndown slope, the unestimated issue ratio and the forecast confidence.
+ */
+@Entity
+@Table(name = "release_health")
+public class ReleaseHealth implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "release_id", unique = true, nullable = false)
+    private Long releaseId;
+
+    @NotNull
+    @Column(name = "score", nullable = false)
+    private Double score;
+
+    @Column(name = "percentage_completed")
+    private Double percentageCompleted;
+
+    @Column(name = "burndown_slope")
+    private Double burndownSlope;
+
+    @Column(name = "unestimated_ratio")
+    private Double unestimatedRatio;
+
+    @NotNull
+    @Column(name = "forecast_confidence", nullable = false)
+    private Double forecastConfidence;
+
+    @NotNull
+    @Column(name = "computed_at", nullable = false)
+    private Instant computedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public ReleaseHealth releaseId(Long releaseId) {
+        this.releaseId = releaseId;
+        return this;
+    }
+
+    public void setReleaseId(Long releaseId) {
+        this.releaseId = releaseId;
+    }
+
+    public Double getScore() {
+        return score;
+    }
+
+    public ReleaseHealth score(Double score) {
+        this.score = score;
+        return this;
+    }
+
+    public void setScore(Double score) {
+        this.score = score;
+    }
+
+    public Double getPercentageCompleted() {
+        return percentageCompleted;
+    }
+
+    public ReleaseHealth percentageCompleted(Double percentageCompleted) {
+        this.percentageCompleted = percentageCompleted;
+        return this;
+    }
+
+    public void setPercentageCompleted(Double percentageCompleted) {
+        this.percentageCompleted = percentageCompleted;
+    }
+
+    public Double getBurndownSlope() {
+        return burndownSlope;
+    }
+
+    public ReleaseHealth burndownSlope(Double burndownSlope) {
+        this.burndownSlope = burndownSlope;
+        return this;
+    }
+
+    public void setBurndownSlope(Double burndownSlope) {
+        this.burndownSlope = burndownSlope;
+    }
+
+    public Double getUnestimatedRatio() {
+        return unestimatedRatio;
+    }
+
+    public ReleaseHealth unestimatedRatio(Double unestimatedRatio) {
+        this.unestimatedRatio = unestimatedRatio;
+        return this;
+    }
+
+    public void setUnestimatedRatio(Double unestimatedRatio) {
+        this.unestimatedRatio = unestimatedRatio;
+    }
+
+    public Double getForecastConfidence() {
+        return forecastConfidence;
+    }
+
+    public ReleaseHealth forecastConfidence(Double forecastConfidence) {
+        this.forecastConfidence = forecastConfidence;
+        return this;
+    }
+
+    public void setForecastConfidence(Double forecastConfidence) {
+        this.forecastConfidence = forecastConfidence;
+    }
+
+    public Instant getComputedAt() {
+        return computedAt;
+    }
+
+    public ReleaseHealth computedAt(Instant computedAt) {
+        this.computedAt = computedAt;
+        return this;
+    }
+
+    public void setComputedAt(Instant computedAt) {
+        this.computedAt = computedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReleaseHealth releaseHealth = (ReleaseHealth) o;
+        if (releaseHealth.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), releaseHealth.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseHealth{" +
+            "id=" + getId() +
+            ", releaseId=" + getReleaseId() +
+            ", score=" + getScore() +
+            ", percentageCompleted=" + getPercentageCompleted() +
+            ", burndownSlope=" + getBurndownSlope() +
+            ", unestimatedRatio=" + getUnestimatedRatio() +
+            ", forecastConfidence=" + getForecastConfidence() +
+            ", computedAt='" + getComputedAt() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,95 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A change to the data of a release, written in the transaction of the change and removed once the health
+ * of the release is recomputed. Never updated, so the changes of concurrent transactions do not lock each other.
+ */
+@Entity
+@Table(name = "release_health_mark")
+public class ReleaseHealthMark implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "release_id", nullable = false)
+    private Long releaseId;
+
+    @NotNull
+    @Column(name = "marked_at", nullable = false)
+    private Instant markedAt;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public ReleaseHealthMark releaseId(Long releaseId) {
+        this.releaseId = releaseId;
+        return this;
+    }
+
+    public void setReleaseId(Long releaseId) {
+        this.releaseId = releaseId;
+    }
+
+    public Instant getMarkedAt() {
+        return markedAt;
+    }
+
+    public ReleaseHealthMark markedAt(Instant markedAt) {
+        this.markedAt = markedAt;
+        return this;
+    }
+
+    public void setMarkedAt(Instant markedAt) {
+        this.markedAt = markedAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReleaseHealthMark releaseHealthMark = (ReleaseHealthMark) o;
+        if (releaseHealthMark.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), releaseHealthMark.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseHealthMark{" +
+            "id=" + getId() +
+            ", releaseId=" + getReleaseId() +
+            ", markedAt='" + getMarkedAt() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,335 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import org.hibernate.annotations.Immutable;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * The final summary of a closed release, written once when the release is closed and never updated.
+ * The numbers of its epics and its daily burndown are kept as JSON documents, so the summary is read
+ * without the Release, Epic or Issue tables, and stays as it was when the live data changes.
+ */
+@Entity
+@Immutable
+@Table(name = "release_summary")
+public class ReleaseSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "release_id", unique = true, nullable = false, updatable = false)
+    private Long releaseId;
+
+    @Column(name = "release_name", updatable = false)
+    private String releaseName;
+
+    @Column(name = "start_date", updatable = false)
+    private Instant startDate;
+
+    @Column(name = "end_date", updatable = false)
+    private Instant endDate;
+
+    @NotNull
+    @Column(name = "closed_at", nullable = false, updatable = false)
+    private Instant closedAt;
+
+    @NotNull
+    @Column(name = "epic_count", nullable = false, updatable = false)
+    private Integer epicCount;
+
+    @NotNull
+    @Column(name = "issue_count", nullable = false, updatable = false)
+    private Integer issueCount;
+
+    @NotNull
+    @Column(name = "unestimated_issue_count", nullable = false, updatable = false)
+    private Integer unestimatedIssueCount;
+
+    @NotNull
+    @Column(name = "total_story_points", nullable = false, updatable = false)
+    private Double totalStoryPoints;
+
+    @NotNull
+    @Column(name = "story_points_completed", nullable = false, updatable = false)
+    private Double storyPointsCompleted;
+
+    @NotNull
+    @Column(name = "remaining_story_points", nullable = false, updatable = false)
+    private Double remainingStoryPoints;
+
+    @Column(name = "percentage_completed", updatable = false)
+    private Double percentageCompleted;
+
+    @Column(name = "burndown_start", updatable = false)
+    private LocalDate burndownStart;
+
+    @Lob
+    @NotNull
+    @Column(name = "burndown", nullable = false, updatable = false)
+    private String burndown;
+
+    @Lob
+    @NotNull
+    @Column(name = "epics", nullable = false, updatable = false)
+    private String epics;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public ReleaseSummary releaseId(Long releaseId) {
+        this.releaseId = releaseId;
+        return this;
+    }
+
+    public void setReleaseId(Long releaseId) {
+        this.releaseId = releaseId;
+    }
+
+    public String getReleaseName() {
+        return releaseName;
+    }
+
+    public ReleaseSummary releaseName(String releaseName) {
+        this.releaseName = releaseName;
+        return this;
+    }
+
+    public void setReleaseName(String releaseName) {
+        this.releaseName = releaseName;
+    }
+
+    public Instant getStartDate() {
+        return startDate;
+    }
+
+    public ReleaseSummary startDate(Instant startDate) {
+        this.startDate = startDate;
+        return this;
+    }
+
+    public void setStartDate(Instant startDate) {
+        this.startDate = startDate;
+    }
+
+    public Instant getEndDate() {
+        return endDate;
+    }
+
+    public ReleaseSummary endDate(Instant endDate) {
+        this.endDate = endDate;
+        return this;
+    }
+
+    public void setEndDate(Instant endDate) {
+        this.endDate = endDate;
+    }
+
+    public Instant getClosedAt() {
+        return closedAt;
+    }
+
+    public ReleaseSummary closedAt(Instant closedAt) {
+        this.closedAt = closedAt;
+        return this;
+    }
+
+    public void setClosedAt(Instant closedAt) {
+        this.closedAt = closedAt;
+    }
+
+    public Integer getEpicCount() {
+        return epicCount;
+    }
+
+    public ReleaseSummary epicCount(Integer epicCount) {
+        this.epicCount = epicCount;
+        return this;
+    }
+
+    public void setEpicCount(Integer epicCount) {
+        this.epicCount = epicCount;
+    }
+
+    public Integer getIssueCount() {
+        return issueCount;
+    }
+
+    public ReleaseSummary issueCount(Integer issueCount) {
+        this.issueCount = issueCount;
+        return this;
+    }
+
+    public void setIssueCount(Integer issueCount) {
+        this.issueCount = issueCount;
+    }
+
+    public Integer getUnestimatedIssueCount() {
+        return unestimatedIssueCount;
+    }
+
+    public ReleaseSummary unestimatedIssueCount(Integer unestimatedIssueCount) {
+        this.unestimatedIssueCount = unestimatedIssueCount;
+        return this;
+    }
+
+    public void setUnestimatedIssueCount(Integer unestimatedIssueCount) {
+        this.unestimatedIssueCount = unestimatedIssueCount;
+    }
+
+    public Double getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public ReleaseSummary totalStoryPoints(Double totalStoryPoints) {
+        this.totalStoryPoints = totalStoryPoints;
+        return this;
+    }
+
+    public void setTotalStoryPoints(Double totalStoryPoints) {
+        this.totalStoryPoints = totalStoryPoints;
+    }
+
+    public Double getStoryPointsCompleted() {
+        return storyPointsCompleted;
+    }
+
+    public ReleaseSummary storyPointsCompleted(Double storyPointsCompleted) {
+        this.storyPointsCompleted = storyPointsCompleted;
+        return this;
+    }
+
+    public void setStoryPointsCompleted(Double storyPointsCompleted) {
+        this.storyPointsCompleted = storyPointsCompleted;
+    }
+
+    public Double getRemainingStoryPoints() {
+        return remainingStoryPoints;
+    }
+
+    public ReleaseSummary remainingStoryPoints(Double remainingStoryPoints) {
+        this.remainingStoryPoints = remainingStoryPoints;
+        return this;
+    }
+
+    public void setRemainingStoryPoints(Double remainingStoryPoints) {
+        this.remainingStoryPoints = remainingStoryPoints;
+    }
+
+    public Double getPercentageCompleted() {
+        return percentageCompleted;
+    }
+
+    public ReleaseSummary percentageCompleted(Double percentageCompleted) {
+        this.percentageCompleted = percentageCompleted;
+        return this;
+    }
+
+    public void setPercentageCompleted(Double percentageCompleted) {
+        this.percentageCompleted = percentageCompleted;
+    }
+
+    public LocalDate getBurndownStart() {
+        return burndownStart;
+    }
+
+    public ReleaseSummary burndownStart(LocalDate burndownStart) {
+        this.burndownStart = burndownStart;
+        return this;
+    }
+
+    public void setBurndownStart(LocalDate burndownStart) {
+        this.burndownStart = burndownStart;
+    }
+
+    /**
+     * @return the remaining story points at the end of each day from burndownStart, as a JSON array
+     */
+    public String getBurndown() {
+        return burndown;
+    }
+
+    public ReleaseSummary burndown(String burndown) {
+        this.burndown = burndown;
+        return this;
+    }
+
+    public void setBurndown(String burndown) {
+        this.burndown = burndown;
+    }
+
+    /**
+     * @return the metrics of the epics of the release when it was closed, as a JSON array
+     */
+    public String getEpics() {
+        return epics;
+    }
+
+    public ReleaseSummary epics(String epics) {
+        this.epics = epics;
+        return this;
+    }
+
+    public void setEpics(String epics) {
+        this.epics = epics;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ReleaseSummary releaseSummary = (ReleaseSummary) o;
+        if (releaseSummary.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), releaseSummary.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseSummary{" +
+            "id=" + getId() +
+            ", releaseId=" + getReleaseId() +
+            ", releaseName='" + getReleaseName() + "'" +
+            ", startDate='" + getStartDate() + "'" +
+            ", endDate='" + getEndDate() + "'" +
+            ", closedAt='" + getClosedAt() + "'" +
+            ", epicCount=" + getEpicCount() +
+            ", issueCount=" + getIssueCount() +
+            ", unestimatedIssueCount=" + getUnestimatedIssueCount() +
+            ", totalStoryPoints=" + getTotalStoryPoints() +
+            ", storyPointsCompleted=" + getStoryPointsCompleted() +
+            ", remainingStoryPoints=" + getRemainingStoryPoints() +
+            ", percentageCompleted=" + getPercentageCompleted() +
+            ", burndownStart='" + getBurndownStart() + "'" +
+            "}";
+    }
+}
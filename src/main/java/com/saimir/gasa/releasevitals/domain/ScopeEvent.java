@@ -0,0 +1,203 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import com.saimir.gasa.releasevitals.domain.enumeration.ScopeEventType;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * A change to the scope of an epic, found while refreshing it from Jira. Never updated once written.
+ * pointsDelta is the change to the epic total, or the points resolved or reopened.
+ */
+@Entity
+@Table(name = "scope_event")
+public class ScopeEvent implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "epic_id", nullable = false)
+    private Long epicId;
+
+    @NotNull
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private ScopeEventType eventType;
+
+    @NotNull
+    @Column(name = "issue_key", nullable = false)
+    private String issueKey;
+
+    @Column(name = "fix_version")
+    private String fixVersion;
+
+    @Column(name = "estimate_before")
+    private Double estimateBefore;
+
+    @Column(name = "estimate_after")
+    private Double estimateAfter;
+
+    @NotNull
+    @Column(name = "points_delta", nullable = false)
+    private Double pointsDelta;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public ScopeEvent epicId(Long epicId) {
+        this.epicId = epicId;
+        return this;
+    }
+
+    public void setEpicId(Long epicId) {
+        this.epicId = epicId;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public ScopeEvent occurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+        return this;
+    }
+
+    public void setOccurredAt(Instant occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public ScopeEventType getEventType() {
+        return eventType;
+    }
+
+    public ScopeEvent eventType(ScopeEventType eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    public void setEventType(ScopeEventType eventType) {
+        this.eventType = eventType;
+    }
+
+    public String getIssueKey() {
+        return issueKey;
+    }
+
+    public ScopeEvent issueKey(String issueKey) {
+        this.issueKey = issueKey;
+        return this;
+    }
+
+    public void setIssueKey(String issueKey) {
+        this.issueKey = issueKey;
+    }
+
+    public String getFixVersion() {
+        return fixVersion;
+    }
+
+    public ScopeEvent fixVersion(String fixVersion) {
+        this.fixVersion = fixVersion;
+        return this;
+    }
+
+    public void setFixVersion(String fixVersion) {
+        this.fixVersion = fixVersion;
+    }
+
+    public Double getEstimateBefore() {
+        return estimateBefore;
+    }
+
+    public ScopeEvent estimateBefore(Double estimateBefore) {
+        this.estimateBefore = estimateBefore;
+        return this;
+    }
+
+    public void setEstimateBefore(Double estimateBefore) {
+        this.estimateBefore = estimateBefore;
+    }
+
+    public Double getEstimateAfter() {
+        return estimateAfter;
+    }
+
+    public ScopeEvent estimateAfter(Double estimateAfter) {
+        this.estimateAfter = estimateAfter;
+        return this;
+    }
+
+    public void setEstimateAfter(Double estimateAfter) {
+        this.estimateAfter = estimateAfter;
+    }
+
+    public Double getPointsDelta() {
+        return pointsDelta;
+    }
+
+    public ScopeEvent pointsDelta(Double pointsDelta) {
+        this.pointsDelta = pointsDelta;
+        return this;
+    }
+
+    public void setPointsDelta(Double pointsDelta) {
+        this.pointsDelta = pointsDelta;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        ScopeEvent scopeEvent = (ScopeEvent) o;
+        if (scopeEvent.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), scopeEvent.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "ScopeEvent{" +
+            "id=" + getId() +
+            ", epicId=" + getEpicId() +
+            ", occurredAt='" + getOccurredAt() + "'" +
+            ", eventType='" + getEventType() + "'" +
+            ", issueKey='" + getIssueKey() + "'" +
+            ", fixVersion='" + getFixVersion() + "'" +
+            ", estimateBefore=" + getEstimateBefore() +
+            ", estimateAfter=" + getEstimateAfter() +
+            ", pointsDelta=" + getPointsDelta() +
+            "}";
+    }
+}
@@ -9,8 +9,6 @@ import javax.persistence.*;
 import org.springframework.data.elasticsearch.annotations.Document;
 import java.io.Serializable;
 import java.time.Instant;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.Objects;
 
 /**
@@ -41,9 +39,6 @@ public class Sprint implements Serializable {
     @Column(name = "velocity")
     private Long velocity;
 
-    @OneToMany(mappedBy = "sprint")
-    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
-    private Set<Issue> issues = new HashSet<>();
     // jhipster-needle-entity-add-field - JHipster will add fields here, do not remove
     public Long getId() {
         return id;
@@ -105,30 +100,6 @@ public class Sprint implements Serializable {
         this.velocity = velocity;
     }
 
-    public Set<Issue> getIssues() {
-        return issues;
-    }
-
-    public Sprint issues(Set<Issue> issues) {
-        this.issues = issues;
-        return this;
-    }
-
-    public Sprint addIssue(Issue issue) {
-        this.issues.add(issue);
-        issue.setSprint(this);
-        return this;
-    }
-
-    public Sprint removeIssue(Issue issue) {
-        this.issues.remove(issue);
-        issue.setSprint(null);
-        return this;
-    }
-
-    public void setIssues(Set<Issue> issues) {
-        this.issues = issues;
-    }
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here, do not remove
 
     @Override
@@ -0,0 +1,149 @@
+package com.saimir.gasa.releasevitals.domain;
+
+import javax.persistence.*;
+import javax.validation.constraints.NotNull;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * The number of Status transitions into a status, per release, project and week starting on Monday (UTC).
+ * Maintained incrementally from the Status rows.
+ */
+@Entity
+@Table(name = "status_rollup")
+public class StatusRollup implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
+    @SequenceGenerator(name = "sequenceGenerator")
+    private Long id;
+
+    @NotNull
+    @Column(name = "release_id", nullable = false)
+    private Long releaseId;
+
+    @NotNull
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @NotNull
+    @Column(name = "status", nullable = false)
+    private String status;
+
+    @NotNull
+    @Column(name = "week_start", nullable = false)
+    private LocalDate weekStart;
+
+    @NotNull
+    @Column(name = "transition_count", nullable = false)
+    private Integer transitionCount;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public StatusRollup releaseId(Long releaseId) {
+        this.releaseId = releaseId;
+        return this;
+    }
+
+    public void setReleaseId(Long releaseId) {
+        this.releaseId = releaseId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public StatusRollup projectId(Long projectId) {
+        this.projectId = projectId;
+        return this;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public StatusRollup status(String status) {
+        this.status = status;
+        return this;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public StatusRollup weekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+        return this;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    public Integer getTransitionCount() {
+        return transitionCount;
+    }
+
+    public StatusRollup transitionCount(Integer transitionCount) {
+        this.transitionCount = transitionCount;
+        return this;
+    }
+
+    public void setTransitionCount(Integer transitionCount) {
+        this.transitionCount = transitionCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        StatusRollup statusRollup = (StatusRollup) o;
+        if (statusRollup.getId() == null || getId() == null) {
+            return false;
+        }
+        return Objects.equals(getId(), statusRollup.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(getId());
+    }
+
+    @Override
+    public String toString() {
+        return "StatusRollup{" +
+            "id=" + getId() +
+            ", releaseId=" + getReleaseId() +
+            ", projectId=" + getProjectId() +
+            ", status='" + getStatus() + "'" +
+            ", weekStart='" + getWeekStart() + "'" +
+            ", transitionCount=" + getTransitionCount() +
+            "}";
+    }
+}
@@ -0,0 +1,8 @@
+package com.saimir.gasa.releasevitals.domain.enumeration;
+
+/**
+ * The BurndownAnomalyType enumeration.
+ */
+public enum BurndownAnomalyType {
+    SCOPE_CREEP, STALL
+}
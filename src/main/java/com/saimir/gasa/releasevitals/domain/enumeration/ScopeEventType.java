@@ -0,0 +1,8 @@
+package com.saimir.gasa.releasevitals.domain.enumeration;
+
+/**
+ * The ScopeEventType enumeration.
+ */
+public enum ScopeEventType {
+    ADDED, REMOVED, REESTIMATED, RESOLVED, REOPENED
+}
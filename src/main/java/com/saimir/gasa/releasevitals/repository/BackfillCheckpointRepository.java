@@ -0,0 +1,23 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.BackfillCheckpoint;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data  repository for the BackfillCheckpoint entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface BackfillCheckpointRepository extends JpaRepository<BackfillCheckpoint, Long> {
+
+    @Query("select checkpoint.unitKey from BackfillCheckpoint checkpoint")
+    List<String> findAllUnitKeys();
+
+    @Modifying
+    @Query("delete from BackfillCheckpoint checkpoint")
+    int deleteAllCheckpoints();
+
+}
@@ -0,0 +1,26 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.BurndownStats;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data  repository for the BurndownStats entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface BurndownStatsRepository extends JpaRepository<BurndownStats, Long> {
+
+    Optional<BurndownStats> findOneByEpicId(Long epicId);
+
+    List<BurndownStats> findAllByAnomalyIsNotNullOrderByFlaggedAtDescEpicIdAsc();
+
+    @Modifying
+    @Query("delete from BurndownStats stats where stats.epicId = :epicId")
+    int deleteByEpicId(@Param("epicId") Long epicId);
+
+}
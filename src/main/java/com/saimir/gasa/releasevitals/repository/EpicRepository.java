@@ -1,12 +1,14 @@
 package com.saimir.gasa.releasevitals.repository;
 
 import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.service.dto.EpicListDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,15 +19,56 @@ import java.util.Optional;
 @Repository
 public interface EpicRepository extends JpaRepository<Epic, Long> {
 
-    @Query(value = "select distinct epic from Epic epic left join fetch epic.projects left join fetch epic.unestimatedIssues",
-        countQuery = "select count(distinct epic) from Epic epic")
-    Page<Epic> findAllWithEagerRelationships(Pageable pageable);
+    @Query(value = "select new com.saimir.gasa.releasevitals.service.dto.EpicListDTO(epic.id, epic.name, epic.totalStoryPoints, " +
+        "epic.storyPointsCompleted, epic.remainingStoryPoints, epic.totalIssueCount, epic.percentageCompleted, epic.key, " +
+        "epic.epicBrowserURL) from Epic epic",
+        countQuery = "select count(epic) from Epic epic")
+    Page<EpicListDTO> findAllProjected(Pageable pageable);
 
-//    @Query(value = "select distinct epic from Epic epic left join fetch epic.projects")
-    @Query(value = "select distinct epic from Epic epic left join fetch epic.projects left join fetch epic.unestimatedIssues")
-    List<Epic> findAllWithEagerRelationships();
+    /**
+     * Find the projects of the given epics. Each row is {epicId, projectId, projectName}.
+     */
+    @Query("select epic.id, project.id, project.name from Epic epic join epic.projects project " +
+        "where epic.id in :ids order by project.id")
+    List<Object[]> findProjectReferencesByEpicIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Find the unestimated issues of the given epics. Each row is {epicId, issueId, issueKey, issueBrowserURL}.
+     */
+    @Query("select issue.epic.id, issue.id, issue.key, issue.browserURL from Issue issue " +
+        "where issue.epic.id in :ids order by issue.id")
+    List<Object[]> findUnestimatedIssueReferencesByEpicIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select distinct epic from Epic epic left join fetch epic.projects left join fetch epic.unestimatedIssues where epic.id in :ids")
+    List<Epic> findAllWithEagerRelationshipsByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("select epic from Epic epic left join fetch epic.projects left join fetch epic.unestimatedIssues where epic.id =:id")
     Optional<Epic> findOneWithEagerRelationships(@Param("id") Long id);
 
+    @Query("select distinct epic from Epic epic left join fetch epic.projects project left join fetch project.versions " +
+        "where epic.id in (select e.id from Epic e join e.projects p where p.release.id = :releaseId)")
+    List<Epic> findAllByReleaseWithProjectVersions(@Param("releaseId") Long releaseId);
+
+    @Query("select distinct epic from Epic epic left join fetch epic.projects where epic.key in :keys order by epic.id")
+    List<Epic> findAllByKeyIn(@Param("keys") Collection<String> keys);
+
+    @Query("select distinct epic from Epic epic left join fetch epic.projects " +
+        "where epic.id in (select e.id from Epic e join e.projects p where p.release.id in :releaseIds)")
+    List<Epic> findAllWithProjectsByReleaseIdIn(@Param("releaseIds") Collection<Long> releaseIds);
+
+    @Query("select epic.id from Epic epic order by epic.id")
+    List<Long> findAllIds();
+
+    @Query("select distinct project.release.id from Epic epic join epic.projects project where epic.id = :epicId")
+    List<Long> findReleaseIdsByEpicId(@Param("epicId") Long epicId);
+
+    /**
+     * Sum the metrics of the epics having a project in the release. The single row is
+     * {totalStoryPoints, storyPointsCompleted, remainingStoryPoints, totalIssueCount, epicCount}.
+     */
+    @Query("select sum(epic.totalStoryPoints), sum(epic.storyPointsCompleted), sum(epic.remainingStoryPoints), " +
+        "sum(epic.totalIssueCount), count(epic) from Epic epic " +
+        "where epic.id in (select inRelease.id from Epic inRelease join inRelease.projects project where project.release.id = :releaseId)")
+    List<Object[]> aggregateByRelease(@Param("releaseId") Long releaseId);
+
 }
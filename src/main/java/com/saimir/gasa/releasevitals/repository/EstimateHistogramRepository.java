@@ -0,0 +1,32 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.EstimateHistogram;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data  repository for the EstimateHistogram entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface EstimateHistogramRepository extends JpaRepository<EstimateHistogram, Long> {
+
+    List<EstimateHistogram> findAllByEpicId(Long epicId);
+
+    List<EstimateHistogram> findAllByEpicIdAndProjectKey(Long epicId, String projectKey);
+
+    /**
+     * Find the histograms of a project in the epics linked to it.
+     */
+    @Query("select histogram from EstimateHistogram histogram where histogram.projectKey = :projectKey and histogram.epicId in " +
+        "(select epic.id from Epic epic join epic.projects project where project.id = :projectId)")
+    List<EstimateHistogram> findAllByProject(@Param("projectId") Long projectId, @Param("projectKey") String projectKey);
+
+    @Modifying
+    @Query("delete from EstimateHistogram histogram where histogram.epicId = :epicId")
+    int deleteAllByEpicId(@Param("epicId") Long epicId);
+
+}
@@ -1,9 +1,16 @@
 package com.saimir.gasa.releasevitals.repository;
 
 import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.service.dto.IssueListDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Spring Data  repository for the Issue entity.
@@ -12,4 +19,55 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface IssueRepository extends JpaRepository<Issue, Long> {
 
+    @EntityGraph(Issue.GRAPH_DETAIL)
+    Optional<Issue> findOneWithDetailsById(Long id);
+
+    @Query(value = "select new com.saimir.gasa.releasevitals.service.dto.IssueListDTO(issue.id, issue.title, issue.description, issue.key, " +
+        "issue.browserURL, sprint.id, sprint.name, project.id, project.name, epic.id, epic.name) from Issue issue " +
+        "left join issue.sprint sprint left join issue.project project left join issue.epic epic",
+        countQuery = "select count(issue) from Issue issue")
+    Page<IssueListDTO> findAllProjected(Pageable pageable);
+
+    /**
+     * Find the issues following an id, seeking on the primary key. The slice reads one extra row to know if
+     * there is a next one, and runs no count query.
+     */
+    @Query("select new com.saimir.gasa.releasevitals.service.dto.IssueListDTO(issue.id, issue.title, issue.description, issue.key, " +
+        "issue.browserURL, sprint.id, sprint.name, project.id, project.name, epic.id, epic.name) from Issue issue " +
+        "left join issue.sprint sprint left join issue.project project left join issue.epic epic " +
+        "where issue.id > :after order by issue.id")
+    Slice<IssueListDTO> findAllProjectedAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * Find a page of the issues of a project. The issues of a project are only read page by page, and
+     * counted on the foreign key, rather than mapped as a collection of the project.
+     */
+    @Query(value = "select new com.saimir.gasa.releasevitals.service.dto.IssueListDTO(issue.id, issue.title, issue.description, issue.key, " +
+        "issue.browserURL, sprint.id, sprint.name, project.id, project.name, epic.id, epic.name) from Issue issue " +
+        "left join issue.sprint sprint left join issue.project project left join issue.epic epic " +
+        "where issue.project.id = :projectId",
+        countQuery = "select count(issue) from Issue issue where issue.project.id = :projectId")
+    Page<IssueListDTO> findAllProjectedByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    /**
+     * Find a page of the issues of a sprint, read and counted like the issues of a project.
+     */
+    @Query(value = "select new com.saimir.gasa.releasevitals.service.dto.IssueListDTO(issue.id, issue.title, issue.description, issue.key, " +
+        "issue.browserURL, sprint.id, sprint.name, project.id, project.name, epic.id, epic.name) from Issue issue " +
+        "left join issue.sprint sprint left join issue.project project left join issue.epic epic " +
+        "where issue.sprint.id = :sprintId",
+        countQuery = "select count(issue) from Issue issue where issue.sprint.id = :sprintId")
+    Page<IssueListDTO> findAllProjectedBySprintId(@Param("sprintId") Long sprintId, Pageable pageable);
+
+    @Query("select issue.id from Issue issue where issue.project.id = :projectId order by issue.id")
+    List<Long> findIdsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Count the unestimated issues of the epics of a release by key: a refresh links a new row of each
+     * unestimated issue to its epic, without unlinking the rows of the previous refreshes.
+     */
+    @Query("select count(distinct issue.key) from Issue issue " +
+        "where issue.epic.id in (select epic.id from Epic epic join epic.projects project where project.release.id = :releaseId)")
+    long countUnestimatedByRelease(@Param("releaseId") Long releaseId);
+
 }
@@ -0,0 +1,71 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.IssueSnapshot;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+/**
+ * Spring Data  repository for the IssueSnapshot entity.
+ * <p>
+ * The streamed rows follow the layout read by {@link com.saimir.gasa.releasevitals.service.util.IssueSnapshotDiff}.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface IssueSnapshotRepository extends JpaRepository<IssueSnapshot, Long> {
+
+    List<IssueSnapshot> findAllByEpicIdAndValidToIsNull(Long epicId);
+
+    List<IssueSnapshot> findAllByEpicId(Long epicId);
+
+    @Query("select snapshot.keyHash, snapshot.issueKey, snapshot.fixVersion, snapshot.projectKey, snapshot.status, " +
+        "snapshot.resolution, snapshot.estimate, snapshot.resolutionDate from IssueSnapshot snapshot " +
+        "where snapshot.releaseId = :releaseId and snapshot.validFrom <= :asOf " +
+        "and (snapshot.validTo is null or snapshot.validTo > :asOf) " +
+        "order by snapshot.keyHash, snapshot.issueKey, snapshot.fixVersion, snapshot.validFrom")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamByReleaseAsOf(@Param("releaseId") Long releaseId, @Param("asOf") Instant asOf);
+
+    @Query("select snapshot.keyHash, snapshot.issueKey, snapshot.fixVersion, snapshot.projectKey, snapshot.status, " +
+        "snapshot.resolution, snapshot.estimate, snapshot.resolutionDate from IssueSnapshot snapshot " +
+        "where snapshot.releaseId = :releaseId and snapshot.validTo is null " +
+        "order by snapshot.keyHash, snapshot.issueKey, snapshot.fixVersion, snapshot.validFrom")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamCurrentByRelease(@Param("releaseId") Long releaseId);
+
+    /**
+     * Find the snapshots of the given epics counted by the epic metrics, as they were at the given time.
+     * Each row is {epicId, releaseId, issueKey, status, resolution, estimate, resolutionDate}.
+     */
+    @Query("select snapshot.epicId, snapshot.releaseId, snapshot.issueKey, snapshot.status, snapshot.resolution, " +
+        "snapshot.estimate, snapshot.resolutionDate from IssueSnapshot snapshot " +
+        "where snapshot.epicId in :epicIds and snapshot.validFrom <= :asOf " +
+        "and (snapshot.validTo is null or snapshot.validTo > :asOf)")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    List<Object[]> findAllByEpicIdsAsOf(@Param("epicIds") Collection<Long> epicIds, @Param("asOf") Instant asOf);
+
+    /**
+     * Stream the estimated snapshots of a release for its burndown.
+     * Each row is {status, resolution, estimate, validFrom, validTo}.
+     */
+    @Query("select snapshot.status, snapshot.resolution, snapshot.estimate, snapshot.validFrom, snapshot.validTo " +
+        "from IssueSnapshot snapshot where snapshot.releaseId = :releaseId and snapshot.estimate is not null")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamEstimatedByRelease(@Param("releaseId") Long releaseId);
+
+    @Query("select min(snapshot.validFrom) from IssueSnapshot snapshot where snapshot.releaseId = :releaseId")
+    Instant findFirstValidFromByReleaseId(@Param("releaseId") Long releaseId);
+
+    @Modifying
+    @Query("update IssueSnapshot snapshot set snapshot.validTo = :validTo where snapshot.epicId = :epicId and snapshot.validTo is null")
+    int closeAllByEpicId(@Param("epicId") Long epicId, @Param("validTo") Instant validTo);
+
+}
@@ -0,0 +1,30 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.IssueStatusDuration;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data  repository for the IssueStatusDuration entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface IssueStatusDurationRepository extends JpaRepository<IssueStatusDuration, Long> {
+
+    /**
+     * Sum the durations of a release. Each row is {projectId, status, issue count, visit count, duration in seconds}.
+     */
+    @Query("select duration.projectId, duration.status, count(duration), sum(duration.visitCount), sum(duration.durationSeconds) " +
+        "from IssueStatusDuration duration where duration.releaseId = :releaseId " +
+        "group by duration.projectId, duration.status")
+    List<Object[]> sumByRelease(@Param("releaseId") Long releaseId);
+
+    @Modifying
+    @Query("delete from IssueStatusDuration duration where duration.issueId in :issueIds")
+    int deleteAllByIssueIdIn(@Param("issueIds") Collection<Long> issueIds);
+
+}
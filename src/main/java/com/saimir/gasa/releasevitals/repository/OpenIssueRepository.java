@@ -0,0 +1,39 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.OpenIssue;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data  repository for the OpenIssue entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface OpenIssueRepository extends JpaRepository<OpenIssue, Long> {
+
+    List<OpenIssue> findAllByEpicId(Long epicId);
+
+    Page<OpenIssue> findAllByEpicIdOrderByStatusEnteredAtAscIdAsc(Long epicId, Pageable pageable);
+
+    Page<OpenIssue> findAllByEpicIdAndProjectKeyOrderByStatusEnteredAtAscIdAsc(Long epicId, String projectKey, Pageable pageable);
+
+    /**
+     * Find the open issues of a project in the epics linked to it, oldest in their status first.
+     */
+    @Query(value = "select openIssue from OpenIssue openIssue where openIssue.projectKey = :projectKey and openIssue.epicId in " +
+        "(select epic.id from Epic epic join epic.projects project where project.id = :projectId) " +
+        "order by openIssue.statusEnteredAt, openIssue.id",
+        countQuery = "select count(openIssue) from OpenIssue openIssue where openIssue.projectKey = :projectKey and openIssue.epicId in " +
+        "(select epic.id from Epic epic join epic.projects project where project.id = :projectId)")
+    Page<OpenIssue> findAllByProject(@Param("projectId") Long projectId, @Param("projectKey") String projectKey, Pageable pageable);
+
+    @Modifying
+    @Query("delete from OpenIssue openIssue where openIssue.epicId = :epicId")
+    int deleteAllByEpicId(@Param("epicId") Long epicId);
+
+}
@@ -1,15 +1,20 @@
 package com.saimir.gasa.releasevitals.repository;
 
 import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.service.dto.ProjectListDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import static org.hibernate.jpa.QueryHints.HINT_FLUSH_MODE;
+
 /**
  * Spring Data  repository for the Project entity.
  */
@@ -17,14 +22,54 @@ import java.util.Optional;
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
-    @Query(value = "select distinct project from Project project left join fetch project.versions",
-        countQuery = "select count(distinct project) from Project project")
-    Page<Project> findAllWithEagerRelationships(Pageable pageable);
+    @Query(value = "select new com.saimir.gasa.releasevitals.service.dto.ProjectListDTO(project.id, project.name, project.key, " +
+        "release.id, release.name) from Project project left join project.release release",
+        countQuery = "select count(project) from Project project")
+    Page<ProjectListDTO> findAllProjected(Pageable pageable);
+
+    /**
+     * Find the versions of the given projects. Each row is {projectId, versionId, versionName}.
+     */
+    @Query("select project.id, version.id, version.name from Project project join project.versions version " +
+        "where project.id in :ids order by version.id")
+    List<Object[]> findVersionReferencesByProjectIdIn(@Param("ids") Collection<Long> ids);
 
-    @Query(value = "select distinct project from Project project left join fetch project.versions")
-    List<Project> findAllWithEagerRelationships();
+    @Query("select distinct project from Project project left join fetch project.release left join fetch project.versions " +
+        "where project.id in :ids")
+    List<Project> findAllWithEagerRelationshipsByIdIn(@Param("ids") Collection<Long> ids);
 
-    @Query("select project from Project project left join fetch project.versions where project.id =:id")
+    @EntityGraph(Project.GRAPH_DETAIL)
+    @Query("select project from Project project where project.id =:id")
     Optional<Project> findOneWithEagerRelationships(@Param("id") Long id);
 
+    @EntityGraph(Project.GRAPH_DETAIL)
+    @Query("select distinct project from Project project " +
+        "where project.id in (select inEpic.id from Epic epic join epic.projects inEpic where epic.id = :epicId)")
+    List<Project> findAllForIngestionByEpicId(@Param("epicId") Long epicId);
+
+    /**
+     * Find the ids of all the projects. Each row is {projectId, releaseId}.
+     */
+    @Query("select project.id, release.id from Project project left join project.release release order by release.id, project.id")
+    List<Object[]> findAllIdsWithReleaseId();
+
+    /**
+     * Find the release id of a project as stored, without flushing a change of the project not saved yet.
+     */
+    @Query("select release.id from Project project join project.release release where project.id = :id")
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+    List<Long> findReleaseIdById(@Param("id") Long id);
+
+    /**
+     * Find the projects with one of the keys in one of the releases; the caller matches the pairs.
+     */
+    @Query("select distinct project from Project project join fetch project.release release left join fetch project.versions " +
+        "where release.name in :releaseNames and project.key in :keys order by project.id")
+    List<Project> findAllByReleaseNameInAndKeyIn(@Param("releaseNames") Collection<String> releaseNames,
+                                                 @Param("keys") Collection<String> keys);
+
+    @Query("select distinct project from Project project join fetch project.release release left join fetch project.versions " +
+        "where release.id in :releaseIds")
+    List<Project> findAllWithVersionsByReleaseIdIn(@Param("releaseIds") Collection<Long> releaseIds);
+
 }
@@ -0,0 +1,32 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.ReleaseHealthMark;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Spring Data  repository for the ReleaseHealthMark entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface ReleaseHealthMarkRepository extends JpaRepository<ReleaseHealthMark, Long> {
+
+    @Query("select distinct mark.releaseId from ReleaseHealthMark mark order by mark.releaseId")
+    List<Long> findReleaseIds();
+
+    @Query("select mark.id from ReleaseHealthMark mark where mark.releaseId = :releaseId")
+    List<Long> findIdsByReleaseId(@Param("releaseId") Long releaseId);
+
+    @Modifying
+    @Query("delete from ReleaseHealthMark mark where mark.id in :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from ReleaseHealthMark mark where mark.releaseId = :releaseId")
+    int deleteByReleaseId(@Param("releaseId") Long releaseId);
+
+}
@@ -0,0 +1,27 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.ReleaseHealth;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data  repository for the ReleaseHealth entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface ReleaseHealthRepository extends JpaRepository<ReleaseHealth, Long> {
+
+    Optional<ReleaseHealth> findOneByReleaseId(Long releaseId);
+
+    List<ReleaseHealth> findAllByReleaseIdIn(Collection<Long> releaseIds);
+
+    @Modifying
+    @Query("delete from ReleaseHealth health where health.releaseId = :releaseId")
+    int deleteByReleaseId(@Param("releaseId") Long releaseId);
+
+}
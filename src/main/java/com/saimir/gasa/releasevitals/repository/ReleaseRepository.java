@@ -1,9 +1,16 @@
 package com.saimir.gasa.releasevitals.repository;
 
 import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseListDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Spring Data  repository for the Release entity.
@@ -12,4 +19,24 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ReleaseRepository extends JpaRepository<Release, Long> {
 
+    @Query(value = "select new com.saimir.gasa.releasevitals.service.dto.ReleaseListDTO(release.id, release.name, " +
+        "release.startDate, release.endDate) from Release release",
+        countQuery = "select count(release) from Release release")
+    Page<ReleaseListDTO> findAllProjected(Pageable pageable);
+
+    @Query("select release.id from Release release " +
+        "where not exists (select health.id from ReleaseHealth health where health.releaseId = release.id)")
+    List<Long> findIdsWithoutHealth();
+
+    @Query("select release from Release release where release.name in :names order by release.id")
+    List<Release> findAllByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * Find the ids of the releases not ended at the given time, the open-ended ones included.
+     */
+    @Query("select release.id from Release release where release.endDate is null or release.endDate > :now order by release.id")
+    List<Long> findActiveIds(@Param("now") Instant now);
+
+    @Query("select distinct release from Release release left join fetch release.projects where release.id in :ids")
+    List<Release> findAllWithProjectsByIdIn(@Param("ids") Collection<Long> ids);
 }
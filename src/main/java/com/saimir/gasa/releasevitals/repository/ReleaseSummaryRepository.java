@@ -0,0 +1,24 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.ReleaseSummary;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spring Data  repository for the ReleaseSummary entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface ReleaseSummaryRepository extends JpaRepository<ReleaseSummary, Long> {
+
+    Optional<ReleaseSummary> findOneByReleaseId(Long releaseId);
+
+    List<ReleaseSummary> findAllByReleaseIdIn(Collection<Long> releaseIds);
+
+    boolean existsByReleaseId(Long releaseId);
+
+}
@@ -0,0 +1,54 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Table;
+import java.util.List;
+
+/**
+ * Repository estimating the number of rows of a table, for the listings that do not need an exact total.
+ * <p>
+ * On PostgreSQL the estimate is the planner statistic pg_class.reltuples, kept up to date by autovacuum
+ * and ANALYZE, so no table is scanned. Other databases, and tables never analyzed, are counted exactly.
+ */
+@Repository
+public class RowCountEstimateRepository {
+
+    private final EntityManager entityManager;
+
+    private volatile Boolean postgreSQL;
+
+    public RowCountEstimateRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Estimate the number of rows of the table of an entity.
+     *
+     * @param entityClass the entity class, mapped with {@link Table}
+     * @return the estimated number of rows
+     */
+    public long estimateCount(Class<?> entityClass) {
+        if (isPostgreSQL()) {
+            List<?> estimates = entityManager.createNativeQuery("select reltuples from pg_class where oid = cast(:table as regclass)")
+                .setParameter("table", entityClass.getAnnotation(Table.class).name())
+                .getResultList();
+            // reltuples is negative until the table is first analyzed
+            if (!estimates.isEmpty() && ((Number) estimates.get(0)).doubleValue() >= 0) {
+                return Math.round(((Number) estimates.get(0)).doubleValue());
+            }
+        }
+        return entityManager.createQuery("select count(e) from " + entityClass.getSimpleName() + " e", Long.class)
+            .getSingleResult();
+    }
+
+    private boolean isPostgreSQL() {
+        if (postgreSQL == null) {
+            postgreSQL = entityManager.unwrap(Session.class).doReturningWork(connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return postgreSQL;
+    }
+}
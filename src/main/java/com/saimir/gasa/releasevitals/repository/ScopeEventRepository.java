@@ -0,0 +1,28 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.ScopeEvent;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Spring Data  repository for the ScopeEvent entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface ScopeEventRepository extends JpaRepository<ScopeEvent, Long> {
+
+    /**
+     * Aggregate the scope events of an epic in [from, to). Each row is {eventType, count, sum of pointsDelta}.
+     */
+    @Query("select event.eventType, count(event), sum(event.pointsDelta) from ScopeEvent event " +
+        "where event.epicId = :epicId and event.occurredAt >= :from and event.occurredAt < :to " +
+        "group by event.eventType")
+    List<Object[]> aggregateByEpic(@Param("epicId") Long epicId, @Param("from") Instant from, @Param("to") Instant to);
+
+    List<ScopeEvent> findAllByEpicId(Long epicId);
+
+}
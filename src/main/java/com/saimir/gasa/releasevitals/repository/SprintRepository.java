@@ -1,9 +1,14 @@
 package com.saimir.gasa.releasevitals.repository;
 
 import com.saimir.gasa.releasevitals.domain.Sprint;
+import com.saimir.gasa.releasevitals.service.dto.SprintListDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 
 /**
  * Spring Data  repository for the Sprint entity.
@@ -12,4 +17,15 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface SprintRepository extends JpaRepository<Sprint, Long> {
 
+    @Query(value = "select new com.saimir.gasa.releasevitals.service.dto.SprintListDTO(sprint.id, sprint.name, " +
+        "sprint.startDatetime, sprint.endDatetime, sprint.velocity) from Sprint sprint",
+        countQuery = "select count(sprint) from Sprint sprint")
+    Page<SprintListDTO> findAllProjected(Pageable pageable);
+
+    @Query("select max(sprint.startDatetime) from Sprint sprint where sprint.startDatetime <= :asOf")
+    Instant findLastStartAtOrBefore(@Param("asOf") Instant asOf);
+
+    @Query("select max(sprint.endDatetime) from Sprint sprint where sprint.endDatetime <= :asOf")
+    Instant findLastEndAtOrBefore(@Param("asOf") Instant asOf);
+
 }
@@ -1,9 +1,23 @@
 package com.saimir.gasa.releasevitals.repository;
 
 import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.service.dto.StatusListDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_FLUSH_MODE;
+
 
 /**
  * Spring Data  repository for the Status entity.
@@ -12,4 +26,96 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface StatusRepository extends JpaRepository<Status, Long> {
 
+    @Query(value = "select new com.saimir.gasa.releasevitals.service.dto.StatusListDTO(status.id, status.fromStatus, status.toStatus, " +
+        "status.timeChaged, issue.id, issue.key, issue.browserURL) from Status status left join status.issue issue",
+        countQuery = "select count(status) from Status status")
+    Page<StatusListDTO> findAllProjected(Pageable pageable);
+
+    /**
+     * Find the statuses following an id, seeking on the primary key. The slice reads one extra row to know if
+     * there is a next one, and runs no count query.
+     */
+    @Query("select new com.saimir.gasa.releasevitals.service.dto.StatusListDTO(status.id, status.fromStatus, status.toStatus, " +
+        "status.timeChaged, issue.id, issue.key, issue.browserURL) from Status status left join status.issue issue " +
+        "where status.id > :after order by status.id")
+    Slice<StatusListDTO> findAllProjectedAfter(@Param("after") Long after, Pageable pageable);
+
+    /**
+     * Stream the status transitions of all the issues of a release, oldest first.
+     * Each row is {issueId, fromStatus, toStatus, timeChaged}; no Issue entity is loaded.
+     */
+    @Query("select issue.id, status.fromStatus, status.toStatus, status.timeChaged from Status status " +
+        "join status.issue issue join issue.project project " +
+        "where project.release.id = :releaseId and status.timeChaged >= :from " +
+        "order by status.timeChaged, status.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamTransitionsByRelease(@Param("releaseId") Long releaseId, @Param("from") Instant from);
+
+    /**
+     * Stream the transitions of the issues of a release in (from, to], in time order.
+     * Each row is {issueId, fromStatus, toStatus, timeChaged}.
+     */
+    @Query("select issue.id, status.fromStatus, status.toStatus, status.timeChaged from Status status " +
+        "join status.issue issue join issue.project project " +
+        "where project.release.id = :releaseId and status.timeChaged > :from and status.timeChaged <= :to " +
+        "order by status.timeChaged, status.id")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamTransitionsByReleaseBetween(@Param("releaseId") Long releaseId, @Param("from") Instant from,
+                                                       @Param("to") Instant to);
+
+    /**
+     * Find the transitions of the given issues counted by the status rollup, as last flushed.
+     * Each row is {releaseId, projectId, toStatus, timeChaged}.
+     */
+    @Query("select project.release.id, project.id, status.toStatus, status.timeChaged from Status status " +
+        "join status.issue issue join issue.project project " +
+        "where issue.id in :issueIds and project.release is not null " +
+        "and status.toStatus is not null and status.timeChaged is not null")
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+    List<Object[]> findRollupTransitionsByIssueIds(@Param("issueIds") Collection<Long> issueIds);
+
+    /**
+     * Stream all the transitions counted by the status rollup, with the same row layout.
+     */
+    @Query("select project.release.id, project.id, status.toStatus, status.timeChaged from Status status " +
+        "join status.issue issue join issue.project project " +
+        "where project.release is not null and status.toStatus is not null and status.timeChaged is not null")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamRollupTransitions();
+
+    /**
+     * Stream the transitions of the issues of a project counted by the status rollup, with the same row layout.
+     */
+    @Query("select project.release.id, project.id, status.toStatus, status.timeChaged from Status status " +
+        "join status.issue issue join issue.project project " +
+        "where project.id = :projectId and project.release is not null and status.toStatus is not null and status.timeChaged is not null")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    Stream<Object[]> streamRollupTransitionsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Find the transitions of the given issues, oldest first per issue.
+     * Each row is {issueId, projectId, releaseId, toStatus, timeChaged}.
+     */
+    @Query("select issue.id, project.id, release.id, status.toStatus, status.timeChaged from Status status " +
+        "join status.issue issue left join issue.project project left join project.release release " +
+        "where issue.id in :issueIds and status.timeChaged is not null " +
+        "order by issue.id, status.timeChaged, status.id")
+    List<Object[]> findTransitionsByIssueIds(@Param("issueIds") Collection<Long> issueIds);
+
+    /**
+     * Find the last time the issues with the given keys entered each status.
+     * Each row is {issue key, toStatus, timeChaged}.
+     */
+    @Query("select issue.key, status.toStatus, max(status.timeChaged) from Status status join status.issue issue " +
+        "where issue.key in :issueKeys and status.toStatus is not null group by issue.key, status.toStatus")
+    List<Object[]> findLastEntriesByIssueKeys(@Param("issueKeys") Collection<String> issueKeys);
+
+    @Query("select status.issue.id from Status status where status.id = :id and status.issue is not null")
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+    List<Long> findIssueIdById(@Param("id") Long id);
+
+    @Query("select status.timeChaged from Status status where status.id = :id and status.timeChaged is not null")
+    @QueryHints(@QueryHint(name = HINT_FLUSH_MODE, value = "COMMIT"))
+    List<Instant> findTimeChagedById(@Param("id") Long id);
+
 }
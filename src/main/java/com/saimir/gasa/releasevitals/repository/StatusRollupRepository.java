@@ -0,0 +1,31 @@
+package com.saimir.gasa.releasevitals.repository;
+
+import com.saimir.gasa.releasevitals.domain.StatusRollup;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Spring Data  repository for the StatusRollup entity.
+ */
+@SuppressWarnings("unused")
+@Repository
+public interface StatusRollupRepository extends JpaRepository<StatusRollup, Long> {
+
+    List<StatusRollup> findAllByProjectId(Long projectId);
+
+    @Query("select rollup.projectId, rollup.status, rollup.weekStart, rollup.transitionCount from StatusRollup rollup " +
+        "where rollup.releaseId = :releaseId and rollup.weekStart >= :from and rollup.weekStart <= :to")
+    List<Object[]> findCountsByRelease(@Param("releaseId") Long releaseId, @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("update StatusRollup rollup set rollup.transitionCount = rollup.transitionCount + :delta " +
+        "where rollup.releaseId = :releaseId and rollup.projectId = :projectId and rollup.status = :status " +
+        "and rollup.weekStart = :weekStart")
+    int increment(@Param("releaseId") Long releaseId, @Param("projectId") Long projectId, @Param("status") String status,
+                  @Param("weekStart") LocalDate weekStart, @Param("delta") int delta);
+
+}
@@ -1,9 +1,15 @@
 package com.saimir.gasa.releasevitals.repository;
 
 import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.service.dto.VersionListDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Spring Data  repository for the Version entity.
@@ -12,4 +18,12 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface VersionRepository extends JpaRepository<Version, Long> {
 
+    @Query(value = "select new com.saimir.gasa.releasevitals.service.dto.VersionListDTO(version.id, version.name, " +
+        "issue.id, issue.key, issue.browserURL) from Version version left join version.issue issue",
+        countQuery = "select count(version) from Version version")
+    Page<VersionListDTO> findAllProjected(Pageable pageable);
+
+    @Query("select version from Version version where version.name in :names order by version.id")
+    List<Version> findAllByNameIn(@Param("names") Collection<String> names);
+
 }
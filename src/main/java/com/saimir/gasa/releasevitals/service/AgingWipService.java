@@ -0,0 +1,51 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.AgingIssueDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service Interface for managing the open issues of the epics and their age in their current status.
+ */
+public interface AgingWipService {
+
+    /**
+     * Replace the open issues of an epic by the unresolved issues read from Jira.
+     *
+     * @param epicId the id of the epic
+     * @param issueFacts the facts read from Jira
+     * @param refreshedAt the time of the refresh
+     */
+    void record(Long epicId, List<IssueFact> issueFacts, Instant refreshedAt);
+
+    /**
+     * Remove all the open issues of an epic.
+     *
+     * @param epicId the id of the epic
+     */
+    void remove(Long epicId);
+
+    /**
+     * Get the open issues of an epic, oldest in their current status first.
+     *
+     * @param epicId the id of the epic
+     * @param projectKey the key of the project to restrict to, or null for all of them
+     * @param pageable the pagination information
+     * @return the page of issues, or empty if the epic does not exist
+     */
+    Optional<Page<AgingIssueDTO>> getAgingWipOfEpic(Long epicId, String projectKey, Pageable pageable);
+
+    /**
+     * Get the open issues of a project in the epics linked to it, oldest in their current status first.
+     *
+     * @param projectId the id of the project
+     * @param pageable the pagination information
+     * @return the page of issues, or empty if the project does not exist
+     */
+    Optional<Page<AgingIssueDTO>> getAgingWipOfProject(Long projectId, Pageable pageable);
+}
@@ -0,0 +1,38 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.EpicAsOfDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseAsOfDTO;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Service Interface for reading the metrics of the epics and releases as they were at a past time.
+ */
+public interface AsOfService {
+
+    /**
+     * Get the metrics of an epic as they were at the given time.
+     *
+     * @param epicId the id of the epic
+     * @param asOf the time
+     * @return the metrics, or empty if the epic does not exist
+     */
+    Optional<EpicAsOfDTO> getEpicAsOf(Long epicId, Instant asOf);
+
+    /**
+     * Get the metrics of a release as they were at the given time.
+     *
+     * @param releaseId the id of the release
+     * @param asOf the time
+     * @return the metrics, or empty if the release does not exist
+     */
+    Optional<ReleaseAsOfDTO> getReleaseAsOf(Long releaseId, Instant asOf);
+
+    /**
+     * Drop the checkpoints that a transition at the given time would change.
+     *
+     * @param timeChanged the time of the added or removed transition, or null to drop everything
+     */
+    void evict(Instant timeChanged);
+}
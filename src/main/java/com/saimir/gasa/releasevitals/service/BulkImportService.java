@@ -0,0 +1,19 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.BulkImportDTO;
+import com.saimir.gasa.releasevitals.service.util.BulkImportReader;
+
+/**
+ * Service Interface for importing releases, versions, projects and epics in bulk.
+ */
+public interface BulkImportService {
+
+    /**
+     * Create or update the entity of every row of a document, resolving the references by natural key, and
+     * index the rows imported.
+     *
+     * @param reader the reader of the rows of the document
+     * @return the outcome of the import
+     */
+    BulkImportDTO importRows(BulkImportReader reader);
+}
@@ -0,0 +1,41 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.BurndownAnomalyDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service Interface for detecting scope creep and stalls in the burndown of the epics.
+ */
+public interface BurndownAnomalyService {
+
+    /**
+     * Add a refresh of an epic to its burndown statistics, and flag it if it breaks from them.
+     *
+     * @param epicId the id of the epic
+     * @param issueFacts the facts read from Jira
+     * @param observedAt the time of the refresh
+     */
+    void observe(Long epicId, List<IssueFact> issueFacts, Instant observedAt);
+
+    /**
+     * Remove the burndown statistics of a deleted epic.
+     *
+     * @param epicId the id of the epic
+     */
+    void remove(Long epicId);
+
+    /**
+     * @return the epics flagged by their last refresh, the most recent first
+     */
+    List<BurndownAnomalyDTO> getAnomalies();
+
+    /**
+     * Mail the flagged epics to the administrators, if the digest is enabled and anything is flagged.
+     *
+     * @return the number of digests sent
+     */
+    int sendDigest();
+}
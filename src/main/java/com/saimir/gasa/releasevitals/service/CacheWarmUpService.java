@@ -0,0 +1,18 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.CacheWarmUpDTO;
+
+/**
+ * Service Interface preloading the active releases and their projects, versions and epics into the
+ * second-level cache.
+ */
+public interface CacheWarmUpService {
+
+    /**
+     * Load the releases not ended yet, with their projects, versions and epics, batch by batch until the
+     * time budget is spent.
+     *
+     * @return the outcome of the warm-up
+     */
+    CacheWarmUpDTO warmUp();
+}
@@ -0,0 +1,27 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.CumulativeFlowDTO;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Service Interface for computing cumulative flow diagrams from the Status transitions.
+ */
+public interface CumulativeFlowService {
+
+    /**
+     * Get the per-day issue count of every status for the "id" release.
+     *
+     * @param releaseId the id of the release
+     * @return the cumulative flow, or empty if the release does not exist
+     */
+    Optional<CumulativeFlowDTO> getCumulativeFlow(Long releaseId);
+
+    /**
+     * Drop the cached days that a transition at the given time would change.
+     *
+     * @param timeChanged the time of the added or removed transition, or null to drop everything
+     */
+    void evict(Instant timeChanged);
+}
@@ -0,0 +1,23 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.EpicMetricHistoryDTO;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service Interface for reading the audited revisions of the epic metrics.
+ */
+public interface EpicMetricHistoryService {
+
+    /**
+     * Get the revisions of the metrics of the given epics within a time range.
+     *
+     * @param epicIds the ids of the epics
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, inclusive
+     * @return the history of each epic with at least one revision in the range, by epic id
+     */
+    List<EpicMetricHistoryDTO> getHistory(Collection<Long> epicIds, Instant from, Instant to);
+}
@@ -1,6 +1,7 @@
 package com.saimir.gasa.releasevitals.service;
 
 import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.service.dto.EpicListDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -29,11 +30,20 @@ public interface EpicService {
     Page<Epic> findAll(Pageable pageable);
 
     /**
-     * Get all the Epic with eager load of many-to-many relationships.
+     * Get all the epics as list rows, without loading the entities.
      *
-     * @return the list of entities
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    Page<EpicListDTO> findAllProjected(Pageable pageable);
+
+    /**
+     * Get all the epics as list rows, with references to the entities of their many-to-many relationships.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
      */
-    Page<Epic> findAllWithEagerRelationships(Pageable pageable);
+    Page<EpicListDTO> findAllProjectedWithEagerRelationships(Pageable pageable);
     
     /**
      * Get the "id" epic.
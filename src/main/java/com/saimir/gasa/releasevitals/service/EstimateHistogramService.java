@@ -0,0 +1,45 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.EstimateHistogramDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service Interface for managing the distribution of the story point estimates of the epics.
+ */
+public interface EstimateHistogramService {
+
+    /**
+     * Replace the histograms of an epic by the estimates read from Jira.
+     *
+     * @param epicId the id of the epic
+     * @param issueFacts the facts read from Jira
+     */
+    void record(Long epicId, List<IssueFact> issueFacts);
+
+    /**
+     * Remove all the histograms of an epic.
+     *
+     * @param epicId the id of the epic
+     */
+    void remove(Long epicId);
+
+    /**
+     * Get the distribution of the estimates of an epic.
+     *
+     * @param epicId the id of the epic
+     * @param projectKey the key of the project to restrict to, or null for all of them
+     * @return the histogram, or empty if the epic does not exist
+     */
+    Optional<EstimateHistogramDTO> getHistogramOfEpic(Long epicId, String projectKey);
+
+    /**
+     * Get the distribution of the estimates of a project in the epics linked to it.
+     *
+     * @param projectId the id of the project
+     * @return the histogram, or empty if the project does not exist
+     */
+    Optional<EstimateHistogramDTO> getHistogramOfProject(Long projectId);
+}
@@ -0,0 +1,25 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.HistoryBackfillDTO;
+
+import java.util.Optional;
+
+/**
+ * Service Interface recomputing the history derived from the Status rows and the issue snapshots, for
+ * every release, project and epic.
+ */
+public interface HistoryBackfillService {
+
+    /**
+     * Start the backfill in the background. Does nothing if a backfill is already running.
+     *
+     * @param resume true to skip the units checkpointed by the previous backfill, false to start over
+     * @return the progress of the backfill
+     */
+    HistoryBackfillDTO start(boolean resume);
+
+    /**
+     * @return the progress of the last backfill, if any
+     */
+    Optional<HistoryBackfillDTO> getProgress();
+}
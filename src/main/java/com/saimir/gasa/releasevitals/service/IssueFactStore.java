@@ -0,0 +1,289 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsTotals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * In-memory columnar store of the issue facts read from Jira, used to recompute the epic metrics for
+ * other release windows or version sets without loading any entity.
+ * <p>
+ * Facts are kept per epic in primitive arrays. Project keys, versions, statuses and resolutions are
+ * int-encoded through dictionaries shared by all epics. Refreshing an epic replaces the columns of
+ * that epic only, and readers never see a partially written epic.
+ */
+@Service
+public class IssueFactStore {
+
+    private final Logger log = LoggerFactory.getLogger(IssueFactStore.class);
+
+    private final Dictionary projects = new Dictionary();
+
+    private final Dictionary versions = new Dictionary();
+
+    private final Dictionary statuses = new Dictionary();
+
+    private final Dictionary resolutions = new Dictionary();
+
+    private final ConcurrentMap<Long, EpicColumns> epics = new ConcurrentHashMap<>();
+
+    /**
+     * Replace the facts of an epic once its refresh is committed.
+     *
+     * @param event the refreshed epic
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEpicRefreshed(EpicRefreshedEvent event) {
+        replace(event.getEpicId(), event.getIssueFacts());
+    }
+
+    /**
+     * Replace all the facts of an epic.
+     *
+     * @param epicId the id of the epic
+     * @param issueFacts the facts read from Jira
+     */
+    public void replace(Long epicId, List<IssueFact> issueFacts) {
+        log.debug("Request to store {} issue facts for Epic : {}", issueFacts.size(), epicId);
+        epics.put(epicId, new EpicColumns(issueFacts));
+    }
+
+    /**
+     * Remove all the facts of an epic.
+     *
+     * @param epicId the id of the epic
+     */
+    public void remove(Long epicId) {
+        epics.remove(epicId);
+    }
+
+    /**
+     * @param epicId the id of the epic
+     * @return true if facts were stored for the epic
+     */
+    public boolean contains(Long epicId) {
+        return epics.containsKey(epicId);
+    }
+
+    /**
+     * @return the ids of the epics with stored facts
+     */
+    public Set<Long> getEpicIds() {
+        return Collections.unmodifiableSet(epics.keySet());
+    }
+
+    /**
+     * @return the number of facts stored for all the epics
+     */
+    public int size() {
+        int size = 0;
+        for (EpicColumns columns : epics.values()) {
+            size += columns.size;
+        }
+        return size;
+    }
+
+    /**
+     * Start a query selecting the (project, version) pairs to aggregate, each with its release window.
+     *
+     * @return an empty query
+     */
+    public Query newQuery() {
+        return new Query();
+    }
+
+    /**
+     * Aggregate the facts of an epic matched by the query into the given totals. No object is allocated
+     * per fact.
+     *
+     * @param epicId the id of the epic
+     * @param query the (project, version) pairs to aggregate
+     * @param totals the totals to add to
+     * @return the totals
+     */
+    public EpicMetricsTotals aggregate(Long epicId, Query query, EpicMetricsTotals totals) {
+        EpicColumns columns = epics.get(epicId);
+        if (columns == null) {
+            return totals;
+        }
+        int[] project = columns.project;
+        int[] version = columns.version;
+        byte[] resolutionClass = columns.resolutionClass;
+        double[] estimate = columns.estimate;
+        long[] resolvedAt = columns.resolvedAt;
+        for (int i = 0; i < columns.size; i++) {
+            int slot = query.slotOf(project[i], version[i]);
+            if (slot < 0) {
+                continue;
+            }
+            totals.add(resolutionClass[i], estimate[i], resolvedAt[i], query.windowStart[slot], query.windowEnd[slot]);
+        }
+        return totals;
+    }
+
+    private static String projectKey(String key) {
+        return key == null ? null : key.toUpperCase(Locale.ROOT);
+    }
+
+    private static String versionName(String name) {
+        return name == null ? null : name.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * The facts of one epic, one array per column. Never modified once built.
+     */
+    private final class EpicColumns {
+
+        private final int size;
+
+        private final String[] issueKey;
+
+        private final int[] project;
+
+        private final int[] version;
+
+        private final int[] status;
+
+        private final int[] resolution;
+
+        private final byte[] resolutionClass;
+
+        private final double[] estimate;
+
+        private final long[] resolvedAt;
+
+        private EpicColumns(List<IssueFact> issueFacts) {
+            size = issueFacts.size();
+            issueKey = new String[size];
+            project = new int[size];
+            version = new int[size];
+            status = new int[size];
+            resolution = new int[size];
+            resolutionClass = new byte[size];
+            estimate = new double[size];
+            resolvedAt = new long[size];
+            for (int i = 0; i < size; i++) {
+                IssueFact issueFact = issueFacts.get(i);
+                issueKey[i] = issueFact.getIssueKey();
+                project[i] = projects.encode(projectKey(issueFact.getProjectKey()));
+                version[i] = versions.encode(versionName(issueFact.getVersion()));
+                status[i] = statuses.encode(issueFact.getStatus());
+                resolution[i] = resolutions.encode(issueFact.getResolution());
+                resolutionClass[i] = issueFact.getResolutionClass();
+                estimate[i] = issueFact.getEstimate() == null ? Double.NaN : issueFact.getEstimate();
+                resolvedAt[i] = issueFact.getResolutionDate() == null ? EpicMetricsTotals.NOT_RESOLVED : issueFact.getResolutionDate().toEpochMilli();
+            }
+        }
+    }
+
+    /**
+     * Append-only dictionary giving a dense int code to each distinct value. Null is encoded as -1.
+     */
+    private static final class Dictionary {
+
+        private final Map<String, Integer> codes = new ConcurrentHashMap<>();
+
+        private volatile String[] values = new String[0];
+
+        private int encode(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer code = codes.get(value);
+            return code != null ? code : add(value);
+        }
+
+        private synchronized int add(String value) {
+            Integer code = codes.get(value);
+            if (code == null) {
+                String[] grown = Arrays.copyOf(values, values.length + 1);
+                code = values.length;
+                grown[code] = value;
+                values = grown;
+                codes.put(value, code);
+            }
+            return code;
+        }
+
+        private int codeOf(String value) {
+            Integer code = value == null ? null : codes.get(value);
+            return code == null ? -1 : code;
+        }
+    }
+
+    /**
+     * The (project, version) pairs to aggregate, each with the window of the release of its project.
+     */
+    public final class Query {
+
+        private int[][] slots = new int[0][];
+
+        private long[] windowStart = new long[0];
+
+        private long[] windowEnd = new long[0];
+
+        private Query() {
+        }
+
+        /**
+         * Include the facts of a project tagged with a fix version.
+         *
+         * @param projectKey the Jira project key
+         * @param version the fix version name
+         * @param start the start of the release window, or null if open
+         * @param end the end of the release window, or null if open
+         * @return this query
+         */
+        public Query include(String projectKey, String version, Instant start, Instant end) {
+            int projectCode = projects.codeOf(projectKey(projectKey));
+            int versionCode = versions.codeOf(versionName(version));
+            if (projectCode < 0 || versionCode < 0) {
+                // nothing stored can match
+                return this;
+            }
+            if (projectCode >= slots.length) {
+                slots = Arrays.copyOf(slots, projectCode + 1);
+            }
+            int[] versionSlots = slots[projectCode];
+            if (versionSlots == null || versionCode >= versionSlots.length) {
+                versionSlots = versionSlots == null ? new int[versionCode + 1] : Arrays.copyOf(versionSlots, versionCode + 1);
+                slots[projectCode] = versionSlots;
+            }
+            if (versionSlots[versionCode] == 0) {
+                int slot = windowStart.length;
+                windowStart = Arrays.copyOf(windowStart, slot + 1);
+                windowEnd = Arrays.copyOf(windowEnd, slot + 1);
+                versionSlots[versionCode] = slot + 1;
+            }
+            int slot = versionSlots[versionCode] - 1;
+            windowStart[slot] = start == null ? Long.MIN_VALUE : start.toEpochMilli();
+            windowEnd[slot] = end == null ? Long.MAX_VALUE : end.toEpochMilli();
+            return this;
+        }
+
+        private int slotOf(int projectCode, int versionCode) {
+            if (projectCode < 0 || projectCode >= slots.length) {
+                return -1;
+            }
+            int[] versionSlots = slots[projectCode];
+            if (versionSlots == null || versionCode < 0 || versionCode >= versionSlots.length) {
+                return -1;
+            }
+            return versionSlots[versionCode] - 1;
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.saimir.gasa.releasevitals.service;
 
 import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.service.dto.IssueListDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Optional;
 
@@ -21,12 +23,46 @@ public interface IssueService {
     Issue save(Issue issue);
 
     /**
-     * Get all the issues.
+     * Get all the issues as list rows, without loading the entities.
      *
      * @param pageable the pagination information
-     * @return the list of entities
+     * @return the list of rows
+     */
+    Page<IssueListDTO> findAllProjected(Pageable pageable);
+
+    /**
+     * Get the issues of a project as list rows.
+     *
+     * @param projectId the id of the project
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    Page<IssueListDTO> findAllByProject(Long projectId, Pageable pageable);
+
+    /**
+     * Get the issues of a sprint as list rows.
+     *
+     * @param sprintId the id of the sprint
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    Page<IssueListDTO> findAllBySprint(Long sprintId, Pageable pageable);
+
+    /**
+     * Get the issues following an id, in id order, without counting them.
+     *
+     * @param after the id to start after, exclusive
+     * @param size the maximum number of issues
+     * @return the slice of rows
+     */
+    Slice<IssueListDTO> findAllAfter(Long after, int size);
+
+    /**
+     * Estimate the number of issues, without counting them exactly where the database keeps statistics.
+     *
+     * @return the estimated number of entities
      */
-    Page<Issue> findAll(Pageable pageable);
+    long estimateCount();
 
 
     /**
@@ -0,0 +1,51 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.ChangeDigestSummaryDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueChangeDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Service Interface for managing the issue snapshots and the release change digests built from them.
+ */
+public interface IssueSnapshotService {
+
+    /**
+     * Record the issues read from Jira for an epic, closing the snapshots that changed or disappeared.
+     *
+     * @param epicId the id of the epic
+     * @param issueFacts the facts read from Jira
+     * @param refreshedAt the time of the refresh
+     */
+    void record(Long epicId, List<IssueFact> issueFacts, Instant refreshedAt);
+
+    /**
+     * Close all the current snapshots of an epic.
+     *
+     * @param epicId the id of the epic
+     * @param closedAt the time the snapshots stop being current
+     */
+    void close(Long epicId, Instant closedAt);
+
+    /**
+     * Append the scope events of an epic missing from the history of its snapshots.
+     *
+     * @param epicId the id of the epic
+     * @return the number of scope events appended
+     */
+    int rebuildScopeEvents(Long epicId);
+
+    /**
+     * Diff the issues of a release as they were at the given time with their current state.
+     *
+     * @param releaseId the id of the release
+     * @param since the earlier instant
+     * @param changes called once per changed issue and fix version, while the snapshots are read
+     * @return the totals of the changes, or empty if the release does not exist
+     */
+    Optional<ChangeDigestSummaryDTO> digest(Long releaseId, Instant since, Consumer<IssueChangeDTO> changes);
+}
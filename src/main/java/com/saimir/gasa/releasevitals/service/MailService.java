@@ -1,10 +1,12 @@
 package com.saimir.gasa.releasevitals.service;
 
 import com.saimir.gasa.releasevitals.domain.User;
+import com.saimir.gasa.releasevitals.service.dto.BurndownAnomalyDTO;
 
 import io.github.jhipster.config.JHipsterProperties;
 
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.Locale;
 import javax.mail.internet.MimeMessage;
 
@@ -32,6 +34,8 @@ public class MailService {
 
     private static final String BASE_URL = "baseUrl";
 
+    private static final String ANOMALIES = "anomalies";
+
     private final JHipsterProperties jHipsterProperties;
 
     private final JavaMailSender javaMailSender;
@@ -102,4 +106,17 @@ public class MailService {
         log.debug("Sending password reset email to '{}'", user.getEmail());
         sendEmailFromTemplate(user, "mail/passwordResetEmail", "email.reset.title");
     }
+
+    @Async
+    public void sendBurndownAnomalyDigest(User user, List<BurndownAnomalyDTO> anomalies) {
+        log.debug("Sending burndown anomaly digest of {} epics to '{}'", anomalies.size(), user.getEmail());
+        Locale locale = Locale.forLanguageTag(user.getLangKey());
+        Context context = new Context(locale);
+        context.setVariable(USER, user);
+        context.setVariable(ANOMALIES, anomalies);
+        context.setVariable(BASE_URL, jHipsterProperties.getMail().getBaseUrl());
+        String content = templateEngine.process("mail/burndownAnomalyDigest", context);
+        String subject = messageSource.getMessage("email.burndownAnomaly.title", new Object[]{anomalies.size()}, locale);
+        sendEmail(user.getEmail(), subject, content, false, true);
+    }
 }
@@ -1,6 +1,7 @@
 package com.saimir.gasa.releasevitals.service;
 
 import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.service.dto.ProjectListDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -21,19 +22,20 @@ public interface ProjectService {
     Project save(Project project);
 
     /**
-     * Get all the projects.
+     * Get all the projects as list rows, without loading the entities.
      *
      * @param pageable the pagination information
-     * @return the list of entities
+     * @return the list of rows
      */
-    Page<Project> findAll(Pageable pageable);
+    Page<ProjectListDTO> findAllProjected(Pageable pageable);
 
     /**
-     * Get all the Project with eager load of many-to-many relationships.
+     * Get all the projects as list rows, with references to the entities of their many-to-many relationships.
      *
-     * @return the list of entities
+     * @param pageable the pagination information
+     * @return the list of rows
      */
-    Page<Project> findAllWithEagerRelationships(Pageable pageable);
+    Page<ProjectListDTO> findAllProjectedWithEagerRelationships(Pageable pageable);
     
     /**
      * Get the "id" project.
@@ -0,0 +1,57 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.ReleaseHealthDTO;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service Interface for maintaining the health score of the releases.
+ */
+public interface ReleaseHealthService {
+
+    /**
+     * Mark the releases whose data changed, so their health is recomputed once the transaction commits.
+     *
+     * @param releaseIds the ids of the releases
+     */
+    void markDirty(Collection<Long> releaseIds);
+
+    /**
+     * Mark the releases of the epic's projects, so their health is recomputed.
+     *
+     * @param epicId the id of the epic
+     */
+    void markDirtyByEpic(Long epicId);
+
+    /**
+     * Recompute the health of the releases marked by the committed changes.
+     *
+     * @return the number of releases recomputed
+     */
+    int recomputeDirty();
+
+    /**
+     * Remove the health of a deleted release.
+     *
+     * @param releaseId the id of the release
+     */
+    void remove(Long releaseId);
+
+    /**
+     * Get the stored health of the given releases.
+     *
+     * @param releaseIds the ids of the releases
+     * @return the health of the releases computed so far
+     */
+    List<ReleaseHealthDTO> getHealth(Collection<Long> releaseIds);
+
+    /**
+     * Get the stored health of the "id" release.
+     *
+     * @param releaseId the id of the release
+     * @return the health, or empty if not computed yet
+     */
+    Optional<ReleaseHealthDTO> getHealth(Long releaseId);
+}
@@ -1,6 +1,7 @@
 package com.saimir.gasa.releasevitals.service;
 
 import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseListDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +29,14 @@ public interface ReleaseService {
      */
     Page<Release> findAll(Pageable pageable);
 
+    /**
+     * Get all the releases as list rows, without loading the entities.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    Page<ReleaseListDTO> findAllProjected(Pageable pageable);
+
 
     /**
      * Get the "id" release.
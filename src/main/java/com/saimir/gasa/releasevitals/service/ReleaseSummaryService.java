@@ -0,0 +1,44 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.ReleaseComparisonDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseSummaryDTO;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service Interface for closing the releases into immutable summaries, and comparing them.
+ */
+public interface ReleaseSummaryService {
+
+    /**
+     * Close a release: write the summary of its epics and its burndown as they are now.
+     *
+     * @param releaseId the id of the release
+     * @return the summary, or empty if the release does not exist
+     * @throws IllegalStateException if the release is already closed
+     */
+    Optional<ReleaseSummaryDTO> close(Long releaseId);
+
+    /**
+     * @param releaseId the id of the release
+     * @return true if the release is closed
+     */
+    boolean isClosed(Long releaseId);
+
+    /**
+     * Get the summary of a closed release.
+     *
+     * @param releaseId the id of the release
+     * @return the summary, or empty if the release is not closed
+     */
+    Optional<ReleaseSummaryDTO> getSummary(Long releaseId);
+
+    /**
+     * Compare closed releases from their summaries only.
+     *
+     * @param releaseIds the ids of the releases, the first one being the baseline
+     * @return the comparison, or empty if any of the releases is not closed
+     */
+    Optional<ReleaseComparisonDTO> compare(List<Long> releaseIds);
+}
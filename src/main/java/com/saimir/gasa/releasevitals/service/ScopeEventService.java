@@ -0,0 +1,22 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.ScopeChurnDTO;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Service Interface for reading the scope events of the epics.
+ */
+public interface ScopeEventService {
+
+    /**
+     * Aggregate the scope events of an epic over a date range.
+     *
+     * @param epicId the id of the epic
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, exclusive
+     * @return the churn, or empty if the epic does not exist
+     */
+    Optional<ScopeChurnDTO> getScopeChurn(Long epicId, Instant from, Instant to);
+}
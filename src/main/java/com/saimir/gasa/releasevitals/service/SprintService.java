@@ -1,6 +1,7 @@
 package com.saimir.gasa.releasevitals.service;
 
 import com.saimir.gasa.releasevitals.domain.Sprint;
+import com.saimir.gasa.releasevitals.service.dto.SprintListDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +29,14 @@ public interface SprintService {
      */
     Page<Sprint> findAll(Pageable pageable);
 
+    /**
+     * Get all the sprints as list rows, without loading the entities.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    Page<SprintListDTO> findAllProjected(Pageable pageable);
+
 
     /**
      * Get the "id" sprint.
@@ -0,0 +1,61 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.RollupVerificationDTO;
+import com.saimir.gasa.releasevitals.service.dto.StatusRollupDTO;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Service Interface for managing the release × project × status × week rollup of the Status transitions.
+ */
+public interface StatusRollupService {
+
+    /**
+     * Run a change to some issues or to their Status rows, then update the rollup by the difference
+     * between their transitions before and after the change.
+     *
+     * @param issueIds the ids of the issues the change may affect
+     * @param change the change
+     * @param <T> the result type of the change
+     * @return the result of the change
+     */
+    <T> T track(Collection<Long> issueIds, Supplier<T> change);
+
+    /**
+     * Get the transition counts of a release grouped by the given dimensions.
+     *
+     * @param releaseId the id of the release
+     * @param byProject true to group by project
+     * @param byStatus true to group by status
+     * @param byWeek true to group by week
+     * @param from the first week to include, or null
+     * @param to the last week to include, or null
+     * @return the counts, by week, project and status
+     */
+    List<StatusRollupDTO> getRollup(Long releaseId, boolean byProject, boolean byStatus, boolean byWeek, LocalDate from, LocalDate to);
+
+    /**
+     * Rebuild the rollup from the Status rows, report the counts that drifted and repair them.
+     *
+     * @return the outcome of the verification
+     */
+    RollupVerificationDTO verify();
+
+    /**
+     * Rebuild the rollup counts of a project from the Status rows of its issues, the counts of a former
+     * release of the project included.
+     *
+     * @param projectId the id of the project
+     * @return the number of counts written
+     */
+    int rebuild(Long projectId);
+
+    /**
+     * @return the outcome of the last verification, if any
+     */
+    Optional<RollupVerificationDTO> getLastVerification();
+}
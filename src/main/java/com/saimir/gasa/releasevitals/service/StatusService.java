@@ -1,9 +1,11 @@
 package com.saimir.gasa.releasevitals.service;
 
 import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.service.dto.StatusListDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Optional;
 
@@ -28,6 +30,30 @@ public interface StatusService {
      */
     Page<Status> findAll(Pageable pageable);
 
+    /**
+     * Get all the statuses as list rows, without loading the entities.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    Page<StatusListDTO> findAllProjected(Pageable pageable);
+
+    /**
+     * Get the statuses following an id, in id order, without counting them.
+     *
+     * @param after the id to start after, exclusive
+     * @param size the maximum number of statuses
+     * @return the slice of rows
+     */
+    Slice<StatusListDTO> findAllAfter(Long after, int size);
+
+    /**
+     * Estimate the number of statuses, without counting them exactly where the database keeps statistics.
+     *
+     * @return the estimated number of entities
+     */
+    long estimateCount();
+
 
     /**
      * Get the "id" status.
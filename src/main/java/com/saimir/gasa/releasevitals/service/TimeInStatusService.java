@@ -0,0 +1,28 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.TimeInStatusDTO;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service Interface for managing the time the issues spent in each status.
+ */
+public interface TimeInStatusService {
+
+    /**
+     * Recompute the durations of the given issues from their Status rows.
+     *
+     * @param issueIds the ids of the issues
+     * @return the number of durations written
+     */
+    int refresh(Collection<Long> issueIds);
+
+    /**
+     * Get the time the issues of a release spent in each status, by project.
+     *
+     * @param releaseId the id of the release
+     * @return the durations, by project and status
+     */
+    List<TimeInStatusDTO> getTimeInStatus(Long releaseId);
+}
@@ -1,6 +1,7 @@
 package com.saimir.gasa.releasevitals.service;
 
 import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.service.dto.VersionListDTO;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +29,14 @@ public interface VersionService {
      */
     Page<Version> findAll(Pageable pageable);
 
+    /**
+     * Get all the versions as list rows, without loading the entities.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    Page<VersionListDTO> findAllProjected(Pageable pageable);
+
 
     /**
      * Get the "id" version.
@@ -0,0 +1,26 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.WhatIfDTO;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Service Interface for evaluating hypothetical release windows and version sets.
+ */
+public interface WhatIfService {
+
+    /**
+     * Recompute the epic metrics of a release from the locally cached issue data. Nothing is persisted
+     * and Jira is not called.
+     *
+     * @param releaseId the id of the release
+     * @param startDate the hypothetical start date, or null to keep the release one
+     * @param endDate the hypothetical end date, or null to keep the release one
+     * @param versionsByProject the hypothetical fix versions by project key; projects not listed keep their versions
+     * @return the recomputed metrics, or empty if the release does not exist
+     */
+    Optional<WhatIfDTO> evaluate(Long releaseId, Instant startDate, Instant endDate, Map<String, Set<String>> versionsByProject);
+}
@@ -0,0 +1,86 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * An open issue with the time it has spent in its current status.
+ */
+public class AgingIssueDTO {
+
+    private final Long epicId;
+
+    private final String issueKey;
+
+    private final String projectKey;
+
+    private final String status;
+
+    private final Instant statusEnteredAt;
+
+    private final Double estimate;
+
+    private final long secondsInStatus;
+
+    public AgingIssueDTO(Long epicId, String issueKey, String projectKey, String status, Instant statusEnteredAt,
+                         Double estimate, Instant asOf) {
+        this.epicId = epicId;
+        this.issueKey = issueKey;
+        this.projectKey = projectKey;
+        this.status = status;
+        this.statusEnteredAt = statusEnteredAt;
+        this.estimate = estimate;
+        this.secondsInStatus = Math.max(0, Duration.between(statusEnteredAt, asOf).getSeconds());
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public String getIssueKey() {
+        return issueKey;
+    }
+
+    public String getProjectKey() {
+        return projectKey;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Instant getStatusEnteredAt() {
+        return statusEnteredAt;
+    }
+
+    /**
+     * @return the estimate in story points, or null if not estimated
+     */
+    public Double getEstimate() {
+        return estimate;
+    }
+
+    public long getSecondsInStatus() {
+        return secondsInStatus;
+    }
+
+    /**
+     * @return the whole days spent in the current status
+     */
+    public long getDaysInStatus() {
+        return secondsInStatus / 86400;
+    }
+
+    @Override
+    public String toString() {
+        return "AgingIssueDTO{" +
+            "epicId=" + epicId +
+            ", issueKey='" + issueKey + "'" +
+            ", projectKey='" + projectKey + "'" +
+            ", status='" + status + "'" +
+            ", statusEnteredAt=" + statusEnteredAt +
+            ", estimate=" + estimate +
+            ", secondsInStatus=" + secondsInStatus +
+            "}";
+    }
+}
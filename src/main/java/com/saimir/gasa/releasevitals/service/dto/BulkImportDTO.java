@@ -0,0 +1,73 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of a bulk import. The rows before a malformed line are imported, and
+ * the import stops there; a row referencing a missing release or project is rejected on its own.
+ */
+public class BulkImportDTO {
+
+    private final int createdCount;
+
+    private final int updatedCount;
+
+    private final int rejectedCount;
+
+    private final boolean complete;
+
+    private final List<String> errors;
+
+    private final long elapsedMillis;
+
+    public BulkImportDTO(int createdCount, int updatedCount, int rejectedCount, boolean complete, List<String> errors,
+                         long elapsedMillis) {
+        this.createdCount = createdCount;
+        this.updatedCount = updatedCount;
+        this.rejectedCount = rejectedCount;
+        this.complete = complete;
+        this.errors = errors;
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public int getRejectedCount() {
+        return rejectedCount;
+    }
+
+    /**
+     * @return false if the import stopped at a malformed line before the end of the document
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    /**
+     * @return the first errors, each starting with its line
+     */
+    public List<String> getErrors() {
+        return errors;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkImportDTO{" +
+            "createdCount=" + createdCount +
+            ", updatedCount=" + updatedCount +
+            ", rejectedCount=" + rejectedCount +
+            ", complete=" + complete +
+            ", elapsedMillis=" + elapsedMillis +
+            "}";
+    }
+}
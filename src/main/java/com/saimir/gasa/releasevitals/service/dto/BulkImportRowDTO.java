@@ -0,0 +1,149 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A DTO representing one row of a bulk import: a release, a version, a project or an epic, with its
+ * references given by natural key.
+ * <p>
+ * A release is identified by its name, a version by its name, a project by its release and its key, and
+ * an epic by its key. The projects of an epic are the projects with these keys in the release of the row.
+ * A row may reference the entities already stored and the entities of the rows before it.
+ */
+public class BulkImportRowDTO {
+
+    public static final String RELEASE = "release";
+
+    public static final String VERSION = "version";
+
+    public static final String PROJECT = "project";
+
+    public static final String EPIC = "epic";
+
+    private long lineNumber;
+
+    private String type;
+
+    private String name;
+
+    private String key;
+
+    private String release;
+
+    private Instant startDate;
+
+    private Instant endDate;
+
+    private List<String> versions;
+
+    private List<String> projects;
+
+    private String browserURL;
+
+    /**
+     * @return the line of the row in the imported document, starting at 1
+     */
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public void setLineNumber(long lineNumber) {
+        this.lineNumber = lineNumber;
+    }
+
+    /**
+     * @return one of release, version, project or epic
+     */
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    /**
+     * @return the name of the release of a project or an epic
+     */
+    public String getRelease() {
+        return release;
+    }
+
+    public void setRelease(String release) {
+        this.release = release;
+    }
+
+    public Instant getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(Instant startDate) {
+        this.startDate = startDate;
+    }
+
+    public Instant getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(Instant endDate) {
+        this.endDate = endDate;
+    }
+
+    /**
+     * @return the names of the versions of a project, created when missing, or null to keep the versions
+     */
+    public List<String> getVersions() {
+        return versions;
+    }
+
+    public void setVersions(List<String> versions) {
+        this.versions = versions;
+    }
+
+    /**
+     * @return the keys of the projects of an epic, or null to keep the projects
+     */
+    public List<String> getProjects() {
+        return projects;
+    }
+
+    public void setProjects(List<String> projects) {
+        this.projects = projects;
+    }
+
+    public String getBrowserURL() {
+        return browserURL;
+    }
+
+    public void setBrowserURL(String browserURL) {
+        this.browserURL = browserURL;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkImportRowDTO{" +
+            "lineNumber=" + lineNumber +
+            ", type='" + type + "'" +
+            ", name='" + name + "'" +
+            ", key='" + key + "'" +
+            ", release='" + release + "'" +
+            "}";
+    }
+}
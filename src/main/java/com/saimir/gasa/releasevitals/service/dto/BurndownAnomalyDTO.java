@@ -0,0 +1,90 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import com.saimir.gasa.releasevitals.domain.enumeration.BurndownAnomalyType;
+
+import java.time.Instant;
+
+/**
+ * A DTO representing an epic whose last refresh broke from its own burndown history.
+ */
+public class BurndownAnomalyDTO {
+
+    private final Long epicId;
+
+    private final String epicName;
+
+    private final String epicKey;
+
+    private final BurndownAnomalyType anomaly;
+
+    private final double value;
+
+    private final double threshold;
+
+    private final double remainingPoints;
+
+    private final Instant flaggedAt;
+
+    public BurndownAnomalyDTO(Long epicId, String epicName, String epicKey, BurndownAnomalyType anomaly, double value,
+                              double threshold, double remainingPoints, Instant flaggedAt) {
+        this.epicId = epicId;
+        this.epicName = epicName;
+        this.epicKey = epicKey;
+        this.anomaly = anomaly;
+        this.value = value;
+        this.threshold = threshold;
+        this.remainingPoints = remainingPoints;
+        this.flaggedAt = flaggedAt;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public String getEpicName() {
+        return epicName;
+    }
+
+    public String getEpicKey() {
+        return epicKey;
+    }
+
+    public BurndownAnomalyType getAnomaly() {
+        return anomaly;
+    }
+
+    /**
+     * @return the points added since the previous refresh for a scope creep, or the points completed per day for a stall
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * @return the value above which a scope creep is flagged, or below which a stall is flagged
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    public double getRemainingPoints() {
+        return remainingPoints;
+    }
+
+    public Instant getFlaggedAt() {
+        return flaggedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "BurndownAnomalyDTO{" +
+            "epicId=" + epicId +
+            ", epicKey='" + epicKey + "'" +
+            ", anomaly='" + anomaly + "'" +
+            ", value=" + value +
+            ", threshold=" + threshold +
+            ", remainingPoints=" + remainingPoints +
+            ", flaggedAt='" + flaggedAt + "'" +
+            "}";
+    }
+}
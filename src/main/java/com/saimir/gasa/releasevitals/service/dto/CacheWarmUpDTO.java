@@ -0,0 +1,98 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A DTO representing the outcome of a second-level cache warm-up. The releases, projects and epics
+ * are counted as loaded by the queries; the versions once each.
+ */
+public class CacheWarmUpDTO {
+
+    private final Instant startedAt;
+
+    private final Instant finishedAt;
+
+    private final int activeReleaseCount;
+
+    private final int releaseCount;
+
+    private final int projectCount;
+
+    private final int versionCount;
+
+    private final int epicCount;
+
+    private final boolean complete;
+
+    public CacheWarmUpDTO(Instant startedAt, Instant finishedAt, int activeReleaseCount, int releaseCount,
+                          int projectCount, int versionCount, int epicCount, boolean complete) {
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.activeReleaseCount = activeReleaseCount;
+        this.releaseCount = releaseCount;
+        this.projectCount = projectCount;
+        this.versionCount = versionCount;
+        this.epicCount = epicCount;
+        this.complete = complete;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * @return the releases not ended when the warm-up started
+     */
+    public int getActiveReleaseCount() {
+        return activeReleaseCount;
+    }
+
+    /**
+     * @return the releases loaded within the time budget
+     */
+    public int getReleaseCount() {
+        return releaseCount;
+    }
+
+    public int getProjectCount() {
+        return projectCount;
+    }
+
+    public int getVersionCount() {
+        return versionCount;
+    }
+
+    public int getEpicCount() {
+        return epicCount;
+    }
+
+    /**
+     * @return false if the time budget ran out before all the active releases were loaded
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    public long getElapsedMillis() {
+        return Duration.between(startedAt, finishedAt).toMillis();
+    }
+
+    @Override
+    public String toString() {
+        return "CacheWarmUpDTO{" +
+            "startedAt='" + startedAt + "'" +
+            ", finishedAt='" + finishedAt + "'" +
+            ", activeReleaseCount=" + activeReleaseCount +
+            ", releaseCount=" + releaseCount +
+            ", projectCount=" + projectCount +
+            ", versionCount=" + versionCount +
+            ", epicCount=" + epicCount +
+            ", complete=" + complete +
+            "}";
+    }
+}
@@ -0,0 +1,107 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+/**
+ * A DTO representing the totals of a release change digest.
+ */
+public class ChangeDigestSummaryDTO {
+
+    private int addedIssueCount;
+
+    private int removedIssueCount;
+
+    private int completedIssueCount;
+
+    private int reopenedIssueCount;
+
+    private int reestimatedIssueCount;
+
+    private double addedStoryPoints;
+
+    private double removedStoryPoints;
+
+    private double storyPointsCompleted;
+
+    private double estimateDelta;
+
+    public int getAddedIssueCount() {
+        return addedIssueCount;
+    }
+
+    public int getRemovedIssueCount() {
+        return removedIssueCount;
+    }
+
+    public int getCompletedIssueCount() {
+        return completedIssueCount;
+    }
+
+    public int getReopenedIssueCount() {
+        return reopenedIssueCount;
+    }
+
+    public int getReestimatedIssueCount() {
+        return reestimatedIssueCount;
+    }
+
+    public double getAddedStoryPoints() {
+        return addedStoryPoints;
+    }
+
+    public double getRemovedStoryPoints() {
+        return removedStoryPoints;
+    }
+
+    /**
+     * @return the points of the issues completed since, less the points of the issues reopened since
+     */
+    public double getStoryPointsCompleted() {
+        return storyPointsCompleted;
+    }
+
+    /**
+     * @return the sum of the estimate changes of the issues present at both instants
+     */
+    public double getEstimateDelta() {
+        return estimateDelta;
+    }
+
+    public void added(Double estimate) {
+        addedIssueCount++;
+        addedStoryPoints += estimate == null ? 0 : estimate;
+    }
+
+    public void removed(Double estimate) {
+        removedIssueCount++;
+        removedStoryPoints += estimate == null ? 0 : estimate;
+    }
+
+    public void completed(Double estimate) {
+        completedIssueCount++;
+        storyPointsCompleted += estimate == null ? 0 : estimate;
+    }
+
+    public void reopened(Double estimate) {
+        reopenedIssueCount++;
+        storyPointsCompleted -= estimate == null ? 0 : estimate;
+    }
+
+    public void reestimated(Double fromEstimate, Double toEstimate) {
+        reestimatedIssueCount++;
+        estimateDelta += (toEstimate == null ? 0 : toEstimate) - (fromEstimate == null ? 0 : fromEstimate);
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeDigestSummaryDTO{" +
+            "addedIssueCount=" + addedIssueCount +
+            ", removedIssueCount=" + removedIssueCount +
+            ", completedIssueCount=" + completedIssueCount +
+            ", reopenedIssueCount=" + reopenedIssueCount +
+            ", reestimatedIssueCount=" + reestimatedIssueCount +
+            ", addedStoryPoints=" + addedStoryPoints +
+            ", removedStoryPoints=" + removedStoryPoints +
+            ", storyPointsCompleted=" + storyPointsCompleted +
+            ", estimateDelta=" + estimateDelta +
+            "}";
+    }
+}
@@ -0,0 +1,42 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.util.List;
+
+/**
+ * A DTO representing the cumulative flow diagram of a release.
+ */
+public class CumulativeFlowDTO {
+
+    private final Long releaseId;
+
+    private final List<String> statuses;
+
+    private final List<CumulativeFlowDayDTO> days;
+
+    public CumulativeFlowDTO(Long releaseId, List<String> statuses, List<CumulativeFlowDayDTO> days) {
+        this.releaseId = releaseId;
+        this.statuses = statuses;
+        this.days = days;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public List<String> getStatuses() {
+        return statuses;
+    }
+
+    public List<CumulativeFlowDayDTO> getDays() {
+        return days;
+    }
+
+    @Override
+    public String toString() {
+        return "CumulativeFlowDTO{" +
+            "releaseId=" + releaseId +
+            ", statuses=" + statuses +
+            ", days=" + days.size() +
+            "}";
+    }
+}
@@ -0,0 +1,35 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A DTO representing one day of a cumulative flow diagram: the number of issues in each status
+ * at the end of the day, indexed like {@link CumulativeFlowDTO#getStatuses()}.
+ */
+public class CumulativeFlowDayDTO {
+
+    private final LocalDate date;
+
+    private final int[] counts;
+
+    public CumulativeFlowDayDTO(LocalDate date, int[] counts) {
+        this.date = date;
+        this.counts = counts;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public int[] getCounts() {
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "CumulativeFlowDayDTO{" +
+            "date=" + date +
+            ", counts=" + java.util.Arrays.toString(counts) +
+            "}";
+    }
+}
@@ -0,0 +1,46 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * A DTO representing the metrics of an epic as they were at a past time, rebuilt from its issue snapshots.
+ */
+public class EpicAsOfDTO {
+
+    private final Instant asOf;
+
+    private final EpicMetricsDTO metrics;
+
+    private final Map<String, Integer> issueCountByStatus;
+
+    public EpicAsOfDTO(Instant asOf, EpicMetricsDTO metrics, Map<String, Integer> issueCountByStatus) {
+        this.asOf = asOf;
+        this.metrics = metrics;
+        this.issueCountByStatus = issueCountByStatus;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public EpicMetricsDTO getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return the number of distinct issues in each status
+     */
+    public Map<String, Integer> getIssueCountByStatus() {
+        return issueCountByStatus;
+    }
+
+    @Override
+    public String toString() {
+        return "EpicAsOfDTO{" +
+            "asOf='" + asOf + "'" +
+            ", metrics=" + metrics +
+            ", issueCountByStatus=" + issueCountByStatus +
+            "}";
+    }
+}
@@ -0,0 +1,101 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing a row of the epic list, read with a JPQL constructor expression. The projects and
+ * unestimated issues are only filled in when the list is read with its relationships.
+ */
+public class EpicListDTO {
+
+    private final Long id;
+
+    private final String name;
+
+    private final Double totalStoryPoints;
+
+    private final Double storyPointsCompleted;
+
+    private final Double remainingStoryPoints;
+
+    private final Integer totalIssueCount;
+
+    private final Double percentageCompleted;
+
+    private final String key;
+
+    private final String epicBrowserURL;
+
+    private final List<ReferenceDTO> projects = new ArrayList<>();
+
+    private final List<IssueReferenceDTO> unestimatedIssues = new ArrayList<>();
+
+    public EpicListDTO(Long id, String name, Double totalStoryPoints, Double storyPointsCompleted,
+                       Double remainingStoryPoints, Integer totalIssueCount, Double percentageCompleted, String key,
+                       String epicBrowserURL) {
+        this.id = id;
+        this.name = name;
+        this.totalStoryPoints = totalStoryPoints;
+        this.storyPointsCompleted = storyPointsCompleted;
+        this.remainingStoryPoints = remainingStoryPoints;
+        this.totalIssueCount = totalIssueCount;
+        this.percentageCompleted = percentageCompleted;
+        this.key = key;
+        this.epicBrowserURL = epicBrowserURL;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Double getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public Double getStoryPointsCompleted() {
+        return storyPointsCompleted;
+    }
+
+    public Double getRemainingStoryPoints() {
+        return remainingStoryPoints;
+    }
+
+    public Integer getTotalIssueCount() {
+        return totalIssueCount;
+    }
+
+    public Double getPercentageCompleted() {
+        return percentageCompleted;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getEpicBrowserURL() {
+        return epicBrowserURL;
+    }
+
+    public List<ReferenceDTO> getProjects() {
+        return projects;
+    }
+
+    public List<IssueReferenceDTO> getUnestimatedIssues() {
+        return unestimatedIssues;
+    }
+
+    @Override
+    public String toString() {
+        return "EpicListDTO{" +
+            "id=" + id +
+            ", name='" + name + "'" +
+            ", totalStoryPoints=" + totalStoryPoints +
+            ", storyPointsCompleted=" + storyPointsCompleted +
+            "}";
+    }
+}
@@ -0,0 +1,75 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+/**
+ * A DTO representing the revisions of the metrics of an epic, one array per metric. The values at index i
+ * are the metrics written by the revision at revisionTimes[i].
+ */
+public class EpicMetricHistoryDTO {
+
+    private final Long epicId;
+
+    private final long[] revisionTimes;
+
+    private final int[] totalIssueCount;
+
+    private final double[] totalStoryPoints;
+
+    private final double[] storyPointsCompleted;
+
+    private final double[] remainingStoryPoints;
+
+    private final Double[] percentageCompleted;
+
+    public EpicMetricHistoryDTO(Long epicId, long[] revisionTimes, int[] totalIssueCount, double[] totalStoryPoints,
+                                double[] storyPointsCompleted, double[] remainingStoryPoints, Double[] percentageCompleted) {
+        this.epicId = epicId;
+        this.revisionTimes = revisionTimes;
+        this.totalIssueCount = totalIssueCount;
+        this.totalStoryPoints = totalStoryPoints;
+        this.storyPointsCompleted = storyPointsCompleted;
+        this.remainingStoryPoints = remainingStoryPoints;
+        this.percentageCompleted = percentageCompleted;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    /**
+     * @return the times of the revisions in milliseconds since the epoch, oldest first
+     */
+    public long[] getRevisionTimes() {
+        return revisionTimes;
+    }
+
+    public int[] getTotalIssueCount() {
+        return totalIssueCount;
+    }
+
+    public double[] getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public double[] getStoryPointsCompleted() {
+        return storyPointsCompleted;
+    }
+
+    public double[] getRemainingStoryPoints() {
+        return remainingStoryPoints;
+    }
+
+    /**
+     * @return the completed ratios, null where the epic had no story points
+     */
+    public Double[] getPercentageCompleted() {
+        return percentageCompleted;
+    }
+
+    @Override
+    public String toString() {
+        return "EpicMetricHistoryDTO{" +
+            "epicId=" + epicId +
+            ", revisions=" + revisionTimes.length +
+            "}";
+    }
+}
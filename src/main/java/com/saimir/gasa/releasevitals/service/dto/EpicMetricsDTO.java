@@ -0,0 +1,122 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+/**
+ * A DTO representing the computed metrics of an epic.
+ */
+public class EpicMetricsDTO {
+
+    private Long epicId;
+
+    private String name;
+
+    private String key;
+
+    private Integer totalIssueCount;
+
+    private Integer unestimatedIssueCount;
+
+    private Double totalStoryPoints;
+
+    private Double storyPointsCompleted;
+
+    private Double remainingStoryPoints;
+
+    private Double percentageCompleted;
+
+    public EpicMetricsDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public EpicMetricsDTO(Long epicId, String name, String key) {
+        this.epicId = epicId;
+        this.name = name;
+        this.key = key;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public void setEpicId(Long epicId) {
+        this.epicId = epicId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+
+    public Integer getTotalIssueCount() {
+        return totalIssueCount;
+    }
+
+    public void setTotalIssueCount(Integer totalIssueCount) {
+        this.totalIssueCount = totalIssueCount;
+    }
+
+    public Integer getUnestimatedIssueCount() {
+        return unestimatedIssueCount;
+    }
+
+    public void setUnestimatedIssueCount(Integer unestimatedIssueCount) {
+        this.unestimatedIssueCount = unestimatedIssueCount;
+    }
+
+    public Double getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public void setTotalStoryPoints(Double totalStoryPoints) {
+        this.totalStoryPoints = totalStoryPoints;
+    }
+
+    public Double getStoryPointsCompleted() {
+        return storyPointsCompleted;
+    }
+
+    public void setStoryPointsCompleted(Double storyPointsCompleted) {
+        this.storyPointsCompleted = storyPointsCompleted;
+    }
+
+    public Double getRemainingStoryPoints() {
+        return remainingStoryPoints;
+    }
+
+    public void setRemainingStoryPoints(Double remainingStoryPoints) {
+        this.remainingStoryPoints = remainingStoryPoints;
+    }
+
+    public Double getPercentageCompleted() {
+        return percentageCompleted;
+    }
+
+    public void setPercentageCompleted(Double percentageCompleted) {
+        this.percentageCompleted = percentageCompleted;
+    }
+
+    @Override
+    public String toString() {
+        return "EpicMetricsDTO{" +
+            "epicId=" + epicId +
+            ", name='" + name + "'" +
+            ", key='" + key + "'" +
+            ", totalIssueCount=" + totalIssueCount +
+            ", unestimatedIssueCount=" + unestimatedIssueCount +
+            ", totalStoryPoints=" + totalStoryPoints +
+            ", storyPointsCompleted=" + storyPointsCompleted +
+            ", remainingStoryPoints=" + remainingStoryPoints +
+            ", percentageCompleted=" + percentageCompleted +
+            "}";
+    }
+}
@@ -0,0 +1,59 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.util.Arrays;
+
+/**
+ * A DTO representing the distribution of the story point estimates of an epic or a project.
+ * counts[i] is the number of estimated issues up to upperBounds[i] and above upperBounds[i - 1];
+ * the last count holds the estimates above the last bound.
+ */
+public class EstimateHistogramDTO {
+
+    private final double[] upperBounds;
+
+    private final int[] counts;
+
+    private final int issueCount;
+
+    private final int unestimatedCount;
+
+    public EstimateHistogramDTO(double[] upperBounds, int[] counts, int issueCount, int unestimatedCount) {
+        this.upperBounds = upperBounds;
+        this.counts = counts;
+        this.issueCount = issueCount;
+        this.unestimatedCount = unestimatedCount;
+    }
+
+    public double[] getUpperBounds() {
+        return upperBounds;
+    }
+
+    public int[] getCounts() {
+        return counts;
+    }
+
+    public int getIssueCount() {
+        return issueCount;
+    }
+
+    public int getUnestimatedCount() {
+        return unestimatedCount;
+    }
+
+    /**
+     * @return the share of the issues without estimate, 0 if there are no issues
+     */
+    public double getUnestimatedShare() {
+        return issueCount == 0 ? 0 : (double) unestimatedCount / issueCount;
+    }
+
+    @Override
+    public String toString() {
+        return "EstimateHistogramDTO{" +
+            "upperBounds=" + Arrays.toString(upperBounds) +
+            ", counts=" + Arrays.toString(counts) +
+            ", issueCount=" + issueCount +
+            ", unestimatedCount=" + unestimatedCount +
+            "}";
+    }
+}
@@ -0,0 +1,105 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * A DTO representing the progress and throughput of a history backfill. A unit is a project or an epic;
+ * the units checkpointed by a previous run are skipped when resuming.
+ */
+public class HistoryBackfillDTO {
+
+    private final Instant startedAt;
+
+    private final Instant finishedAt;
+
+    private final boolean resumed;
+
+    private final int unitCount;
+
+    private final int skippedUnitCount;
+
+    private final int completedUnitCount;
+
+    private final int failedUnitCount;
+
+    private final long rowCount;
+
+    public HistoryBackfillDTO(Instant startedAt, Instant finishedAt, boolean resumed, int unitCount, int skippedUnitCount,
+                              int completedUnitCount, int failedUnitCount, long rowCount) {
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.resumed = resumed;
+        this.unitCount = unitCount;
+        this.skippedUnitCount = skippedUnitCount;
+        this.completedUnitCount = completedUnitCount;
+        this.failedUnitCount = failedUnitCount;
+        this.rowCount = rowCount;
+    }
+
+    public Instant getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * @return the time the backfill finished, or null while it is running
+     */
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public boolean isResumed() {
+        return resumed;
+    }
+
+    public int getUnitCount() {
+        return unitCount;
+    }
+
+    public int getSkippedUnitCount() {
+        return skippedUnitCount;
+    }
+
+    public int getCompletedUnitCount() {
+        return completedUnitCount;
+    }
+
+    public int getFailedUnitCount() {
+        return failedUnitCount;
+    }
+
+    /**
+     * @return the rows written so far
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    public double getElapsedSeconds() {
+        return Duration.between(startedAt, finishedAt != null ? finishedAt : Instant.now()).toMillis() / 1000d;
+    }
+
+    public double getUnitsPerSecond() {
+        double elapsedSeconds = getElapsedSeconds();
+        return elapsedSeconds == 0 ? 0 : completedUnitCount / elapsedSeconds;
+    }
+
+    public double getRowsPerSecond() {
+        double elapsedSeconds = getElapsedSeconds();
+        return elapsedSeconds == 0 ? 0 : rowCount / elapsedSeconds;
+    }
+
+    @Override
+    public String toString() {
+        return "HistoryBackfillDTO{" +
+            "startedAt='" + startedAt + "'" +
+            ", finishedAt='" + finishedAt + "'" +
+            ", resumed=" + resumed +
+            ", unitCount=" + unitCount +
+            ", skippedUnitCount=" + skippedUnitCount +
+            ", completedUnitCount=" + completedUnitCount +
+            ", failedUnitCount=" + failedUnitCount +
+            ", rowCount=" + rowCount +
+            "}";
+    }
+}
@@ -0,0 +1,87 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * A DTO representing how one issue of a release, for one of its fix versions, changed between two instants.
+ */
+public class IssueChangeDTO {
+
+    public enum Kind {
+        ADDED, REMOVED, COMPLETED, REOPENED, ESTIMATE_CHANGED, STATUS_CHANGED
+    }
+
+    private final String issueKey;
+
+    private final String fixVersion;
+
+    private final String projectKey;
+
+    private final Set<Kind> kinds;
+
+    private final String fromStatus;
+
+    private final String toStatus;
+
+    private final Double fromEstimate;
+
+    private final Double toEstimate;
+
+    public IssueChangeDTO(String issueKey, String fixVersion, String projectKey, EnumSet<Kind> kinds,
+                          String fromStatus, String toStatus, Double fromEstimate, Double toEstimate) {
+        this.issueKey = issueKey;
+        this.fixVersion = fixVersion;
+        this.projectKey = projectKey;
+        this.kinds = kinds;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.fromEstimate = fromEstimate;
+        this.toEstimate = toEstimate;
+    }
+
+    public String getIssueKey() {
+        return issueKey;
+    }
+
+    public String getFixVersion() {
+        return fixVersion;
+    }
+
+    public String getProjectKey() {
+        return projectKey;
+    }
+
+    public Set<Kind> getKinds() {
+        return kinds;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public Double getFromEstimate() {
+        return fromEstimate;
+    }
+
+    public Double getToEstimate() {
+        return toEstimate;
+    }
+
+    @Override
+    public String toString() {
+        return "IssueChangeDTO{" +
+            "issueKey='" + issueKey + "'" +
+            ", fixVersion='" + fixVersion + "'" +
+            ", kinds=" + kinds +
+            ", fromStatus='" + fromStatus + "'" +
+            ", toStatus='" + toStatus + "'" +
+            ", fromEstimate=" + fromEstimate +
+            ", toEstimate=" + toEstimate +
+            "}";
+    }
+}
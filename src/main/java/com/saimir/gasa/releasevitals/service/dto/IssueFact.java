@@ -0,0 +1,88 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsUtil;
+
+import java.time.Instant;
+
+/**
+ * One Jira issue of an epic as read during ingestion, for one of its fix versions.
+ * An issue with several fix versions gives one fact per fix version.
+ */
+public class IssueFact {
+
+    private final String issueKey;
+
+    private final String projectKey;
+
+    private final String version;
+
+    private final String status;
+
+    private final String resolution;
+
+    private final Double estimate;
+
+    private final Instant resolutionDate;
+
+    public IssueFact(String issueKey, String projectKey, String version, String status, String resolution,
+                     Double estimate, Instant resolutionDate) {
+        this.issueKey = issueKey;
+        this.projectKey = projectKey;
+        this.version = version;
+        this.status = status;
+        this.resolution = resolution;
+        this.estimate = estimate;
+        this.resolutionDate = resolutionDate;
+    }
+
+    public String getIssueKey() {
+        return issueKey;
+    }
+
+    public String getProjectKey() {
+        return projectKey;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public String getResolution() {
+        return resolution;
+    }
+
+    /**
+     * @return the story points, or null if the issue is not estimated
+     */
+    public Double getEstimate() {
+        return estimate;
+    }
+
+    public Instant getResolutionDate() {
+        return resolutionDate;
+    }
+
+    /**
+     * @return the resolution class, see {@link EpicMetricsUtil#resolutionClass(String, String)}
+     */
+    public byte getResolutionClass() {
+        return EpicMetricsUtil.resolutionClass(status, resolution);
+    }
+
+    @Override
+    public String toString() {
+        return "IssueFact{" +
+            "issueKey='" + issueKey + "'" +
+            ", projectKey='" + projectKey + "'" +
+            ", version='" + version + "'" +
+            ", status='" + status + "'" +
+            ", resolution='" + resolution + "'" +
+            ", estimate=" + estimate +
+            ", resolutionDate='" + resolutionDate + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,78 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+/**
+ * A DTO representing a row of the issue list, read with a JPQL constructor expression. The sprint,
+ * project and epic are references, null when the issue has none.
+ */
+public class IssueListDTO {
+
+    private final Long id;
+
+    private final String title;
+
+    private final String description;
+
+    private final String key;
+
+    private final String browserURL;
+
+    private final ReferenceDTO sprint;
+
+    private final ReferenceDTO project;
+
+    private final ReferenceDTO epic;
+
+    public IssueListDTO(Long id, String title, String description, String key, String browserURL, Long sprintId,
+                        String sprintName, Long projectId, String projectName, Long epicId, String epicName) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.key = key;
+        this.browserURL = browserURL;
+        this.sprint = sprintId == null ? null : new ReferenceDTO(sprintId, sprintName);
+        this.project = projectId == null ? null : new ReferenceDTO(projectId, projectName);
+        this.epic = epicId == null ? null : new ReferenceDTO(epicId, epicName);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getBrowserURL() {
+        return browserURL;
+    }
+
+    public ReferenceDTO getSprint() {
+        return sprint;
+    }
+
+    public ReferenceDTO getProject() {
+        return project;
+    }
+
+    public ReferenceDTO getEpic() {
+        return epic;
+    }
+
+    @Override
+    public String toString() {
+        return "IssueListDTO{" +
+            "id=" + id +
+            ", title='" + title + "'" +
+            ", description='" + description + "'" +
+            ", key='" + key + "'" +
+            "}";
+    }
+}
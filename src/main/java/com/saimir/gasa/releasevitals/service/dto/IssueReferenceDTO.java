@@ -0,0 +1,40 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+/**
+ * A DTO referencing an issue by id, key and link, in place of the whole entity.
+ */
+public class IssueReferenceDTO {
+
+    private final Long id;
+
+    private final String key;
+
+    private final String browserURL;
+
+    public IssueReferenceDTO(Long id, String key, String browserURL) {
+        this.id = id;
+        this.key = key;
+        this.browserURL = browserURL;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getBrowserURL() {
+        return browserURL;
+    }
+
+    @Override
+    public String toString() {
+        return "IssueReferenceDTO{" +
+            "id=" + id +
+            ", key='" + key + "'" +
+            ", browserURL='" + browserURL + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,57 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing a row of the project list, read with a JPQL constructor expression. The versions
+ * are only filled in when the list is read with its relationships.
+ */
+public class ProjectListDTO {
+
+    private final Long id;
+
+    private final String name;
+
+    private final String key;
+
+    private final ReferenceDTO release;
+
+    private final List<ReferenceDTO> versions = new ArrayList<>();
+
+    public ProjectListDTO(Long id, String name, String key, Long releaseId, String releaseName) {
+        this.id = id;
+        this.name = name;
+        this.key = key;
+        this.release = releaseId == null ? null : new ReferenceDTO(releaseId, releaseName);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public ReferenceDTO getRelease() {
+        return release;
+    }
+
+    public List<ReferenceDTO> getVersions() {
+        return versions;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectListDTO{" +
+            "id=" + id +
+            ", name='" + name + "'" +
+            ", key='" + key + "'" +
+            "}";
+    }
+}
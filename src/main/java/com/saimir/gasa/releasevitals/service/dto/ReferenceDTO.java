@@ -0,0 +1,32 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+/**
+ * A DTO referencing a related entity by id and name, in place of the whole entity.
+ */
+public class ReferenceDTO {
+
+    private final Long id;
+
+    private final String name;
+
+    public ReferenceDTO(Long id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceDTO{" +
+            "id=" + id +
+            ", name='" + name + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,80 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A DTO representing the metrics of a release as they were at a past time. The epic metrics are rebuilt
+ * from the issue snapshots, the issue count by status from the Status history, replayed from the
+ * {@code checkpoint} sprint boundary.
+ */
+public class ReleaseAsOfDTO {
+
+    private final Long releaseId;
+
+    private final Instant asOf;
+
+    private final List<EpicMetricsDTO> epics;
+
+    private final Map<String, Integer> issueCountByStatus;
+
+    private final Instant checkpoint;
+
+    private final int replayedTransitionCount;
+
+    public ReleaseAsOfDTO(Long releaseId, Instant asOf, List<EpicMetricsDTO> epics, Map<String, Integer> issueCountByStatus,
+                          Instant checkpoint, int replayedTransitionCount) {
+        this.releaseId = releaseId;
+        this.asOf = asOf;
+        this.epics = epics;
+        this.issueCountByStatus = issueCountByStatus;
+        this.checkpoint = checkpoint;
+        this.replayedTransitionCount = replayedTransitionCount;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+
+    public List<EpicMetricsDTO> getEpics() {
+        return epics;
+    }
+
+    /**
+     * @return the number of issues of the release in each status
+     */
+    public Map<String, Integer> getIssueCountByStatus() {
+        return issueCountByStatus;
+    }
+
+    /**
+     * @return the sprint boundary the Status history was replayed from, or null if replayed from the beginning
+     */
+    public Instant getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * @return the number of Status transitions read after the checkpoint
+     */
+    public int getReplayedTransitionCount() {
+        return replayedTransitionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseAsOfDTO{" +
+            "releaseId=" + releaseId +
+            ", asOf='" + asOf + "'" +
+            ", epics=" + epics +
+            ", issueCountByStatus=" + issueCountByStatus +
+            ", checkpoint='" + checkpoint + "'" +
+            ", replayedTransitionCount=" + replayedTransitionCount +
+            "}";
+    }
+}
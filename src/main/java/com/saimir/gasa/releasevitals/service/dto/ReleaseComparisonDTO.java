@@ -0,0 +1,42 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.util.List;
+
+/**
+ * A DTO representing the comparison of closed releases: their summaries in the requested order, and the
+ * difference of each of them with the first one.
+ */
+public class ReleaseComparisonDTO {
+
+    private final Long baselineReleaseId;
+
+    private final List<ReleaseSummaryDTO> releases;
+
+    private final List<ReleaseDiffDTO> diffs;
+
+    public ReleaseComparisonDTO(Long baselineReleaseId, List<ReleaseSummaryDTO> releases, List<ReleaseDiffDTO> diffs) {
+        this.baselineReleaseId = baselineReleaseId;
+        this.releases = releases;
+        this.diffs = diffs;
+    }
+
+    public Long getBaselineReleaseId() {
+        return baselineReleaseId;
+    }
+
+    public List<ReleaseSummaryDTO> getReleases() {
+        return releases;
+    }
+
+    public List<ReleaseDiffDTO> getDiffs() {
+        return diffs;
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseComparisonDTO{" +
+            "baselineReleaseId=" + baselineReleaseId +
+            ", releases=" + releases.size() +
+            "}";
+    }
+}
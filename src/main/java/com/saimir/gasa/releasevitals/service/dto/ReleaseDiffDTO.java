@@ -0,0 +1,93 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+/**
+ * A DTO representing the difference between the summary of a closed release and the summary of the
+ * baseline release of a comparison. Every delta is the value of the release minus the value of the baseline.
+ */
+public class ReleaseDiffDTO {
+
+    private final Long releaseId;
+
+    private final int epicCountDelta;
+
+    private final int issueCountDelta;
+
+    private final int unestimatedIssueCountDelta;
+
+    private final double totalStoryPointsDelta;
+
+    private final double storyPointsCompletedDelta;
+
+    private final double remainingStoryPointsDelta;
+
+    private final Double percentageCompletedDelta;
+
+    private final Integer burndownDaysDelta;
+
+    public ReleaseDiffDTO(Long releaseId, int epicCountDelta, int issueCountDelta, int unestimatedIssueCountDelta,
+                          double totalStoryPointsDelta, double storyPointsCompletedDelta, double remainingStoryPointsDelta,
+                          Double percentageCompletedDelta, Integer burndownDaysDelta) {
+        this.releaseId = releaseId;
+        this.epicCountDelta = epicCountDelta;
+        this.issueCountDelta = issueCountDelta;
+        this.unestimatedIssueCountDelta = unestimatedIssueCountDelta;
+        this.totalStoryPointsDelta = totalStoryPointsDelta;
+        this.storyPointsCompletedDelta = storyPointsCompletedDelta;
+        this.remainingStoryPointsDelta = remainingStoryPointsDelta;
+        this.percentageCompletedDelta = percentageCompletedDelta;
+        this.burndownDaysDelta = burndownDaysDelta;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public int getEpicCountDelta() {
+        return epicCountDelta;
+    }
+
+    public int getIssueCountDelta() {
+        return issueCountDelta;
+    }
+
+    public int getUnestimatedIssueCountDelta() {
+        return unestimatedIssueCountDelta;
+    }
+
+    public double getTotalStoryPointsDelta() {
+        return totalStoryPointsDelta;
+    }
+
+    public double getStoryPointsCompletedDelta() {
+        return storyPointsCompletedDelta;
+    }
+
+    public double getRemainingStoryPointsDelta() {
+        return remainingStoryPointsDelta;
+    }
+
+    /**
+     * @return the difference of the completed ratios, or null if either release has no story points
+     */
+    public Double getPercentageCompletedDelta() {
+        return percentageCompletedDelta;
+    }
+
+    /**
+     * @return the difference of the burndown lengths in days, or null if either release has no burndown
+     */
+    public Integer getBurndownDaysDelta() {
+        return burndownDaysDelta;
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseDiffDTO{" +
+            "releaseId=" + releaseId +
+            ", issueCountDelta=" + issueCountDelta +
+            ", totalStoryPointsDelta=" + totalStoryPointsDelta +
+            ", storyPointsCompletedDelta=" + storyPointsCompletedDelta +
+            ", percentageCompletedDelta=" + percentageCompletedDelta +
+            "}";
+    }
+}
@@ -0,0 +1,90 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+
+/**
+ * A DTO representing the stored health of a release.
+ */
+public class ReleaseHealthDTO {
+
+    private final Long releaseId;
+
+    private final double score;
+
+    private final Double percentageCompleted;
+
+    private final Double burndownSlope;
+
+    private final Double unestimatedRatio;
+
+    private final double forecastConfidence;
+
+    private final Instant computedAt;
+
+    public ReleaseHealthDTO(Long releaseId, double score, Double percentageCompleted, Double burndownSlope,
+                            Double unestimatedRatio, double forecastConfidence, Instant computedAt) {
+        this.releaseId = releaseId;
+        this.score = score;
+        this.percentageCompleted = percentageCompleted;
+        this.burndownSlope = burndownSlope;
+        this.unestimatedRatio = unestimatedRatio;
+        this.forecastConfidence = forecastConfidence;
+        this.computedAt = computedAt;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    /**
+     * @return the score, from 0 (unhealthy) to 100
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * @return the ratio of completed to total story points, or null if nothing is estimated
+     */
+    public Double getPercentageCompleted() {
+        return percentageCompleted;
+    }
+
+    /**
+     * @return the story points completed per day since the release started, or null before it starts
+     */
+    public Double getBurndownSlope() {
+        return burndownSlope;
+    }
+
+    /**
+     * @return the ratio of unestimated to total issues, or null if there are no issues
+     */
+    public Double getUnestimatedRatio() {
+        return unestimatedRatio;
+    }
+
+    /**
+     * @return the confidence in the forecast from the burndown slope, from 0 to 1
+     */
+    public double getForecastConfidence() {
+        return forecastConfidence;
+    }
+
+    public Instant getComputedAt() {
+        return computedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseHealthDTO{" +
+            "releaseId=" + releaseId +
+            ", score=" + score +
+            ", percentageCompleted=" + percentageCompleted +
+            ", burndownSlope=" + burndownSlope +
+            ", unestimatedRatio=" + unestimatedRatio +
+            ", forecastConfidence=" + forecastConfidence +
+            ", computedAt='" + computedAt + "'" +
+            "}";
+    }
+}
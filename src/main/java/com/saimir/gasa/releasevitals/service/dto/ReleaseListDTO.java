@@ -0,0 +1,50 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+
+/**
+ * A DTO representing a row of the release list, read with a JPQL constructor expression.
+ */
+public class ReleaseListDTO {
+
+    private final Long id;
+
+    private final String name;
+
+    private final Instant startDate;
+
+    private final Instant endDate;
+
+    public ReleaseListDTO(Long id, String name, Instant startDate, Instant endDate) {
+        this.id = id;
+        this.name = name;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Instant getStartDate() {
+        return startDate;
+    }
+
+    public Instant getEndDate() {
+        return endDate;
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseListDTO{" +
+            "id=" + id +
+            ", name='" + name + "'" +
+            ", startDate=" + startDate +
+            ", endDate=" + endDate +
+            "}";
+    }
+}
@@ -0,0 +1,142 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * A DTO representing the final summary of a closed release.
+ */
+public class ReleaseSummaryDTO {
+
+    private final Long releaseId;
+
+    private final String releaseName;
+
+    private final Instant startDate;
+
+    private final Instant endDate;
+
+    private final Instant closedAt;
+
+    private final int epicCount;
+
+    private final int issueCount;
+
+    private final int unestimatedIssueCount;
+
+    private final double totalStoryPoints;
+
+    private final double storyPointsCompleted;
+
+    private final double remainingStoryPoints;
+
+    private final Double percentageCompleted;
+
+    private final LocalDate burndownStart;
+
+    private final double[] burndown;
+
+    private final List<EpicMetricsDTO> epics;
+
+    public ReleaseSummaryDTO(Long releaseId, String releaseName, Instant startDate, Instant endDate, Instant closedAt,
+                             int epicCount, int issueCount, int unestimatedIssueCount, double totalStoryPoints,
+                             double storyPointsCompleted, double remainingStoryPoints, Double percentageCompleted,
+                             LocalDate burndownStart, double[] burndown, List<EpicMetricsDTO> epics) {
+        this.releaseId = releaseId;
+        this.releaseName = releaseName;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.closedAt = closedAt;
+        this.epicCount = epicCount;
+        this.issueCount = issueCount;
+        this.unestimatedIssueCount = unestimatedIssueCount;
+        this.totalStoryPoints = totalStoryPoints;
+        this.storyPointsCompleted = storyPointsCompleted;
+        this.remainingStoryPoints = remainingStoryPoints;
+        this.percentageCompleted = percentageCompleted;
+        this.burndownStart = burndownStart;
+        this.burndown = burndown;
+        this.epics = epics;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public String getReleaseName() {
+        return releaseName;
+    }
+
+    public Instant getStartDate() {
+        return startDate;
+    }
+
+    public Instant getEndDate() {
+        return endDate;
+    }
+
+    public Instant getClosedAt() {
+        return closedAt;
+    }
+
+    public int getEpicCount() {
+        return epicCount;
+    }
+
+    public int getIssueCount() {
+        return issueCount;
+    }
+
+    public int getUnestimatedIssueCount() {
+        return unestimatedIssueCount;
+    }
+
+    public double getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public double getStoryPointsCompleted() {
+        return storyPointsCompleted;
+    }
+
+    public double getRemainingStoryPoints() {
+        return remainingStoryPoints;
+    }
+
+    public Double getPercentageCompleted() {
+        return percentageCompleted;
+    }
+
+    /**
+     * @return the day of the first burndown value, or null if the release has no burndown
+     */
+    public LocalDate getBurndownStart() {
+        return burndownStart;
+    }
+
+    /**
+     * @return the remaining story points at the end of each day from the burndown start
+     */
+    public double[] getBurndown() {
+        return burndown;
+    }
+
+    public List<EpicMetricsDTO> getEpics() {
+        return epics;
+    }
+
+    @Override
+    public String toString() {
+        return "ReleaseSummaryDTO{" +
+            "releaseId=" + releaseId +
+            ", releaseName='" + releaseName + "'" +
+            ", closedAt=" + closedAt +
+            ", epicCount=" + epicCount +
+            ", issueCount=" + issueCount +
+            ", totalStoryPoints=" + totalStoryPoints +
+            ", storyPointsCompleted=" + storyPointsCompleted +
+            ", burndown=" + burndown.length + " days" +
+            "}";
+    }
+}
@@ -0,0 +1,66 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A DTO representing a status rollup count that did not match the Status rows.
+ */
+public class RollupDriftDTO {
+
+    private final Long releaseId;
+
+    private final Long projectId;
+
+    private final String status;
+
+    private final LocalDate weekStart;
+
+    private final int expectedCount;
+
+    private final int actualCount;
+
+    public RollupDriftDTO(Long releaseId, Long projectId, String status, LocalDate weekStart, int expectedCount, int actualCount) {
+        this.releaseId = releaseId;
+        this.projectId = projectId;
+        this.status = status;
+        this.weekStart = weekStart;
+        this.expectedCount = expectedCount;
+        this.actualCount = actualCount;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public int getExpectedCount() {
+        return expectedCount;
+    }
+
+    public int getActualCount() {
+        return actualCount;
+    }
+
+    @Override
+    public String toString() {
+        return "RollupDriftDTO{" +
+            "releaseId=" + releaseId +
+            ", projectId=" + projectId +
+            ", status='" + status + "'" +
+            ", weekStart='" + weekStart + "'" +
+            ", expectedCount=" + expectedCount +
+            ", actualCount=" + actualCount +
+            "}";
+    }
+}
@@ -0,0 +1,50 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of a status rollup verification. Only the first drifts are listed.
+ */
+public class RollupVerificationDTO {
+
+    private final Instant verifiedAt;
+
+    private final int checkedCount;
+
+    private final int driftCount;
+
+    private final List<RollupDriftDTO> drifts;
+
+    public RollupVerificationDTO(Instant verifiedAt, int checkedCount, int driftCount, List<RollupDriftDTO> drifts) {
+        this.verifiedAt = verifiedAt;
+        this.checkedCount = checkedCount;
+        this.driftCount = driftCount;
+        this.drifts = drifts;
+    }
+
+    public Instant getVerifiedAt() {
+        return verifiedAt;
+    }
+
+    public int getCheckedCount() {
+        return checkedCount;
+    }
+
+    public int getDriftCount() {
+        return driftCount;
+    }
+
+    public List<RollupDriftDTO> getDrifts() {
+        return drifts;
+    }
+
+    @Override
+    public String toString() {
+        return "RollupVerificationDTO{" +
+            "verifiedAt='" + verifiedAt + "'" +
+            ", checkedCount=" + checkedCount +
+            ", driftCount=" + driftCount +
+            "}";
+    }
+}
@@ -0,0 +1,71 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import com.saimir.gasa.releasevitals.domain.enumeration.ScopeEventType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A DTO representing the scope churn of an epic over a date range, with one entry per event type.
+ */
+public class ScopeChurnDTO {
+
+    private final Long epicId;
+
+    private final Instant from;
+
+    private final Instant to;
+
+    private final List<ScopeChurnEntryDTO> events;
+
+    public ScopeChurnDTO(Long epicId, Instant from, Instant to, List<ScopeChurnEntryDTO> events) {
+        this.epicId = epicId;
+        this.from = from;
+        this.to = to;
+        this.events = events;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public Instant getFrom() {
+        return from;
+    }
+
+    public Instant getTo() {
+        return to;
+    }
+
+    public List<ScopeChurnEntryDTO> getEvents() {
+        return events;
+    }
+
+    /**
+     * @return the points added to the epic less the points removed from it
+     */
+    public double getScopeChange() {
+        return points(ScopeEventType.ADDED) + points(ScopeEventType.REMOVED);
+    }
+
+    /**
+     * @return the change of the total points due to re-estimated issues
+     */
+    public double getEstimateChange() {
+        return points(ScopeEventType.REESTIMATED);
+    }
+
+    private double points(ScopeEventType eventType) {
+        return events.stream().filter(event -> event.getEventType() == eventType).mapToDouble(ScopeChurnEntryDTO::getPoints).sum();
+    }
+
+    @Override
+    public String toString() {
+        return "ScopeChurnDTO{" +
+            "epicId=" + epicId +
+            ", from='" + from + "'" +
+            ", to='" + to + "'" +
+            ", events=" + events +
+            "}";
+    }
+}
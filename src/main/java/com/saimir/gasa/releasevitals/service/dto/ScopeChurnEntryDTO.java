@@ -0,0 +1,45 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import com.saimir.gasa.releasevitals.domain.enumeration.ScopeEventType;
+
+/**
+ * A DTO representing the scope events of one type over a date range.
+ */
+public class ScopeChurnEntryDTO {
+
+    private final ScopeEventType eventType;
+
+    private final long count;
+
+    private final double points;
+
+    public ScopeChurnEntryDTO(ScopeEventType eventType, long count, double points) {
+        this.eventType = eventType;
+        this.count = count;
+        this.points = points;
+    }
+
+    public ScopeEventType getEventType() {
+        return eventType;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the sum of the points deltas of the events
+     */
+    public double getPoints() {
+        return points;
+    }
+
+    @Override
+    public String toString() {
+        return "ScopeChurnEntryDTO{" +
+            "eventType='" + eventType + "'" +
+            ", count=" + count +
+            ", points=" + points +
+            "}";
+    }
+}
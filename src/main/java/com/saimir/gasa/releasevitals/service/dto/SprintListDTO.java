@@ -0,0 +1,57 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+
+/**
+ * A DTO representing a row of the sprint list, read with a JPQL constructor expression.
+ */
+public class SprintListDTO {
+
+    private final Long id;
+
+    private final String name;
+
+    private final Instant startDatetime;
+
+    private final Instant endDatetime;
+
+    private final Long velocity;
+
+    public SprintListDTO(Long id, String name, Instant startDatetime, Instant endDatetime, Long velocity) {
+        this.id = id;
+        this.name = name;
+        this.startDatetime = startDatetime;
+        this.endDatetime = endDatetime;
+        this.velocity = velocity;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Instant getStartDatetime() {
+        return startDatetime;
+    }
+
+    public Instant getEndDatetime() {
+        return endDatetime;
+    }
+
+    public Long getVelocity() {
+        return velocity;
+    }
+
+    @Override
+    public String toString() {
+        return "SprintListDTO{" +
+            "id=" + id +
+            ", name='" + name + "'" +
+            ", startDatetime=" + startDatetime +
+            ", endDatetime=" + endDatetime +
+            "}";
+    }
+}
@@ -0,0 +1,58 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+
+/**
+ * A DTO representing a row of the status list, read with a JPQL constructor expression.
+ */
+public class StatusListDTO {
+
+    private final Long id;
+
+    private final String fromStatus;
+
+    private final String toStatus;
+
+    private final Instant timeChaged;
+
+    private final IssueReferenceDTO issue;
+
+    public StatusListDTO(Long id, String fromStatus, String toStatus, Instant timeChaged, Long issueId, String issueKey,
+                         String issueBrowserURL) {
+        this.id = id;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.timeChaged = timeChaged;
+        this.issue = issueId == null ? null : new IssueReferenceDTO(issueId, issueKey, issueBrowserURL);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public Instant getTimeChaged() {
+        return timeChaged;
+    }
+
+    public IssueReferenceDTO getIssue() {
+        return issue;
+    }
+
+    @Override
+    public String toString() {
+        return "StatusListDTO{" +
+            "id=" + id +
+            ", fromStatus='" + fromStatus + "'" +
+            ", toStatus='" + toStatus + "'" +
+            ", timeChaged=" + timeChaged +
+            "}";
+    }
+}
@@ -0,0 +1,51 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.LocalDate;
+
+/**
+ * A DTO representing a number of Status transitions of a release, grouped by some of project, status and week.
+ * The dimensions not grouped by are null.
+ */
+public class StatusRollupDTO {
+
+    private final Long projectId;
+
+    private final String status;
+
+    private final LocalDate weekStart;
+
+    private final long transitionCount;
+
+    public StatusRollupDTO(Long projectId, String status, LocalDate weekStart, long transitionCount) {
+        this.projectId = projectId;
+        this.status = status;
+        this.weekStart = weekStart;
+        this.transitionCount = transitionCount;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public long getTransitionCount() {
+        return transitionCount;
+    }
+
+    @Override
+    public String toString() {
+        return "StatusRollupDTO{" +
+            "projectId=" + projectId +
+            ", status='" + status + "'" +
+            ", weekStart='" + weekStart + "'" +
+            ", transitionCount=" + transitionCount +
+            "}";
+    }
+}
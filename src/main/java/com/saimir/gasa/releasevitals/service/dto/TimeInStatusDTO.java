@@ -0,0 +1,63 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+/**
+ * A DTO representing the time the issues of a project spent in a status, over their finished visits.
+ */
+public class TimeInStatusDTO {
+
+    private final Long projectId;
+
+    private final String status;
+
+    private final long issueCount;
+
+    private final long visitCount;
+
+    private final long totalSeconds;
+
+    public TimeInStatusDTO(Long projectId, String status, long issueCount, long visitCount, long totalSeconds) {
+        this.projectId = projectId;
+        this.status = status;
+        this.issueCount = issueCount;
+        this.visitCount = visitCount;
+        this.totalSeconds = totalSeconds;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public long getIssueCount() {
+        return issueCount;
+    }
+
+    public long getVisitCount() {
+        return visitCount;
+    }
+
+    public long getTotalSeconds() {
+        return totalSeconds;
+    }
+
+    /**
+     * @return the mean time an issue spent in the status
+     */
+    public long getAverageSecondsPerIssue() {
+        return issueCount == 0 ? 0 : totalSeconds / issueCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TimeInStatusDTO{" +
+            "projectId=" + projectId +
+            ", status='" + status + "'" +
+            ", issueCount=" + issueCount +
+            ", visitCount=" + visitCount +
+            ", totalSeconds=" + totalSeconds +
+            "}";
+    }
+}
@@ -0,0 +1,39 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+/**
+ * A DTO representing a row of the version list, read with a JPQL constructor expression.
+ */
+public class VersionListDTO {
+
+    private final Long id;
+
+    private final String name;
+
+    private final IssueReferenceDTO issue;
+
+    public VersionListDTO(Long id, String name, Long issueId, String issueKey, String issueBrowserURL) {
+        this.id = id;
+        this.name = name;
+        this.issue = issueId == null ? null : new IssueReferenceDTO(issueId, issueKey, issueBrowserURL);
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public IssueReferenceDTO getIssue() {
+        return issue;
+    }
+
+    @Override
+    public String toString() {
+        return "VersionListDTO{" +
+            "id=" + id +
+            ", name='" + name + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,60 @@
+package com.saimir.gasa.releasevitals.service.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A DTO representing the epic metrics of a release recomputed for a hypothetical window or version set.
+ * Epics without locally cached issue data are listed in {@code missingEpicIds}.
+ */
+public class WhatIfDTO {
+
+    private final Long releaseId;
+
+    private final Instant startDate;
+
+    private final Instant endDate;
+
+    private final List<EpicMetricsDTO> epics;
+
+    private final List<Long> missingEpicIds;
+
+    public WhatIfDTO(Long releaseId, Instant startDate, Instant endDate, List<EpicMetricsDTO> epics, List<Long> missingEpicIds) {
+        this.releaseId = releaseId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.epics = epics;
+        this.missingEpicIds = missingEpicIds;
+    }
+
+    public Long getReleaseId() {
+        return releaseId;
+    }
+
+    public Instant getStartDate() {
+        return startDate;
+    }
+
+    public Instant getEndDate() {
+        return endDate;
+    }
+
+    public List<EpicMetricsDTO> getEpics() {
+        return epics;
+    }
+
+    public List<Long> getMissingEpicIds() {
+        return missingEpicIds;
+    }
+
+    @Override
+    public String toString() {
+        return "WhatIfDTO{" +
+            "releaseId=" + releaseId +
+            ", startDate='" + startDate + "'" +
+            ", endDate='" + endDate + "'" +
+            ", epics=" + epics +
+            ", missingEpicIds=" + missingEpicIds +
+            "}";
+    }
+}
@@ -0,0 +1,45 @@
+package com.saimir.gasa.releasevitals.service.event;
+
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Published once the Jira details of an epic have been refreshed, with every issue fact read from Jira.
+ */
+public class EpicRefreshedEvent {
+
+    private final Long epicId;
+
+    private final List<IssueFact> issueFacts;
+
+    private final Instant refreshedAt;
+
+    public EpicRefreshedEvent(Long epicId, List<IssueFact> issueFacts, Instant refreshedAt) {
+        this.epicId = epicId;
+        this.issueFacts = issueFacts;
+        this.refreshedAt = refreshedAt;
+    }
+
+    public Long getEpicId() {
+        return epicId;
+    }
+
+    public List<IssueFact> getIssueFacts() {
+        return issueFacts;
+    }
+
+    public Instant getRefreshedAt() {
+        return refreshedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "EpicRefreshedEvent{" +
+            "epicId=" + epicId +
+            ", issueFacts=" + issueFacts.size() +
+            ", refreshedAt='" + refreshedAt + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,4 @@
+/**
+ * Application events published by the service layer.
+ */
+package com.saimir.gasa.releasevitals.service.event;
@@ -0,0 +1,200 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.OpenIssue;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.OpenIssueRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.repository.StatusRepository;
+import com.saimir.gasa.releasevitals.service.AgingWipService;
+import com.saimir.gasa.releasevitals.service.dto.AgingIssueDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Service Implementation for managing the open issues of the epics.
+ * <p>
+ * Every Jira refresh of an epic is merged with its open issues: an issue keeps the time it entered its
+ * status while the status does not change. An issue seen for the first time takes the time of its last
+ * Status row to that status, if any, and the time of the refresh otherwise. The reports then read the
+ * open issues from an index in age order, without going through the Status history.
+ */
+@Service
+@Transactional
+public class AgingWipServiceImpl implements AgingWipService {
+
+    private static final int KEY_BATCH_SIZE = 500;
+
+    private final Logger log = LoggerFactory.getLogger(AgingWipServiceImpl.class);
+
+    private final OpenIssueRepository openIssueRepository;
+
+    private final StatusRepository statusRepository;
+
+    private final EpicRepository epicRepository;
+
+    private final ProjectRepository projectRepository;
+
+    public AgingWipServiceImpl(OpenIssueRepository openIssueRepository, StatusRepository statusRepository,
+                               EpicRepository epicRepository, ProjectRepository projectRepository) {
+        this.openIssueRepository = openIssueRepository;
+        this.statusRepository = statusRepository;
+        this.epicRepository = epicRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * Record the open issues within the refresh transaction.
+     *
+     * @param event the refreshed epic
+     */
+    @EventListener
+    public void onEpicRefreshed(EpicRefreshedEvent event) {
+        record(event.getEpicId(), event.getIssueFacts(), event.getRefreshedAt());
+    }
+
+    /**
+     * Replace the open issues of an epic by the unresolved issues read from Jira.
+     *
+     * @param epicId the id of the epic
+     * @param issueFacts the facts read from Jira
+     * @param refreshedAt the time of the refresh
+     */
+    @Override
+    public void record(Long epicId, List<IssueFact> issueFacts, Instant refreshedAt) {
+        log.debug("Request to record the open issues of Epic : {}", epicId);
+        // an issue has one fact per fix version, all with the same status
+        Map<String, IssueFact> unresolved = new LinkedHashMap<>();
+        for (IssueFact issueFact : issueFacts) {
+            if (issueFact.getIssueKey() != null && issueFact.getStatus() != null
+                && issueFact.getResolutionClass() == EpicMetricsUtil.UNRESOLVED) {
+                unresolved.put(issueFact.getIssueKey(), issueFact);
+            }
+        }
+
+        List<OpenIssue> closed = new ArrayList<>();
+        for (OpenIssue openIssue : openIssueRepository.findAllByEpicId(epicId)) {
+            IssueFact issueFact = unresolved.remove(openIssue.getIssueKey());
+            if (issueFact == null) {
+                closed.add(openIssue);
+                continue;
+            }
+            if (!issueFact.getStatus().equals(openIssue.getStatus())) {
+                openIssue.status(issueFact.getStatus()).statusEnteredAt(refreshedAt);
+            }
+            String projectKey = projectKey(issueFact.getProjectKey());
+            if (!Objects.equals(projectKey, openIssue.getProjectKey())) {
+                openIssue.setProjectKey(projectKey);
+            }
+            if (!Objects.equals(issueFact.getEstimate(), openIssue.getEstimate())) {
+                openIssue.setEstimate(issueFact.getEstimate());
+            }
+        }
+        openIssueRepository.deleteAll(closed);
+
+        Map<String, Instant> lastEntries = findLastEntries(unresolved);
+        List<OpenIssue> opened = new ArrayList<>(unresolved.size());
+        for (IssueFact issueFact : unresolved.values()) {
+            Instant enteredAt = lastEntries.get(issueFact.getIssueKey());
+            opened.add(new OpenIssue()
+                .epicId(epicId)
+                .issueKey(issueFact.getIssueKey())
+                .projectKey(projectKey(issueFact.getProjectKey()))
+                .status(issueFact.getStatus())
+                .statusEnteredAt(enteredAt == null || enteredAt.isAfter(refreshedAt) ? refreshedAt : enteredAt)
+                .estimate(issueFact.getEstimate()));
+        }
+        openIssueRepository.saveAll(opened);
+    }
+
+    /**
+     * Remove all the open issues of an epic.
+     *
+     * @param epicId the id of the epic
+     */
+    @Override
+    public void remove(Long epicId) {
+        log.debug("Request to remove the open issues of Epic : {}", epicId);
+        openIssueRepository.deleteAllByEpicId(epicId);
+    }
+
+    /**
+     * Get the open issues of an epic, oldest in their current status first.
+     *
+     * @param epicId the id of the epic
+     * @param projectKey the key of the project to restrict to, or null for all of them
+     * @param pageable the pagination information
+     * @return the page of issues, or empty if the epic does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Page<AgingIssueDTO>> getAgingWipOfEpic(Long epicId, String projectKey, Pageable pageable) {
+        log.debug("Request to get the aging work in progress of Epic : {}", epicId);
+        if (!epicRepository.existsById(epicId)) {
+            return Optional.empty();
+        }
+        Instant now = Instant.now();
+        Page<OpenIssue> page = projectKey == null
+            ? openIssueRepository.findAllByEpicIdOrderByStatusEnteredAtAscIdAsc(epicId, pageable)
+            : openIssueRepository.findAllByEpicIdAndProjectKeyOrderByStatusEnteredAtAscIdAsc(epicId, projectKey(projectKey), pageable);
+        return Optional.of(page.map(openIssue -> toDTO(openIssue, now)));
+    }
+
+    /**
+     * Get the open issues of a project in the epics linked to it, oldest in their current status first.
+     *
+     * @param projectId the id of the project
+     * @param pageable the pagination information
+     * @return the page of issues, or empty if the project does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Page<AgingIssueDTO>> getAgingWipOfProject(Long projectId, Pageable pageable) {
+        log.debug("Request to get the aging work in progress of Project : {}", projectId);
+        Instant now = Instant.now();
+        return projectRepository.findById(projectId)
+            .map(project -> openIssueRepository.findAllByProject(projectId, projectKey(project.getKey()), pageable)
+                .map(openIssue -> toDTO(openIssue, now)));
+    }
+
+    private Map<String, Instant> findLastEntries(Map<String, IssueFact> issueFacts) {
+        Map<String, Instant> lastEntries = new HashMap<>();
+        List<String> issueKeys = new ArrayList<>(issueFacts.keySet());
+        for (int i = 0; i < issueKeys.size(); i += KEY_BATCH_SIZE) {
+            List<String> batch = issueKeys.subList(i, Math.min(i + KEY_BATCH_SIZE, issueKeys.size()));
+            for (Object[] row : statusRepository.findLastEntriesByIssueKeys(batch)) {
+                IssueFact issueFact = issueFacts.get(row[0]);
+                if (issueFact != null && issueFact.getStatus().equals(row[1])) {
+                    lastEntries.merge((String) row[0], (Instant) row[2], (entry, other) -> entry.isAfter(other) ? entry : other);
+                }
+            }
+        }
+        return lastEntries;
+    }
+
+    private static AgingIssueDTO toDTO(OpenIssue openIssue, Instant now) {
+        return new AgingIssueDTO(openIssue.getEpicId(), openIssue.getIssueKey(), openIssue.getProjectKey(), openIssue.getStatus(),
+            openIssue.getStatusEnteredAt(), openIssue.getEstimate(), now);
+    }
+
+    private static String projectKey(String key) {
+        return key == null ? null : key.toUpperCase(Locale.ROOT);
+    }
+}
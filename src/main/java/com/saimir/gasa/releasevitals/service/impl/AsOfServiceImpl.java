@@ -0,0 +1,266 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.IssueSnapshotRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.repository.SprintRepository;
+import com.saimir.gasa.releasevitals.repository.StatusRepository;
+import com.saimir.gasa.releasevitals.service.AsOfService;
+import com.saimir.gasa.releasevitals.service.dto.EpicAsOfDTO;
+import com.saimir.gasa.releasevitals.service.dto.EpicMetricsDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseAsOfDTO;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsTotals;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Service Implementation reading the metrics of the epics and releases as they were at a past time.
+ * <p>
+ * The epic metrics are aggregated from the issue snapshots valid at that time, with the same rules as
+ * the Jira refresh. The issue count by status of a release is replayed from the Status history: the
+ * state reached at each requested sprint boundary is kept as a checkpoint, so a query only reads the
+ * transitions between the last boundary and its time. The release metrics, which build the checkpoints, are
+ * read in a read-write transaction so from the primary, never from a replica lagging behind an eviction,
+ * and a change evicts the checkpoints again once committed.
+ */
+@Service
+@Transactional(readOnly = true)
+public class AsOfServiceImpl implements AsOfService {
+
+    private static final int MAX_CHECKPOINTS_PER_RELEASE = 64;
+
+    private final Logger log = LoggerFactory.getLogger(AsOfServiceImpl.class);
+
+    private final EpicRepository epicRepository;
+
+    private final ReleaseRepository releaseRepository;
+
+    private final IssueSnapshotRepository issueSnapshotRepository;
+
+    private final StatusRepository statusRepository;
+
+    private final SprintRepository sprintRepository;
+
+    private final ConcurrentMap<Long, ConcurrentNavigableMap<Instant, Map<Long, String>>> checkpoints = new ConcurrentHashMap<>();
+
+    private final AtomicLong evictions = new AtomicLong();
+
+    public AsOfServiceImpl(EpicRepository epicRepository, ReleaseRepository releaseRepository,
+                           IssueSnapshotRepository issueSnapshotRepository, StatusRepository statusRepository,
+                           SprintRepository sprintRepository) {
+        this.epicRepository = epicRepository;
+        this.releaseRepository = releaseRepository;
+        this.issueSnapshotRepository = issueSnapshotRepository;
+        this.statusRepository = statusRepository;
+        this.sprintRepository = sprintRepository;
+    }
+
+    /**
+     * Get the metrics of an epic as they were at the given time.
+     *
+     * @param epicId the id of the epic
+     * @param asOf the time
+     * @return the metrics, or empty if the epic does not exist
+     */
+    @Override
+    public Optional<EpicAsOfDTO> getEpicAsOf(Long epicId, Instant asOf) {
+        log.debug("Request to get Epic : {} as of {}", epicId, asOf);
+        return epicRepository.findById(epicId).map(epic -> {
+            List<Object[]> snapshots = issueSnapshotRepository.findAllByEpicIdsAsOf(Collections.singleton(epicId), asOf);
+            Map<Long, Release> releases = findReleases(snapshots);
+            EpicMetricsTotals totals = new EpicMetricsTotals();
+            Map<String, String> statusByIssueKey = new HashMap<>();
+            for (Object[] snapshot : snapshots) {
+                add(totals, snapshot, releases);
+                if (snapshot[3] != null) {
+                    statusByIssueKey.put((String) snapshot[2], (String) snapshot[3]);
+                }
+            }
+            return new EpicAsOfDTO(asOf, toDTO(epic, totals), countByStatus(statusByIssueKey.values()));
+        });
+    }
+
+    /**
+     * Get the metrics of a release as they were at the given time.
+     *
+     * @param releaseId the id of the release
+     * @param asOf the time
+     * @return the metrics, or empty if the release does not exist
+     */
+    @Override
+    @Transactional
+    public Optional<ReleaseAsOfDTO> getReleaseAsOf(Long releaseId, Instant asOf) {
+        log.debug("Request to get Release : {} as of {}", releaseId, asOf);
+        return releaseRepository.findById(releaseId).map(release -> {
+            List<Epic> epics = epicRepository.findAllByReleaseWithProjectVersions(releaseId);
+            epics.sort(Comparator.comparing(Epic::getId));
+            Map<Long, EpicMetricsTotals> totalsByEpic = new HashMap<>();
+            if (!epics.isEmpty()) {
+                Set<Long> epicIds = new HashSet<>();
+                epics.forEach(epic -> epicIds.add(epic.getId()));
+                List<Object[]> snapshots = issueSnapshotRepository.findAllByEpicIdsAsOf(epicIds, asOf);
+                Map<Long, Release> releases = findReleases(snapshots);
+                for (Object[] snapshot : snapshots) {
+                    add(totalsByEpic.computeIfAbsent((Long) snapshot[0], epicId -> new EpicMetricsTotals()), snapshot, releases);
+                }
+            }
+            List<EpicMetricsDTO> metrics = new ArrayList<>(epics.size());
+            for (Epic epic : epics) {
+                metrics.add(toDTO(epic, totalsByEpic.getOrDefault(epic.getId(), new EpicMetricsTotals())));
+            }
+
+            Instant boundary = lastSprintBoundary(asOf);
+            Map<Long, String> statusByIssue = new HashMap<>(boundary == null ? Collections.emptyMap() : checkpoint(releaseId, boundary));
+            int replayed = replay(releaseId, boundary == null ? Instant.EPOCH : boundary, asOf, statusByIssue);
+            return new ReleaseAsOfDTO(releaseId, asOf, Collections.unmodifiableList(metrics),
+                countByStatus(statusByIssue.values()), boundary, replayed);
+        });
+    }
+
+    /**
+     * Drop the checkpoints that a transition at the given time would change.
+     *
+     * @param timeChanged the time of the added or removed transition, or null to drop everything
+     */
+    @Override
+    public void evict(Instant timeChanged) {
+        drop(timeChanged);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // a request until the commit replays the transitions as they were before the change
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    drop(timeChanged);
+                }
+            });
+        }
+    }
+
+    private void drop(Instant timeChanged) {
+        evictions.incrementAndGet();
+        for (ConcurrentNavigableMap<Instant, Map<Long, String>> byBoundary : checkpoints.values()) {
+            if (timeChanged == null) {
+                byBoundary.clear();
+            } else {
+                byBoundary.tailMap(timeChanged, true).clear();
+            }
+        }
+    }
+
+    private Instant lastSprintBoundary(Instant asOf) {
+        Instant lastStart = sprintRepository.findLastStartAtOrBefore(asOf);
+        Instant lastEnd = sprintRepository.findLastEndAtOrBefore(asOf);
+        if (lastStart == null || (lastEnd != null && lastEnd.isAfter(lastStart))) {
+            return lastEnd;
+        }
+        return lastStart;
+    }
+
+    /**
+     * The status of every issue of the release once all its transitions up to the boundary are applied,
+     * built from the closest earlier checkpoint.
+     */
+    private Map<Long, String> checkpoint(Long releaseId, Instant boundary) {
+        ConcurrentNavigableMap<Instant, Map<Long, String>> byBoundary =
+            checkpoints.computeIfAbsent(releaseId, id -> new ConcurrentSkipListMap<>());
+        Map<Long, String> checkpoint = byBoundary.get(boundary);
+        if (checkpoint != null) {
+            return checkpoint;
+        }
+        long generation = evictions.get();
+        Map.Entry<Instant, Map<Long, String>> previous = byBoundary.lowerEntry(boundary);
+        Map<Long, String> statusByIssue = previous == null ? new HashMap<>() : new HashMap<>(previous.getValue());
+        replay(releaseId, previous == null ? Instant.EPOCH : previous.getKey(), boundary, statusByIssue);
+        checkpoint = Collections.unmodifiableMap(statusByIssue);
+        // a transition changed while replaying could make the checkpoint stale
+        if (generation == evictions.get()) {
+            byBoundary.put(boundary, checkpoint);
+            while (byBoundary.size() > MAX_CHECKPOINTS_PER_RELEASE) {
+                byBoundary.pollFirstEntry();
+            }
+        }
+        return checkpoint;
+    }
+
+    /**
+     * Apply the transitions in (from, to] to the status of the issues.
+     *
+     * @return the number of transitions read
+     */
+    private int replay(Long releaseId, Instant from, Instant to, Map<Long, String> statusByIssue) {
+        int replayed = 0;
+        try (Stream<Object[]> transitions = statusRepository.streamTransitionsByReleaseBetween(releaseId, from, to)) {
+            for (Object[] row : (Iterable<Object[]>) transitions::iterator) {
+                if (row[2] != null) {
+                    statusByIssue.put((Long) row[0], (String) row[2]);
+                }
+                replayed++;
+            }
+        }
+        return replayed;
+    }
+
+    private Map<Long, Release> findReleases(List<Object[]> snapshots) {
+        Set<Long> releaseIds = new HashSet<>();
+        for (Object[] snapshot : snapshots) {
+            if (snapshot[1] != null) {
+                releaseIds.add((Long) snapshot[1]);
+            }
+        }
+        Map<Long, Release> releases = new HashMap<>();
+        if (!releaseIds.isEmpty()) {
+            releaseRepository.findAllById(releaseIds).forEach(release -> releases.put(release.getId(), release));
+        }
+        return releases;
+    }
+
+    private static Map<String, Integer> countByStatus(Collection<String> statuses) {
+        Map<String, Integer> counts = new TreeMap<>();
+        for (String status : statuses) {
+            counts.merge(status, 1, Integer::sum);
+        }
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private static EpicMetricsDTO toDTO(Epic epic, EpicMetricsTotals totals) {
+        return totals.copyTo(new EpicMetricsDTO(epic.getId(), epic.getName(), epic.getKey()));
+    }
+
+    /**
+     * Add a snapshot to the totals of its epic, with the rules of the Jira refresh. Only the snapshots of a
+     * project version of the epic, which have a release, are counted.
+     */
+    private static void add(EpicMetricsTotals totals, Object[] snapshot, Map<Long, Release> releases) {
+        Release release = snapshot[1] == null ? null : releases.get(snapshot[1]);
+        if (release != null) {
+            totals.add(EpicMetricsUtil.resolutionClass((String) snapshot[3], (String) snapshot[4]), (Double) snapshot[5],
+                (Instant) snapshot[6], release.getStartDate(), release.getEndDate());
+        }
+    }
+}
@@ -0,0 +1,434 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.config.ApplicationProperties;
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.repository.VersionRepository;
+import com.saimir.gasa.releasevitals.repository.search.EpicSearchRepository;
+import com.saimir.gasa.releasevitals.repository.search.ProjectSearchRepository;
+import com.saimir.gasa.releasevitals.repository.search.ReleaseSearchRepository;
+import com.saimir.gasa.releasevitals.repository.search.VersionSearchRepository;
+import com.saimir.gasa.releasevitals.service.BulkImportService;
+import com.saimir.gasa.releasevitals.service.ReleaseHealthService;
+import com.saimir.gasa.releasevitals.service.dto.BulkImportDTO;
+import com.saimir.gasa.releasevitals.service.dto.BulkImportRowDTO;
+import com.saimir.gasa.releasevitals.service.util.BulkImportReader;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.elasticsearch.repository.ElasticsearchRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Service Implementation importing releases, versions, projects and epics in bulk.
+ * <p>
+ * The rows are read as a stream and imported in chunks of application.bulk-import.chunk-size, one
+ * transaction per chunk. The entities a chunk references are loaded by natural key with one query per
+ * entity type, and the new entities are inserted in JDBC batches of hibernate.jdbc.batch_size. The
+ * releases whose projects or epics a chunk changed are marked for a health recompute once it is
+ * committed. Every entity imported is indexed once, in bulk, after the last chunk.
+ */
+@Service
+public class BulkImportServiceImpl implements BulkImportService {
+
+    private static final int MAX_ERRORS = 100;
+
+    private final Logger log = LoggerFactory.getLogger(BulkImportServiceImpl.class);
+
+    private final ReleaseRepository releaseRepository;
+
+    private final VersionRepository versionRepository;
+
+    private final ProjectRepository projectRepository;
+
+    private final EpicRepository epicRepository;
+
+    private final ReleaseSearchRepository releaseSearchRepository;
+
+    private final VersionSearchRepository versionSearchRepository;
+
+    private final ProjectSearchRepository projectSearchRepository;
+
+    private final EpicSearchRepository epicSearchRepository;
+
+    private final ReleaseHealthService releaseHealthService;
+
+    private final EntityManager entityManager;
+
+    private final ApplicationProperties.BulkImport properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public BulkImportServiceImpl(ReleaseRepository releaseRepository, VersionRepository versionRepository,
+                                 ProjectRepository projectRepository, EpicRepository epicRepository,
+                                 ReleaseSearchRepository releaseSearchRepository, VersionSearchRepository versionSearchRepository,
+                                 ProjectSearchRepository projectSearchRepository, EpicSearchRepository epicSearchRepository,
+                                 ReleaseHealthService releaseHealthService, EntityManager entityManager,
+                                 ApplicationProperties applicationProperties, PlatformTransactionManager transactionManager) {
+        this.releaseRepository = releaseRepository;
+        this.versionRepository = versionRepository;
+        this.projectRepository = projectRepository;
+        this.epicRepository = epicRepository;
+        this.releaseSearchRepository = releaseSearchRepository;
+        this.versionSearchRepository = versionSearchRepository;
+        this.projectSearchRepository = projectSearchRepository;
+        this.epicSearchRepository = epicSearchRepository;
+        this.releaseHealthService = releaseHealthService;
+        this.entityManager = entityManager;
+        this.properties = applicationProperties.getBulkImport();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Create or update the entity of every row of a document, resolving the references by natural key, and
+     * index the rows imported.
+     *
+     * @param reader the reader of the rows of the document
+     * @return the outcome of the import
+     */
+    @Override
+    public BulkImportDTO importRows(BulkImportReader reader) {
+        long start = System.currentTimeMillis();
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        Result result = new Result();
+        List<BulkImportRowDTO> rows = new ArrayList<>(chunkSize);
+        boolean complete = true;
+        try {
+            BulkImportRowDTO row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+                if (rows.size() == chunkSize) {
+                    importChunk(rows, result);
+                    rows.clear();
+                }
+            }
+        } catch (IOException e) {
+            complete = false;
+            result.error(e.getMessage());
+        }
+        if (!rows.isEmpty()) {
+            importChunk(rows, result);
+        }
+        index(result.releaseIds, releaseRepository::findAllById, releaseSearchRepository, result);
+        index(result.versionIds, versionRepository::findAllById, versionSearchRepository, result);
+        index(result.projectIds, projectRepository::findAllWithEagerRelationshipsByIdIn, projectSearchRepository, result);
+        index(result.epicIds, epicRepository::findAllWithEagerRelationshipsByIdIn, epicSearchRepository, result);
+        BulkImportDTO outcome = new BulkImportDTO(result.createdCount, result.updatedCount, result.rejectedCount, complete,
+            result.errors, System.currentTimeMillis() - start);
+        log.info("Finished the bulk import: {}", outcome);
+        return outcome;
+    }
+
+    private void importChunk(List<BulkImportRowDTO> rows, Result result) {
+        try {
+            Chunk chunk = transactionTemplate.execute(status -> {
+                Chunk imported = new Chunk(rows);
+                for (BulkImportRowDTO row : rows) {
+                    imported.importRow(row);
+                }
+                // marked with the chunk, so the recompute reads the rows it committed
+                releaseHealthService.markDirty(imported.dirtyReleaseIds);
+                entityManager.flush();
+                entityManager.clear();
+                return imported;
+            });
+            result.add(chunk);
+        } catch (RuntimeException e) {
+            log.warn("Failed to import the lines {} to {}", rows.get(0).getLineNumber(), rows.get(rows.size() - 1).getLineNumber(), e);
+            result.rejectedCount += rows.size();
+            result.error("Lines " + rows.get(0).getLineNumber() + " to " + rows.get(rows.size() - 1).getLineNumber() + ": " + e.getMessage());
+        }
+    }
+
+    private <T> void index(Set<Long> ids, Function<List<Long>, List<T>> loader, ElasticsearchRepository<T, Long> searchRepository,
+                           Result result) {
+        List<Long> idList = new ArrayList<>(ids);
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        for (int i = 0; i < idList.size(); i += chunkSize) {
+            List<Long> chunk = idList.subList(i, Math.min(i + chunkSize, idList.size()));
+            try {
+                transactionTemplate.execute(status -> searchRepository.saveAll(loader.apply(chunk)));
+            } catch (RuntimeException e) {
+                log.warn("Failed to index the imported entities {}", chunk, e);
+                result.error("Indexing failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The entities referenced by one chunk, loaded by natural key, and the rows it imported.
+     */
+    private final class Chunk {
+
+        private final Map<String, Release> releases = new HashMap<>();
+
+        private final Map<String, Version> versions = new HashMap<>();
+
+        private final Map<String, Project> projects = new HashMap<>();
+
+        private final Map<String, Epic> epics = new HashMap<>();
+
+        private final Set<Long> releaseIds = new HashSet<>();
+
+        private final Set<Long> versionIds = new HashSet<>();
+
+        private final Set<Long> projectIds = new HashSet<>();
+
+        private final Set<Long> epicIds = new HashSet<>();
+
+        private final Set<Long> dirtyReleaseIds = new HashSet<>();
+
+        private final List<String> errors = new ArrayList<>();
+
+        private int createdCount;
+
+        private int updatedCount;
+
+        private Chunk(List<BulkImportRowDTO> rows) {
+            Set<String> releaseNames = new HashSet<>();
+            Set<String> versionNames = new HashSet<>();
+            Set<String> projectKeys = new HashSet<>();
+            Set<String> epicKeys = new HashSet<>();
+            for (BulkImportRowDTO row : rows) {
+                if (BulkImportRowDTO.RELEASE.equals(row.getType())) {
+                    addIfPresent(releaseNames, row.getName());
+                } else if (BulkImportRowDTO.VERSION.equals(row.getType())) {
+                    addIfPresent(versionNames, row.getName());
+                } else if (BulkImportRowDTO.PROJECT.equals(row.getType())) {
+                    addIfPresent(releaseNames, row.getRelease());
+                    addIfPresent(projectKeys, row.getKey());
+                    if (row.getVersions() != null) {
+                        row.getVersions().forEach(name -> addIfPresent(versionNames, name));
+                    }
+                } else if (BulkImportRowDTO.EPIC.equals(row.getType())) {
+                    addIfPresent(releaseNames, row.getRelease());
+                    addIfPresent(epicKeys, row.getKey());
+                    if (row.getProjects() != null) {
+                        row.getProjects().forEach(key -> addIfPresent(projectKeys, key));
+                    }
+                }
+            }
+            // the oldest entity wins when a natural key is not unique
+            if (!releaseNames.isEmpty()) {
+                releaseRepository.findAllByNameIn(releaseNames).forEach(release -> releases.putIfAbsent(release.getName(), release));
+            }
+            if (!versionNames.isEmpty()) {
+                versionRepository.findAllByNameIn(versionNames).forEach(version -> versions.putIfAbsent(version.getName(), version));
+            }
+            if (!releaseNames.isEmpty() && !projectKeys.isEmpty()) {
+                projectRepository.findAllByReleaseNameInAndKeyIn(releaseNames, projectKeys).forEach(project ->
+                    projects.putIfAbsent(projectKey(project.getRelease().getName(), project.getKey()), project));
+            }
+            if (!epicKeys.isEmpty()) {
+                epicRepository.findAllByKeyIn(epicKeys).forEach(epic -> epics.putIfAbsent(epic.getKey(), epic));
+            }
+        }
+
+        private void importRow(BulkImportRowDTO row) {
+            try {
+                boolean created;
+                if (BulkImportRowDTO.RELEASE.equals(row.getType())) {
+                    created = importRelease(row);
+                } else if (BulkImportRowDTO.VERSION.equals(row.getType())) {
+                    created = importVersion(row);
+                } else if (BulkImportRowDTO.PROJECT.equals(row.getType())) {
+                    created = importProject(row);
+                } else if (BulkImportRowDTO.EPIC.equals(row.getType())) {
+                    created = importEpic(row);
+                } else {
+                    throw new IllegalArgumentException("unknown type '" + row.getType() + "'");
+                }
+                if (created) {
+                    createdCount++;
+                } else {
+                    updatedCount++;
+                }
+            } catch (IllegalArgumentException e) {
+                errors.add("Line " + row.getLineNumber() + ": " + e.getMessage());
+            }
+        }
+
+        private boolean importRelease(BulkImportRowDTO row) {
+            Release release = releases.get(require(row.getName(), "name"));
+            boolean created = release == null;
+            if (created) {
+                release = releaseRepository.save(new Release().name(row.getName()));
+                releases.put(release.getName(), release);
+            }
+            if (row.getStartDate() != null) {
+                release.setStartDate(row.getStartDate());
+            }
+            if (row.getEndDate() != null) {
+                release.setEndDate(row.getEndDate());
+            }
+            releaseIds.add(release.getId());
+            dirtyReleaseIds.add(release.getId());
+            return created;
+        }
+
+        private boolean importVersion(BulkImportRowDTO row) {
+            boolean created = !versions.containsKey(require(row.getName(), "name"));
+            version(row.getName());
+            return created;
+        }
+
+        private boolean importProject(BulkImportRowDTO row) {
+            String key = require(row.getKey(), "key");
+            Release release = releases.get(require(row.getRelease(), "release"));
+            if (release == null) {
+                throw new IllegalArgumentException("unknown release '" + row.getRelease() + "'");
+            }
+            if (row.getVersions() != null) {
+                row.getVersions().forEach(name -> require(name, "version name"));
+            }
+            Project project = projects.get(projectKey(release.getName(), key));
+            boolean created = project == null;
+            if (created) {
+                project = projectRepository.save(new Project().key(key).release(release));
+                projects.put(projectKey(release.getName(), key), project);
+            }
+            if (row.getName() != null) {
+                project.setName(row.getName());
+            }
+            if (row.getVersions() != null) {
+                Set<Version> projectVersions = new HashSet<>();
+                for (String name : row.getVersions()) {
+                    projectVersions.add(version(name));
+                }
+                project.getVersions().retainAll(projectVersions);
+                project.getVersions().addAll(projectVersions);
+            }
+            projectIds.add(project.getId());
+            dirtyReleaseIds.add(release.getId());
+            return created;
+        }
+
+        private boolean importEpic(BulkImportRowDTO row) {
+            String key = require(row.getKey(), "key");
+            Set<Project> epicProjects = null;
+            if (row.getProjects() != null) {
+                require(row.getRelease(), "release");
+                epicProjects = new HashSet<>();
+                for (String projectKey : row.getProjects()) {
+                    Project project = projects.get(projectKey(row.getRelease(), projectKey));
+                    if (project == null) {
+                        throw new IllegalArgumentException("unknown project '" + projectKey + "' in release '" + row.getRelease() + "'");
+                    }
+                    epicProjects.add(project);
+                }
+            }
+            Epic epic = epics.get(key);
+            boolean created = epic == null;
+            if (created) {
+                epic = epicRepository.save(new Epic().key(key));
+                epics.put(key, epic);
+            }
+            if (row.getName() != null) {
+                epic.setName(row.getName());
+            }
+            if (row.getBrowserURL() != null) {
+                epic.setEpicBrowserURL(row.getBrowserURL());
+            }
+            if (epicProjects != null) {
+                // the releases the epic leaves change as well as the ones it joins
+                markReleasesDirty(epic.getProjects());
+                epic.getProjects().retainAll(epicProjects);
+                epic.getProjects().addAll(epicProjects);
+                markReleasesDirty(epicProjects);
+            }
+            epicIds.add(epic.getId());
+            return created;
+        }
+
+        private void markReleasesDirty(Set<Project> projects) {
+            for (Project project : projects) {
+                if (project.getRelease() != null) {
+                    dirtyReleaseIds.add(project.getRelease().getId());
+                }
+            }
+        }
+
+        private Version version(String name) {
+            Version version = versions.get(name);
+            if (version == null) {
+                version = versionRepository.save(new Version().name(name));
+                versions.put(name, version);
+            }
+            versionIds.add(version.getId());
+            return version;
+        }
+    }
+
+    /**
+     * The outcome of the chunks imported so far.
+     */
+    private static final class Result {
+
+        private final Set<Long> releaseIds = new LinkedHashSet<>();
+
+        private final Set<Long> versionIds = new LinkedHashSet<>();
+
+        private final Set<Long> projectIds = new LinkedHashSet<>();
+
+        private final Set<Long> epicIds = new LinkedHashSet<>();
+
+        private final List<String> errors = new ArrayList<>();
+
+        private int createdCount;
+
+        private int updatedCount;
+
+        private int rejectedCount;
+
+        private void add(Chunk chunk) {
+            releaseIds.addAll(chunk.releaseIds);
+            versionIds.addAll(chunk.versionIds);
+            projectIds.addAll(chunk.projectIds);
+            epicIds.addAll(chunk.epicIds);
+            createdCount += chunk.createdCount;
+            updatedCount += chunk.updatedCount;
+            rejectedCount += chunk.errors.size();
+            chunk.errors.forEach(this::error);
+        }
+
+        private void error(String error) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(error);
+            }
+        }
+    }
+
+    private static String require(String value, String property) {
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("missing " + property);
+        }
+        return value;
+    }
+
+    private static void addIfPresent(Set<String> values, String value) {
+        if (value != null) {
+            values.add(value);
+        }
+    }
+
+    private static String projectKey(String releaseName, String key) {
+        return releaseName + '\n' + key;
+    }
+}
@@ -0,0 +1,249 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.config.ApplicationProperties;
+import com.saimir.gasa.releasevitals.domain.BurndownStats;
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.User;
+import com.saimir.gasa.releasevitals.domain.enumeration.BurndownAnomalyType;
+import com.saimir.gasa.releasevitals.repository.BurndownStatsRepository;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.UserRepository;
+import com.saimir.gasa.releasevitals.security.AuthoritiesConstants;
+import com.saimir.gasa.releasevitals.service.BurndownAnomalyService;
+import com.saimir.gasa.releasevitals.service.MailService;
+import com.saimir.gasa.releasevitals.service.dto.BurndownAnomalyDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service Implementation detecting scope creep and stalls in the burndown of the epics.
+ * <p>
+ * Each refresh of an epic is one point of its burndown. It is compared with exponentially weighted
+ * statistics of the previous points, then folded into them, so an epic costs one row whatever
+ * the length of its history. A refresh is flagged as:
+ * <ul>
+ * <li>scope creep when its remaining points grew by more than the usual change plus three deviations,</li>
+ * <li>a stall when its completion rate fell under a fifth of the usual rate while points remain.</li>
+ * </ul>
+ * Nothing is flagged until the epic has a few points of history. A refresh less than a day after the
+ * last point, such as an on-demand one, is not a point of its own: over so short a time its completion
+ * rate would read as a stall, or as a burst skewing the statistics.
+ */
+@Service
+@Transactional
+public class BurndownAnomalyServiceImpl implements BurndownAnomalyService {
+
+    private static final double ALPHA = 0.3;
+
+    private static final int WARM_UP = 3;
+
+    private static final double DEVIATIONS = 3;
+
+    private static final double MIN_DEVIATION = 1;
+
+    private static final double STALL_RATIO = 0.2;
+
+    private static final Duration MIN_INTERVAL = Duration.ofDays(1);
+
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    private final Logger log = LoggerFactory.getLogger(BurndownAnomalyServiceImpl.class);
+
+    private final BurndownStatsRepository burndownStatsRepository;
+
+    private final EpicRepository epicRepository;
+
+    private final UserRepository userRepository;
+
+    private final MailService mailService;
+
+    private final ApplicationProperties.BurndownAnomaly properties;
+
+    public BurndownAnomalyServiceImpl(BurndownStatsRepository burndownStatsRepository, EpicRepository epicRepository,
+                                      UserRepository userRepository, MailService mailService,
+                                      ApplicationProperties applicationProperties) {
+        this.burndownStatsRepository = burndownStatsRepository;
+        this.epicRepository = epicRepository;
+        this.userRepository = userRepository;
+        this.mailService = mailService;
+        this.properties = applicationProperties.getBurndownAnomaly();
+    }
+
+    /**
+     * Observe the burndown of a refreshed epic, in the transaction of the refresh.
+     *
+     * @param event the refreshed epic
+     */
+    @EventListener
+    public void onEpicRefreshed(EpicRefreshedEvent event) {
+        observe(event.getEpicId(), event.getIssueFacts(), event.getRefreshedAt());
+    }
+
+    /**
+     * Add a refresh of an epic to its burndown statistics, and flag it if it breaks from them.
+     *
+     * @param epicId the id of the epic
+     * @param issueFacts the facts read from Jira
+     * @param observedAt the time of the refresh
+     */
+    @Override
+    public void observe(Long epicId, List<IssueFact> issueFacts, Instant observedAt) {
+        double remaining = 0;
+        double completed = 0;
+        for (IssueFact issueFact : EpicMetricsUtil.oneFactPerIssue(issueFacts)) {
+            if (issueFact.getEstimate() == null) {
+                continue;
+            }
+            switch (issueFact.getResolutionClass()) {
+                case EpicMetricsUtil.DONE:
+                    completed += issueFact.getEstimate();
+                    break;
+                case EpicMetricsUtil.DISCARDED:
+                    break;
+                default:
+                    remaining += issueFact.getEstimate();
+            }
+        }
+        log.debug("Request to observe the burndown of Epic {}: {} remaining, {} completed", epicId, remaining, completed);
+
+        BurndownStats stats = burndownStatsRepository.findOneByEpicId(epicId).orElse(null);
+        if (stats == null) {
+            burndownStatsRepository.save(new BurndownStats().epicId(epicId)
+                .observationCount(1).observedAt(observedAt).remainingPoints(remaining).completedPoints(completed)
+                .remainingDeltaCount(0).remainingDeltaMean(0d).remainingDeltaVariance(0d)
+                .completionRateCount(0).completionRateMean(0d));
+            return;
+        }
+        if (!observedAt.isAfter(stats.getObservedAt())) {
+            // an older or repeated refresh is not a new point of the burndown
+            return;
+        }
+        if (Duration.between(stats.getObservedAt(), observedAt).compareTo(MIN_INTERVAL) < 0) {
+            log.debug("Epic {} was observed less than {} ago, waiting for the next point of its burndown", epicId, MIN_INTERVAL);
+            return;
+        }
+
+        double remainingDelta = remaining - stats.getRemainingPoints();
+        double days = Duration.between(stats.getObservedAt(), observedAt).toMillis() / MILLIS_PER_DAY;
+        double completionRate = (completed - stats.getCompletedPoints()) / days;
+
+        BurndownAnomalyType anomaly = null;
+        double value = 0;
+        double threshold = 0;
+        double creepThreshold = stats.getRemainingDeltaMean()
+            + DEVIATIONS * Math.max(MIN_DEVIATION, Math.sqrt(stats.getRemainingDeltaVariance()));
+        double stallThreshold = STALL_RATIO * stats.getCompletionRateMean();
+        if (stats.getRemainingDeltaCount() >= WARM_UP && remainingDelta > 0 && remainingDelta > creepThreshold) {
+            anomaly = BurndownAnomalyType.SCOPE_CREEP;
+            value = remainingDelta;
+            threshold = creepThreshold;
+        } else if (stats.getCompletionRateCount() >= WARM_UP && remaining > 0 && stats.getCompletionRateMean() > 0
+            && completionRate <= stallThreshold) {
+            anomaly = BurndownAnomalyType.STALL;
+            value = completionRate;
+            threshold = stallThreshold;
+        }
+
+        fold(stats, remainingDelta, completionRate);
+        stats.observationCount(stats.getObservationCount() + 1)
+            .observedAt(observedAt)
+            .remainingPoints(remaining)
+            .completedPoints(completed);
+        if (anomaly == null) {
+            stats.anomaly(null).anomalyValue(null).anomalyThreshold(null).flaggedAt(null);
+        } else {
+            if (anomaly != stats.getAnomaly()) {
+                stats.flaggedAt(observedAt);
+                log.info("Flagged {} on Epic {}: {} against {}", anomaly, epicId, value, threshold);
+            }
+            stats.anomaly(anomaly).anomalyValue(value).anomalyThreshold(threshold);
+        }
+        burndownStatsRepository.save(stats);
+    }
+
+    /**
+     * Remove the burndown statistics of a deleted epic.
+     *
+     * @param epicId the id of the epic
+     */
+    @Override
+    public void remove(Long epicId) {
+        burndownStatsRepository.deleteByEpicId(epicId);
+    }
+
+    /**
+     * @return the epics flagged by their last refresh, the most recent first
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<BurndownAnomalyDTO> getAnomalies() {
+        List<BurndownStats> flagged = burndownStatsRepository.findAllByAnomalyIsNotNullOrderByFlaggedAtDescEpicIdAsc();
+        Map<Long, Epic> epics = epicRepository.findAllById(flagged.stream().map(BurndownStats::getEpicId).collect(Collectors.toList()))
+            .stream().collect(Collectors.toMap(Epic::getId, Function.identity()));
+        return flagged.stream()
+            .filter(stats -> epics.containsKey(stats.getEpicId()))
+            .map(stats -> {
+                Epic epic = epics.get(stats.getEpicId());
+                return new BurndownAnomalyDTO(epic.getId(), epic.getName(), epic.getKey(), stats.getAnomaly(),
+                    stats.getAnomalyValue(), stats.getAnomalyThreshold(), stats.getRemainingPoints(), stats.getFlaggedAt());
+            })
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Mail the flagged epics to the administrators, if the digest is enabled and anything is flagged.
+     *
+     * @return the number of digests sent
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Scheduled(cron = "${application.burndown-anomaly.digest-cron:0 0 7 * * MON-FRI}")
+    public int sendDigest() {
+        if (!properties.isDigestEnabled()) {
+            return 0;
+        }
+        List<BurndownAnomalyDTO> anomalies = getAnomalies();
+        if (anomalies.isEmpty()) {
+            return 0;
+        }
+        List<User> administrators = userRepository.findAllByActivatedIsTrueAndAuthoritiesName(AuthoritiesConstants.ADMIN);
+        log.debug("Sending the digest of {} burndown anomalies to {} administrators", anomalies.size(), administrators.size());
+        for (User administrator : administrators) {
+            mailService.sendBurndownAnomalyDigest(administrator, anomalies);
+        }
+        return administrators.size();
+    }
+
+    private static void fold(BurndownStats stats, double remainingDelta, double completionRate) {
+        int deltaCount = stats.getRemainingDeltaCount();
+        double deltaMean = stats.getRemainingDeltaMean();
+        double deltaVariance = stats.getRemainingDeltaVariance();
+        if (deltaCount == 0) {
+            deltaMean = remainingDelta;
+        } else {
+            double diff = remainingDelta - deltaMean;
+            double increment = ALPHA * diff;
+            deltaMean += increment;
+            deltaVariance = (1 - ALPHA) * (deltaVariance + diff * increment);
+        }
+        stats.remainingDeltaCount(deltaCount + 1).remainingDeltaMean(deltaMean).remainingDeltaVariance(deltaVariance);
+
+        int rateCount = stats.getCompletionRateCount();
+        double rateMean = rateCount == 0 ? completionRate : stats.getCompletionRateMean() + ALPHA * (completionRate - stats.getCompletionRateMean());
+        stats.completionRateCount(rateCount + 1).completionRateMean(rateMean);
+    }
+}
@@ -0,0 +1,157 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.codahale.metrics.MetricRegistry;
+import com.saimir.gasa.releasevitals.config.ApplicationProperties;
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.service.CacheWarmUpService;
+import com.saimir.gasa.releasevitals.service.dto.CacheWarmUpDTO;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service Implementation preloading the active releases into the second-level cache, so the first
+ * dashboards after a deploy do not walk a cold cache.
+ * <p>
+ * Once the application is ready, the releases not ended yet are loaded on the task executor,
+ * application.cache-warm-up.release-batch-size at a time. Each batch takes three queries in a read-only
+ * transaction: the releases with their projects, the projects with their versions, and the epics of
+ * those projects with all their projects. No batch starts once application.cache-warm-up.time-budget is
+ * spent. The duration and the entities loaded are reported in the metrics.
+ */
+@Service
+public class CacheWarmUpServiceImpl implements CacheWarmUpService {
+
+    private final Logger log = LoggerFactory.getLogger(CacheWarmUpServiceImpl.class);
+
+    private final ReleaseRepository releaseRepository;
+
+    private final ProjectRepository projectRepository;
+
+    private final EpicRepository epicRepository;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final TaskExecutor taskExecutor;
+
+    private final ApplicationProperties.CacheWarmUp properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final MetricRegistry metricRegistry;
+
+    public CacheWarmUpServiceImpl(ReleaseRepository releaseRepository, ProjectRepository projectRepository,
+                                  EpicRepository epicRepository, EntityManagerFactory entityManagerFactory,
+                                  @Qualifier("taskExecutor") TaskExecutor taskExecutor,
+                                  ApplicationProperties applicationProperties, PlatformTransactionManager transactionManager,
+                                  MetricRegistry metricRegistry) {
+        this.releaseRepository = releaseRepository;
+        this.projectRepository = projectRepository;
+        this.epicRepository = epicRepository;
+        this.entityManagerFactory = entityManagerFactory;
+        this.taskExecutor = taskExecutor;
+        this.properties = applicationProperties.getCacheWarmUp();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.metricRegistry = metricRegistry;
+    }
+
+    /**
+     * Start the warm-up in the background, unless disabled or without a second-level cache.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        if (!entityManagerFactory.unwrap(SessionFactory.class).getSessionFactoryOptions().isSecondLevelCacheEnabled()) {
+            log.debug("No second-level cache to warm up");
+            return;
+        }
+        taskExecutor.execute(this::warmUp);
+    }
+
+    /**
+     * Load the releases not ended yet, with their projects, versions and epics, batch by batch until the
+     * time budget is spent.
+     *
+     * @return the outcome of the warm-up
+     */
+    @Override
+    public synchronized CacheWarmUpDTO warmUp() {
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        long budget = TimeUnit.MILLISECONDS.toNanos(properties.getTimeBudget());
+        int batchSize = Math.max(1, properties.getReleaseBatchSize());
+        List<Long> releaseIds = transactionTemplate.execute(status -> releaseRepository.findActiveIds(startedAt));
+        Run run = new Run();
+        int from = 0;
+        while (from < releaseIds.size() && System.nanoTime() - start < budget) {
+            List<Long> batch = releaseIds.subList(from, Math.min(from + batchSize, releaseIds.size()));
+            transactionTemplate.execute(status -> run.load(batch));
+            from += batch.size();
+        }
+        long elapsed = System.nanoTime() - start;
+        CacheWarmUpDTO result = new CacheWarmUpDTO(startedAt, Instant.now(), releaseIds.size(), run.releaseCount,
+            run.projectCount, run.versionIds.size(), run.epicCount, from == releaseIds.size());
+
+        metricRegistry.timer(MetricRegistry.name(CacheWarmUpService.class, "duration")).update(elapsed, TimeUnit.NANOSECONDS);
+        metricRegistry.counter(MetricRegistry.name(CacheWarmUpService.class, "releases")).inc(result.getReleaseCount());
+        metricRegistry.counter(MetricRegistry.name(CacheWarmUpService.class, "projects")).inc(result.getProjectCount());
+        metricRegistry.counter(MetricRegistry.name(CacheWarmUpService.class, "versions")).inc(result.getVersionCount());
+        metricRegistry.counter(MetricRegistry.name(CacheWarmUpService.class, "epics")).inc(result.getEpicCount());
+        if (result.isComplete()) {
+            log.info("Warmed up the second-level cache in {} ms: {}", result.getElapsedMillis(), result);
+        } else {
+            metricRegistry.counter(MetricRegistry.name(CacheWarmUpService.class, "incomplete")).inc();
+            log.warn("Stopped the second-level cache warm-up after its budget of {} ms: {}", properties.getTimeBudget(), result);
+        }
+        return result;
+    }
+
+    private final class Run {
+
+        private final Set<Long> versionIds = new HashSet<>();
+
+        private int releaseCount;
+
+        private int projectCount;
+
+        private int epicCount;
+
+        private Void load(List<Long> releaseIds) {
+            List<Release> releases = releaseRepository.findAllWithProjectsByIdIn(releaseIds);
+            List<Project> projects = projectRepository.findAllWithVersionsByReleaseIdIn(releaseIds);
+            List<Epic> epics = epicRepository.findAllWithProjectsByReleaseIdIn(releaseIds);
+            releaseCount += releases.size();
+            projectCount += projects.size();
+            for (Project project : projects) {
+                for (Version version : project.getVersions()) {
+                    versionIds.add(version.getId());
+                }
+            }
+            epicCount += epics.size();
+            return null;
+        }
+    }
+}
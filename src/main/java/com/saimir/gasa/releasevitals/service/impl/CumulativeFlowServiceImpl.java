@@ -0,0 +1,262 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.repository.StatusRepository;
+import com.saimir.gasa.releasevitals.service.CumulativeFlowService;
+import com.saimir.gasa.releasevitals.service.dto.CumulativeFlowDTO;
+import com.saimir.gasa.releasevitals.service.dto.CumulativeFlowDayDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Stream;
+
+/**
+ * Service Implementation computing cumulative flow diagrams.
+ * <p>
+ * The Status transitions of a release are swept once, in time order, keeping one counter per status.
+ * The state reached at the end of the last finished day is kept as a checkpoint, so the next request
+ * only reads the transitions of the current day. The checkpoints outlive the request, so they are built
+ * in a read-write transaction, from the primary: a lagging replica would keep a stale day cached until the
+ * next eviction. For the same reason, a change evicts the checkpoints again once committed.
+ */
+@Service
+@Transactional(readOnly = true)
+public class CumulativeFlowServiceImpl implements CumulativeFlowService {
+
+    private final Logger log = LoggerFactory.getLogger(CumulativeFlowServiceImpl.class);
+
+    private final ReleaseRepository releaseRepository;
+
+    private final StatusRepository statusRepository;
+
+    private final ConcurrentMap<Long, FlowCheckpoint> checkpoints = new ConcurrentHashMap<>();
+
+    public CumulativeFlowServiceImpl(ReleaseRepository releaseRepository, StatusRepository statusRepository) {
+        this.releaseRepository = releaseRepository;
+        this.statusRepository = statusRepository;
+    }
+
+    /**
+     * Get the per-day issue count of every status for the "id" release.
+     *
+     * @param releaseId the id of the release
+     * @return the cumulative flow, or empty if the release does not exist
+     */
+    @Override
+    @Transactional
+    public Optional<CumulativeFlowDTO> getCumulativeFlow(Long releaseId) {
+        log.debug("Request to get the cumulative flow of Release : {}", releaseId);
+        return releaseRepository.findById(releaseId).map(this::computeCumulativeFlow);
+    }
+
+    /**
+     * Drop the cached days that a transition at the given time would change.
+     *
+     * @param timeChanged the time of the added or removed transition, or null to drop everything
+     */
+    @Override
+    public void evict(Instant timeChanged) {
+        drop(timeChanged);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // a request until the commit caches the transitions as they were before the change
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCommit() {
+                    drop(timeChanged);
+                }
+            });
+        }
+    }
+
+    private void drop(Instant timeChanged) {
+        checkpoints.values().removeIf(checkpoint -> timeChanged == null || timeChanged.isBefore(checkpoint.watermark));
+    }
+
+    private CumulativeFlowDTO computeCumulativeFlow(Release release) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Instant startOfToday = today.atStartOfDay(ZoneOffset.UTC).toInstant();
+        Instant endOfToday = today.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().minusNanos(1);
+
+        FlowCheckpoint checkpoint = checkpoints.get(release.getId());
+        FlowSweep sweep = checkpoint == null ? new FlowSweep() : new FlowSweep(checkpoint);
+        Instant from = checkpoint == null ? Instant.EPOCH : checkpoint.watermark;
+
+        FlowCheckpoint finished = checkpoint != null && checkpoint.watermark.equals(startOfToday) ? checkpoint : null;
+        try (Stream<Object[]> transitions = statusRepository.streamTransitionsByRelease(release.getId(), from)) {
+            for (Object[] row : (Iterable<Object[]>) transitions::iterator) {
+                Instant timeChanged = (Instant) row[3];
+                if (timeChanged.isAfter(endOfToday)) {
+                    break;
+                }
+                if (finished == null && !timeChanged.isBefore(startOfToday)) {
+                    finished = sweep.checkpoint(today, startOfToday);
+                }
+                sweep.apply((Long) row[0], (String) row[1], (String) row[2], timeChanged);
+            }
+        }
+        if (finished == null) {
+            finished = sweep.checkpoint(today, startOfToday);
+        }
+        if (finished != checkpoint) {
+            checkpoints.merge(release.getId(), finished,
+                (current, candidate) -> candidate.watermark.isAfter(current.watermark) ? candidate : current);
+        }
+
+        List<CumulativeFlowDayDTO> days = new ArrayList<>(finished.days);
+        if (sweep.nextDay != null) {
+            days.add(new CumulativeFlowDayDTO(today, Arrays.copyOf(sweep.counts, sweep.statuses.size())));
+        }
+        return toDTO(release, sweep.statuses, days);
+    }
+
+    private CumulativeFlowDTO toDTO(Release release, List<String> statuses, List<CumulativeFlowDayDTO> days) {
+        LocalDate firstDay = release.getStartDate() == null ? null : release.getStartDate().atZone(ZoneOffset.UTC).toLocalDate();
+        LocalDate lastDay = release.getEndDate() == null ? null : release.getEndDate().atZone(ZoneOffset.UTC).toLocalDate();
+        List<CumulativeFlowDayDTO> result = new ArrayList<>(days.size());
+        for (CumulativeFlowDayDTO day : days) {
+            if ((firstDay != null && day.getDate().isBefore(firstDay)) || (lastDay != null && day.getDate().isAfter(lastDay))) {
+                continue;
+            }
+            int[] counts = day.getCounts();
+            if (counts.length < statuses.size()) {
+                counts = Arrays.copyOf(counts, statuses.size());
+            }
+            result.add(new CumulativeFlowDayDTO(day.getDate(), counts));
+        }
+        return new CumulativeFlowDTO(release.getId(), Collections.unmodifiableList(new ArrayList<>(statuses)), result);
+    }
+
+    /**
+     * The state of a sweep at the end of a finished day. Never modified once published.
+     */
+    private static final class FlowCheckpoint {
+
+        private final Instant watermark;
+
+        private final LocalDate nextDay;
+
+        private final List<CumulativeFlowDayDTO> days;
+
+        private final List<String> statuses;
+
+        private final int[] counts;
+
+        private final Map<Long, Integer> currentStatus;
+
+        private FlowCheckpoint(Instant watermark, LocalDate nextDay, List<CumulativeFlowDayDTO> days,
+                               List<String> statuses, int[] counts, Map<Long, Integer> currentStatus) {
+            this.watermark = watermark;
+            this.nextDay = nextDay;
+            this.days = days;
+            this.statuses = statuses;
+            this.counts = counts;
+            this.currentStatus = currentStatus;
+        }
+    }
+
+    /**
+     * A single ordered pass over the transitions, with one primitive counter per status.
+     */
+    private static final class FlowSweep {
+
+        private final List<CumulativeFlowDayDTO> days;
+
+        private final List<String> statuses;
+
+        private final Map<String, Integer> statusIndex = new HashMap<>();
+
+        private final Map<Long, Integer> checkpointStatus;
+
+        private final Map<Long, Integer> currentStatus = new HashMap<>();
+
+        private int[] counts;
+
+        private LocalDate nextDay;
+
+        private FlowSweep() {
+            this.days = new ArrayList<>();
+            this.statuses = new ArrayList<>();
+            this.checkpointStatus = Collections.emptyMap();
+            this.counts = new int[8];
+        }
+
+        private FlowSweep(FlowCheckpoint checkpoint) {
+            this.days = new ArrayList<>(checkpoint.days);
+            this.statuses = new ArrayList<>(checkpoint.statuses);
+            for (int i = 0; i < statuses.size(); i++) {
+                statusIndex.put(statuses.get(i), i);
+            }
+            this.checkpointStatus = checkpoint.currentStatus;
+            this.counts = checkpoint.counts.clone();
+            this.nextDay = checkpoint.nextDay;
+        }
+
+        private void apply(Long issueId, String fromStatus, String toStatus, Instant timeChanged) {
+            if (toStatus == null) {
+                return;
+            }
+            closeDaysBefore(timeChanged.atZone(ZoneOffset.UTC).toLocalDate());
+            Integer previous = currentStatus.get(issueId);
+            if (previous == null) {
+                previous = checkpointStatus.get(issueId);
+            }
+            // an issue enters the flow with its first known transition
+            if (previous != null) {
+                counts[previous]--;
+            }
+            int next = indexOf(toStatus);
+            counts[next]++;
+            currentStatus.put(issueId, next);
+        }
+
+        private void closeDaysBefore(LocalDate day) {
+            if (nextDay == null) {
+                nextDay = day;
+            }
+            while (nextDay.isBefore(day)) {
+                days.add(new CumulativeFlowDayDTO(nextDay, Arrays.copyOf(counts, statuses.size())));
+                nextDay = nextDay.plusDays(1);
+            }
+        }
+
+        private FlowCheckpoint checkpoint(LocalDate today, Instant startOfToday) {
+            if (nextDay != null) {
+                closeDaysBefore(today);
+            }
+            Map<Long, Integer> status = new HashMap<>(checkpointStatus);
+            status.putAll(currentStatus);
+            return new FlowCheckpoint(startOfToday, nextDay, Collections.unmodifiableList(new ArrayList<>(days)),
+                Collections.unmodifiableList(new ArrayList<>(statuses)), counts.clone(), Collections.unmodifiableMap(status));
+        }
+
+        private int indexOf(String status) {
+            Integer index = statusIndex.get(status);
+            if (index == null) {
+                index = statuses.size();
+                statuses.add(status);
+                statusIndex.put(status, index);
+                if (index == counts.length) {
+                    counts = Arrays.copyOf(counts, counts.length * 2);
+                }
+            }
+            return index;
+        }
+    }
+}
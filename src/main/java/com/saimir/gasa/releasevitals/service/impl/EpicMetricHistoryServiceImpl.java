@@ -0,0 +1,113 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.service.EpicMetricHistoryService;
+import com.saimir.gasa.releasevitals.service.dto.EpicMetricHistoryDTO;
+import org.hibernate.envers.AuditReaderFactory;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.envers.query.AuditEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Service Implementation reading the audited revisions of the epic metrics.
+ * <p>
+ * A range of revisions of many epics is read with one Envers query per batch of epics, projected on the
+ * metric columns and the revision time, so no historic entity is built. The rows come ordered by epic
+ * and revision and are folded into one set of arrays per epic.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EpicMetricHistoryServiceImpl implements EpicMetricHistoryService {
+
+    private static final int EPIC_BATCH_SIZE = 500;
+
+    private final Logger log = LoggerFactory.getLogger(EpicMetricHistoryServiceImpl.class);
+
+    private final EntityManager entityManager;
+
+    public EpicMetricHistoryServiceImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Get the revisions of the metrics of the given epics within a time range.
+     *
+     * @param epicIds the ids of the epics
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, inclusive
+     * @return the history of each epic with at least one revision in the range, by epic id
+     */
+    @Override
+    public List<EpicMetricHistoryDTO> getHistory(Collection<Long> epicIds, Instant from, Instant to) {
+        log.debug("Request to get the metric history of Epics : {} from {} to {}", epicIds, from, to);
+        List<Long> ids = new ArrayList<>(new TreeSet<>(epicIds));
+        List<EpicMetricHistoryDTO> histories = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += EPIC_BATCH_SIZE) {
+            fold(findRevisions(ids.subList(i, Math.min(i + EPIC_BATCH_SIZE, ids.size())), from, to), histories);
+        }
+        return histories;
+    }
+
+    /**
+     * Each row is {epicId, revisionTimestamp, totalIssueCount, totalStoryPoints, storyPointsCompleted,
+     * remainingStoryPoints, percentageCompleted}, ordered by epic and revision.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object[]> findRevisions(List<Long> epicIds, Instant from, Instant to) {
+        return AuditReaderFactory.get(entityManager).createQuery()
+            .forRevisionsOfEntity(Epic.class, false, false)
+            .addProjection(AuditEntity.id())
+            .addProjection(AuditEntity.revisionProperty("timestamp"))
+            .addProjection(AuditEntity.property("totalIssueCount"))
+            .addProjection(AuditEntity.property("totalStoryPoints"))
+            .addProjection(AuditEntity.property("storyPointsCompleted"))
+            .addProjection(AuditEntity.property("remainingStoryPoints"))
+            .addProjection(AuditEntity.property("percentageCompleted"))
+            .add(AuditEntity.id().in(epicIds))
+            .add(AuditEntity.revisionProperty("timestamp").between(from.toEpochMilli(), to.toEpochMilli()))
+            .add(AuditEntity.revisionType().ne(RevisionType.DEL))
+            .addOrder(AuditEntity.id().asc())
+            .addOrder(AuditEntity.revisionNumber().asc())
+            .getResultList();
+    }
+
+    private static void fold(List<Object[]> rows, List<EpicMetricHistoryDTO> histories) {
+        int start = 0;
+        while (start < rows.size()) {
+            Object epicId = rows.get(start)[0];
+            int end = start + 1;
+            while (end < rows.size() && epicId.equals(rows.get(end)[0])) {
+                end++;
+            }
+            int size = end - start;
+            long[] revisionTimes = new long[size];
+            int[] totalIssueCount = new int[size];
+            double[] totalStoryPoints = new double[size];
+            double[] storyPointsCompleted = new double[size];
+            double[] remainingStoryPoints = new double[size];
+            Double[] percentageCompleted = new Double[size];
+            for (int i = 0; i < size; i++) {
+                Object[] row = rows.get(start + i);
+                revisionTimes[i] = (Long) row[1];
+                totalIssueCount[i] = row[2] == null ? 0 : (Integer) row[2];
+                totalStoryPoints[i] = row[3] == null ? 0 : (Double) row[3];
+                storyPointsCompleted[i] = row[4] == null ? 0 : (Double) row[4];
+                remainingStoryPoints[i] = row[5] == null ? 0 : (Double) row[5];
+                percentageCompleted[i] = (Double) row[6];
+            }
+            histories.add(new EpicMetricHistoryDTO((Long) epicId, revisionTimes, totalIssueCount, totalStoryPoints,
+                storyPointsCompleted, remainingStoryPoints, percentageCompleted));
+            start = end;
+        }
+    }
+}
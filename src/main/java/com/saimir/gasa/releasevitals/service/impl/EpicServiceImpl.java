@@ -1,9 +1,18 @@
 package com.saimir.gasa.releasevitals.service.impl;
 
+import com.saimir.gasa.releasevitals.service.AgingWipService;
+import com.saimir.gasa.releasevitals.service.BurndownAnomalyService;
 import com.saimir.gasa.releasevitals.service.EpicService;
+import com.saimir.gasa.releasevitals.service.EstimateHistogramService;
+import com.saimir.gasa.releasevitals.service.IssueFactStore;
+import com.saimir.gasa.releasevitals.service.IssueSnapshotService;
+import com.saimir.gasa.releasevitals.service.ReleaseHealthService;
 import com.saimir.gasa.releasevitals.domain.Epic;
 import com.saimir.gasa.releasevitals.repository.EpicRepository;
 import com.saimir.gasa.releasevitals.repository.search.EpicSearchRepository;
+import com.saimir.gasa.releasevitals.service.dto.EpicListDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueReferenceDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReferenceDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +22,9 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.elasticsearch.index.query.QueryBuilders.*;
@@ -30,9 +42,30 @@ public class EpicServiceImpl implements EpicService {
 
     private final EpicSearchRepository epicSearchRepository;
 
-    public EpicServiceImpl(EpicRepository epicRepository, EpicSearchRepository epicSearchRepository) {
+    private final IssueFactStore issueFactStore;
+
+    private final IssueSnapshotService issueSnapshotService;
+
+    private final AgingWipService agingWipService;
+
+    private final ReleaseHealthService releaseHealthService;
+
+    private final BurndownAnomalyService burndownAnomalyService;
+
+    private final EstimateHistogramService estimateHistogramService;
+
+    public EpicServiceImpl(EpicRepository epicRepository, EpicSearchRepository epicSearchRepository, IssueFactStore issueFactStore,
+                           IssueSnapshotService issueSnapshotService, AgingWipService agingWipService,
+                           ReleaseHealthService releaseHealthService, BurndownAnomalyService burndownAnomalyService,
+                           EstimateHistogramService estimateHistogramService) {
         this.epicRepository = epicRepository;
         this.epicSearchRepository = epicSearchRepository;
+        this.issueFactStore = issueFactStore;
+        this.issueSnapshotService = issueSnapshotService;
+        this.agingWipService = agingWipService;
+        this.releaseHealthService = releaseHealthService;
+        this.burndownAnomalyService = burndownAnomalyService;
+        this.estimateHistogramService = estimateHistogramService;
     }
 
     /**
@@ -44,8 +77,11 @@ public class EpicServiceImpl implements EpicService {
     @Override
     public Epic save(Epic epic) {
         log.debug("Request to save Epic : {}", epic);
+        // the releases of the projects the epic leaves, then of the ones it joins
+        releaseHealthService.markDirtyByEpic(epic.getId());
         Epic result = epicRepository.save(epic);
         epicSearchRepository.save(result);
+        releaseHealthService.markDirtyByEpic(result.getId());
         return result;
     }
 
@@ -63,12 +99,44 @@ public class EpicServiceImpl implements EpicService {
     }
 
     /**
-     * Get all the Epic with eager load of many-to-many relationships.
+     * Get all the epics as list rows, read with a constructor expression so no entity is loaded.
      *
-     * @return the list of entities
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EpicListDTO> findAllProjected(Pageable pageable) {
+        log.debug("Request to get all Epics as list rows");
+        return epicRepository.findAllProjected(pageable);
+    }
+
+    /**
+     * Get all the epics as list rows, with references to their projects and unestimated issues. The page is
+     * limited by the database and the references of the page are read with one query per relationship.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
      */
-    public Page<Epic> findAllWithEagerRelationships(@PageableDefault(size = 99)Pageable pageable) {
-        return epicRepository.findAllWithEagerRelationships(pageable);
+    @Override
+    @Transactional(readOnly = true)
+    public Page<EpicListDTO> findAllProjectedWithEagerRelationships(Pageable pageable) {
+        log.debug("Request to get all Epics as list rows with eager relationships");
+        Page<EpicListDTO> page = epicRepository.findAllProjected(pageable);
+        if (!page.hasContent()) {
+            return page;
+        }
+        Map<Long, EpicListDTO> epicsById = new HashMap<>();
+        for (EpicListDTO epic : page) {
+            epicsById.put(epic.getId(), epic);
+        }
+        for (Object[] row : epicRepository.findProjectReferencesByEpicIdIn(epicsById.keySet())) {
+            epicsById.get(row[0]).getProjects().add(new ReferenceDTO((Long) row[1], (String) row[2]));
+        }
+        for (Object[] row : epicRepository.findUnestimatedIssueReferencesByEpicIdIn(epicsById.keySet())) {
+            epicsById.get(row[0]).getUnestimatedIssues().add(new IssueReferenceDTO((Long) row[1], (String) row[2], (String) row[3]));
+        }
+        return page;
     }
 
 
@@ -93,8 +161,14 @@ public class EpicServiceImpl implements EpicService {
     @Override
     public void delete(Long id) {
         log.debug("Request to delete Epic : {}", id);
+        releaseHealthService.markDirtyByEpic(id);
         epicRepository.deleteById(id);
         epicSearchRepository.deleteById(id);
+        issueFactStore.remove(id);
+        issueSnapshotService.close(id, Instant.now());
+        agingWipService.remove(id);
+        burndownAnomalyService.remove(id);
+        estimateHistogramService.remove(id);
     }
 
     /**
@@ -0,0 +1,178 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.EstimateHistogram;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.EstimateHistogramRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.service.EstimateHistogramService;
+import com.saimir.gasa.releasevitals.service.dto.EstimateHistogramDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service Implementation for managing the distribution of the story point estimates of the epics.
+ * <p>
+ * Every Jira refresh of an epic counts its estimates into fixed buckets, one row of counters per project
+ * key, in the refresh transaction. The histograms of an epic or a project are the sum of its rows, so
+ * no issue is read to answer a request.
+ */
+@Service
+@Transactional
+public class EstimateHistogramServiceImpl implements EstimateHistogramService {
+
+    private final Logger log = LoggerFactory.getLogger(EstimateHistogramServiceImpl.class);
+
+    private final EstimateHistogramRepository estimateHistogramRepository;
+
+    private final EpicRepository epicRepository;
+
+    private final ProjectRepository projectRepository;
+
+    public EstimateHistogramServiceImpl(EstimateHistogramRepository estimateHistogramRepository, EpicRepository epicRepository,
+                                        ProjectRepository projectRepository) {
+        this.estimateHistogramRepository = estimateHistogramRepository;
+        this.epicRepository = epicRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * Record the histograms within the refresh transaction.
+     *
+     * @param event the refreshed epic
+     */
+    @EventListener
+    public void onEpicRefreshed(EpicRefreshedEvent event) {
+        record(event.getEpicId(), event.getIssueFacts());
+    }
+
+    /**
+     * Replace the histograms of an epic by the estimates read from Jira.
+     *
+     * @param epicId the id of the epic
+     * @param issueFacts the facts read from Jira
+     */
+    @Override
+    public void record(Long epicId, List<IssueFact> issueFacts) {
+        log.debug("Request to record the estimate histograms of Epic : {}", epicId);
+        Map<String, Counters> counters = new HashMap<>();
+        for (IssueFact issueFact : EpicMetricsUtil.oneFactPerIssue(issueFacts)) {
+            counters.computeIfAbsent(projectKey(issueFact.getProjectKey()), projectKey -> new Counters())
+                .add(issueFact.getEstimate());
+        }
+
+        List<EstimateHistogram> stale = new ArrayList<>();
+        List<EstimateHistogram> changed = new ArrayList<>();
+        for (EstimateHistogram histogram : estimateHistogramRepository.findAllByEpicId(epicId)) {
+            Counters projectCounters = counters.remove(histogram.getProjectKey());
+            if (projectCounters == null) {
+                stale.add(histogram);
+            } else {
+                changed.add(projectCounters.copyTo(histogram));
+            }
+        }
+        estimateHistogramRepository.deleteAll(stale);
+        counters.forEach((projectKey, projectCounters) ->
+            changed.add(projectCounters.copyTo(new EstimateHistogram().epicId(epicId).projectKey(projectKey))));
+        estimateHistogramRepository.saveAll(changed);
+    }
+
+    /**
+     * Remove all the histograms of an epic.
+     *
+     * @param epicId the id of the epic
+     */
+    @Override
+    public void remove(Long epicId) {
+        log.debug("Request to remove the estimate histograms of Epic : {}", epicId);
+        estimateHistogramRepository.deleteAllByEpicId(epicId);
+    }
+
+    /**
+     * Get the distribution of the estimates of an epic.
+     *
+     * @param epicId the id of the epic
+     * @param projectKey the key of the project to restrict to, or null for all of them
+     * @return the histogram, or empty if the epic does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EstimateHistogramDTO> getHistogramOfEpic(Long epicId, String projectKey) {
+        log.debug("Request to get the estimate histogram of Epic : {}", epicId);
+        if (!epicRepository.existsById(epicId)) {
+            return Optional.empty();
+        }
+        return Optional.of(merge(projectKey == null
+            ? estimateHistogramRepository.findAllByEpicId(epicId)
+            : estimateHistogramRepository.findAllByEpicIdAndProjectKey(epicId, projectKey(projectKey))));
+    }
+
+    /**
+     * Get the distribution of the estimates of a project in the epics linked to it.
+     *
+     * @param projectId the id of the project
+     * @return the histogram, or empty if the project does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<EstimateHistogramDTO> getHistogramOfProject(Long projectId) {
+        log.debug("Request to get the estimate histogram of Project : {}", projectId);
+        return projectRepository.findById(projectId)
+            .map(project -> merge(estimateHistogramRepository.findAllByProject(projectId, projectKey(project.getKey()))));
+    }
+
+    private static EstimateHistogramDTO merge(List<EstimateHistogram> histograms) {
+        Counters total = new Counters();
+        for (EstimateHistogram histogram : histograms) {
+            total.issueCount += histogram.getIssueCount();
+            total.unestimatedCount += histogram.getUnestimatedCount();
+            int[] bucketCounts = histogram.getBucketCounts();
+            for (int i = 0; i < bucketCounts.length; i++) {
+                total.bucketCounts[i] += bucketCounts[i];
+            }
+        }
+        return new EstimateHistogramDTO(EstimateHistogram.UPPER_BOUNDS.clone(), total.bucketCounts,
+            total.issueCount, total.unestimatedCount);
+    }
+
+    private static String projectKey(String key) {
+        return key == null ? null : key.toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * The counters of one histogram while they are filled or merged.
+     */
+    private static final class Counters {
+
+        private final int[] bucketCounts = new int[EstimateHistogram.BUCKET_COUNT];
+
+        private int issueCount;
+
+        private int unestimatedCount;
+
+        private void add(Double estimate) {
+            issueCount++;
+            if (estimate == null) {
+                unestimatedCount++;
+            } else {
+                bucketCounts[EstimateHistogram.bucketOf(estimate)]++;
+            }
+        }
+
+        private EstimateHistogram copyTo(EstimateHistogram histogram) {
+            return histogram.issueCount(issueCount).unestimatedCount(unestimatedCount).bucketCounts(bucketCounts);
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.config.ApplicationProperties;
+import com.saimir.gasa.releasevitals.domain.BackfillCheckpoint;
+import com.saimir.gasa.releasevitals.repository.BackfillCheckpointRepository;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.IssueRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.service.HistoryBackfillService;
+import com.saimir.gasa.releasevitals.service.IssueSnapshotService;
+import com.saimir.gasa.releasevitals.service.StatusRollupService;
+import com.saimir.gasa.releasevitals.service.TimeInStatusService;
+import com.saimir.gasa.releasevitals.service.dto.HistoryBackfillDTO;
+import com.saimir.gasa.releasevitals.service.util.WriteThrottle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntSupplier;
+
+/**
+ * Service Implementation recomputing the derived history: the time in status and the status rollup of
+ * every project, split by release, and the scope events of every epic.
+ * <p>
+ * The work runs on a ForkJoinPool bounded by application.backfill.parallelism. Each unit commits its
+ * results chunk by chunk, the last chunk together with its checkpoint, so a resumed backfill skips exactly
+ * the units fully written; the writes of a unit are idempotent, so one interrupted midway is redone. The
+ * rows written by all the units are throttled to application.backfill.writes-per-second, waiting between
+ * the commits so that no transaction stays open meanwhile.
+ */
+@Service
+public class HistoryBackfillServiceImpl implements HistoryBackfillService {
+
+    private static final String PROJECT_UNIT = "project:";
+
+    private static final String EPIC_UNIT = "epic:";
+
+    private final Logger log = LoggerFactory.getLogger(HistoryBackfillServiceImpl.class);
+
+    private final ProjectRepository projectRepository;
+
+    private final EpicRepository epicRepository;
+
+    private final IssueRepository issueRepository;
+
+    private final BackfillCheckpointRepository backfillCheckpointRepository;
+
+    private final TimeInStatusService timeInStatusService;
+
+    private final StatusRollupService statusRollupService;
+
+    private final IssueSnapshotService issueSnapshotService;
+
+    private final ApplicationProperties.Backfill properties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<Run> lastRun = new AtomicReference<>();
+
+    public HistoryBackfillServiceImpl(ProjectRepository projectRepository, EpicRepository epicRepository,
+                                      IssueRepository issueRepository, BackfillCheckpointRepository backfillCheckpointRepository,
+                                      TimeInStatusService timeInStatusService, StatusRollupService statusRollupService,
+                                      IssueSnapshotService issueSnapshotService, ApplicationProperties applicationProperties,
+                                      PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.epicRepository = epicRepository;
+        this.issueRepository = issueRepository;
+        this.backfillCheckpointRepository = backfillCheckpointRepository;
+        this.timeInStatusService = timeInStatusService;
+        this.statusRollupService = statusRollupService;
+        this.issueSnapshotService = issueSnapshotService;
+        this.properties = applicationProperties.getBackfill();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Start the backfill in the background. Does nothing if a backfill is already running.
+     *
+     * @param resume true to skip the units checkpointed by the previous backfill, false to start over
+     * @return the progress of the backfill
+     */
+    @Override
+    public HistoryBackfillDTO start(boolean resume) {
+        Run previous = lastRun.get();
+        if (previous != null && !previous.isFinished()) {
+            return previous.toDTO();
+        }
+        Run run = new Run(resume, new WriteThrottle(properties.getWritesPerSecond()));
+        if (!lastRun.compareAndSet(previous, run)) {
+            return lastRun.get().toDTO();
+        }
+        RecursiveAction root;
+        try {
+            root = transactionTemplate.execute(status -> plan(run));
+        } catch (RuntimeException e) {
+            run.finish();
+            throw e;
+        }
+        log.info("Starting the history backfill of {} units, {} already done", run.unitCount, run.skippedUnitCount);
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, properties.getParallelism()));
+        pool.execute(root);
+        pool.shutdown();
+        return run.toDTO();
+    }
+
+    /**
+     * @return the progress of the last backfill, if any
+     */
+    @Override
+    public Optional<HistoryBackfillDTO> getProgress() {
+        return Optional.ofNullable(lastRun.get()).map(Run::toDTO);
+    }
+
+    private RecursiveAction plan(Run run) {
+        if (!run.resumed) {
+            backfillCheckpointRepository.deleteAllCheckpoints();
+        }
+        Set<String> done = new HashSet<>(backfillCheckpointRepository.findAllUnitKeys());
+        Map<Long, List<UnitTask>> projectsByRelease = new LinkedHashMap<>();
+        for (Object[] row : projectRepository.findAllIdsWithReleaseId()) {
+            Long projectId = (Long) row[0];
+            String unitKey = PROJECT_UNIT + projectId;
+            UnitTask unit = run.unit(done, unitKey, () -> backfillProject(run, unitKey, projectId));
+            if (unit != null) {
+                projectsByRelease.computeIfAbsent((Long) row[1], releaseId -> new ArrayList<>()).add(unit);
+            }
+        }
+        List<RecursiveAction> tasks = new ArrayList<>();
+        for (Map.Entry<Long, List<UnitTask>> release : projectsByRelease.entrySet()) {
+            tasks.add(new ReleaseTask(release.getKey(), release.getValue()));
+        }
+        for (Long epicId : epicRepository.findAllIds()) {
+            String unitKey = EPIC_UNIT + epicId;
+            UnitTask unit = run.unit(done, unitKey, () -> commit(run, unitKey, 0, () -> issueSnapshotService.rebuildScopeEvents(epicId)));
+            if (unit != null) {
+                tasks.add(unit);
+            }
+        }
+        return new RecursiveAction() {
+            @Override
+            protected void compute() {
+                try {
+                    invokeAll(tasks);
+                } finally {
+                    run.finish();
+                    log.info("Finished the history backfill: {}", run.toDTO());
+                }
+            }
+        };
+    }
+
+    private int backfillProject(Run run, String unitKey, Long projectId) {
+        int rowCount = 0;
+        List<Long> issueIds = transactionTemplate.execute(status -> issueRepository.findIdsByProjectId(projectId));
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        for (int i = 0; i < issueIds.size(); i += chunkSize) {
+            List<Long> chunk = issueIds.subList(i, Math.min(i + chunkSize, issueIds.size()));
+            rowCount += commit(run, null, 0, () -> timeInStatusService.refresh(chunk));
+        }
+        return rowCount + commit(run, unitKey, rowCount, () -> statusRollupService.rebuild(projectId));
+    }
+
+    /**
+     * Write a chunk of a unit in its own transaction, then wait for the throttle once it is committed.
+     *
+     * @param run the backfill
+     * @param unitKey the unit to checkpoint with the chunk if it is its last one, or null
+     * @param previousRowCount the rows written by the previous chunks of the unit
+     * @param chunk the writes, returning the number of rows written
+     * @return the number of rows written by the chunk
+     */
+    private int commit(Run run, String unitKey, int previousRowCount, IntSupplier chunk) {
+        int written = transactionTemplate.execute(status -> {
+            int rowCount = chunk.getAsInt();
+            if (unitKey != null) {
+                backfillCheckpointRepository.save(new BackfillCheckpoint()
+                    .unitKey(unitKey)
+                    .completedAt(Instant.now())
+                    .rowCount(previousRowCount + rowCount));
+            }
+            return rowCount;
+        });
+        run.throttle.acquire(written);
+        return written;
+    }
+
+    /**
+     * The projects of one release, backfilled in parallel.
+     */
+    private final class ReleaseTask extends RecursiveAction {
+
+        private final Long releaseId;
+
+        private final List<UnitTask> projects;
+
+        private ReleaseTask(Long releaseId, List<UnitTask> projects) {
+            this.releaseId = releaseId;
+            this.projects = projects;
+        }
+
+        @Override
+        protected void compute() {
+            log.debug("Backfilling the {} projects of Release : {}", projects.size(), releaseId);
+            invokeAll(projects);
+        }
+    }
+
+    /**
+     * A project or an epic, checkpointed with its last chunk.
+     */
+    private final class UnitTask extends RecursiveAction {
+
+        private final Run run;
+
+        private final String unitKey;
+
+        private final IntSupplier work;
+
+        private UnitTask(Run run, String unitKey, IntSupplier work) {
+            this.run = run;
+            this.unitKey = unitKey;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            try {
+                int rowCount = work.getAsInt();
+                run.rowCount.addAndGet(rowCount);
+                run.completedUnitCount.incrementAndGet();
+            } catch (RuntimeException e) {
+                log.warn("History backfill failed for unit {}: {}", unitKey, e.getMessage());
+                run.failedUnitCount.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * The progress of a backfill, updated by the units as they finish.
+     */
+    private final class Run {
+
+        private final Instant startedAt = Instant.now();
+
+        private final boolean resumed;
+
+        private final WriteThrottle throttle;
+
+        private final AtomicInteger completedUnitCount = new AtomicInteger();
+
+        private final AtomicInteger failedUnitCount = new AtomicInteger();
+
+        private final AtomicLong rowCount = new AtomicLong();
+
+        private volatile int unitCount;
+
+        private volatile int skippedUnitCount;
+
+        private volatile Instant finishedAt;
+
+        private Run(boolean resumed, WriteThrottle throttle) {
+            this.resumed = resumed;
+            this.throttle = throttle;
+        }
+
+        private UnitTask unit(Set<String> done, String unitKey, IntSupplier work) {
+            unitCount++;
+            if (done.contains(unitKey)) {
+                skippedUnitCount++;
+                return null;
+            }
+            return new UnitTask(this, unitKey, work);
+        }
+
+        private boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        private void finish() {
+            finishedAt = Instant.now();
+        }
+
+        private HistoryBackfillDTO toDTO() {
+            return new HistoryBackfillDTO(startedAt, finishedAt, resumed, unitCount, skippedUnitCount,
+                completedUnitCount.get(), failedUnitCount.get(), rowCount.get());
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package com.saimir.gasa.releasevitals.service.impl;
 
+import com.saimir.gasa.releasevitals.service.AsOfService;
+import com.saimir.gasa.releasevitals.service.CumulativeFlowService;
 import com.saimir.gasa.releasevitals.service.IssueService;
+import com.saimir.gasa.releasevitals.service.StatusRollupService;
+import com.saimir.gasa.releasevitals.service.TimeInStatusService;
 import com.saimir.gasa.releasevitals.domain.Issue;
 import com.saimir.gasa.releasevitals.repository.IssueRepository;
+import com.saimir.gasa.releasevitals.repository.RowCountEstimateRepository;
 import com.saimir.gasa.releasevitals.repository.search.IssueSearchRepository;
+import com.saimir.gasa.releasevitals.service.dto.IssueListDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.elasticsearch.index.query.QueryBuilders.*;
@@ -29,9 +38,27 @@ public class IssueServiceImpl implements IssueService {
 
     private final IssueSearchRepository issueSearchRepository;
 
-    public IssueServiceImpl(IssueRepository issueRepository, IssueSearchRepository issueSearchRepository) {
+    private final StatusRollupService statusRollupService;
+
+    private final TimeInStatusService timeInStatusService;
+
+    private final AsOfService asOfService;
+
+    private final CumulativeFlowService cumulativeFlowService;
+
+    private final RowCountEstimateRepository rowCountEstimateRepository;
+
+    public IssueServiceImpl(IssueRepository issueRepository, IssueSearchRepository issueSearchRepository,
+                            StatusRollupService statusRollupService, TimeInStatusService timeInStatusService,
+                            AsOfService asOfService, CumulativeFlowService cumulativeFlowService,
+                            RowCountEstimateRepository rowCountEstimateRepository) {
         this.issueRepository = issueRepository;
         this.issueSearchRepository = issueSearchRepository;
+        this.statusRollupService = statusRollupService;
+        this.timeInStatusService = timeInStatusService;
+        this.asOfService = asOfService;
+        this.cumulativeFlowService = cumulativeFlowService;
+        this.rowCountEstimateRepository = rowCountEstimateRepository;
     }
 
     /**
@@ -43,22 +70,84 @@ public class IssueServiceImpl implements IssueService {
     @Override
     public Issue save(Issue issue) {
         log.debug("Request to save Issue : {}", issue);
-        Issue result = issueRepository.save(issue);
+        // moving an issue to another project moves its transitions in the status rollup and time in status
+        Issue result;
+        if (issue.getId() == null) {
+            result = issueRepository.save(issue);
+        } else {
+            result = statusRollupService.track(Collections.singleton(issue.getId()), () -> issueRepository.save(issue));
+            timeInStatusService.refresh(Collections.singleton(issue.getId()));
+            asOfService.evict(null);
+            cumulativeFlowService.evict(null);
+        }
         issueSearchRepository.save(result);
         return result;
     }
 
     /**
-     * Get all the issues.
+     * Get all the issues as list rows, read with a constructor expression so no entity is loaded.
      *
      * @param pageable the pagination information
-     * @return the list of entities
+     * @return the list of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<IssueListDTO> findAllProjected(Pageable pageable) {
+        log.debug("Request to get all Issues as list rows");
+        return issueRepository.findAllProjected(pageable);
+    }
+
+    /**
+     * Get the issues of a project as list rows.
+     *
+     * @param projectId the id of the project
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<IssueListDTO> findAllByProject(Long projectId, Pageable pageable) {
+        log.debug("Request to get the Issues of Project : {}", projectId);
+        return issueRepository.findAllProjectedByProjectId(projectId, pageable);
+    }
+
+    /**
+     * Get the issues of a sprint as list rows.
+     *
+     * @param sprintId the id of the sprint
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<IssueListDTO> findAllBySprint(Long sprintId, Pageable pageable) {
+        log.debug("Request to get the Issues of Sprint : {}", sprintId);
+        return issueRepository.findAllProjectedBySprintId(sprintId, pageable);
+    }
+
+    /**
+     * Get the issues following an id, in id order, without counting them.
+     *
+     * @param after the id to start after, exclusive
+     * @param size the maximum number of issues
+     * @return the slice of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<IssueListDTO> findAllAfter(Long after, int size) {
+        log.debug("Request to get Issues after : {}", after);
+        return issueRepository.findAllProjectedAfter(after, PageRequest.of(0, size));
+    }
+
+    /**
+     * Estimate the number of issues.
+     *
+     * @return the estimated number of entities
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<Issue> findAll(Pageable pageable) {
-        log.debug("Request to get all Issues");
-        return issueRepository.findAll(pageable);
+    public long estimateCount() {
+        return rowCountEstimateRepository.estimateCount(Issue.class);
     }
 
 
@@ -72,7 +161,7 @@ public class IssueServiceImpl implements IssueService {
     @Transactional(readOnly = true)
     public Optional<Issue> findOne(Long id) {
         log.debug("Request to get Issue : {}", id);
-        return issueRepository.findById(id);
+        return issueRepository.findOneWithDetailsById(id);
     }
 
     /**
@@ -83,7 +172,13 @@ public class IssueServiceImpl implements IssueService {
     @Override
     public void delete(Long id) {
         log.debug("Request to delete Issue : {}", id);
-        issueRepository.deleteById(id);
+        statusRollupService.track(Collections.singleton(id), () -> {
+            issueRepository.deleteById(id);
+            return null;
+        });
+        timeInStatusService.refresh(Collections.singleton(id));
+        asOfService.evict(null);
+        cumulativeFlowService.evict(null);
         issueSearchRepository.deleteById(id);
     }
 
@@ -0,0 +1,309 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.IssueSnapshot;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.ScopeEvent;
+import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.domain.enumeration.ScopeEventType;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.IssueSnapshotRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.repository.ScopeEventRepository;
+import com.saimir.gasa.releasevitals.service.IssueSnapshotService;
+import com.saimir.gasa.releasevitals.service.dto.ChangeDigestSummaryDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueChangeDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsUtil;
+import com.saimir.gasa.releasevitals.service.util.IssueSnapshotDiff;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service Implementation for managing the issue snapshots.
+ * <p>
+ * Each Jira refresh of an epic is merged with its current snapshots, both sorted by key: only the
+ * issues that changed get a new row. A digest streams the state of the release at the given time and
+ * its current state in the same key order and merge-joins them, so memory does not grow with the
+ * release.
+ * <p>
+ * The same merge appends the scope events of the epic: issues added, removed, re-estimated,
+ * resolved or reopened since the previous refresh.
+ */
+@Service
+@Transactional
+public class IssueSnapshotServiceImpl implements IssueSnapshotService {
+
+    private static final Comparator<IssueSnapshot> KEY_ORDER = (snapshot, other) -> IssueSnapshotDiff.compareKeys(
+        snapshot.getKeyHash(), snapshot.getIssueKey(), snapshot.getFixVersion(),
+        other.getKeyHash(), other.getIssueKey(), other.getFixVersion());
+
+    private final Logger log = LoggerFactory.getLogger(IssueSnapshotServiceImpl.class);
+
+    private final IssueSnapshotRepository issueSnapshotRepository;
+
+    private final EpicRepository epicRepository;
+
+    private final ReleaseRepository releaseRepository;
+
+    private final ScopeEventRepository scopeEventRepository;
+
+    public IssueSnapshotServiceImpl(IssueSnapshotRepository issueSnapshotRepository, EpicRepository epicRepository,
+                                    ReleaseRepository releaseRepository, ScopeEventRepository scopeEventRepository) {
+        this.issueSnapshotRepository = issueSnapshotRepository;
+        this.epicRepository = epicRepository;
+        this.releaseRepository = releaseRepository;
+        this.scopeEventRepository = scopeEventRepository;
+    }
+
+    /**
+     * Record the refreshed issues within the refresh transaction.
+     *
+     * @param event the refreshed epic
+     */
+    @EventListener
+    public void onEpicRefreshed(EpicRefreshedEvent event) {
+        record(event.getEpicId(), event.getIssueFacts(), event.getRefreshedAt());
+    }
+
+    /**
+     * Record the issues read from Jira for an epic, closing the snapshots that changed or disappeared.
+     *
+     * @param epicId the id of the epic
+     * @param issueFacts the facts read from Jira
+     * @param refreshedAt the time of the refresh
+     */
+    @Override
+    public void record(Long epicId, List<IssueFact> issueFacts, Instant refreshedAt) {
+        log.debug("Request to record {} issue snapshots for Epic : {}", issueFacts.size(), epicId);
+        Optional<Epic> epic = epicRepository.findOneWithEagerRelationships(epicId);
+        if (!epic.isPresent()) {
+            return;
+        }
+        Map<String, Long> releaseIds = releaseIdsByProjectVersion(epic.get());
+        List<IssueSnapshot> refreshed = new ArrayList<>(issueFacts.size());
+        for (IssueFact issueFact : issueFacts) {
+            if (issueFact.getIssueKey() != null) {
+                refreshed.add(toSnapshot(epicId, issueFact, releaseIds, refreshedAt));
+            }
+        }
+        refreshed.sort(KEY_ORDER);
+        List<IssueSnapshot> current = issueSnapshotRepository.findAllByEpicIdAndValidToIsNull(epicId);
+        current.sort(KEY_ORDER);
+
+        List<IssueSnapshot> changed = new ArrayList<>();
+        List<ScopeEvent> scopeEvents = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < current.size() || j < refreshed.size()) {
+            IssueSnapshot before = i < current.size() ? current.get(i) : null;
+            IssueSnapshot after = j < refreshed.size() ? refreshed.get(j) : null;
+            // the same issue and fix version read twice: keep the last one
+            if (after != null && j + 1 < refreshed.size() && KEY_ORDER.compare(after, refreshed.get(j + 1)) == 0) {
+                j++;
+                continue;
+            }
+            int order = before == null ? 1 : after == null ? -1 : KEY_ORDER.compare(before, after);
+            if (order < 0) {
+                changed.add(before.validTo(refreshedAt));
+                addScopeEvents(scopeEvents, before, null, refreshedAt);
+                i++;
+            } else if (order > 0) {
+                changed.add(after);
+                addScopeEvents(scopeEvents, null, after, refreshedAt);
+                j++;
+            } else {
+                if (!sameState(before, after)) {
+                    changed.add(before.validTo(refreshedAt));
+                    changed.add(after);
+                    addScopeEvents(scopeEvents, before, after, refreshedAt);
+                }
+                i++;
+                j++;
+            }
+        }
+        // both are written in JDBC batches
+        issueSnapshotRepository.saveAll(changed);
+        scopeEventRepository.saveAll(scopeEvents);
+    }
+
+    /**
+     * Close all the current snapshots of an epic.
+     *
+     * @param epicId the id of the epic
+     * @param closedAt the time the snapshots stop being current
+     */
+    @Override
+    public void close(Long epicId, Instant closedAt) {
+        log.debug("Request to close the issue snapshots of Epic : {}", epicId);
+        issueSnapshotRepository.closeAllByEpicId(epicId, closedAt);
+    }
+
+    /**
+     * Rebuild the scope events of an epic from the history of its snapshots. The snapshot closed and the
+     * one opened by the same refresh are compared as the live refresh did. The log stays append-only: only
+     * the events missing from it, by issue, fix version, type and time, are written.
+     *
+     * @param epicId the id of the epic
+     * @return the number of scope events appended
+     */
+    @Override
+    public int rebuildScopeEvents(Long epicId) {
+        log.debug("Request to rebuild the scope events of Epic : {}", epicId);
+        Map<String, IssueSnapshot[]> refreshes = new HashMap<>();
+        for (IssueSnapshot snapshot : issueSnapshotRepository.findAllByEpicId(epicId)) {
+            refreshes.computeIfAbsent(refreshKey(snapshot, snapshot.getValidFrom()), key -> new IssueSnapshot[2])[1] = snapshot;
+            if (snapshot.getValidTo() != null) {
+                refreshes.computeIfAbsent(refreshKey(snapshot, snapshot.getValidTo()), key -> new IssueSnapshot[2])[0] = snapshot;
+            }
+        }
+        List<ScopeEvent> scopeEvents = new ArrayList<>();
+        for (IssueSnapshot[] change : refreshes.values()) {
+            IssueSnapshot before = change[0];
+            IssueSnapshot after = change[1];
+            addScopeEvents(scopeEvents, before, after, before != null ? before.getValidTo() : after.getValidFrom());
+        }
+        Set<List<Object>> recorded = new HashSet<>();
+        for (ScopeEvent event : scopeEventRepository.findAllByEpicId(epicId)) {
+            recorded.add(eventKey(event));
+        }
+        List<ScopeEvent> missing = new ArrayList<>();
+        for (ScopeEvent event : scopeEvents) {
+            if (recorded.add(eventKey(event))) {
+                missing.add(event);
+            }
+        }
+        scopeEventRepository.saveAll(missing);
+        return missing.size();
+    }
+
+    private static List<Object> eventKey(ScopeEvent event) {
+        return Arrays.asList(event.getIssueKey(), event.getFixVersion(), event.getEventType(), event.getOccurredAt());
+    }
+
+    /**
+     * Diff the issues of a release as they were at the given time with their current state.
+     *
+     * @param releaseId the id of the release
+     * @param since the earlier instant
+     * @param changes called once per changed issue and fix version, while the snapshots are read
+     * @return the totals of the changes, or empty if the release does not exist
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ChangeDigestSummaryDTO> digest(Long releaseId, Instant since, Consumer<IssueChangeDTO> changes) {
+        log.debug("Request to get the changes of Release : {} since {}", releaseId, since);
+        if (!releaseRepository.existsById(releaseId)) {
+            return Optional.empty();
+        }
+        try (Stream<Object[]> before = issueSnapshotRepository.streamByReleaseAsOf(releaseId, since);
+             Stream<Object[]> after = issueSnapshotRepository.streamCurrentByRelease(releaseId)) {
+            return Optional.of(IssueSnapshotDiff.diff(before.iterator(), after.iterator(), changes));
+        }
+    }
+
+    private static Map<String, Long> releaseIdsByProjectVersion(Epic epic) {
+        Map<String, Long> releaseIds = new HashMap<>();
+        for (Project project : epic.getProjects()) {
+            if (project.getRelease() == null || project.getKey() == null) {
+                continue;
+            }
+            for (Version version : project.getVersions()) {
+                releaseIds.put(projectVersion(project.getKey(), version.getName()), project.getRelease().getId());
+            }
+        }
+        return releaseIds;
+    }
+
+    private static String refreshKey(IssueSnapshot snapshot, Instant refreshedAt) {
+        return snapshot.getIssueKey() + '\u0000' + (snapshot.getFixVersion() == null ? "" : snapshot.getFixVersion()) +
+            '\u0000' + refreshedAt.toEpochMilli();
+    }
+
+    private static String projectVersion(String projectKey, String version) {
+        return projectKey.toUpperCase(Locale.ROOT) + '\u0000' + (version == null ? "" : version.toLowerCase(Locale.ROOT));
+    }
+
+    private static IssueSnapshot toSnapshot(Long epicId, IssueFact issueFact, Map<String, Long> releaseIds, Instant refreshedAt) {
+        Long releaseId = issueFact.getProjectKey() == null ? null
+            : releaseIds.get(projectVersion(issueFact.getProjectKey(), issueFact.getVersion()));
+        return new IssueSnapshot()
+            .epicId(epicId)
+            .releaseId(releaseId)
+            .keyHash(IssueSnapshotDiff.keyHash(issueFact.getIssueKey(), issueFact.getVersion()))
+            .issueKey(issueFact.getIssueKey())
+            .fixVersion(issueFact.getVersion())
+            .projectKey(issueFact.getProjectKey())
+            .status(issueFact.getStatus())
+            .resolution(issueFact.getResolution())
+            .estimate(issueFact.getEstimate())
+            .resolutionDate(issueFact.getResolutionDate())
+            .validFrom(refreshedAt);
+    }
+
+    private static void addScopeEvents(List<ScopeEvent> scopeEvents, IssueSnapshot before, IssueSnapshot after, Instant refreshedAt) {
+        IssueSnapshot snapshot = after != null ? after : before;
+        double estimateBefore = before == null || before.getEstimate() == null ? 0 : before.getEstimate();
+        double estimateAfter = after == null || after.getEstimate() == null ? 0 : after.getEstimate();
+        if (before == null) {
+            scopeEvents.add(scopeEvent(snapshot, ScopeEventType.ADDED, null, after.getEstimate(), estimateAfter, refreshedAt));
+        } else if (after == null) {
+            scopeEvents.add(scopeEvent(snapshot, ScopeEventType.REMOVED, before.getEstimate(), null, -estimateBefore, refreshedAt));
+        } else if (!Objects.equals(before.getEstimate(), after.getEstimate())) {
+            scopeEvents.add(scopeEvent(snapshot, ScopeEventType.REESTIMATED, before.getEstimate(), after.getEstimate(),
+                estimateAfter - estimateBefore, refreshedAt));
+        }
+        boolean wasResolved = before != null && isResolved(before);
+        boolean isResolved = after != null && isResolved(after);
+        if (!wasResolved && isResolved) {
+            scopeEvents.add(scopeEvent(snapshot, ScopeEventType.RESOLVED, after.getEstimate(), after.getEstimate(), estimateAfter, refreshedAt));
+        } else if (wasResolved && after != null && !isResolved) {
+            scopeEvents.add(scopeEvent(snapshot, ScopeEventType.REOPENED, after.getEstimate(), after.getEstimate(), -estimateAfter, refreshedAt));
+        }
+    }
+
+    private static boolean isResolved(IssueSnapshot snapshot) {
+        return EpicMetricsUtil.resolutionClass(snapshot.getStatus(), snapshot.getResolution()) != EpicMetricsUtil.UNRESOLVED;
+    }
+
+    private static ScopeEvent scopeEvent(IssueSnapshot snapshot, ScopeEventType eventType, Double estimateBefore, Double estimateAfter,
+                                         double pointsDelta, Instant occurredAt) {
+        return new ScopeEvent()
+            .epicId(snapshot.getEpicId())
+            .occurredAt(occurredAt)
+            .eventType(eventType)
+            .issueKey(snapshot.getIssueKey())
+            .fixVersion(snapshot.getFixVersion())
+            .estimateBefore(estimateBefore)
+            .estimateAfter(estimateAfter)
+            .pointsDelta(pointsDelta);
+    }
+
+    private static boolean sameState(IssueSnapshot snapshot, IssueSnapshot other) {
+        return Objects.equals(snapshot.getReleaseId(), other.getReleaseId()) &&
+            Objects.equals(snapshot.getProjectKey(), other.getProjectKey()) &&
+            Objects.equals(snapshot.getStatus(), other.getStatus()) &&
+            Objects.equals(snapshot.getResolution(), other.getResolution()) &&
+            Objects.equals(snapshot.getEstimate(), other.getEstimate()) &&
+            Objects.equals(snapshot.getResolutionDate(), other.getResolutionDate());
+    }
+}
@@ -10,10 +10,11 @@ import java.net.URLEncoder;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 import com.atlassian.jira.rest.client.api.IssueRestClient;
 import com.atlassian.jira.rest.client.api.JiraRestClient;
@@ -26,16 +27,27 @@ import com.saimir.gasa.releasevitals.domain.Project;
 import com.saimir.gasa.releasevitals.domain.Version;
 import com.saimir.gasa.releasevitals.repository.EpicRepository;
 import com.saimir.gasa.releasevitals.repository.IssueRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
 import com.saimir.gasa.releasevitals.repository.search.EpicSearchRepository;
 import com.saimir.gasa.releasevitals.service.JiraService;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsTotals;
+import com.saimir.gasa.releasevitals.service.util.SingleFlight;
 
 import org.codehaus.jettison.json.JSONArray;
 import org.codehaus.jettison.json.JSONException;
 import org.codehaus.jettison.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @Transactional
@@ -51,23 +63,60 @@ public class JiraServiceImpl implements JiraService {
 
     private final IssueRepository issueRepository;
 
+    private final ProjectRepository projectRepository;
+
     private final EpicSearchRepository epicSearchRepository;
 
+    private final ApplicationEventPublisher eventPublisher;
+
     private final JiraRestClient jiraRestClient;
 
-    public JiraServiceImpl(EpicRepository epicRepository, IssueRepository issueRepository, EpicSearchRepository epicSearchRepository) {
+    private final TransactionTemplate transactionTemplate;
+
+    private final SingleFlight<Long, Epic> refreshes = new SingleFlight<>();
+
+    public JiraServiceImpl(EpicRepository epicRepository, IssueRepository issueRepository, ProjectRepository projectRepository,
+                           EpicSearchRepository epicSearchRepository, ApplicationEventPublisher eventPublisher,
+                           PlatformTransactionManager transactionManager) {
         this.epicRepository = epicRepository;
         this.issueRepository = issueRepository;
+        this.projectRepository = projectRepository;
         this.epicSearchRepository = epicSearchRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
         this.jiraRestClient = new AsynchronousJiraRestClientFactory()
             .createWithBasicHttpAuthentication(URI.create(JIRA_URL), JIRA_ADMIN_USERNAME, JIRA_ADMIN_PASSWORD);
     }
 
     /**
-     * Update Jira details for the given epic
+     * Update Jira details for the given epic.
+     * <p>
+     * The concurrent refreshes of an epic share a single refresh, committed in its own transaction before
+     * its result is returned to all the callers. The version of the epic makes a refresh fail when the epic
+     * changed meanwhile; such a refresh is done once more from the newer epic. Within the transaction of
+     * the caller, the refresh is not shared, as its result is not committed yet.
      */
     @Override
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Epic updateEpicDetails(Long id, boolean update) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return refresh(id, update);
+        }
+        return refreshes.execute(id, () -> {
+            try {
+                return transactionTemplate.execute(status -> refresh(id, update));
+            } catch (OptimisticLockingFailureException e) {
+                log.debug("Epic {} changed during its refresh, refreshing it again", id);
+                return transactionTemplate.execute(status -> refresh(id, update));
+            }
+        });
+    }
+
+    /**
+     * Read the issues of the epic from Jira, then update its metrics and publish them. An incomplete read
+     * leaves the epic as it was: partial facts would read as removed issues to the listeners.
+     */
+    private Epic refresh(Long id, boolean update) {
         log.debug("Request to update Jira details for Epic : {}", id);
         Optional<Epic> optionalEpic = epicRepository.findById(id);
         Epic epic = null;
@@ -75,6 +124,14 @@ public class JiraServiceImpl implements JiraService {
             epic = optionalEpic.get();
         }
 
+        List<IssueFact> issueFacts = new ArrayList<>();
+        try {
+            epicSummary(epic, 0, issueFacts);
+        } catch (URISyntaxException | IOException | JSONException | ParseException e) {
+            log.warn("Could not read the issues of Epic {} from Jira, keeping its previous details: {}", id, e.getMessage());
+            return epic;
+        }
+
         if (update) {
             epic.totalIssueCount(0);
             epic.totalStoryPoints(0d);
@@ -82,43 +139,39 @@ public class JiraServiceImpl implements JiraService {
             epic.remainingStoryPoints(0d);
             epic.storyPointsCompleted(0d);
         }
+        EpicMetricsTotals totals = addIssueFacts(epic, issueFacts);
+        epic.addToTotalIssueCount(totals.getIssueCount());
+        epic.addToTotalStoryPoints(totals.getTotalStoryPoints());
+        epic.addToRemainingStoryPoints(totals.getRemainingStoryPoints());
+        epic.addToStoryPointsCompleted(totals.getStoryPointsCompleted());
 
-        try {
-            epic = epicSummary(epic, 0);
-        } catch (URISyntaxException e) {
-            e.printStackTrace();
-        } catch (IOException e) {
-            e.printStackTrace();
-        } catch (JSONException e) {
-            e.printStackTrace();
-        } catch (ParseException e) {
-            e.printStackTrace();
-        }
-
-        System.out.println("Total Issue Count is: " + epic.getTotalIssueCount());
-        System.out.println("Total Story Points is: " + epic.getTotalStoryPoints());
-        System.out.println("The remaining story points are: " + epic.getRemainingStoryPoints());
-        System.out.println("Total story points completed are: " + epic.getStoryPointsCompleted());
-        System.out.println("Total non-estimated issues is: " + epic.getUnestimatedIssues().size());
-        for (Issue issue : epic.getUnestimatedIssues()) {
-            System.out.println(issue.getKey());
-        }
+        log.debug("Epic {} has {} issues, {} story points, {} remaining, {} completed, {} not estimated", epic.getKey(),
+            epic.getTotalIssueCount(), epic.getTotalStoryPoints(), epic.getRemainingStoryPoints(),
+            epic.getStoryPointsCompleted(), epic.getUnestimatedIssues().size());
         epic.setEpicBrowserURL(JIRA_URL + "/browse/" + epic.getKey());
-        System.out.println("Epic URL: " + epic.getEpicBrowserURL());
         epic.setPercentageCompleted(epic.getStoryPointsCompleted() / epic.getTotalStoryPoints());
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), issueFacts, Instant.now()));
         return epic;
     }
 
-    private Epic epicSummary(Epic epic, int startIndex) throws URISyntaxException, IOException, JSONException, ParseException {
-        IssueRestClient issueRestClient = this.jiraRestClient.getIssueClient();
-
+    /**
+     * Read all the issues linked to the epic from Jira, one fact per fix version.
+     */
+    private void epicSummary(Epic epic, int startIndex, List<IssueFact> issueFacts) throws URISyntaxException, IOException, JSONException, ParseException {
         String encodedEpicLink = URLEncoder.encode("\"Epic Link\"=" + "\"" + epic.getName() + "\"", "UTF-8");
 
         URI epicURI = new URI(JIRA_URL + "rest/api/2/search?startAt=" + startIndex + "&jql=" + encodedEpicLink + "&fields=customfield_10242,fixVersions,project,customfield_10246,status,resolutiondate,resolution");
-        System.out.println(epicURI);
+        log.debug("Reading the issues of Epic {} from {}", epic.getId(), epicURI);
 
-        Promise<InputStream> attachmentPromise = issueRestClient.getAttachment(epicURI);
-        InputStream attachments = attachmentPromise.claim();
+        InputStream attachments;
+        try {
+            IssueRestClient issueRestClient = this.jiraRestClient.getIssueClient();
+            Promise<InputStream> attachmentPromise = issueRestClient.getAttachment(epicURI);
+            attachments = attachmentPromise.claim();
+        } catch (RuntimeException e) {
+            // the client fails the promise with an unchecked exception
+            throw new IOException("Jira search failed: " + e.getMessage(), e);
+        }
 
         String text;
         boolean getNextPageOfResults = false;
@@ -137,67 +190,24 @@ public class JiraServiceImpl implements JiraService {
                 JSONObject fields = issue.getJSONObject("fields");
                 if (!fields.isNull("fixVersions")) {
                     JSONArray fixVersions = fields.getJSONArray("fixVersions");
-                    // only the issues that are tagged with the release provided should be inspected
+                    String status = fields.getJSONObject("status").getString("name");
+                    String projectKey = fields.getJSONObject("project").getString("key");
+                    Double estimate = fields.isNull("customfield_10242") ? null : Double.valueOf(fields.getString("customfield_10242"));
+                    String resolution = null;
+                    Instant resolutionInstant = null;
+                    if (!fields.isNull("resolution")) {
+                        resolution = fields.getJSONObject("resolution").getString("name");
+                    }
+                    if (!fields.isNull("resolutiondate")) {
+                        // 2018-11-15T11:51:43.000+0100
+                        String resolutionDateString = fields.getString("resolutiondate");
+                        // yyyy-MM-dd'T'HH:mm:ss.SSSZ
+                        Date date = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ").parse(resolutionDateString);
+                        resolutionInstant = date.toInstant();
+                    }
                     for (int j = 0; j < fixVersions.length(); j++) {
-                        JSONObject statusObj = fields.getJSONObject("status");
-                        String status = statusObj.getString("name");
-                        for (Project project : epic.getProjects()) {
-                            for (Version version : project.getVersions()) {
-                                // check if the issue has the fix version set to the same value as the project one
-                                if (version.getName().equalsIgnoreCase(fixVersions.getJSONObject(j).getString("name"))) {
-                                    JSONObject projectObj = fields.getJSONObject("project");
-                                    String projectKey = projectObj.getString("key");
-                                    if (project.getKey().equalsIgnoreCase(projectKey)) {
-                                        double estimate = 0;
-                                        if (fields.isNull("customfield_10242")) {
-                                            Issue jIssue = new Issue();
-                                            jIssue.setKey(issue.getString("key"));
-                                            jIssue.setProject(project);
-                                            jIssue.setEpic(epic);
-                                            epic.addUnestimatedIssue(this.issueRepository.save(jIssue));
-                                        } else {
-                                            estimate = Double.valueOf(fields.getString("customfield_10242"));
-                                        }
-
-                                        System.out.println(issue.getString("key"));
-                                        // add to total story points
-                                        epic.addToTotalStoryPoints(estimate);
-                                        // add to total issue count
-                                        epic.addToTotalIssueCount(1);
-
-                                        if (!fields.isNull("resolution")) {
-                                            JSONObject resolutionObj = fields.getJSONObject("resolution");
-                                            String resolution = resolutionObj.getString("name");
-
-                                            if (!"Duplicate".equalsIgnoreCase(resolution) && !"Obsolete".equalsIgnoreCase(resolution) &&
-                                                !"Not an issue".equalsIgnoreCase(resolution) && !"Won't Do".equalsIgnoreCase(resolution)) {
-
-                                                // 2018-11-15T11:51:43.000+0100
-                                                String resolutionDateString = fields.getString("resolutiondate");
-                                                // yyyy-MM-dd'T'HH:mm:ss.SSSZ
-                                                Date date = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ").parse(resolutionDateString);
-                                                Instant resolutionInstant = date.toInstant();
-
-                                                // check if the issue is resolved after the release start date and before the end date
-                                                if (project.getRelease().getEndDate().isAfter(resolutionInstant) &&
-                                                    project.getRelease().getStartDate().isBefore(resolutionInstant)) {
-
-                                                    if (("Closed".equalsIgnoreCase(status) || "Resolved".equalsIgnoreCase(status)) &&
-                                                        ("Done".equalsIgnoreCase(resolution) || "Fixed".equalsIgnoreCase(resolution))) {
-
-                                                        epic.addToStoryPointsCompleted(estimate);
-                                                    } else {
-                                                        epic.addToRemainingStoryPoints(estimate);
-                                                    }
-                                                }
-                                            }
-                                        } else {
-                                            epic.addToRemainingStoryPoints(estimate);
-                                        }
-                                    }
-                                }
-                            }
-                        }
+                        issueFacts.add(new IssueFact(issue.getString("key"), projectKey, fixVersions.getJSONObject(j).getString("name"),
+                            status, resolution, estimate, resolutionInstant));
                     }
                 }
                 epic.setKey(fields.getString("customfield_10246"));
@@ -205,10 +215,44 @@ public class JiraServiceImpl implements JiraService {
         }
 
         if (getNextPageOfResults) {
-            epic = epicSummary(epic, startIndex);
+            epicSummary(epic, startIndex, issueFacts);
         }
+    }
 
-        return epic;
+    /**
+     * Add the issue facts to the epic totals. Only the issues that are tagged with one of the versions of
+     * the epic projects are inspected.
+     */
+    private EpicMetricsTotals addIssueFacts(Epic epic, List<IssueFact> issueFacts) {
+        EpicMetricsTotals totals = new EpicMetricsTotals();
+        // the projects of the epic with their release window and versions, in one query
+        List<Project> projects = projectRepository.findAllForIngestionByEpicId(epic.getId());
+        for (IssueFact issueFact : issueFacts) {
+            for (Project project : projects) {
+                if (!project.getKey().equalsIgnoreCase(issueFact.getProjectKey())) {
+                    continue;
+                }
+                for (Version version : project.getVersions()) {
+                    // check if the issue has the fix version set to the same value as the project one
+                    if (version.getName().equalsIgnoreCase(issueFact.getVersion())) {
+                        addIssueFact(epic, project, issueFact, totals);
+                    }
+                }
+            }
+        }
+        return totals;
+    }
+
+    private void addIssueFact(Epic epic, Project project, IssueFact issueFact, EpicMetricsTotals totals) {
+        if (issueFact.getEstimate() == null) {
+            Issue jIssue = new Issue();
+            jIssue.setKey(issueFact.getIssueKey());
+            jIssue.setProject(project);
+            jIssue.setEpic(epic);
+            epic.addUnestimatedIssue(this.issueRepository.save(jIssue));
+        }
+        totals.add(issueFact.getResolutionClass(), issueFact.getEstimate(), issueFact.getResolutionDate(),
+            project.getRelease().getStartDate(), project.getRelease().getEndDate());
     }
 
     private static URI buildBrowserURI(String issueKey) throws URISyntaxException {
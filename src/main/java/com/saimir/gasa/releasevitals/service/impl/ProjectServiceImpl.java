@@ -1,9 +1,17 @@
 package com.saimir.gasa.releasevitals.service.impl;
 
+import com.saimir.gasa.releasevitals.service.AsOfService;
+import com.saimir.gasa.releasevitals.service.CumulativeFlowService;
 import com.saimir.gasa.releasevitals.service.ProjectService;
+import com.saimir.gasa.releasevitals.service.ReleaseHealthService;
+import com.saimir.gasa.releasevitals.service.StatusRollupService;
+import com.saimir.gasa.releasevitals.service.TimeInStatusService;
 import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.repository.IssueRepository;
 import com.saimir.gasa.releasevitals.repository.ProjectRepository;
 import com.saimir.gasa.releasevitals.repository.search.ProjectSearchRepository;
+import com.saimir.gasa.releasevitals.service.dto.ProjectListDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReferenceDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +21,10 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.elasticsearch.index.query.QueryBuilders.*;
@@ -30,9 +42,30 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectSearchRepository projectSearchRepository;
 
-    public ProjectServiceImpl(ProjectRepository projectRepository, ProjectSearchRepository projectSearchRepository) {
+    private final ReleaseHealthService releaseHealthService;
+
+    private final StatusRollupService statusRollupService;
+
+    private final CumulativeFlowService cumulativeFlowService;
+
+    private final AsOfService asOfService;
+
+    private final IssueRepository issueRepository;
+
+    private final TimeInStatusService timeInStatusService;
+
+    public ProjectServiceImpl(ProjectRepository projectRepository, ProjectSearchRepository projectSearchRepository,
+                              ReleaseHealthService releaseHealthService, StatusRollupService statusRollupService,
+                              CumulativeFlowService cumulativeFlowService, AsOfService asOfService,
+                              IssueRepository issueRepository, TimeInStatusService timeInStatusService) {
         this.projectRepository = projectRepository;
         this.projectSearchRepository = projectSearchRepository;
+        this.releaseHealthService = releaseHealthService;
+        this.statusRollupService = statusRollupService;
+        this.cumulativeFlowService = cumulativeFlowService;
+        this.asOfService = asOfService;
+        this.issueRepository = issueRepository;
+        this.timeInStatusService = timeInStatusService;
     }
 
     /**
@@ -44,31 +77,63 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     public Project save(Project project) {
         log.debug("Request to save Project : {}", project);
+        // the project may be moved out of its release
+        List<Long> formerReleaseIds = project.getId() == null ? Collections.emptyList()
+            : projectRepository.findReleaseIdById(project.getId());
+        releaseHealthService.markDirty(formerReleaseIds);
         Project result = projectRepository.save(project);
         projectSearchRepository.save(result);
+        List<Long> releaseIds = result.getRelease() == null ? Collections.emptyList()
+            : Collections.singletonList(result.getRelease().getId());
+        releaseHealthService.markDirty(releaseIds);
+        if (project.getId() != null && !formerReleaseIds.equals(releaseIds)) {
+            log.debug("Project {} moved from Release {} to {}", result.getId(), formerReleaseIds, releaseIds);
+            statusRollupService.rebuild(result.getId());
+            // the transitions of the project leave one release and join the other
+            cumulativeFlowService.evict(null);
+            asOfService.evict(null);
+            // the durations carry the release of their issue
+            timeInStatusService.refresh(issueRepository.findIdsByProjectId(result.getId()));
+        }
         return result;
     }
 
     /**
-     * Get all the projects.
+     * Get all the projects as list rows, read with a constructor expression so no entity is loaded.
      *
      * @param pageable the pagination information
-     * @return the list of entities
+     * @return the list of rows
      */
     @Override
     @Transactional(readOnly = true)
-    public Page<Project> findAll(Pageable pageable) {
-        log.debug("Request to get all Projects");
-        return projectRepository.findAll(pageable);
+    public Page<ProjectListDTO> findAllProjected(Pageable pageable) {
+        log.debug("Request to get all Projects as list rows");
+        return projectRepository.findAllProjected(pageable);
     }
 
     /**
-     * Get all the Project with eager load of many-to-many relationships.
+     * Get all the projects as list rows, with references to their versions. The page is limited by the
+     * database and the versions of the page are read with one query.
      *
-     * @return the list of entities
+     * @param pageable the pagination information
+     * @return the list of rows
      */
-    public Page<Project> findAllWithEagerRelationships(@PageableDefault(size = 99)Pageable pageable) {
-        return projectRepository.findAllWithEagerRelationships(pageable);
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectListDTO> findAllProjectedWithEagerRelationships(Pageable pageable) {
+        log.debug("Request to get all Projects as list rows with eager relationships");
+        Page<ProjectListDTO> page = projectRepository.findAllProjected(pageable);
+        if (!page.hasContent()) {
+            return page;
+        }
+        Map<Long, ProjectListDTO> projectsById = new HashMap<>();
+        for (ProjectListDTO project : page) {
+            projectsById.put(project.getId(), project);
+        }
+        for (Object[] row : projectRepository.findVersionReferencesByProjectIdIn(projectsById.keySet())) {
+            projectsById.get(row[0]).getVersions().add(new ReferenceDTO((Long) row[1], (String) row[2]));
+        }
+        return page;
     }
 
 
@@ -93,6 +158,7 @@ public class ProjectServiceImpl implements ProjectService {
     @Override
     public void delete(Long id) {
         log.debug("Request to delete Project : {}", id);
+        releaseHealthService.markDirty(projectRepository.findReleaseIdById(id));
         projectRepository.deleteById(id);
         projectSearchRepository.deleteById(id);
     }
@@ -0,0 +1,286 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.ReleaseHealth;
+import com.saimir.gasa.releasevitals.domain.ReleaseHealthMark;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.IssueRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseHealthMarkRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseHealthRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.service.ReleaseHealthService;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseHealthDTO;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Service Implementation for maintaining the health score of the releases.
+ * <p>
+ * Ingestion and edits only mark the releases they touch, with a {@link ReleaseHealthMark} written in their
+ * own transaction, so a release is recomputed only once its changes are committed, and after a restart.
+ * The marked releases are recomputed each in its own read-write transaction, so that a failing release neither
+ * rolls back nor blocks the others, and the result is stored so the release list reads it by release id. The score, from 0 to 100, weighs:
+ * <ul>
+ * <li>the percentage of story points completed,</li>
+ * <li>the burndown slope against the slope needed to finish by the end date,</li>
+ * <li>the share of estimated issues,</li>
+ * <li>the forecast confidence: the elapsed part of the release window times the share of estimated issues.</li>
+ * </ul>
+ */
+@Service
+@Transactional
+public class ReleaseHealthServiceImpl implements ReleaseHealthService {
+
+    private static final double COMPLETION_WEIGHT = 0.4;
+
+    private static final double PACE_WEIGHT = 0.3;
+
+    private static final double ESTIMATION_WEIGHT = 0.15;
+
+    private static final double CONFIDENCE_WEIGHT = 0.15;
+
+    private static final double MILLIS_PER_DAY = Duration.ofDays(1).toMillis();
+
+    private final Logger log = LoggerFactory.getLogger(ReleaseHealthServiceImpl.class);
+
+    private final ReleaseHealthRepository releaseHealthRepository;
+
+    private final ReleaseHealthMarkRepository releaseHealthMarkRepository;
+
+    private final ReleaseRepository releaseRepository;
+
+    private final EpicRepository epicRepository;
+
+    private final IssueRepository issueRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public ReleaseHealthServiceImpl(ReleaseHealthRepository releaseHealthRepository,
+                                    ReleaseHealthMarkRepository releaseHealthMarkRepository, ReleaseRepository releaseRepository,
+                                    EpicRepository epicRepository, IssueRepository issueRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.releaseHealthRepository = releaseHealthRepository;
+        this.releaseHealthMarkRepository = releaseHealthMarkRepository;
+        this.releaseRepository = releaseRepository;
+        this.epicRepository = epicRepository;
+        this.issueRepository = issueRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Mark the releases of a refreshed epic, in the transaction of the refresh.
+     *
+     * @param event the refreshed epic
+     */
+    @EventListener
+    public void onEpicRefreshed(EpicRefreshedEvent event) {
+        markDirtyByEpic(event.getEpicId());
+    }
+
+    /**
+     * Mark the releases whose data changed, so their health is recomputed once the transaction commits.
+     *
+     * @param releaseIds the ids of the releases
+     */
+    @Override
+    public void markDirty(Collection<Long> releaseIds) {
+        Instant now = Instant.now();
+        Set<Long> marked = new TreeSet<>();
+        List<ReleaseHealthMark> marks = new ArrayList<>();
+        for (Long releaseId : releaseIds) {
+            if (releaseId != null && marked.add(releaseId)) {
+                marks.add(new ReleaseHealthMark().releaseId(releaseId).markedAt(now));
+            }
+        }
+        releaseHealthMarkRepository.saveAll(marks);
+    }
+
+    /**
+     * Mark the releases of the epic's projects, so their health is recomputed.
+     *
+     * @param epicId the id of the epic
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void markDirtyByEpic(Long epicId) {
+        if (epicId != null) {
+            markDirty(epicRepository.findReleaseIdsByEpicId(epicId));
+        }
+    }
+
+    /**
+     * Recompute the health of the releases marked by the committed changes, and of the releases without any
+     * health, like after an upgrade. Each release is recomputed and committed in a new transaction, outside of
+     * any transaction of the caller, removing the marks it read: a mark committed meanwhile stays, so the release
+     * is recomputed again by the next call. A release that fails keeps its marks and is retried by the next call.
+     *
+     * @return the number of releases recomputed
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Scheduled(initialDelayString = "${application.release-health.recompute-delay:10000}",
+        fixedDelayString = "${application.release-health.recompute-delay:10000}")
+    public int recomputeDirty() {
+        Set<Long> releaseIds = new TreeSet<>(releaseHealthMarkRepository.findReleaseIds());
+        releaseIds.addAll(releaseRepository.findIdsWithoutHealth());
+        int recomputed = 0;
+        for (Long releaseId : releaseIds) {
+            try {
+                transactionTemplate.execute(status -> {
+                    List<Long> markIds = releaseHealthMarkRepository.findIdsByReleaseId(releaseId);
+                    ReleaseHealth health = recompute(releaseId, Instant.now());
+                    if (!markIds.isEmpty()) {
+                        releaseHealthMarkRepository.deleteByIdIn(markIds);
+                    }
+                    return health;
+                });
+                recomputed++;
+            } catch (RuntimeException e) {
+                log.warn("Could not recompute the health of Release {}: {}", releaseId, e.getMessage());
+            }
+        }
+        if (recomputed > 0) {
+            log.debug("Recomputed the health of {} releases", recomputed);
+        }
+        return recomputed;
+    }
+
+    /**
+     * Remove the health of a deleted release.
+     *
+     * @param releaseId the id of the release
+     */
+    @Override
+    public void remove(Long releaseId) {
+        releaseHealthMarkRepository.deleteByReleaseId(releaseId);
+        releaseHealthRepository.deleteByReleaseId(releaseId);
+    }
+
+    /**
+     * Get the stored health of the given releases.
+     *
+     * @param releaseIds the ids of the releases
+     * @return the health of the releases computed so far, sorted by release id
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReleaseHealthDTO> getHealth(Collection<Long> releaseIds) {
+        if (releaseIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return releaseHealthRepository.findAllByReleaseIdIn(releaseIds).stream()
+            .sorted(Comparator.comparing(ReleaseHealth::getReleaseId))
+            .map(ReleaseHealthServiceImpl::toDTO)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the stored health of the "id" release.
+     *
+     * @param releaseId the id of the release
+     * @return the health, or empty if not computed yet
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReleaseHealthDTO> getHealth(Long releaseId) {
+        return releaseHealthRepository.findOneByReleaseId(releaseId).map(ReleaseHealthServiceImpl::toDTO);
+    }
+
+    private ReleaseHealth recompute(Long releaseId, Instant now) {
+        Optional<Release> release = releaseRepository.findById(releaseId);
+        if (!release.isPresent()) {
+            releaseHealthRepository.deleteByReleaseId(releaseId);
+            return null;
+        }
+        ReleaseHealth health = releaseHealthRepository.findOneByReleaseId(releaseId)
+            .orElseGet(() -> new ReleaseHealth().releaseId(releaseId));
+        compute(release.get(), health, now);
+        return releaseHealthRepository.save(health);
+    }
+
+    private void compute(Release release, ReleaseHealth health, Instant now) {
+        Object[] sums = epicRepository.aggregateByRelease(release.getId()).get(0);
+        double totalStoryPoints = toDouble(sums[0]);
+        double storyPointsCompleted = toDouble(sums[1]);
+        double remainingStoryPoints = toDouble(sums[2]);
+        long issueCount = sums[3] == null ? 0 : ((Number) sums[3]).longValue();
+        long unestimatedIssueCount = issueRepository.countUnestimatedByRelease(release.getId());
+
+        Double percentageCompleted = totalStoryPoints > 0 ? storyPointsCompleted / totalStoryPoints : null;
+        Double unestimatedRatio = issueCount > 0 ? (double) unestimatedIssueCount / issueCount : null;
+        double estimatedShare = 1 - (unestimatedRatio == null ? 0 : unestimatedRatio);
+
+        Instant start = release.getStartDate();
+        Instant end = release.getEndDate();
+        Double burndownSlope = null;
+        if (start != null && now.isAfter(start)) {
+            double elapsedDays = days(start, end != null && end.isBefore(now) ? end : now);
+            burndownSlope = elapsedDays > 0 ? storyPointsCompleted / elapsedDays : null;
+        }
+
+        double pace;
+        if (totalStoryPoints > 0 && remainingStoryPoints <= 0) {
+            pace = 1;
+        } else if (burndownSlope == null || burndownSlope == 0) {
+            pace = 0;
+        } else if (end == null) {
+            // no deadline to fall behind
+            pace = 1;
+        } else {
+            double daysLeft = days(now, end);
+            pace = daysLeft <= 0 ? 0 : Math.min(1, burndownSlope / (remainingStoryPoints / daysLeft));
+        }
+
+        double windowElapsed = 0;
+        if (start != null && end != null && end.isAfter(start)) {
+            windowElapsed = Math.max(0, Math.min(1, days(start, now) / days(start, end)));
+        }
+        double forecastConfidence = windowElapsed * estimatedShare;
+
+        double score = 100 * (COMPLETION_WEIGHT * (percentageCompleted == null ? 0 : Math.min(1, percentageCompleted))
+            + PACE_WEIGHT * pace
+            + ESTIMATION_WEIGHT * estimatedShare
+            + CONFIDENCE_WEIGHT * forecastConfidence);
+
+        health.score(Math.round(score * 10) / 10d)
+            .percentageCompleted(percentageCompleted)
+            .burndownSlope(burndownSlope)
+            .unestimatedRatio(unestimatedRatio)
+            .forecastConfidence(forecastConfidence)
+            .computedAt(now);
+    }
+
+    private static double days(Instant from, Instant to) {
+        return Duration.between(from, to).toMillis() / MILLIS_PER_DAY;
+    }
+
+    private static double toDouble(Object sum) {
+        return sum == null ? 0 : ((Number) sum).doubleValue();
+    }
+
+    private static ReleaseHealthDTO toDTO(ReleaseHealth health) {
+        return new ReleaseHealthDTO(health.getReleaseId(), health.getScore(), health.getPercentageCompleted(),
+            health.getBurndownSlope(), health.getUnestimatedRatio(), health.getForecastConfidence(), health.getComputedAt());
+    }
+}
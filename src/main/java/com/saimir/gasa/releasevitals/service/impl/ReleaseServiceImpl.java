@@ -1,9 +1,11 @@
 package com.saimir.gasa.releasevitals.service.impl;
 
+import com.saimir.gasa.releasevitals.service.ReleaseHealthService;
 import com.saimir.gasa.releasevitals.service.ReleaseService;
 import com.saimir.gasa.releasevitals.domain.Release;
 import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
 import com.saimir.gasa.releasevitals.repository.search.ReleaseSearchRepository;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseListDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -13,6 +15,7 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collections;
 import java.util.Optional;
 
 import static org.elasticsearch.index.query.QueryBuilders.*;
@@ -30,9 +33,13 @@ public class ReleaseServiceImpl implements ReleaseService {
 
     private final ReleaseSearchRepository releaseSearchRepository;
 
-    public ReleaseServiceImpl(ReleaseRepository releaseRepository, ReleaseSearchRepository releaseSearchRepository) {
+    private final ReleaseHealthService releaseHealthService;
+
+    public ReleaseServiceImpl(ReleaseRepository releaseRepository, ReleaseSearchRepository releaseSearchRepository,
+                              ReleaseHealthService releaseHealthService) {
         this.releaseRepository = releaseRepository;
         this.releaseSearchRepository = releaseSearchRepository;
+        this.releaseHealthService = releaseHealthService;
     }
 
     /**
@@ -46,6 +53,7 @@ public class ReleaseServiceImpl implements ReleaseService {
         log.debug("Request to save Release : {}", release);
         Release result = releaseRepository.save(release);
         releaseSearchRepository.save(result);
+        releaseHealthService.markDirty(Collections.singleton(result.getId()));
         return result;
     }
 
@@ -62,6 +70,19 @@ public class ReleaseServiceImpl implements ReleaseService {
         return releaseRepository.findAll(pageable);
     }
 
+    /**
+     * Get all the releases as list rows, read with a constructor expression so no entity is loaded.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ReleaseListDTO> findAllProjected(Pageable pageable) {
+        log.debug("Request to get all Releases as list rows");
+        return releaseRepository.findAllProjected(pageable);
+    }
+
 
     /**
      * Get one release by id.
@@ -86,6 +107,7 @@ public class ReleaseServiceImpl implements ReleaseService {
         log.debug("Request to delete Release : {}", id);
         releaseRepository.deleteById(id);
         releaseSearchRepository.deleteById(id);
+        releaseHealthService.remove(id);
     }
 
     /**
@@ -0,0 +1,261 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.ReleaseSummary;
+import com.saimir.gasa.releasevitals.repository.IssueSnapshotRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseSummaryRepository;
+import com.saimir.gasa.releasevitals.service.AsOfService;
+import com.saimir.gasa.releasevitals.service.ReleaseSummaryService;
+import com.saimir.gasa.releasevitals.service.dto.EpicMetricsDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseAsOfDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseComparisonDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseDiffDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseSummaryDTO;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsTotals;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service Implementation for closing the releases into immutable summaries, and comparing them.
+ * <p>
+ * Closing a release reads its epic metrics as of now and sweeps its issue snapshots once into a daily
+ * burndown of the unresolved story points. Both are written with the totals into a single row that is
+ * never updated, so the comparisons read the summaries only, whatever happens to the live data.
+ */
+@Service
+@Transactional
+public class ReleaseSummaryServiceImpl implements ReleaseSummaryService {
+
+    private static final int MAX_BURNDOWN_DAYS = 3 * 366;
+
+    private static final TypeReference<List<EpicMetricsDTO>> EPICS_TYPE = new TypeReference<List<EpicMetricsDTO>>() {
+    };
+
+    private final Logger log = LoggerFactory.getLogger(ReleaseSummaryServiceImpl.class);
+
+    private final ReleaseSummaryRepository releaseSummaryRepository;
+
+    private final ReleaseRepository releaseRepository;
+
+    private final IssueSnapshotRepository issueSnapshotRepository;
+
+    private final AsOfService asOfService;
+
+    private final ObjectMapper objectMapper;
+
+    public ReleaseSummaryServiceImpl(ReleaseSummaryRepository releaseSummaryRepository, ReleaseRepository releaseRepository,
+                                     IssueSnapshotRepository issueSnapshotRepository, AsOfService asOfService,
+                                     ObjectMapper objectMapper) {
+        this.releaseSummaryRepository = releaseSummaryRepository;
+        this.releaseRepository = releaseRepository;
+        this.issueSnapshotRepository = issueSnapshotRepository;
+        this.asOfService = asOfService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Close a release: write the summary of its epics and its burndown as they are now.
+     *
+     * @param releaseId the id of the release
+     * @return the summary, or empty if the release does not exist
+     * @throws IllegalStateException if the release is already closed
+     */
+    @Override
+    public Optional<ReleaseSummaryDTO> close(Long releaseId) {
+        log.debug("Request to close Release : {}", releaseId);
+        if (releaseSummaryRepository.existsByReleaseId(releaseId)) {
+            throw new IllegalStateException("Release " + releaseId + " is already closed");
+        }
+        return releaseRepository.findById(releaseId).map(release -> {
+            Instant closedAt = Instant.now();
+            List<EpicMetricsDTO> epics = asOfService.getReleaseAsOf(releaseId, closedAt)
+                .map(ReleaseAsOfDTO::getEpics)
+                .orElse(Collections.emptyList());
+            EpicMetricsTotals totals = new EpicMetricsTotals();
+            epics.forEach(totals::add);
+
+            LocalDate lastDay = (release.getEndDate() != null && release.getEndDate().isBefore(closedAt)
+                ? release.getEndDate() : closedAt).atZone(ZoneOffset.UTC).toLocalDate();
+            LocalDate burndownStart = firstDay(release, lastDay);
+            double[] burndown = burndownStart == null ? new double[0] : burndown(releaseId, burndownStart, lastDay);
+
+            ReleaseSummary summary = releaseSummaryRepository.save(new ReleaseSummary()
+                .releaseId(releaseId)
+                .releaseName(release.getName())
+                .startDate(release.getStartDate())
+                .endDate(release.getEndDate())
+                .closedAt(closedAt)
+                .epicCount(epics.size())
+                .issueCount(totals.getIssueCount())
+                .unestimatedIssueCount(totals.getUnestimatedIssueCount())
+                .totalStoryPoints(totals.getTotalStoryPoints())
+                .storyPointsCompleted(totals.getStoryPointsCompleted())
+                .remainingStoryPoints(totals.getRemainingStoryPoints())
+                .percentageCompleted(totals.getPercentageCompleted())
+                .burndownStart(burndownStart)
+                .burndown(write(burndown))
+                .epics(write(epics)));
+            log.info("Closed Release {} with {} epics and {} days of burndown", releaseId, epics.size(), burndown.length);
+            return toDTO(summary);
+        });
+    }
+
+    /**
+     * @param releaseId the id of the release
+     * @return true if the release is closed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isClosed(Long releaseId) {
+        return releaseSummaryRepository.existsByReleaseId(releaseId);
+    }
+
+    /**
+     * Get the summary of a closed release.
+     *
+     * @param releaseId the id of the release
+     * @return the summary, or empty if the release is not closed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReleaseSummaryDTO> getSummary(Long releaseId) {
+        log.debug("Request to get the summary of Release : {}", releaseId);
+        return releaseSummaryRepository.findOneByReleaseId(releaseId).map(this::toDTO);
+    }
+
+    /**
+     * Compare closed releases from their summaries only.
+     *
+     * @param releaseIds the ids of the releases, the first one being the baseline
+     * @return the comparison, or empty if any of the releases is not closed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ReleaseComparisonDTO> compare(List<Long> releaseIds) {
+        log.debug("Request to compare Releases : {}", releaseIds);
+        Set<Long> ids = new LinkedHashSet<>(releaseIds);
+        Map<Long, ReleaseSummary> summaries = releaseSummaryRepository.findAllByReleaseIdIn(ids).stream()
+            .collect(Collectors.toMap(ReleaseSummary::getReleaseId, Function.identity()));
+        if (ids.isEmpty() || summaries.size() < ids.size()) {
+            return Optional.empty();
+        }
+        List<ReleaseSummaryDTO> releases = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            releases.add(toDTO(summaries.get(id)));
+        }
+        ReleaseSummaryDTO baseline = releases.get(0);
+        List<ReleaseDiffDTO> diffs = new ArrayList<>(releases.size() - 1);
+        for (ReleaseSummaryDTO release : releases.subList(1, releases.size())) {
+            diffs.add(diff(baseline, release));
+        }
+        return Optional.of(new ReleaseComparisonDTO(baseline.getReleaseId(), Collections.unmodifiableList(releases),
+            Collections.unmodifiableList(diffs)));
+    }
+
+    private LocalDate firstDay(Release release, LocalDate lastDay) {
+        Instant start = release.getStartDate() != null ? release.getStartDate()
+            : issueSnapshotRepository.findFirstValidFromByReleaseId(release.getId());
+        if (start == null) {
+            return null;
+        }
+        LocalDate firstDay = start.atZone(ZoneOffset.UTC).toLocalDate();
+        if (firstDay.isAfter(lastDay)) {
+            return null;
+        }
+        return ChronoUnit.DAYS.between(firstDay, lastDay) < MAX_BURNDOWN_DAYS ? firstDay : lastDay.minusDays(MAX_BURNDOWN_DAYS - 1);
+    }
+
+    /**
+     * The unresolved story points at the end of each day, from one pass over the snapshots: each snapshot
+     * adds its points from the day it became valid to the day it was replaced.
+     */
+    private double[] burndown(Long releaseId, LocalDate firstDay, LocalDate lastDay) {
+        int days = (int) ChronoUnit.DAYS.between(firstDay, lastDay) + 1;
+        double[] changes = new double[days + 1];
+        try (Stream<Object[]> snapshots = issueSnapshotRepository.streamEstimatedByRelease(releaseId)) {
+            for (Object[] row : (Iterable<Object[]>) snapshots::iterator) {
+                if (EpicMetricsUtil.resolutionClass((String) row[0], (String) row[1]) != EpicMetricsUtil.UNRESOLVED) {
+                    continue;
+                }
+                long from = Math.max(0, dayIndex(firstDay, (Instant) row[3]));
+                long to = row[4] == null ? days : Math.min(days, dayIndex(firstDay, (Instant) row[4]));
+                if (from < to) {
+                    double points = (Double) row[2];
+                    changes[(int) from] += points;
+                    changes[(int) to] -= points;
+                }
+            }
+        }
+        double[] remaining = new double[days];
+        double current = 0;
+        for (int day = 0; day < days; day++) {
+            current += changes[day];
+            remaining[day] = current;
+        }
+        return remaining;
+    }
+
+    private static long dayIndex(LocalDate firstDay, Instant instant) {
+        return ChronoUnit.DAYS.between(firstDay, instant.atZone(ZoneOffset.UTC).toLocalDate());
+    }
+
+    private static ReleaseDiffDTO diff(ReleaseSummaryDTO baseline, ReleaseSummaryDTO release) {
+        Double percentageCompletedDelta = baseline.getPercentageCompleted() == null || release.getPercentageCompleted() == null
+            ? null : release.getPercentageCompleted() - baseline.getPercentageCompleted();
+        Integer burndownDaysDelta = baseline.getBurndown().length == 0 || release.getBurndown().length == 0
+            ? null : release.getBurndown().length - baseline.getBurndown().length;
+        return new ReleaseDiffDTO(release.getReleaseId(),
+            release.getEpicCount() - baseline.getEpicCount(),
+            release.getIssueCount() - baseline.getIssueCount(),
+            release.getUnestimatedIssueCount() - baseline.getUnestimatedIssueCount(),
+            release.getTotalStoryPoints() - baseline.getTotalStoryPoints(),
+            release.getStoryPointsCompleted() - baseline.getStoryPointsCompleted(),
+            release.getRemainingStoryPoints() - baseline.getRemainingStoryPoints(),
+            percentageCompletedDelta, burndownDaysDelta);
+    }
+
+    private ReleaseSummaryDTO toDTO(ReleaseSummary summary) {
+        try {
+            return new ReleaseSummaryDTO(summary.getReleaseId(), summary.getReleaseName(), summary.getStartDate(),
+                summary.getEndDate(), summary.getClosedAt(), summary.getEpicCount(), summary.getIssueCount(),
+                summary.getUnestimatedIssueCount(), summary.getTotalStoryPoints(), summary.getStoryPointsCompleted(),
+                summary.getRemainingStoryPoints(), summary.getPercentageCompleted(), summary.getBurndownStart(),
+                objectMapper.readValue(summary.getBurndown(), double[].class),
+                Collections.unmodifiableList(objectMapper.readValue(summary.getEpics(), EPICS_TYPE)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable summary of Release " + summary.getReleaseId(), e);
+        }
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.enumeration.ScopeEventType;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.ScopeEventRepository;
+import com.saimir.gasa.releasevitals.service.ScopeEventService;
+import com.saimir.gasa.releasevitals.service.dto.ScopeChurnDTO;
+import com.saimir.gasa.releasevitals.service.dto.ScopeChurnEntryDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Service Implementation for reading the scope events. The events themselves are appended by the
+ * issue snapshot merge.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ScopeEventServiceImpl implements ScopeEventService {
+
+    private final Logger log = LoggerFactory.getLogger(ScopeEventServiceImpl.class);
+
+    private final ScopeEventRepository scopeEventRepository;
+
+    private final EpicRepository epicRepository;
+
+    public ScopeEventServiceImpl(ScopeEventRepository scopeEventRepository, EpicRepository epicRepository) {
+        this.scopeEventRepository = scopeEventRepository;
+        this.epicRepository = epicRepository;
+    }
+
+    /**
+     * Aggregate the scope events of an epic over a date range.
+     *
+     * @param epicId the id of the epic
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, exclusive
+     * @return the churn, or empty if the epic does not exist
+     */
+    @Override
+    public Optional<ScopeChurnDTO> getScopeChurn(Long epicId, Instant from, Instant to) {
+        log.debug("Request to get the scope churn of Epic : {} from {} to {}", epicId, from, to);
+        if (!epicRepository.existsById(epicId)) {
+            return Optional.empty();
+        }
+        Map<ScopeEventType, ScopeChurnEntryDTO> entries = new EnumMap<>(ScopeEventType.class);
+        for (Object[] row : scopeEventRepository.aggregateByEpic(epicId, from, to)) {
+            ScopeEventType eventType = (ScopeEventType) row[0];
+            entries.put(eventType, new ScopeChurnEntryDTO(eventType, (Long) row[1], row[2] == null ? 0 : (Double) row[2]));
+        }
+        List<ScopeChurnEntryDTO> events = new ArrayList<>();
+        for (ScopeEventType eventType : ScopeEventType.values()) {
+            events.add(entries.getOrDefault(eventType, new ScopeChurnEntryDTO(eventType, 0, 0)));
+        }
+        return Optional.of(new ScopeChurnDTO(epicId, from, to, Collections.unmodifiableList(events)));
+    }
+}
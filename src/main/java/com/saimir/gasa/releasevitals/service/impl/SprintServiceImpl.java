@@ -4,6 +4,7 @@ import com.saimir.gasa.releasevitals.service.SprintService;
 import com.saimir.gasa.releasevitals.domain.Sprint;
 import com.saimir.gasa.releasevitals.repository.SprintRepository;
 import com.saimir.gasa.releasevitals.repository.search.SprintSearchRepository;
+import com.saimir.gasa.releasevitals.service.dto.SprintListDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +63,19 @@ public class SprintServiceImpl implements SprintService {
         return sprintRepository.findAll(pageable);
     }
 
+    /**
+     * Get all the sprints as list rows, read with a constructor expression so no entity is loaded.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<SprintListDTO> findAllProjected(Pageable pageable) {
+        log.debug("Request to get all Sprints as list rows");
+        return sprintRepository.findAllProjected(pageable);
+    }
+
 
     /**
      * Get one sprint by id.
@@ -0,0 +1,329 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.StatusRollup;
+import com.saimir.gasa.releasevitals.repository.StatusRepository;
+import com.saimir.gasa.releasevitals.repository.StatusRollupRepository;
+import com.saimir.gasa.releasevitals.service.StatusRollupService;
+import com.saimir.gasa.releasevitals.service.dto.RollupDriftDTO;
+import com.saimir.gasa.releasevitals.service.dto.RollupVerificationDTO;
+import com.saimir.gasa.releasevitals.service.dto.StatusRollupDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service Implementation for managing the status rollup.
+ * <p>
+ * A change is tracked by reading the transitions of the affected issues before and after it, and
+ * adding the difference to the rollup rows. The first read does not flush, so changes already made
+ * to managed entities count as part of the tracked change. A nightly verification rebuilds the rollup from the
+ * Status rows, reports the drift and repairs it with the same increments, so concurrent changes
+ * are not lost. It reads the Status rows and the rollup in one repeatable read transaction, so a change
+ * committed between the two reads is not taken for drift; a repair of a count changed since then fails
+ * the verification instead of counting the change twice, and it is retried the next night.
+ * <p>
+ * A count is added with an update of its row. A missing row is first inserted empty in its own
+ * transaction, so two changes creating the same row concurrently both end up updating it.
+ */
+@Service
+@Transactional
+public class StatusRollupServiceImpl implements StatusRollupService {
+
+    private static final int MAX_REPORTED_DRIFTS = 100;
+
+    private static final LocalDate FIRST_WEEK = LocalDate.of(1970, 1, 1);
+
+    private static final LocalDate LAST_WEEK = LocalDate.of(9999, 12, 31);
+
+    private final Logger log = LoggerFactory.getLogger(StatusRollupServiceImpl.class);
+
+    private final StatusRollupRepository statusRollupRepository;
+
+    private final StatusRepository statusRepository;
+
+    private final TransactionTemplate newTransactionTemplate;
+
+    private volatile RollupVerificationDTO lastVerification;
+
+    public StatusRollupServiceImpl(StatusRollupRepository statusRollupRepository, StatusRepository statusRepository,
+                                   PlatformTransactionManager transactionManager) {
+        this.statusRollupRepository = statusRollupRepository;
+        this.statusRepository = statusRepository;
+        this.newTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.newTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Run a change to some issues or to their Status rows, then update the rollup by the difference
+     * between their transitions before and after the change.
+     *
+     * @param issueIds the ids of the issues the change may affect
+     * @param change the change
+     * @param <T> the result type of the change
+     * @return the result of the change
+     */
+    @Override
+    public <T> T track(Collection<Long> issueIds, Supplier<T> change) {
+        if (issueIds.isEmpty()) {
+            return change.get();
+        }
+        Map<RollupKey, Integer> before = countTransitions(statusRepository.findRollupTransitionsByIssueIds(issueIds).stream());
+        T result = change.get();
+        statusRepository.flush();
+        Map<RollupKey, Integer> after = countTransitions(statusRepository.findRollupTransitionsByIssueIds(issueIds).stream());
+        after.forEach((key, count) -> before.merge(key, -count, Integer::sum));
+        before.forEach((key, count) -> {
+            if (count != 0) {
+                increment(key, -count);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Get the transition counts of a release grouped by the given dimensions.
+     *
+     * @param releaseId the id of the release
+     * @param byProject true to group by project
+     * @param byStatus true to group by status
+     * @param byWeek true to group by week
+     * @param from the first week to include, or null
+     * @param to the last week to include, or null
+     * @return the counts, by week, project and status
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatusRollupDTO> getRollup(Long releaseId, boolean byProject, boolean byStatus, boolean byWeek,
+                                           LocalDate from, LocalDate to) {
+        log.debug("Request to get the status rollup of Release : {}", releaseId);
+        Map<RollupKey, Long> groups = new HashMap<>();
+        for (Object[] row : statusRollupRepository.findCountsByRelease(releaseId,
+                from == null ? FIRST_WEEK : weekStart(from), to == null ? LAST_WEEK : to)) {
+            int count = (Integer) row[3];
+            if (count == 0) {
+                continue;
+            }
+            RollupKey key = new RollupKey(releaseId, byProject ? (Long) row[0] : null, byStatus ? (String) row[1] : null,
+                byWeek ? (LocalDate) row[2] : null);
+            groups.merge(key, (long) count, Long::sum);
+        }
+        return groups.entrySet().stream()
+            .map(group -> new StatusRollupDTO(group.getKey().projectId, group.getKey().status, group.getKey().weekStart, group.getValue()))
+            .sorted(Comparator.comparing(StatusRollupDTO::getWeekStart, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(StatusRollupDTO::getProjectId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(StatusRollupDTO::getStatus, Comparator.nullsFirst(Comparator.naturalOrder())))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Verify the rollup every night, at 01:30 (am).
+     */
+    @Scheduled(cron = "0 30 1 * * ?")
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public void verifyNightly() {
+        verify();
+    }
+
+    /**
+     * Rebuild the rollup from the Status rows, report the counts that drifted and repair them.
+     *
+     * @return the outcome of the verification
+     */
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public RollupVerificationDTO verify() {
+        log.debug("Request to verify the status rollup");
+        Map<RollupKey, Integer> expected;
+        try (Stream<Object[]> transitions = statusRepository.streamRollupTransitions()) {
+            expected = countTransitions(transitions);
+        }
+        List<RollupDriftDTO> drifts = new ArrayList<>();
+        int checkedCount = 0;
+        int driftCount = 0;
+        for (StatusRollup rollup : statusRollupRepository.findAll()) {
+            RollupKey key = new RollupKey(rollup.getReleaseId(), rollup.getProjectId(), rollup.getStatus(), rollup.getWeekStart());
+            Integer expectedCount = expected.remove(key);
+            checkedCount++;
+            if (!Objects.equals(expectedCount == null ? 0 : expectedCount, rollup.getTransitionCount())) {
+                driftCount++;
+                addDrift(drifts, key, expectedCount == null ? 0 : expectedCount, rollup.getTransitionCount());
+                repair(key, (expectedCount == null ? 0 : expectedCount) - rollup.getTransitionCount());
+            }
+        }
+        for (Map.Entry<RollupKey, Integer> missing : expected.entrySet()) {
+            checkedCount++;
+            driftCount++;
+            addDrift(drifts, missing.getKey(), missing.getValue(), 0);
+            insert(missing.getKey(), missing.getValue());
+        }
+        if (driftCount > 0) {
+            log.warn("Status rollup drifted on {} of {} counts, repaired them", driftCount, checkedCount);
+        }
+        lastVerification = new RollupVerificationDTO(Instant.now(), checkedCount, driftCount,
+            Collections.unmodifiableList(drifts.subList(0, Math.min(drifts.size(), MAX_REPORTED_DRIFTS))));
+        return lastVerification;
+    }
+
+    /**
+     * Rebuild the rollup counts of a project from the Status rows of its issues, the counts of a former
+     * release of the project included. When it starts its own transaction, it reads like {@link #verify()}.
+     *
+     * @param projectId the id of the project
+     * @return the number of counts written
+     */
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public int rebuild(Long projectId) {
+        log.debug("Request to rebuild the status rollup of Project : {}", projectId);
+        Map<RollupKey, Integer> expected;
+        try (Stream<Object[]> transitions = statusRepository.streamRollupTransitionsByProjectId(projectId)) {
+            expected = countTransitions(transitions);
+        }
+        int written = 0;
+        for (StatusRollup rollup : statusRollupRepository.findAllByProjectId(projectId)) {
+            RollupKey key = new RollupKey(rollup.getReleaseId(), rollup.getProjectId(), rollup.getStatus(), rollup.getWeekStart());
+            Integer expectedCount = expected.remove(key);
+            int delta = (expectedCount == null ? 0 : expectedCount) - rollup.getTransitionCount();
+            if (delta != 0) {
+                repair(key, delta);
+                written++;
+            }
+        }
+        for (Map.Entry<RollupKey, Integer> missing : expected.entrySet()) {
+            insert(missing.getKey(), missing.getValue());
+            written++;
+        }
+        return written;
+    }
+
+    /**
+     * @return the outcome of the last verification, if any
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<RollupVerificationDTO> getLastVerification() {
+        return Optional.ofNullable(lastVerification);
+    }
+
+    private static void addDrift(List<RollupDriftDTO> drifts, RollupKey key, int expectedCount, int actualCount) {
+        drifts.add(new RollupDriftDTO(key.releaseId, key.projectId, key.status, key.weekStart, expectedCount, actualCount));
+    }
+
+    private void increment(RollupKey key, int delta) {
+        if (statusRollupRepository.increment(key.releaseId, key.projectId, key.status, key.weekStart, delta) == 0) {
+            createEmpty(key);
+            statusRollupRepository.increment(key.releaseId, key.projectId, key.status, key.weekStart, delta);
+        }
+    }
+
+    /**
+     * Repair a count read in the transaction, so the update fails if a concurrent change updated it since.
+     */
+    private void repair(RollupKey key, int delta) {
+        statusRollupRepository.increment(key.releaseId, key.projectId, key.status, key.weekStart, delta);
+    }
+
+    /**
+     * Insert a count missing in the transaction, so the insert fails on ux_status_rollup_key if a concurrent
+     * change inserted it since, rather than adding the counted transitions to the ones of the change.
+     */
+    private void insert(RollupKey key, int count) {
+        statusRollupRepository.saveAndFlush(new StatusRollup()
+            .releaseId(key.releaseId)
+            .projectId(key.projectId)
+            .status(key.status)
+            .weekStart(key.weekStart)
+            .transitionCount(count));
+    }
+
+    /**
+     * Insert the row of the key with no transition, committed at once: a concurrent change inserting the
+     * same row makes this insert fail on ux_status_rollup_key, and the row is there either way.
+     */
+    private void createEmpty(RollupKey key) {
+        try {
+            newTransactionTemplate.execute(status -> statusRollupRepository.saveAndFlush(new StatusRollup()
+                .releaseId(key.releaseId)
+                .projectId(key.projectId)
+                .status(key.status)
+                .weekStart(key.weekStart)
+                .transitionCount(0)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Status rollup row of Project {}, status {}, week {} inserted by a concurrent change",
+                key.projectId, key.status, key.weekStart);
+        }
+    }
+
+    private static Map<RollupKey, Integer> countTransitions(Stream<Object[]> transitions) {
+        Map<RollupKey, Integer> counts = new HashMap<>();
+        transitions.forEach(row -> counts.merge(
+            new RollupKey((Long) row[0], (Long) row[1], (String) row[2], weekStart(((Instant) row[3]).atZone(ZoneOffset.UTC).toLocalDate())),
+            1, Integer::sum));
+        return counts;
+    }
+
+    private static LocalDate weekStart(LocalDate day) {
+        return day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static final class RollupKey {
+
+        private final Long releaseId;
+
+        private final Long projectId;
+
+        private final String status;
+
+        private final LocalDate weekStart;
+
+        private RollupKey(Long releaseId, Long projectId, String status, LocalDate weekStart) {
+            this.releaseId = releaseId;
+            this.projectId = projectId;
+            this.status = status;
+            this.weekStart = weekStart;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            RollupKey other = (RollupKey) o;
+            return Objects.equals(releaseId, other.releaseId) && Objects.equals(projectId, other.projectId) &&
+                Objects.equals(status, other.status) && Objects.equals(weekStart, other.weekStart);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(releaseId, projectId, status, weekStart);
+        }
+    }
+}
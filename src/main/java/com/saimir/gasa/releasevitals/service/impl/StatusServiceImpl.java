@@ -1,19 +1,33 @@
 package com.saimir.gasa.releasevitals.service.impl;
 
+import com.saimir.gasa.releasevitals.service.AsOfService;
+import com.saimir.gasa.releasevitals.service.CumulativeFlowService;
+import com.saimir.gasa.releasevitals.service.StatusRollupService;
 import com.saimir.gasa.releasevitals.service.StatusService;
+import com.saimir.gasa.releasevitals.service.TimeInStatusService;
 import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.repository.RowCountEstimateRepository;
 import com.saimir.gasa.releasevitals.repository.StatusRepository;
 import com.saimir.gasa.releasevitals.repository.search.StatusSearchRepository;
+import com.saimir.gasa.releasevitals.service.dto.StatusListDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.elasticsearch.index.query.QueryBuilders.*;
 
@@ -30,9 +44,27 @@ public class StatusServiceImpl implements StatusService {
 
     private final StatusSearchRepository statusSearchRepository;
 
-    public StatusServiceImpl(StatusRepository statusRepository, StatusSearchRepository statusSearchRepository) {
+    private final CumulativeFlowService cumulativeFlowService;
+
+    private final StatusRollupService statusRollupService;
+
+    private final TimeInStatusService timeInStatusService;
+
+    private final AsOfService asOfService;
+
+    private final RowCountEstimateRepository rowCountEstimateRepository;
+
+    public StatusServiceImpl(StatusRepository statusRepository, StatusSearchRepository statusSearchRepository,
+                             CumulativeFlowService cumulativeFlowService, StatusRollupService statusRollupService,
+                             TimeInStatusService timeInStatusService, AsOfService asOfService,
+                             RowCountEstimateRepository rowCountEstimateRepository) {
         this.statusRepository = statusRepository;
         this.statusSearchRepository = statusSearchRepository;
+        this.cumulativeFlowService = cumulativeFlowService;
+        this.statusRollupService = statusRollupService;
+        this.timeInStatusService = timeInStatusService;
+        this.asOfService = asOfService;
+        this.rowCountEstimateRepository = rowCountEstimateRepository;
     }
 
     /**
@@ -44,8 +76,26 @@ public class StatusServiceImpl implements StatusService {
     @Override
     public Status save(Status status) {
         log.debug("Request to save Status : {}", status);
-        Status result = statusRepository.save(status);
+        boolean created = status.getId() == null;
+        Set<Long> issueIds = new HashSet<>();
+        List<Instant> times = new ArrayList<>();
+        if (!created) {
+            issueIds.addAll(statusRepository.findIssueIdById(status.getId()));
+            times.addAll(statusRepository.findTimeChagedById(status.getId()));
+        }
+        if (status.getIssue() != null && status.getIssue().getId() != null) {
+            issueIds.add(status.getIssue().getId());
+        }
+        Status result = statusRollupService.track(issueIds, () -> statusRepository.save(status));
+        timeInStatusService.refresh(issueIds);
         statusSearchRepository.save(result);
+        // an updated transition may have moved from an earlier time
+        if (result.getTimeChaged() != null) {
+            times.add(result.getTimeChaged());
+        }
+        Instant earliest = times.stream().min(Comparator.naturalOrder()).orElse(null);
+        cumulativeFlowService.evict(earliest);
+        asOfService.evict(earliest);
         return result;
     }
 
@@ -62,6 +112,44 @@ public class StatusServiceImpl implements StatusService {
         return statusRepository.findAll(pageable);
     }
 
+    /**
+     * Get all the statuses as list rows, read with a constructor expression so no entity is loaded.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<StatusListDTO> findAllProjected(Pageable pageable) {
+        log.debug("Request to get all Statuses as list rows");
+        return statusRepository.findAllProjected(pageable);
+    }
+
+    /**
+     * Get the statuses following an id, in id order, without counting them.
+     *
+     * @param after the id to start after, exclusive
+     * @param size the maximum number of statuses
+     * @return the slice of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<StatusListDTO> findAllAfter(Long after, int size) {
+        log.debug("Request to get Statuses after : {}", after);
+        return statusRepository.findAllProjectedAfter(after, PageRequest.of(0, size));
+    }
+
+    /**
+     * Estimate the number of statuses.
+     *
+     * @return the estimated number of entities
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long estimateCount() {
+        return rowCountEstimateRepository.estimateCount(Status.class);
+    }
+
 
     /**
      * Get one status by id.
@@ -84,8 +172,15 @@ public class StatusServiceImpl implements StatusService {
     @Override
     public void delete(Long id) {
         log.debug("Request to delete Status : {}", id);
-        statusRepository.deleteById(id);
+        List<Long> issueIds = statusRepository.findIssueIdById(id);
+        statusRollupService.track(issueIds, () -> {
+            statusRepository.deleteById(id);
+            return null;
+        });
+        timeInStatusService.refresh(issueIds);
         statusSearchRepository.deleteById(id);
+        cumulativeFlowService.evict(null);
+        asOfService.evict(null);
     }
 
     /**
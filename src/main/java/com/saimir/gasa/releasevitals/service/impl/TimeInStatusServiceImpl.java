@@ -0,0 +1,109 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.IssueStatusDuration;
+import com.saimir.gasa.releasevitals.repository.IssueStatusDurationRepository;
+import com.saimir.gasa.releasevitals.repository.StatusRepository;
+import com.saimir.gasa.releasevitals.service.TimeInStatusService;
+import com.saimir.gasa.releasevitals.service.dto.TimeInStatusDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Service Implementation for managing the time in status.
+ * <p>
+ * The durations of an issue are rebuilt from its own Status rows whenever they change, so the sums
+ * never pair Status rows at read time. Each visit to a status lasts until the next transition of the
+ * issue; the current visit is not counted until it ends.
+ */
+@Service
+@Transactional
+public class TimeInStatusServiceImpl implements TimeInStatusService {
+
+    private final Logger log = LoggerFactory.getLogger(TimeInStatusServiceImpl.class);
+
+    private final IssueStatusDurationRepository issueStatusDurationRepository;
+
+    private final StatusRepository statusRepository;
+
+    public TimeInStatusServiceImpl(IssueStatusDurationRepository issueStatusDurationRepository, StatusRepository statusRepository) {
+        this.issueStatusDurationRepository = issueStatusDurationRepository;
+        this.statusRepository = statusRepository;
+    }
+
+    /**
+     * Recompute the durations of the given issues from their Status rows.
+     *
+     * @param issueIds the ids of the issues
+     * @return the number of durations written
+     */
+    @Override
+    public int refresh(Collection<Long> issueIds) {
+        if (issueIds.isEmpty()) {
+            return 0;
+        }
+        log.debug("Request to refresh the time in status of Issues : {}", issueIds);
+        List<Object[]> transitions = statusRepository.findTransitionsByIssueIds(issueIds);
+        issueStatusDurationRepository.deleteAllByIssueIdIn(issueIds);
+        List<IssueStatusDuration> durations = computeDurations(transitions);
+        issueStatusDurationRepository.saveAll(durations);
+        return durations.size();
+    }
+
+    /**
+     * Get the time the issues of a release spent in each status, by project.
+     *
+     * @param releaseId the id of the release
+     * @return the durations, by project and status
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TimeInStatusDTO> getTimeInStatus(Long releaseId) {
+        log.debug("Request to get the time in status of Release : {}", releaseId);
+        return issueStatusDurationRepository.sumByRelease(releaseId).stream()
+            .map(row -> new TimeInStatusDTO((Long) row[0], (String) row[1], (Long) row[2], (Long) row[3], (Long) row[4]))
+            .sorted(Comparator.comparing(TimeInStatusDTO::getProjectId, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(TimeInStatusDTO::getStatus))
+            .collect(Collectors.toList());
+    }
+
+    private static List<IssueStatusDuration> computeDurations(List<Object[]> transitions) {
+        List<IssueStatusDuration> durations = new ArrayList<>();
+        Map<String, IssueStatusDuration> byStatus = new LinkedHashMap<>();
+        Object[] previous = null;
+        for (Object[] transition : transitions) {
+            if (previous != null && !Objects.equals(previous[0], transition[0])) {
+                durations.addAll(byStatus.values());
+                byStatus.clear();
+                previous = null;
+            }
+            if (previous != null && previous[3] != null) {
+                long seconds = Duration.between((Instant) previous[4], (Instant) transition[4]).getSeconds();
+                IssueStatusDuration duration = byStatus.computeIfAbsent((String) previous[3], status -> new IssueStatusDuration()
+                    .issueId((Long) transition[0])
+                    .projectId((Long) transition[1])
+                    .releaseId((Long) transition[2])
+                    .status(status)
+                    .visitCount(0)
+                    .durationSeconds(0L));
+                duration.setVisitCount(duration.getVisitCount() + 1);
+                duration.setDurationSeconds(duration.getDurationSeconds() + seconds);
+            }
+            previous = transition;
+        }
+        durations.addAll(byStatus.values());
+        return durations;
+    }
+}
@@ -4,6 +4,7 @@ import com.saimir.gasa.releasevitals.service.VersionService;
 import com.saimir.gasa.releasevitals.domain.Version;
 import com.saimir.gasa.releasevitals.repository.VersionRepository;
 import com.saimir.gasa.releasevitals.repository.search.VersionSearchRepository;
+import com.saimir.gasa.releasevitals.service.dto.VersionListDTO;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,6 +63,19 @@ public class VersionServiceImpl implements VersionService {
         return versionRepository.findAll(pageable);
     }
 
+    /**
+     * Get all the versions as list rows, read with a constructor expression so no entity is loaded.
+     *
+     * @param pageable the pagination information
+     * @return the list of rows
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<VersionListDTO> findAllProjected(Pageable pageable) {
+        log.debug("Request to get all Versions as list rows");
+        return versionRepository.findAllProjected(pageable);
+    }
+
 
     /**
      * Get one version by id.
@@ -0,0 +1,121 @@
+package com.saimir.gasa.releasevitals.service.impl;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.service.IssueFactStore;
+import com.saimir.gasa.releasevitals.service.WhatIfService;
+import com.saimir.gasa.releasevitals.service.dto.EpicMetricsDTO;
+import com.saimir.gasa.releasevitals.service.dto.WhatIfDTO;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsTotals;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Service Implementation evaluating hypothetical release windows and version sets.
+ * <p>
+ * The metrics are aggregated from the {@link IssueFactStore}, the same rules as the Jira refresh being
+ * applied to the facts it read. Only the release, its epics and their projects are loaded.
+ */
+@Service
+@Transactional(readOnly = true)
+public class WhatIfServiceImpl implements WhatIfService {
+
+    private final Logger log = LoggerFactory.getLogger(WhatIfServiceImpl.class);
+
+    private final ReleaseRepository releaseRepository;
+
+    private final EpicRepository epicRepository;
+
+    private final IssueFactStore issueFactStore;
+
+    public WhatIfServiceImpl(ReleaseRepository releaseRepository, EpicRepository epicRepository, IssueFactStore issueFactStore) {
+        this.releaseRepository = releaseRepository;
+        this.epicRepository = epicRepository;
+        this.issueFactStore = issueFactStore;
+    }
+
+    /**
+     * Recompute the epic metrics of a release for another window or version set.
+     *
+     * @param releaseId the id of the release
+     * @param startDate the hypothetical start date, or null to keep the release one
+     * @param endDate the hypothetical end date, or null to keep the release one
+     * @param versionsByProject the hypothetical fix versions by project key; projects not listed keep their versions
+     * @return the recomputed metrics, or empty if the release does not exist
+     */
+    @Override
+    public Optional<WhatIfDTO> evaluate(Long releaseId, Instant startDate, Instant endDate, Map<String, Set<String>> versionsByProject) {
+        log.debug("Request to evaluate Release : {} from {} to {} with versions {}", releaseId, startDate, endDate, versionsByProject);
+        return releaseRepository.findById(releaseId)
+            .map(release -> evaluate(release,
+                startDate != null ? startDate : release.getStartDate(),
+                endDate != null ? endDate : release.getEndDate(),
+                byUpperCaseKey(versionsByProject)));
+    }
+
+    private WhatIfDTO evaluate(Release release, Instant startDate, Instant endDate, Map<String, Set<String>> versionsByProject) {
+        List<Epic> epics = epicRepository.findAllByReleaseWithProjectVersions(release.getId());
+        epics.sort(Comparator.comparing(Epic::getId));
+
+        List<EpicMetricsDTO> metrics = new ArrayList<>(epics.size());
+        List<Long> missingEpicIds = new ArrayList<>();
+        EpicMetricsTotals totals = new EpicMetricsTotals();
+        for (Epic epic : epics) {
+            if (!issueFactStore.contains(epic.getId())) {
+                missingEpicIds.add(epic.getId());
+                continue;
+            }
+            IssueFactStore.Query query = issueFactStore.newQuery();
+            for (Project project : epic.getProjects()) {
+                Release projectRelease = project.getRelease();
+                if (projectRelease != null && release.getId().equals(projectRelease.getId())) {
+                    Set<String> versions = project.getKey() == null ? null : versionsByProject.get(project.getKey().toUpperCase(Locale.ROOT));
+                    if (versions != null) {
+                        versions.forEach(version -> query.include(project.getKey(), version, startDate, endDate));
+                    } else {
+                        project.getVersions().forEach(version -> query.include(project.getKey(), version.getName(), startDate, endDate));
+                    }
+                } else {
+                    // projects of other releases keep their own window
+                    Instant start = projectRelease == null ? null : projectRelease.getStartDate();
+                    Instant end = projectRelease == null ? null : projectRelease.getEndDate();
+                    for (Version version : project.getVersions()) {
+                        query.include(project.getKey(), version.getName(), start, end);
+                    }
+                }
+            }
+            issueFactStore.aggregate(epic.getId(), query, totals.reset());
+            metrics.add(totals.copyTo(new EpicMetricsDTO(epic.getId(), epic.getName(), epic.getKey())));
+        }
+        return new WhatIfDTO(release.getId(), startDate, endDate,
+            Collections.unmodifiableList(metrics), Collections.unmodifiableList(missingEpicIds));
+    }
+
+    private static Map<String, Set<String>> byUpperCaseKey(Map<String, Set<String>> versionsByProject) {
+        Map<String, Set<String>> result = new TreeMap<>();
+        if (versionsByProject != null) {
+            // keys differing only in case name the same project, so their versions are merged
+            versionsByProject.forEach((key, versions) -> result.computeIfAbsent(key.toUpperCase(Locale.ROOT),
+                upperCaseKey -> new LinkedHashSet<>()).addAll(versions));
+        }
+        return result;
+    }
+}
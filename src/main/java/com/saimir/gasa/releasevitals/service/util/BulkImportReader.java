@@ -0,0 +1,233 @@
+package com.saimir.gasa.releasevitals.service.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saimir.gasa.releasevitals.service.dto.BulkImportRowDTO;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reads the rows of a bulk import one at a time, so a document of any size is imported in constant memory.
+ * <p>
+ * NDJSON holds one object per row, with the properties of {@link BulkImportRowDTO}. CSV starts with a header
+ * naming the same properties in any order; a field may be quoted, and the versions and projects are
+ * separated by "|" within their field.
+ */
+public abstract class BulkImportReader implements Closeable {
+
+    private static final String LIST_SEPARATOR = "|";
+
+    /**
+     * @return the next row, or null at the end of the document
+     * @throws IOException if the document cannot be read or is malformed, with the line in the message
+     */
+    public abstract BulkImportRowDTO next() throws IOException;
+
+    /**
+     * @param objectMapper the mapper reading the rows
+     * @param inputStream the NDJSON document
+     * @return a reader of the rows of the document
+     * @throws IOException if the document cannot be opened
+     */
+    public static BulkImportReader ndjson(ObjectMapper objectMapper, InputStream inputStream) throws IOException {
+        return new NdjsonReader(objectMapper, objectMapper.getFactory().createParser(inputStream));
+    }
+
+    /**
+     * @param inputStream the CSV document, in UTF-8
+     * @return a reader of the rows of the document
+     * @throws IOException if the header cannot be read or names an unknown property
+     */
+    public static BulkImportReader csv(InputStream inputStream) throws IOException {
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+        reader.readHeader();
+        return reader;
+    }
+
+    private static final class NdjsonReader extends BulkImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        private final JsonParser parser;
+
+        private NdjsonReader(ObjectMapper objectMapper, JsonParser parser) {
+            this.objectMapper = objectMapper;
+            this.parser = parser;
+        }
+
+        @Override
+        public BulkImportRowDTO next() throws IOException {
+            long lineNumber = parser.getCurrentLocation().getLineNr();
+            try {
+                JsonToken token = parser.nextToken();
+                if (token == null) {
+                    return null;
+                }
+                lineNumber = parser.getTokenLocation().getLineNr();
+                if (token != JsonToken.START_OBJECT) {
+                    throw new IOException("Line " + lineNumber + ": expected an object but found " + token);
+                }
+                BulkImportRowDTO row = objectMapper.readValue(parser, BulkImportRowDTO.class);
+                row.setLineNumber(lineNumber);
+                return row;
+            } catch (JsonProcessingException e) {
+                throw new IOException("Line " + lineNumber + ": " + e.getOriginalMessage(), e);
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            parser.close();
+        }
+    }
+
+    private static final class CsvReader extends BulkImportReader {
+
+        private static final List<String> PROPERTIES = Arrays.asList("type", "name", "key", "release", "startDate",
+            "endDate", "versions", "projects", "browserURL");
+
+        private final BufferedReader reader;
+
+        private int[] properties;
+
+        private long lineNumber;
+
+        private long recordLineNumber;
+
+        private CsvReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        private void readHeader() throws IOException {
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new IOException("Line 1: missing header");
+            }
+            properties = new int[header.size()];
+            for (int i = 0; i < header.size(); i++) {
+                properties[i] = PROPERTIES.indexOf(header.get(i).trim());
+                if (properties[i] < 0) {
+                    throw new IOException("Line " + recordLineNumber + ": unknown column '" + header.get(i) + "'");
+                }
+            }
+        }
+
+        @Override
+        public BulkImportRowDTO next() throws IOException {
+            List<String> fields;
+            do {
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isEmpty());
+            if (fields.size() != properties.length) {
+                throw new IOException("Line " + recordLineNumber + ": expected " + properties.length + " fields but found " + fields.size());
+            }
+            BulkImportRowDTO row = new BulkImportRowDTO();
+            row.setLineNumber(recordLineNumber);
+            for (int i = 0; i < fields.size(); i++) {
+                String value = fields.get(i).isEmpty() ? null : fields.get(i);
+                try {
+                    set(row, properties[i], value);
+                } catch (DateTimeParseException e) {
+                    throw new IOException("Line " + recordLineNumber + ": invalid date '" + value + "'", e);
+                }
+            }
+            return row;
+        }
+
+        private static void set(BulkImportRowDTO row, int property, String value) {
+            switch (property) {
+                case 0: row.setType(value); break;
+                case 1: row.setName(value); break;
+                case 2: row.setKey(value); break;
+                case 3: row.setRelease(value); break;
+                case 4: row.setStartDate(value == null ? null : Instant.parse(value)); break;
+                case 5: row.setEndDate(value == null ? null : Instant.parse(value)); break;
+                case 6: row.setVersions(value == null ? null : split(value)); break;
+                case 7: row.setProjects(value == null ? null : split(value)); break;
+                default: row.setBrowserURL(value);
+            }
+        }
+
+        private static List<String> split(String value) {
+            List<String> values = new ArrayList<>();
+            int start = 0;
+            int end;
+            while ((end = value.indexOf(LIST_SEPARATOR, start)) >= 0) {
+                values.add(value.substring(start, end).trim());
+                start = end + LIST_SEPARATOR.length();
+            }
+            values.add(value.substring(start).trim());
+            return values;
+        }
+
+        /**
+         * Read the fields of one record, which spans several lines when a quoted field holds a line break.
+         */
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            recordLineNumber = ++lineNumber;
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    line = reader.readLine();
+                    if (line == null) {
+                        throw new IOException("Line " + recordLineNumber + ": unterminated quoted field");
+                    }
+                    lineNumber++;
+                    field.append('\n');
+                    i = 0;
+                    continue;
+                }
+                char c = line.charAt(i++);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+}
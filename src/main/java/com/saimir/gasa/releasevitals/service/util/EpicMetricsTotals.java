@@ -0,0 +1,149 @@
+package com.saimir.gasa.releasevitals.service.util;
+
+import com.saimir.gasa.releasevitals.service.dto.EpicMetricsDTO;
+
+import java.time.Instant;
+
+/**
+ * Mutable totals of the Epic metrics, rolling issues up with the rules of {@link EpicMetricsUtil}.
+ * Reusable across aggregations through {@link #reset()}; no object is allocated per issue.
+ */
+public final class EpicMetricsTotals {
+
+    /**
+     * The resolution date of an issue not resolved, in epoch milliseconds.
+     */
+    public static final long NOT_RESOLVED = Long.MIN_VALUE;
+
+    private int issueCount;
+
+    private int unestimatedIssueCount;
+
+    private double totalStoryPoints;
+
+    private double storyPointsCompleted;
+
+    private double remainingStoryPoints;
+
+    public EpicMetricsTotals reset() {
+        issueCount = 0;
+        unestimatedIssueCount = 0;
+        totalStoryPoints = 0;
+        storyPointsCompleted = 0;
+        remainingStoryPoints = 0;
+        return this;
+    }
+
+    /**
+     * Add an issue tagged with a fix version of a project. Its points are completed or remaining only when
+     * it was resolved inside the release window of that project, unless it is not resolved at all.
+     *
+     * @param resolutionClass the class of the issue, see {@link EpicMetricsUtil#resolutionClass(String, String)}
+     * @param estimate the story points, or NaN if not estimated
+     * @param resolvedAt the resolution date in epoch milliseconds, or {@link #NOT_RESOLVED}
+     * @param windowStart the release start date in epoch milliseconds
+     * @param windowEnd the release end date in epoch milliseconds
+     * @return these totals
+     */
+    public EpicMetricsTotals add(byte resolutionClass, double estimate, long resolvedAt, long windowStart, long windowEnd) {
+        double points = estimate;
+        if (Double.isNaN(points)) {
+            unestimatedIssueCount++;
+            points = 0;
+        }
+        issueCount++;
+        totalStoryPoints += points;
+        switch (resolutionClass) {
+            case EpicMetricsUtil.UNRESOLVED:
+                remainingStoryPoints += points;
+                break;
+            case EpicMetricsUtil.DISCARDED:
+                break;
+            default:
+                if (resolvedAt != NOT_RESOLVED && EpicMetricsUtil.isInWindow(resolvedAt, windowStart, windowEnd)) {
+                    if (resolutionClass == EpicMetricsUtil.DONE) {
+                        storyPointsCompleted += points;
+                    } else {
+                        remainingStoryPoints += points;
+                    }
+                }
+        }
+        return this;
+    }
+
+    /**
+     * Add an issue tagged with a fix version of a project, see {@link #add(byte, double, long, long, long)}.
+     *
+     * @param resolutionClass the class of the issue
+     * @param estimate the story points, or null if not estimated
+     * @param resolutionDate the resolution date, or null if not resolved
+     * @param windowStart the release start date, or null if open
+     * @param windowEnd the release end date, or null if open
+     * @return these totals
+     */
+    public EpicMetricsTotals add(byte resolutionClass, Double estimate, Instant resolutionDate, Instant windowStart, Instant windowEnd) {
+        return add(resolutionClass,
+            estimate == null ? Double.NaN : estimate,
+            resolutionDate == null ? NOT_RESOLVED : resolutionDate.toEpochMilli(),
+            windowStart == null ? Long.MIN_VALUE : windowStart.toEpochMilli(),
+            windowEnd == null ? Long.MAX_VALUE : windowEnd.toEpochMilli());
+    }
+
+    /**
+     * Add the metrics of an epic, to total a release.
+     *
+     * @param metrics the metrics of the epic
+     * @return these totals
+     */
+    public EpicMetricsTotals add(EpicMetricsDTO metrics) {
+        issueCount += metrics.getTotalIssueCount();
+        unestimatedIssueCount += metrics.getUnestimatedIssueCount();
+        totalStoryPoints += metrics.getTotalStoryPoints();
+        storyPointsCompleted += metrics.getStoryPointsCompleted();
+        remainingStoryPoints += metrics.getRemainingStoryPoints();
+        return this;
+    }
+
+    /**
+     * Copy these totals into the metrics of an epic.
+     *
+     * @param metrics the metrics of the epic
+     * @return the metrics
+     */
+    public EpicMetricsDTO copyTo(EpicMetricsDTO metrics) {
+        metrics.setTotalIssueCount(issueCount);
+        metrics.setUnestimatedIssueCount(unestimatedIssueCount);
+        metrics.setTotalStoryPoints(totalStoryPoints);
+        metrics.setStoryPointsCompleted(storyPointsCompleted);
+        metrics.setRemainingStoryPoints(remainingStoryPoints);
+        metrics.setPercentageCompleted(getPercentageCompleted());
+        return metrics;
+    }
+
+    public int getIssueCount() {
+        return issueCount;
+    }
+
+    public int getUnestimatedIssueCount() {
+        return unestimatedIssueCount;
+    }
+
+    public double getTotalStoryPoints() {
+        return totalStoryPoints;
+    }
+
+    public double getStoryPointsCompleted() {
+        return storyPointsCompleted;
+    }
+
+    public double getRemainingStoryPoints() {
+        return remainingStoryPoints;
+    }
+
+    /**
+     * @return the ratio of completed to total story points, or null without any story point
+     */
+    public Double getPercentageCompleted() {
+        return totalStoryPoints == 0 ? null : storyPointsCompleted / totalStoryPoints;
+    }
+}
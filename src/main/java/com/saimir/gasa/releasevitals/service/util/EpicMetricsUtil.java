@@ -0,0 +1,90 @@
+package com.saimir.gasa.releasevitals.service.util;
+
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utility class holding the rules used to roll Jira issues up into the Epic metrics.
+ */
+public final class EpicMetricsUtil {
+
+    /**
+     * The issue has no resolution: its points are remaining.
+     */
+    public static final byte UNRESOLVED = 0;
+
+    /**
+     * The issue was resolved as a duplicate, obsolete, not an issue or won't do: its points are neither
+     * completed nor remaining.
+     */
+    public static final byte DISCARDED = 1;
+
+    /**
+     * The issue was closed or resolved as done or fixed: its points are completed when resolved in the release window.
+     */
+    public static final byte DONE = 2;
+
+    /**
+     * Any other resolution: its points are remaining when resolved in the release window.
+     */
+    public static final byte RESOLVED = 3;
+
+    private EpicMetricsUtil() {
+    }
+
+    /**
+     * Classify an issue by its status and resolution.
+     *
+     * @param status the Jira status name
+     * @param resolution the Jira resolution name, or null if unresolved
+     * @return one of {@link #UNRESOLVED}, {@link #DISCARDED}, {@link #DONE} or {@link #RESOLVED}
+     */
+    public static byte resolutionClass(String status, String resolution) {
+        if (resolution == null) {
+            return UNRESOLVED;
+        }
+        if ("Duplicate".equalsIgnoreCase(resolution) || "Obsolete".equalsIgnoreCase(resolution) ||
+            "Not an issue".equalsIgnoreCase(resolution) || "Won't Do".equalsIgnoreCase(resolution)) {
+            return DISCARDED;
+        }
+        if (("Closed".equalsIgnoreCase(status) || "Resolved".equalsIgnoreCase(status)) &&
+            ("Done".equalsIgnoreCase(resolution) || "Fixed".equalsIgnoreCase(resolution))) {
+            return DONE;
+        }
+        return RESOLVED;
+    }
+
+    /**
+     * Check if a resolution date falls strictly inside a release window.
+     *
+     * @param resolvedAt the resolution date in epoch milliseconds
+     * @param windowStart the release start date in epoch milliseconds
+     * @param windowEnd the release end date in epoch milliseconds
+     * @return true if the issue was resolved during the release
+     */
+    public static boolean isInWindow(long resolvedAt, long windowStart, long windowEnd) {
+        return resolvedAt > windowStart && resolvedAt < windowEnd;
+    }
+
+    /**
+     * Keep one fact per issue. Jira gives one fact per fix version of an issue, which would count the
+     * issue once per version.
+     *
+     * @param issueFacts the facts read from Jira
+     * @return the first fact of each issue with a key, in their order
+     */
+    public static List<IssueFact> oneFactPerIssue(List<IssueFact> issueFacts) {
+        List<IssueFact> issues = new ArrayList<>(issueFacts.size());
+        Set<String> issueKeys = new HashSet<>();
+        for (IssueFact issueFact : issueFacts) {
+            if (issueFact.getIssueKey() != null && issueKeys.add(issueFact.getIssueKey())) {
+                issues.add(issueFact);
+            }
+        }
+        return issues;
+    }
+}
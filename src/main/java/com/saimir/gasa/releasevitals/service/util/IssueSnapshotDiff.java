@@ -0,0 +1,182 @@
+package com.saimir.gasa.releasevitals.service.util;
+
+import com.saimir.gasa.releasevitals.service.dto.ChangeDigestSummaryDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueChangeDTO;
+
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Utility class diffing two states of the issue snapshots of a release with a single merge-join.
+ * <p>
+ * Both inputs are rows ordered by key hash, issue key and fix version, laid out as
+ * {@code [keyHash, issueKey, fixVersion, projectKey, status, resolution, estimate, resolutionDate]}.
+ * Ordering on the key hash first keeps the merge independent of the database collation. When an
+ * issue appears several times for the same fix version, only its last row is kept.
+ */
+public final class IssueSnapshotDiff {
+
+    public static final int KEY_HASH = 0;
+    public static final int ISSUE_KEY = 1;
+    public static final int FIX_VERSION = 2;
+    public static final int PROJECT_KEY = 3;
+    public static final int STATUS = 4;
+    public static final int RESOLUTION = 5;
+    public static final int ESTIMATE = 6;
+    public static final int RESOLUTION_DATE = 7;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private IssueSnapshotDiff() {
+    }
+
+    /**
+     * Compute the stable 64-bit FNV-1a hash the snapshots are ordered by.
+     *
+     * @param issueKey the Jira issue key
+     * @param fixVersion the fix version name, or null
+     * @return the hash of the key
+     */
+    public static long keyHash(String issueKey, String fixVersion) {
+        long hash = hash(FNV_OFFSET_BASIS, issueKey);
+        // noncharacters separate the key from the version and mark a missing version
+        hash = (hash ^ 0xffff) * FNV_PRIME;
+        return fixVersion == null ? (hash ^ 0xfffe) * FNV_PRIME : hash(hash, fixVersion);
+    }
+
+    private static long hash(long hash, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * Order two keys the way the snapshot rows are sorted.
+     */
+    public static int compareKeys(long keyHash, String issueKey, String fixVersion,
+                                  long otherKeyHash, String otherIssueKey, String otherFixVersion) {
+        int result = Long.compare(keyHash, otherKeyHash);
+        if (result == 0) {
+            result = issueKey.compareTo(otherIssueKey);
+        }
+        if (result == 0 && !Objects.equals(fixVersion, otherFixVersion)) {
+            result = fixVersion == null ? -1 : otherFixVersion == null ? 1 : fixVersion.compareTo(otherFixVersion);
+        }
+        return result;
+    }
+
+    /**
+     * Diff the rows of a release at two instants.
+     *
+     * @param before the rows at the earlier instant
+     * @param after the rows at the later instant
+     * @param changes called once per changed issue and fix version, in key order
+     * @return the totals of the changes
+     */
+    public static ChangeDigestSummaryDTO diff(Iterator<Object[]> before, Iterator<Object[]> after, Consumer<IssueChangeDTO> changes) {
+        ChangeDigestSummaryDTO summary = new ChangeDigestSummaryDTO();
+        Cursor left = new Cursor(before);
+        Cursor right = new Cursor(after);
+        Object[] from = left.next();
+        Object[] to = right.next();
+        while (from != null || to != null) {
+            int order = from == null ? 1 : to == null ? -1 : compare(from, to);
+            if (order < 0) {
+                removed(from, summary, changes);
+                from = left.next();
+            } else if (order > 0) {
+                added(to, summary, changes);
+                to = right.next();
+            } else {
+                changed(from, to, summary, changes);
+                from = left.next();
+                to = right.next();
+            }
+        }
+        return summary;
+    }
+
+    private static void removed(Object[] row, ChangeDigestSummaryDTO summary, Consumer<IssueChangeDTO> changes) {
+        summary.removed((Double) row[ESTIMATE]);
+        changes.accept(new IssueChangeDTO((String) row[ISSUE_KEY], (String) row[FIX_VERSION], (String) row[PROJECT_KEY],
+            EnumSet.of(IssueChangeDTO.Kind.REMOVED), (String) row[STATUS], null, (Double) row[ESTIMATE], null));
+    }
+
+    private static void added(Object[] row, ChangeDigestSummaryDTO summary, Consumer<IssueChangeDTO> changes) {
+        EnumSet<IssueChangeDTO.Kind> kinds = EnumSet.of(IssueChangeDTO.Kind.ADDED);
+        summary.added((Double) row[ESTIMATE]);
+        if (isDone(row)) {
+            kinds.add(IssueChangeDTO.Kind.COMPLETED);
+            summary.completed((Double) row[ESTIMATE]);
+        }
+        changes.accept(new IssueChangeDTO((String) row[ISSUE_KEY], (String) row[FIX_VERSION], (String) row[PROJECT_KEY],
+            kinds, null, (String) row[STATUS], null, (Double) row[ESTIMATE]));
+    }
+
+    private static void changed(Object[] from, Object[] to, ChangeDigestSummaryDTO summary, Consumer<IssueChangeDTO> changes) {
+        EnumSet<IssueChangeDTO.Kind> kinds = EnumSet.noneOf(IssueChangeDTO.Kind.class);
+        boolean wasDone = isDone(from);
+        boolean isDone = isDone(to);
+        if (!wasDone && isDone) {
+            kinds.add(IssueChangeDTO.Kind.COMPLETED);
+            summary.completed((Double) to[ESTIMATE]);
+        } else if (wasDone && !isDone) {
+            kinds.add(IssueChangeDTO.Kind.REOPENED);
+            summary.reopened((Double) from[ESTIMATE]);
+        }
+        if (!Objects.equals(from[ESTIMATE], to[ESTIMATE])) {
+            kinds.add(IssueChangeDTO.Kind.ESTIMATE_CHANGED);
+            summary.reestimated((Double) from[ESTIMATE], (Double) to[ESTIMATE]);
+        }
+        if (!Objects.equals(from[STATUS], to[STATUS])) {
+            kinds.add(IssueChangeDTO.Kind.STATUS_CHANGED);
+        }
+        if (!kinds.isEmpty()) {
+            changes.accept(new IssueChangeDTO((String) to[ISSUE_KEY], (String) to[FIX_VERSION], (String) to[PROJECT_KEY],
+                kinds, (String) from[STATUS], (String) to[STATUS], (Double) from[ESTIMATE], (Double) to[ESTIMATE]));
+        }
+    }
+
+    private static boolean isDone(Object[] row) {
+        return EpicMetricsUtil.resolutionClass((String) row[STATUS], (String) row[RESOLUTION]) == EpicMetricsUtil.DONE;
+    }
+
+    private static int compare(Object[] row, Object[] other) {
+        return compareKeys((Long) row[KEY_HASH], (String) row[ISSUE_KEY], (String) row[FIX_VERSION],
+            (Long) other[KEY_HASH], (String) other[ISSUE_KEY], (String) other[FIX_VERSION]);
+    }
+
+    /**
+     * Reads the rows one key at a time, keeping the last row of each key.
+     */
+    private static final class Cursor {
+
+        private final Iterator<Object[]> rows;
+
+        private Object[] pending;
+
+        private Cursor(Iterator<Object[]> rows) {
+            this.rows = rows;
+            this.pending = rows.hasNext() ? rows.next() : null;
+        }
+
+        private Object[] next() {
+            Object[] current = pending;
+            pending = null;
+            while (current != null && rows.hasNext()) {
+                Object[] row = rows.next();
+                if (compare(current, row) != 0) {
+                    pending = row;
+                    break;
+                }
+                current = row;
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.saimir.gasa.releasevitals.service.util;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Spreads the rows written by concurrent workers over time, so they never exceed a rate.
+ * A worker pays for its rows after writing them: it waits until the previous rows are due.
+ */
+public final class WriteThrottle {
+
+    private final long nanosPerRow;
+
+    private long nextFreeNanos = System.nanoTime();
+
+    /**
+     * @param rowsPerSecond the rows allowed per second, or 0 for no limit
+     */
+    public WriteThrottle(int rowsPerSecond) {
+        this.nanosPerRow = rowsPerSecond <= 0 ? 0 : TimeUnit.SECONDS.toNanos(1) / rowsPerSecond;
+    }
+
+    /**
+     * Wait until the given rows fit in the rate.
+     *
+     * @param rows the rows just written
+     */
+    public void acquire(int rows) {
+        if (nanosPerRow == 0 || rows <= 0) {
+            return;
+        }
+        long waitNanos;
+        synchronized (this) {
+            long now = System.nanoTime();
+            waitNanos = Math.max(0, nextFreeNanos - now);
+            nextFreeNanos = Math.max(nextFreeNanos, now) + rows * nanosPerRow;
+        }
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.service.AgingWipService;
+import com.saimir.gasa.releasevitals.service.dto.AgingIssueDTO;
+import com.saimir.gasa.releasevitals.web.rest.util.PaginationUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * REST controller for reading the open issues by age in their current status.
+ */
+@RestController
+@RequestMapping("/api")
+public class AgingWipResource {
+
+    private final Logger log = LoggerFactory.getLogger(AgingWipResource.class);
+
+    private final AgingWipService agingWipService;
+
+    public AgingWipResource(AgingWipService agingWipService) {
+        this.agingWipService = agingWipService;
+    }
+
+    /**
+     * GET  /epics/:id/aging-wip : get the open issues of the "id" epic, oldest in their current status first.
+     *
+     * @param id the id of the epic
+     * @param projectKey the key of the project to restrict to; all the projects by default
+     * @param pageable the pagination information
+     * @return the ResponseEntity with status 200 (OK) and the list of issues in body, or with status 404 (Not Found)
+     */
+    @GetMapping("/epics/{id}/aging-wip")
+    @Timed
+    public ResponseEntity<List<AgingIssueDTO>> getAgingWipOfEpic(@PathVariable Long id,
+                                                                 @RequestParam(required = false) String projectKey,
+                                                                 Pageable pageable) {
+        log.debug("REST request to get the aging work in progress of Epic : {}", id);
+        Optional<Page<AgingIssueDTO>> page = agingWipService.getAgingWipOfEpic(id, projectKey, pageable);
+        String baseUrl = "/api/epics/" + id + "/aging-wip" + (projectKey == null ? "" : "?projectKey=" + projectKey);
+        return page.map(issues -> toResponse(issues, baseUrl)).orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    /**
+     * GET  /projects/:id/aging-wip : get the open issues of the "id" project in its epics, oldest in their current status first.
+     *
+     * @param id the id of the project
+     * @param pageable the pagination information
+     * @return the ResponseEntity with status 200 (OK) and the list of issues in body, or with status 404 (Not Found)
+     */
+    @GetMapping("/projects/{id}/aging-wip")
+    @Timed
+    public ResponseEntity<List<AgingIssueDTO>> getAgingWipOfProject(@PathVariable Long id, Pageable pageable) {
+        log.debug("REST request to get the aging work in progress of Project : {}", id);
+        Optional<Page<AgingIssueDTO>> page = agingWipService.getAgingWipOfProject(id, pageable);
+        String baseUrl = "/api/projects/" + id + "/aging-wip";
+        return page.map(issues -> toResponse(issues, baseUrl)).orElseGet(() -> new ResponseEntity<>(HttpStatus.NOT_FOUND));
+    }
+
+    private static ResponseEntity<List<AgingIssueDTO>> toResponse(Page<AgingIssueDTO> page, String baseUrl) {
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, baseUrl);
+        return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
+    }
+}
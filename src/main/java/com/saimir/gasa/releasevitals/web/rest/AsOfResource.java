@@ -0,0 +1,60 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.service.AsOfService;
+import com.saimir.gasa.releasevitals.service.dto.EpicAsOfDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseAsOfDTO;
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+
+/**
+ * REST controller for reading the metrics of the epics and releases as they were at a past time.
+ */
+@RestController
+@RequestMapping("/api")
+public class AsOfResource {
+
+    private final Logger log = LoggerFactory.getLogger(AsOfResource.class);
+
+    private final AsOfService asOfService;
+
+    public AsOfResource(AsOfService asOfService) {
+        this.asOfService = asOfService;
+    }
+
+    /**
+     * GET  /epics/:id/as-of : get the metrics of the "id" epic as they were at the given time.
+     *
+     * @param id the id of the epic
+     * @param at the time
+     * @return the ResponseEntity with status 200 (OK) and with body the metrics, or with status 404 (Not Found)
+     */
+    @GetMapping("/epics/{id}/as-of")
+    @Timed
+    public ResponseEntity<EpicAsOfDTO> getEpicAsOf(@PathVariable Long id,
+                                                   @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        log.debug("REST request to get Epic : {} as of {}", id, at);
+        return ResponseUtil.wrapOrNotFound(asOfService.getEpicAsOf(id, at));
+    }
+
+    /**
+     * GET  /releases/:id/as-of : get the metrics of the "id" release as they were at the given time.
+     *
+     * @param id the id of the release
+     * @param at the time
+     * @return the ResponseEntity with status 200 (OK) and with body the metrics, or with status 404 (Not Found)
+     */
+    @GetMapping("/releases/{id}/as-of")
+    @Timed
+    public ResponseEntity<ReleaseAsOfDTO> getReleaseAsOf(@PathVariable Long id,
+                                                         @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant at) {
+        log.debug("REST request to get Release : {} as of {}", id, at);
+        return ResponseUtil.wrapOrNotFound(asOfService.getReleaseAsOf(id, at));
+    }
+}
@@ -0,0 +1,85 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saimir.gasa.releasevitals.security.AuthoritiesConstants;
+import com.saimir.gasa.releasevitals.service.BulkImportService;
+import com.saimir.gasa.releasevitals.service.dto.BulkImportDTO;
+import com.saimir.gasa.releasevitals.service.util.BulkImportReader;
+import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST controller for importing releases, versions, projects and epics in bulk.
+ */
+@RestController
+@RequestMapping("/api")
+public class BulkImportResource {
+
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final Logger log = LoggerFactory.getLogger(BulkImportResource.class);
+
+    private static final String ENTITY_NAME = "bulkImport";
+
+    private final BulkImportService bulkImportService;
+
+    private final ObjectMapper objectMapper;
+
+    public BulkImportResource(BulkImportService bulkImportService, ObjectMapper objectMapper) {
+        this.bulkImportService = bulkImportService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * POST  /bulk-import : import a document with one JSON object per line, streamed as it is read.
+     *
+     * @param body the NDJSON document
+     * @return the ResponseEntity with status 200 (OK) and with body the outcome of the import
+     * @throws IOException if the document cannot be opened
+     */
+    @PostMapping(value = "/bulk-import", consumes = NDJSON_VALUE)
+    @Timed
+    @PreAuthorize("hasRole(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<BulkImportDTO> importNdjson(InputStream body) throws IOException {
+        log.debug("REST request to import an NDJSON document");
+        try (BulkImportReader reader = BulkImportReader.ndjson(objectMapper, body)) {
+            return ResponseEntity.ok(bulkImportService.importRows(reader));
+        }
+    }
+
+    /**
+     * POST  /bulk-import : import a CSV document with a header, streamed as it is read.
+     *
+     * @param body the CSV document, in UTF-8
+     * @return the ResponseEntity with status 200 (OK) and with body the outcome of the import, or with status
+     * 400 (Bad Request) if the header is missing or names an unknown column
+     * @throws IOException if the document cannot be closed
+     */
+    @PostMapping(value = "/bulk-import", consumes = CSV_VALUE)
+    @Timed
+    @PreAuthorize("hasRole(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<BulkImportDTO> importCsv(InputStream body) throws IOException {
+        log.debug("REST request to import a CSV document");
+        BulkImportReader reader;
+        try {
+            reader = BulkImportReader.csv(body);
+        } catch (IOException e) {
+            throw new BadRequestAlertException(e.getMessage(), ENTITY_NAME, "invalidheader");
+        }
+        try {
+            return ResponseEntity.ok(bulkImportService.importRows(reader));
+        } finally {
+            reader.close();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.service.BurndownAnomalyService;
+import com.saimir.gasa.releasevitals.service.dto.BurndownAnomalyDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for reading the epics flagged for scope creep or stalls.
+ */
+@RestController
+@RequestMapping("/api")
+public class BurndownAnomalyResource {
+
+    private final Logger log = LoggerFactory.getLogger(BurndownAnomalyResource.class);
+
+    private final BurndownAnomalyService burndownAnomalyService;
+
+    public BurndownAnomalyResource(BurndownAnomalyService burndownAnomalyService) {
+        this.burndownAnomalyService = burndownAnomalyService;
+    }
+
+    /**
+     * GET  /burndown-anomalies : get the epics whose last refresh broke from their own burndown history.
+     *
+     * @return the ResponseEntity with status 200 (OK) and the list of flagged epics in body, the most recent first
+     */
+    @GetMapping("/burndown-anomalies")
+    @Timed
+    public ResponseEntity<List<BurndownAnomalyDTO>> getBurndownAnomalies() {
+        log.debug("REST request to get the burndown anomalies");
+        return ResponseEntity.ok(burndownAnomalyService.getAnomalies());
+    }
+}
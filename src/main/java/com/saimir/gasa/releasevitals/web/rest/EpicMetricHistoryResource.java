@@ -0,0 +1,56 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.service.EpicMetricHistoryService;
+import com.saimir.gasa.releasevitals.service.dto.EpicMetricHistoryDTO;
+import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST controller for reading the history of the epic metrics.
+ */
+@RestController
+@RequestMapping("/api")
+public class EpicMetricHistoryResource {
+
+    private final Logger log = LoggerFactory.getLogger(EpicMetricHistoryResource.class);
+
+    private static final String ENTITY_NAME = "epic";
+
+    private final EpicMetricHistoryService epicMetricHistoryService;
+
+    public EpicMetricHistoryResource(EpicMetricHistoryService epicMetricHistoryService) {
+        this.epicMetricHistoryService = epicMetricHistoryService;
+    }
+
+    /**
+     * GET  /epic-metric-history : get the revisions of the metrics of the given epics within a time range,
+     * as one set of arrays per epic.
+     *
+     * @param epicIds the ids of the epics
+     * @param from the start of the range, inclusive
+     * @param to the end of the range, inclusive; now by default
+     * @return the ResponseEntity with status 200 (OK) and the list of histories in body, or with status 400 (Bad Request)
+     * if the range is empty
+     */
+    @GetMapping("/epic-metric-history")
+    @Timed
+    public ResponseEntity<List<EpicMetricHistoryDTO>> getEpicMetricHistory(
+            @RequestParam("epicId") List<Long> epicIds,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        log.debug("REST request to get the metric history of Epics : {} from {} to {}", epicIds, from, to);
+        Instant end = to == null ? Instant.now() : to;
+        if (from.isAfter(end)) {
+            throw new BadRequestAlertException("The start of the range must not be after its end", ENTITY_NAME, "invalidrange");
+        }
+        return ResponseEntity.ok(epicMetricHistoryService.getHistory(epicIds, from, end));
+    }
+}
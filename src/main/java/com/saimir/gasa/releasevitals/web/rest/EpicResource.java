@@ -6,6 +6,9 @@ import com.saimir.gasa.releasevitals.domain.Issue;
 import com.saimir.gasa.releasevitals.service.EpicService;
 import com.saimir.gasa.releasevitals.service.IssueService;
 import com.saimir.gasa.releasevitals.service.JiraService;
+import com.saimir.gasa.releasevitals.service.ScopeEventService;
+import com.saimir.gasa.releasevitals.service.dto.ScopeChurnDTO;
+import com.saimir.gasa.releasevitals.service.dto.EpicListDTO;
 import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
 import com.saimir.gasa.releasevitals.web.rest.util.HeaderUtil;
 import com.saimir.gasa.releasevitals.web.rest.util.PaginationUtil;
@@ -15,6 +18,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +27,7 @@ import org.springframework.web.bind.annotation.*;
 import java.net.URI;
 import java.net.URISyntaxException;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
@@ -46,10 +51,13 @@ public class EpicResource {
 
     private final IssueService issueService;
 
-    public EpicResource(EpicService epicService, JiraService jiraService, IssueService issueService) {
+    private final ScopeEventService scopeEventService;
+
+    public EpicResource(EpicService epicService, JiraService jiraService, IssueService issueService, ScopeEventService scopeEventService) {
         this.epicService = epicService;
         this.jiraService = jiraService;
         this.issueService = issueService;
+        this.scopeEventService = scopeEventService;
     }
 
     /**
@@ -79,6 +87,7 @@ public class EpicResource {
      * @param epic the epic to update
      * @return the ResponseEntity with status 200 (OK) and with body the updated epic,
      * or with status 400 (Bad Request) if the epic is not valid,
+     * or with status 409 (Conflict) if the epic was changed since its version was read,
      * or with status 500 (Internal Server Error) if the epic couldn't be updated
      * @throws URISyntaxException if the Location URI syntax is incorrect
      */
@@ -89,6 +98,9 @@ public class EpicResource {
         if (epic.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
         }
+        if (epic.getVersion() == null) {
+            throw new BadRequestAlertException("Invalid version", ENTITY_NAME, "versionnull");
+        }
         Epic result = epicService.save(epic);
         result = jiraService.updateEpicDetails(result.getId(), true);
         return ResponseEntity.ok()
@@ -105,13 +117,13 @@ public class EpicResource {
      */
     @GetMapping("/epics")
     @Timed
-    public ResponseEntity<List<Epic>> getAllEpics(@PageableDefault(size = 99)Pageable pageable, @RequestParam(required = false, defaultValue = "true") boolean eagerload) {
+    public ResponseEntity<List<EpicListDTO>> getAllEpics(@PageableDefault(size = 99)Pageable pageable, @RequestParam(required = false, defaultValue = "true") boolean eagerload) {
         log.debug("REST request to get a page of Epics");
-        Page<Epic> page;
+        Page<EpicListDTO> page;
         if (eagerload) {
-            page = epicService.findAllWithEagerRelationships(pageable);
+            page = epicService.findAllProjectedWithEagerRelationships(pageable);
         } else {
-            page = epicService.findAll(pageable);
+            page = epicService.findAllProjected(pageable);
         }
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, String.format("/api/epics?eagerload=%b", eagerload));
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
@@ -131,6 +143,29 @@ public class EpicResource {
         return ResponseUtil.wrapOrNotFound(epic);
     }
 
+    /**
+     * GET  /epics/:id/scope-churn : get the issues added, removed, re-estimated, resolved and reopened in the "id" epic.
+     *
+     * @param id the id of the epic
+     * @param from the start of the range, inclusive; the beginning of time by default
+     * @param to the end of the range, exclusive; now by default
+     * @return the ResponseEntity with status 200 (OK) and with body the scope churn, or with status 404 (Not Found)
+     */
+    @GetMapping("/epics/{id}/scope-churn")
+    @Timed
+    public ResponseEntity<ScopeChurnDTO> getScopeChurn(@PathVariable Long id,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+                                                       @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        log.debug("REST request to get the scope churn of Epic : {}", id);
+        Instant start = from == null ? Instant.EPOCH : from;
+        Instant end = to == null ? Instant.now() : to;
+        if (start.isAfter(end)) {
+            throw new BadRequestAlertException("The start of the range must not be after its end", ENTITY_NAME, "invaliddates");
+        }
+        Optional<ScopeChurnDTO> scopeChurn = scopeEventService.getScopeChurn(id, start, end);
+        return ResponseUtil.wrapOrNotFound(scopeChurn);
+    }
+
     /**
      * DELETE  /epics/:id : delete the "id" epic.
      *
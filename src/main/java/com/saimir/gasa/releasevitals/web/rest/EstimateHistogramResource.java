@@ -0,0 +1,54 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.service.EstimateHistogramService;
+import com.saimir.gasa.releasevitals.service.dto.EstimateHistogramDTO;
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for reading the distribution of the story point estimates.
+ */
+@RestController
+@RequestMapping("/api")
+public class EstimateHistogramResource {
+
+    private final Logger log = LoggerFactory.getLogger(EstimateHistogramResource.class);
+
+    private final EstimateHistogramService estimateHistogramService;
+
+    public EstimateHistogramResource(EstimateHistogramService estimateHistogramService) {
+        this.estimateHistogramService = estimateHistogramService;
+    }
+
+    /**
+     * GET  /epics/:id/estimate-histogram : get the distribution of the estimates of the "id" epic.
+     *
+     * @param id the id of the epic
+     * @param projectKey the key of the project to restrict to; all the projects by default
+     * @return the ResponseEntity with status 200 (OK) and the histogram in body, or with status 404 (Not Found)
+     */
+    @GetMapping("/epics/{id}/estimate-histogram")
+    @Timed
+    public ResponseEntity<EstimateHistogramDTO> getEstimateHistogramOfEpic(@PathVariable Long id,
+                                                                           @RequestParam(required = false) String projectKey) {
+        log.debug("REST request to get the estimate histogram of Epic : {}", id);
+        return ResponseUtil.wrapOrNotFound(estimateHistogramService.getHistogramOfEpic(id, projectKey));
+    }
+
+    /**
+     * GET  /projects/:id/estimate-histogram : get the distribution of the estimates of the "id" project in its epics.
+     *
+     * @param id the id of the project
+     * @return the ResponseEntity with status 200 (OK) and the histogram in body, or with status 404 (Not Found)
+     */
+    @GetMapping("/projects/{id}/estimate-histogram")
+    @Timed
+    public ResponseEntity<EstimateHistogramDTO> getEstimateHistogramOfProject(@PathVariable Long id) {
+        log.debug("REST request to get the estimate histogram of Project : {}", id);
+        return ResponseUtil.wrapOrNotFound(estimateHistogramService.getHistogramOfProject(id));
+    }
+}
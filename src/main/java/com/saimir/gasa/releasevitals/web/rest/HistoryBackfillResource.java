@@ -0,0 +1,56 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.security.AuthoritiesConstants;
+import com.saimir.gasa.releasevitals.service.HistoryBackfillService;
+import com.saimir.gasa.releasevitals.service.dto.HistoryBackfillDTO;
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for backfilling the history of all the releases.
+ */
+@RestController
+@RequestMapping("/api")
+public class HistoryBackfillResource {
+
+    private final Logger log = LoggerFactory.getLogger(HistoryBackfillResource.class);
+
+    private final HistoryBackfillService historyBackfillService;
+
+    public HistoryBackfillResource(HistoryBackfillService historyBackfillService) {
+        this.historyBackfillService = historyBackfillService;
+    }
+
+    /**
+     * GET  /history-backfill : get the progress and throughput of the last history backfill.
+     *
+     * @return the ResponseEntity with status 200 (OK) and with body the progress, or with status 404 (Not Found)
+     */
+    @GetMapping("/history-backfill")
+    @Timed
+    @PreAuthorize("hasRole(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<HistoryBackfillDTO> getHistoryBackfill() {
+        log.debug("REST request to get the history backfill");
+        return ResponseUtil.wrapOrNotFound(historyBackfillService.getProgress());
+    }
+
+    /**
+     * POST  /history-backfill : recompute the history of every release in the background.
+     *
+     * @param resume true to skip the projects and epics done by the previous backfill
+     * @return the ResponseEntity with status 202 (Accepted) and with body the progress
+     */
+    @PostMapping("/history-backfill")
+    @Timed
+    @PreAuthorize("hasRole(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<HistoryBackfillDTO> startHistoryBackfill(@RequestParam(defaultValue = "false") boolean resume) {
+        log.debug("REST request to start the history backfill, resume : {}", resume);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(historyBackfillService.start(resume));
+    }
+}
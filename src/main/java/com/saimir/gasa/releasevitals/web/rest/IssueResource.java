@@ -3,6 +3,7 @@ package com.saimir.gasa.releasevitals.web.rest;
 import com.codahale.metrics.annotation.Timed;
 import com.saimir.gasa.releasevitals.domain.Issue;
 import com.saimir.gasa.releasevitals.service.IssueService;
+import com.saimir.gasa.releasevitals.service.dto.IssueListDTO;
 import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
 import com.saimir.gasa.releasevitals.web.rest.util.HeaderUtil;
 import com.saimir.gasa.releasevitals.web.rest.util.PaginationUtil;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -92,13 +94,74 @@ public class IssueResource {
      */
     @GetMapping("/issues")
     @Timed
-    public ResponseEntity<List<Issue>> getAllIssues(Pageable pageable) {
+    public ResponseEntity<List<IssueListDTO>> getAllIssues(Pageable pageable) {
         log.debug("REST request to get a page of Issues");
-        Page<Issue> page = issueService.findAll(pageable);
+        Page<IssueListDTO> page = issueService.findAllProjected(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/issues");
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
+    /**
+     * GET  /issues?after=:id : get the issues following an id, in id order.
+     * <p>
+     * The page seeks on the id instead of skipping an offset and is not counted: the Link header carries the
+     * cursor of the next page, and an estimated total is added on request.
+     *
+     * @param after the id to start after, 0 for the first page
+     * @param size the maximum number of issues
+     * @param estimate whether to add the X-Total-Count-Estimate header
+     * @return the ResponseEntity with status 200 (OK) and the list of issues in body, or with status 400 (Bad Request)
+     * if the size is out of range
+     */
+    @GetMapping(value = "/issues", params = "after")
+    @Timed
+    public ResponseEntity<List<IssueListDTO>> getAllIssuesAfter(@RequestParam Long after, @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean estimate) {
+        log.debug("REST request to get Issues after : {}", after);
+        if (size < 1 || size > PaginationUtil.MAX_KEYSET_PAGE_SIZE) {
+            throw new BadRequestAlertException("The page size must be between 1 and " + PaginationUtil.MAX_KEYSET_PAGE_SIZE,
+                ENTITY_NAME, "invalidsize");
+        }
+        Slice<IssueListDTO> slice = issueService.findAllAfter(after, size);
+        HttpHeaders headers = PaginationUtil.generateKeysetPaginationHttpHeaders(slice, IssueListDTO::getId, "/api/issues");
+        if (estimate) {
+            headers.add("X-Total-Count-Estimate", Long.toString(issueService.estimateCount()));
+        }
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * GET  /projects/:id/issues : get a page of the issues of the "id" project.
+     *
+     * @param id the id of the project
+     * @param pageable the pagination information
+     * @return the ResponseEntity with status 200 (OK) and the list of issues in body
+     */
+    @GetMapping("/projects/{id}/issues")
+    @Timed
+    public ResponseEntity<List<IssueListDTO>> getProjectIssues(@PathVariable Long id, Pageable pageable) {
+        log.debug("REST request to get a page of the Issues of Project : {}", id);
+        Page<IssueListDTO> page = issueService.findAllByProject(id, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/projects/" + id + "/issues");
+        return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * GET  /sprints/:id/issues : get a page of the issues of the "id" sprint.
+     *
+     * @param id the id of the sprint
+     * @param pageable the pagination information
+     * @return the ResponseEntity with status 200 (OK) and the list of issues in body
+     */
+    @GetMapping("/sprints/{id}/issues")
+    @Timed
+    public ResponseEntity<List<IssueListDTO>> getSprintIssues(@PathVariable Long id, Pageable pageable) {
+        log.debug("REST request to get a page of the Issues of Sprint : {}", id);
+        Page<IssueListDTO> page = issueService.findAllBySprint(id, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/sprints/" + id + "/issues");
+        return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
+    }
+
     /**
      * GET  /issues/:id : get the "id" issue.
      *
@@ -3,6 +3,7 @@ package com.saimir.gasa.releasevitals.web.rest;
 import com.codahale.metrics.annotation.Timed;
 import com.saimir.gasa.releasevitals.domain.Project;
 import com.saimir.gasa.releasevitals.service.ProjectService;
+import com.saimir.gasa.releasevitals.service.dto.ProjectListDTO;
 import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
 import com.saimir.gasa.releasevitals.web.rest.util.HeaderUtil;
 import com.saimir.gasa.releasevitals.web.rest.util.PaginationUtil;
@@ -94,13 +95,13 @@ public class ProjectResource {
      */
     @GetMapping("/projects")
     @Timed
-    public ResponseEntity<List<Project>> getAllProjects(@PageableDefault(size = 99)Pageable pageable, @RequestParam(required = false, defaultValue = "true") boolean eagerload) {
+    public ResponseEntity<List<ProjectListDTO>> getAllProjects(@PageableDefault(size = 99)Pageable pageable, @RequestParam(required = false, defaultValue = "true") boolean eagerload) {
         log.debug("REST request to get a page of Projects");
-        Page<Project> page;
+        Page<ProjectListDTO> page;
         if (eagerload) {
-            page = projectService.findAllWithEagerRelationships(pageable);
+            page = projectService.findAllProjectedWithEagerRelationships(pageable);
         } else {
-            page = projectService.findAll(pageable);
+            page = projectService.findAllProjected(pageable);
         }
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, String.format("/api/projects?eagerload=%b", eagerload));
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
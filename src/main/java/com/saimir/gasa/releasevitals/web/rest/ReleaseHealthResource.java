@@ -0,0 +1,55 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.service.ReleaseHealthService;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseHealthDTO;
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for reading the stored health of the releases.
+ */
+@RestController
+@RequestMapping("/api")
+public class ReleaseHealthResource {
+
+    private final Logger log = LoggerFactory.getLogger(ReleaseHealthResource.class);
+
+    private final ReleaseHealthService releaseHealthService;
+
+    public ReleaseHealthResource(ReleaseHealthService releaseHealthService) {
+        this.releaseHealthService = releaseHealthService;
+    }
+
+    /**
+     * GET  /release-health : get the health of the given releases, like the ones of a release list page.
+     * Releases whose health is not computed yet are left out.
+     *
+     * @param releaseIds the ids of the releases
+     * @return the ResponseEntity with status 200 (OK) and the list of health in body
+     */
+    @GetMapping("/release-health")
+    @Timed
+    public ResponseEntity<List<ReleaseHealthDTO>> getReleaseHealth(@RequestParam("releaseId") List<Long> releaseIds) {
+        log.debug("REST request to get the health of Releases : {}", releaseIds);
+        return ResponseEntity.ok(releaseHealthService.getHealth(releaseIds));
+    }
+
+    /**
+     * GET  /releases/:id/health : get the health of the "id" release.
+     *
+     * @param id the id of the release
+     * @return the ResponseEntity with status 200 (OK) and with body the health, or with status 404 (Not Found)
+     */
+    @GetMapping("/releases/{id}/health")
+    @Timed
+    public ResponseEntity<ReleaseHealthDTO> getHealthOfRelease(@PathVariable Long id) {
+        log.debug("REST request to get the health of Release : {}", id);
+        return ResponseUtil.wrapOrNotFound(releaseHealthService.getHealth(id));
+    }
+}
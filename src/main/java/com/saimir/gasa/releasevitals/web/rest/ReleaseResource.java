@@ -1,8 +1,17 @@
 package com.saimir.gasa.releasevitals.web.rest;
 
 import com.codahale.metrics.annotation.Timed;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.service.CumulativeFlowService;
+import com.saimir.gasa.releasevitals.service.IssueSnapshotService;
 import com.saimir.gasa.releasevitals.service.ReleaseService;
+import com.saimir.gasa.releasevitals.service.WhatIfService;
+import com.saimir.gasa.releasevitals.service.dto.ChangeDigestSummaryDTO;
+import com.saimir.gasa.releasevitals.service.dto.CumulativeFlowDTO;
+import com.saimir.gasa.releasevitals.service.dto.WhatIfDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseListDTO;
 import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
 import com.saimir.gasa.releasevitals.web.rest.util.HeaderUtil;
 import com.saimir.gasa.releasevitals.web.rest.util.PaginationUtil;
@@ -12,16 +21,26 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.StreamSupport;
 
 import static org.elasticsearch.index.query.QueryBuilders.*;
@@ -39,8 +58,21 @@ public class ReleaseResource {
 
     private final ReleaseService releaseService;
 
-    public ReleaseResource(ReleaseService releaseService) {
+    private final CumulativeFlowService cumulativeFlowService;
+
+    private final WhatIfService whatIfService;
+
+    private final IssueSnapshotService issueSnapshotService;
+
+    private final ObjectMapper objectMapper;
+
+    public ReleaseResource(ReleaseService releaseService, CumulativeFlowService cumulativeFlowService, WhatIfService whatIfService,
+                           IssueSnapshotService issueSnapshotService, ObjectMapper objectMapper) {
         this.releaseService = releaseService;
+        this.cumulativeFlowService = cumulativeFlowService;
+        this.whatIfService = whatIfService;
+        this.issueSnapshotService = issueSnapshotService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -93,9 +125,9 @@ public class ReleaseResource {
      */
     @GetMapping("/releases")
     @Timed
-    public ResponseEntity<List<Release>> getAllReleases(@PageableDefault(size = 99)Pageable pageable) {
+    public ResponseEntity<List<ReleaseListDTO>> getAllReleases(@PageableDefault(size = 99)Pageable pageable) {
         log.debug("REST request to get a page of Releases");
-        Page<Release> page = releaseService.findAll(pageable);
+        Page<ReleaseListDTO> page = releaseService.findAllProjected(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/releases");
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
@@ -114,6 +146,92 @@ public class ReleaseResource {
         return ResponseUtil.wrapOrNotFound(release);
     }
 
+    /**
+     * GET  /releases/:id/cumulative-flow : get the per-day issue count of every status for the "id" release.
+     *
+     * @param id the id of the release
+     * @return the ResponseEntity with status 200 (OK) and with body the cumulative flow, or with status 404 (Not Found)
+     */
+    @GetMapping("/releases/{id}/cumulative-flow")
+    @Timed
+    public ResponseEntity<CumulativeFlowDTO> getCumulativeFlow(@PathVariable Long id) {
+        log.debug("REST request to get the cumulative flow of Release : {}", id);
+        Optional<CumulativeFlowDTO> cumulativeFlow = cumulativeFlowService.getCumulativeFlow(id);
+        return ResponseUtil.wrapOrNotFound(cumulativeFlow);
+    }
+
+    /**
+     * GET  /releases/:id/what-if : recompute the epic metrics of the "id" release for another window or version set.
+     * Nothing is saved and Jira is not called.
+     *
+     * @param id the id of the release
+     * @param startDate the hypothetical start date, defaults to the release one
+     * @param endDate the hypothetical end date, defaults to the release one
+     * @param versions the hypothetical fix versions, as "PROJECTKEY:version"; projects not listed keep their versions
+     * @return the ResponseEntity with status 200 (OK) and with body the recomputed metrics, or with status 404 (Not Found)
+     */
+    @GetMapping("/releases/{id}/what-if")
+    @Timed
+    public ResponseEntity<WhatIfDTO> getWhatIf(@PathVariable Long id,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant startDate,
+                                               @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant endDate,
+                                               @RequestParam(required = false) List<String> versions) {
+        log.debug("REST request to evaluate Release : {} from {} to {} with versions {}", id, startDate, endDate, versions);
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new BadRequestAlertException("The start date must not be after the end date", ENTITY_NAME, "invaliddates");
+        }
+        Map<String, Set<String>> versionsByProject = new LinkedHashMap<>();
+        if (versions != null) {
+            for (String version : versions) {
+                int separator = version.indexOf(':');
+                if (separator <= 0 || separator == version.length() - 1) {
+                    throw new BadRequestAlertException("Versions must be given as PROJECTKEY:version", ENTITY_NAME, "invalidversion");
+                }
+                versionsByProject.computeIfAbsent(version.substring(0, separator), key -> new LinkedHashSet<>())
+                    .add(version.substring(separator + 1));
+            }
+        }
+        Optional<WhatIfDTO> whatIf = whatIfService.evaluate(id, startDate, endDate, versionsByProject);
+        return ResponseUtil.wrapOrNotFound(whatIf);
+    }
+
+    /**
+     * GET  /releases/:id/changes : get the issues of the "id" release that changed since the given time.
+     * The changes are written while the issue snapshots are read, followed by their summary.
+     *
+     * @param id the id of the release
+     * @param since the time to compare the current issues with
+     * @param response the response the changes are written to, with status 200 (OK), or with status 404 (Not Found)
+     * @throws IOException if the response cannot be written
+     */
+    @GetMapping("/releases/{id}/changes")
+    @Timed
+    public void getChanges(@PathVariable Long id, @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since,
+                           HttpServletResponse response) throws IOException {
+        log.debug("REST request to get the changes of Release : {} since {}", id, since);
+        if (!releaseService.findOne(id).isPresent()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream())) {
+            generator.writeStartObject();
+            generator.writeNumberField("releaseId", id);
+            generator.writeObjectField("since", since);
+            generator.writeArrayFieldStart("changes");
+            Optional<ChangeDigestSummaryDTO> summary = issueSnapshotService.digest(id, since, change -> {
+                try {
+                    generator.writeObject(change);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+            generator.writeObjectField("summary", summary.orElse(null));
+            generator.writeEndObject();
+        }
+    }
+
     /**
      * DELETE  /releases/:id : delete the "id" release.
      *
@@ -0,0 +1,91 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.security.AuthoritiesConstants;
+import com.saimir.gasa.releasevitals.service.ReleaseSummaryService;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseComparisonDTO;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseSummaryDTO;
+import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
+import com.saimir.gasa.releasevitals.web.rest.util.HeaderUtil;
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+
+/**
+ * REST controller for closing the releases and comparing the closed ones.
+ */
+@RestController
+@RequestMapping("/api")
+public class ReleaseSummaryResource {
+
+    private final Logger log = LoggerFactory.getLogger(ReleaseSummaryResource.class);
+
+    private static final String ENTITY_NAME = "releaseSummary";
+
+    private final ReleaseSummaryService releaseSummaryService;
+
+    public ReleaseSummaryResource(ReleaseSummaryService releaseSummaryService) {
+        this.releaseSummaryService = releaseSummaryService;
+    }
+
+    /**
+     * POST  /releases/:id/close : close the "id" release into its final summary, which is never updated afterwards.
+     *
+     * @param id the id of the release
+     * @return the ResponseEntity with status 201 (Created) and with body the summary, with status 400 (Bad Request)
+     * if the release is already closed, or with status 404 (Not Found)
+     * @throws URISyntaxException if the Location URI syntax is incorrect
+     */
+    @PostMapping("/releases/{id}/close")
+    @Timed
+    @PreAuthorize("hasRole(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<ReleaseSummaryDTO> closeRelease(@PathVariable Long id) throws URISyntaxException {
+        log.debug("REST request to close Release : {}", id);
+        if (releaseSummaryService.isClosed(id)) {
+            throw new BadRequestAlertException("The release is already closed", ENTITY_NAME, "closed");
+        }
+        ReleaseSummaryDTO result = releaseSummaryService.close(id).orElse(null);
+        if (result == null) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        return ResponseEntity.created(new URI("/api/releases/" + id + "/summary"))
+            .headers(HeaderUtil.createEntityCreationAlert(ENTITY_NAME, id.toString()))
+            .body(result);
+    }
+
+    /**
+     * GET  /releases/:id/summary : get the final summary of the closed "id" release.
+     *
+     * @param id the id of the release
+     * @return the ResponseEntity with status 200 (OK) and with body the summary, or with status 404 (Not Found)
+     */
+    @GetMapping("/releases/{id}/summary")
+    @Timed
+    public ResponseEntity<ReleaseSummaryDTO> getReleaseSummary(@PathVariable Long id) {
+        log.debug("REST request to get the summary of Release : {}", id);
+        return ResponseUtil.wrapOrNotFound(releaseSummaryService.getSummary(id));
+    }
+
+    /**
+     * GET  /release-comparison : compare closed releases from their summaries, the first one being the baseline.
+     *
+     * @param releaseIds the ids of the releases
+     * @return the ResponseEntity with status 200 (OK) and with body the comparison, or with status 400 (Bad Request)
+     * if any of the releases is not closed
+     */
+    @GetMapping("/release-comparison")
+    @Timed
+    public ResponseEntity<ReleaseComparisonDTO> compareReleases(@RequestParam("releaseId") List<Long> releaseIds) {
+        log.debug("REST request to compare Releases : {}", releaseIds);
+        return ResponseEntity.ok(releaseSummaryService.compare(releaseIds)
+            .orElseThrow(() -> new BadRequestAlertException("Only closed releases can be compared", ENTITY_NAME, "notclosed")));
+    }
+}
@@ -3,6 +3,7 @@ package com.saimir.gasa.releasevitals.web.rest;
 import com.codahale.metrics.annotation.Timed;
 import com.saimir.gasa.releasevitals.domain.Sprint;
 import com.saimir.gasa.releasevitals.service.SprintService;
+import com.saimir.gasa.releasevitals.service.dto.SprintListDTO;
 import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
 import com.saimir.gasa.releasevitals.web.rest.util.HeaderUtil;
 import com.saimir.gasa.releasevitals.web.rest.util.PaginationUtil;
@@ -93,9 +94,9 @@ public class SprintResource {
      */
     @GetMapping("/sprints")
     @Timed
-    public ResponseEntity<List<Sprint>> getAllSprints(@PageableDefault(size = 99)Pageable pageable) {
+    public ResponseEntity<List<SprintListDTO>> getAllSprints(@PageableDefault(size = 99)Pageable pageable) {
         log.debug("REST request to get a page of Sprints");
-        Page<Sprint> page = sprintService.findAll(pageable);
+        Page<SprintListDTO> page = sprintService.findAllProjected(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/sprints");
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
@@ -3,6 +3,7 @@ package com.saimir.gasa.releasevitals.web.rest;
 import com.codahale.metrics.annotation.Timed;
 import com.saimir.gasa.releasevitals.domain.Status;
 import com.saimir.gasa.releasevitals.service.StatusService;
+import com.saimir.gasa.releasevitals.service.dto.StatusListDTO;
 import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
 import com.saimir.gasa.releasevitals.web.rest.util.HeaderUtil;
 import com.saimir.gasa.releasevitals.web.rest.util.PaginationUtil;
@@ -11,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -93,13 +95,42 @@ public class StatusResource {
      */
     @GetMapping("/statuses")
     @Timed
-    public ResponseEntity<List<Status>> getAllStatuses(@PageableDefault(size = 99)Pageable pageable) {
+    public ResponseEntity<List<StatusListDTO>> getAllStatuses(@PageableDefault(size = 99)Pageable pageable) {
         log.debug("REST request to get a page of Statuses");
-        Page<Status> page = statusService.findAll(pageable);
+        Page<StatusListDTO> page = statusService.findAllProjected(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/statuses");
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
 
+    /**
+     * GET  /statuses?after=:id : get the statuses following an id, in id order.
+     * <p>
+     * The page seeks on the id instead of skipping an offset and is not counted: the Link header carries the
+     * cursor of the next page, and an estimated total is added on request.
+     *
+     * @param after the id to start after, 0 for the first page
+     * @param size the maximum number of statuses
+     * @param estimate whether to add the X-Total-Count-Estimate header
+     * @return the ResponseEntity with status 200 (OK) and the list of statuses in body, or with status 400 (Bad Request)
+     * if the size is out of range
+     */
+    @GetMapping(value = "/statuses", params = "after")
+    @Timed
+    public ResponseEntity<List<StatusListDTO>> getAllStatusesAfter(@RequestParam Long after, @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean estimate) {
+        log.debug("REST request to get Statuses after : {}", after);
+        if (size < 1 || size > PaginationUtil.MAX_KEYSET_PAGE_SIZE) {
+            throw new BadRequestAlertException("The page size must be between 1 and " + PaginationUtil.MAX_KEYSET_PAGE_SIZE,
+                ENTITY_NAME, "invalidsize");
+        }
+        Slice<StatusListDTO> slice = statusService.findAllAfter(after, size);
+        HttpHeaders headers = PaginationUtil.generateKeysetPaginationHttpHeaders(slice, StatusListDTO::getId, "/api/statuses");
+        if (estimate) {
+            headers.add("X-Total-Count-Estimate", Long.toString(statusService.estimateCount()));
+        }
+        return new ResponseEntity<>(slice.getContent(), headers, HttpStatus.OK);
+    }
+
     /**
      * GET  /statuses/:id : get the "id" status.
      *
@@ -0,0 +1,95 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.security.AuthoritiesConstants;
+import com.saimir.gasa.releasevitals.service.ReleaseService;
+import com.saimir.gasa.releasevitals.service.StatusRollupService;
+import com.saimir.gasa.releasevitals.service.dto.RollupVerificationDTO;
+import com.saimir.gasa.releasevitals.service.dto.StatusRollupDTO;
+import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * REST controller for reading the status rollup.
+ */
+@RestController
+@RequestMapping("/api")
+public class StatusRollupResource {
+
+    private final Logger log = LoggerFactory.getLogger(StatusRollupResource.class);
+
+    private static final String ENTITY_NAME = "statusRollup";
+
+    private static final List<String> DIMENSIONS = Arrays.asList("project", "status", "week");
+
+    private final StatusRollupService statusRollupService;
+
+    private final ReleaseService releaseService;
+
+    public StatusRollupResource(StatusRollupService statusRollupService, ReleaseService releaseService) {
+        this.statusRollupService = statusRollupService;
+        this.releaseService = releaseService;
+    }
+
+    /**
+     * GET  /releases/:id/status-rollup : get the Status transition counts of the "id" release.
+     *
+     * @param id the id of the release
+     * @param groupBy the dimensions to group by, among project, status and week; all of them by default
+     * @param from the first week to include
+     * @param to the last week to include
+     * @return the ResponseEntity with status 200 (OK) and the list of counts in body, or with status 404 (Not Found)
+     */
+    @GetMapping("/releases/{id}/status-rollup")
+    @Timed
+    public ResponseEntity<List<StatusRollupDTO>> getStatusRollup(@PathVariable Long id,
+                                                                 @RequestParam(required = false) List<String> groupBy,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                 @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.debug("REST request to get the status rollup of Release : {} by {}", id, groupBy);
+        List<String> dimensions = groupBy == null ? DIMENSIONS : groupBy;
+        if (!DIMENSIONS.containsAll(dimensions)) {
+            throw new BadRequestAlertException("Status rollups can only be grouped by " + DIMENSIONS, ENTITY_NAME, "invalidgroupby");
+        }
+        Optional<List<StatusRollupDTO>> rollup = releaseService.findOne(id).map(release -> statusRollupService.getRollup(id,
+            dimensions.contains("project"), dimensions.contains("status"), dimensions.contains("week"), from, to));
+        return ResponseUtil.wrapOrNotFound(rollup);
+    }
+
+    /**
+     * GET  /status-rollup/verification : get the outcome of the last status rollup verification.
+     *
+     * @return the ResponseEntity with status 200 (OK) and with body the verification, or with status 404 (Not Found)
+     */
+    @GetMapping("/status-rollup/verification")
+    @Timed
+    @PreAuthorize("hasRole(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<RollupVerificationDTO> getLastVerification() {
+        log.debug("REST request to get the last status rollup verification");
+        return ResponseUtil.wrapOrNotFound(statusRollupService.getLastVerification());
+    }
+
+    /**
+     * POST  /status-rollup/verification : rebuild the status rollup from the Status rows and repair its drift.
+     *
+     * @return the ResponseEntity with status 200 (OK) and with body the verification
+     */
+    @PostMapping("/status-rollup/verification")
+    @Timed
+    @PreAuthorize("hasRole(\"" + AuthoritiesConstants.ADMIN + "\")")
+    public ResponseEntity<RollupVerificationDTO> verify() {
+        log.debug("REST request to verify the status rollup");
+        return ResponseEntity.ok(statusRollupService.verify());
+    }
+}
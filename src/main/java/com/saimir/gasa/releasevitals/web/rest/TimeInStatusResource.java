@@ -0,0 +1,48 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.codahale.metrics.annotation.Timed;
+import com.saimir.gasa.releasevitals.service.ReleaseService;
+import com.saimir.gasa.releasevitals.service.TimeInStatusService;
+import com.saimir.gasa.releasevitals.service.dto.TimeInStatusDTO;
+import io.github.jhipster.web.util.ResponseUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * REST controller for reading the time the issues spent in each status.
+ */
+@RestController
+@RequestMapping("/api")
+public class TimeInStatusResource {
+
+    private final Logger log = LoggerFactory.getLogger(TimeInStatusResource.class);
+
+    private final TimeInStatusService timeInStatusService;
+
+    private final ReleaseService releaseService;
+
+    public TimeInStatusResource(TimeInStatusService timeInStatusService, ReleaseService releaseService) {
+        this.timeInStatusService = timeInStatusService;
+        this.releaseService = releaseService;
+    }
+
+    /**
+     * GET  /releases/:id/time-in-status : get the time the issues of the "id" release spent in each status.
+     *
+     * @param id the id of the release
+     * @return the ResponseEntity with status 200 (OK) and the durations by project and status in body, or with status 404 (Not Found)
+     */
+    @GetMapping("/releases/{id}/time-in-status")
+    @Timed
+    public ResponseEntity<List<TimeInStatusDTO>> getTimeInStatus(@PathVariable Long id) {
+        log.debug("REST request to get the time in status of Release : {}", id);
+        Optional<List<TimeInStatusDTO>> timeInStatus = releaseService.findOne(id)
+            .map(release -> timeInStatusService.getTimeInStatus(id));
+        return ResponseUtil.wrapOrNotFound(timeInStatus);
+    }
+}
@@ -3,6 +3,7 @@ package com.saimir.gasa.releasevitals.web.rest;
 import com.codahale.metrics.annotation.Timed;
 import com.saimir.gasa.releasevitals.domain.Version;
 import com.saimir.gasa.releasevitals.service.VersionService;
+import com.saimir.gasa.releasevitals.service.dto.VersionListDTO;
 import com.saimir.gasa.releasevitals.web.rest.errors.BadRequestAlertException;
 import com.saimir.gasa.releasevitals.web.rest.util.HeaderUtil;
 import com.saimir.gasa.releasevitals.web.rest.util.PaginationUtil;
@@ -93,9 +94,9 @@ public class VersionResource {
      */
     @GetMapping("/versions")
     @Timed
-    public ResponseEntity<List<Version>> getAllVersions(@PageableDefault(size = 99)Pageable pageable) {
+    public ResponseEntity<List<VersionListDTO>> getAllVersions(@PageableDefault(size = 99)Pageable pageable) {
         log.debug("REST request to get a page of Versions");
-        Page<Version> page = versionService.findAll(pageable);
+        Page<VersionListDTO> page = versionService.findAllProjected(pageable);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(page, "/api/versions");
         return new ResponseEntity<>(page.getContent(), headers, HttpStatus.OK);
     }
@@ -1,11 +1,14 @@
 package com.saimir.gasa.releasevitals.web.rest.util;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.UnsupportedEncodingException;
 import java.net.URLEncoder;
+import java.util.List;
+import java.util.function.Function;
 
 /**
  * Utility class for handling pagination.
@@ -16,6 +19,11 @@ import java.net.URLEncoder;
  */
 public final class PaginationUtil {
 
+    /**
+     * The largest page a keyset listing returns.
+     */
+    public static final int MAX_KEYSET_PAGE_SIZE = 1000;
+
     private PaginationUtil() {
     }
 
@@ -73,4 +81,29 @@ public final class PaginationUtil {
         headers.add(HttpHeaders.LINK, link);
         return headers;
     }
+
+    /**
+     * Generate the headers of a keyset page, which seeks on the id instead of skipping an offset. No total is
+     * counted: the next link carries the id of the last element as cursor and is only present if the slice has a next one.
+     *
+     * @param slice the slice of elements, in id order
+     * @param idOf the function reading the id of an element
+     * @param baseUrl the url of the listing
+     * @return the headers
+     */
+    public static <T> HttpHeaders generateKeysetPaginationHttpHeaders(Slice<T> slice, Function<T, Long> idOf, String baseUrl) {
+        HttpHeaders headers = new HttpHeaders();
+        String link = "";
+        List<T> content = slice.getContent();
+        if (slice.hasNext() && !content.isEmpty()) {
+            link = "<" + generateKeysetUri(baseUrl, idOf.apply(content.get(content.size() - 1)), slice.getSize()) + ">; rel=\"next\",";
+        }
+        link += "<" + generateKeysetUri(baseUrl, 0L, slice.getSize()) + ">; rel=\"first\"";
+        headers.add(HttpHeaders.LINK, link);
+        return headers;
+    }
+
+    private static String generateKeysetUri(String baseUrl, Long after, int size) {
+        return UriComponentsBuilder.fromUriString(baseUrl).queryParam("after", after).queryParam("size", size).toUriString();
+    }
 }
@@ -5,6 +5,7 @@ import { Subscription } from 'rxjs';
 import { JhiEventManager, JhiParseLinks, JhiAlertService } from 'ng-jhipster';
 
 import { IRelease } from 'app/shared/model/release.model';
+import { IReleaseHealth } from 'app/shared/model/release-health.model';
 import { Principal } from 'app/core';
 
 import { ITEMS_PER_PAGE } from 'app/shared';
@@ -17,6 +18,7 @@ import { ReleaseService } from './release.service';
 export class ReleaseComponent implements OnInit, OnDestroy {
     currentAccount: any;
     releases: IRelease[];
+    healthByRelease: { [releaseId: number]: IReleaseHealth } = {};
     error: any;
     success: any;
     eventSubscriber: Subscription;
@@ -162,6 +164,20 @@ export class ReleaseComponent implements OnInit, OnDestroy {
         this.totalItems = parseInt(headers.get('X-Total-Count'), 10);
         this.queryCount = this.totalItems;
         this.releases = data;
+        this.loadHealth();
+    }
+
+    private loadHealth() {
+        this.healthByRelease = {};
+        if (!this.releases || !this.releases.length) {
+            return;
+        }
+        this.releaseService
+            .health(this.releases.map(release => release.id))
+            .subscribe(
+                (res: HttpResponse<IReleaseHealth[]>) => res.body.forEach(health => (this.healthByRelease[health.releaseId] = health)),
+                (res: HttpErrorResponse) => this.onError(res.message)
+            );
     }
 
     private onError(errorMessage: string) {
@@ -8,6 +8,7 @@ import { map } from 'rxjs/operators';
 import { SERVER_API_URL } from 'app/app.constants';
 import { createRequestOption } from 'app/shared';
 import { IRelease } from 'app/shared/model/release.model';
+import { IReleaseHealth } from 'app/shared/model/release-health.model';
 
 type EntityResponseType = HttpResponse<IRelease>;
 type EntityArrayResponseType = HttpResponse<IRelease[]>;
@@ -16,6 +17,7 @@ type EntityArrayResponseType = HttpResponse<IRelease[]>;
 export class ReleaseService {
     private resourceUrl = SERVER_API_URL + 'api/releases';
     private resourceSearchUrl = SERVER_API_URL + 'api/_search/releases';
+    private healthUrl = SERVER_API_URL + 'api/release-health';
 
     constructor(private http: HttpClient) {}
 
@@ -57,6 +59,11 @@ export class ReleaseService {
             .pipe(map((res: EntityArrayResponseType) => this.convertDateArrayFromServer(res)));
     }
 
+    health(releaseIds: number[]): Observable<HttpResponse<IReleaseHealth[]>> {
+        const options = createRequestOption({ releaseId: releaseIds });
+        return this.http.get<IReleaseHealth[]>(this.healthUrl, { params: options, observe: 'response' });
+    }
+
     private convertDateFromClient(release: IRelease): IRelease {
         const copy: IRelease = Object.assign({}, release, {
             startDate: release.startDate != null && release.startDate.isValid() ? release.startDate.toJSON() : null,
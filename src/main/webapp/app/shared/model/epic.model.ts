@@ -11,6 +11,7 @@ export interface IEpic {
     percentageCompleted?: number;
     key?: string;
     epicBrowserURL?: string;
+    version?: number;
     unestimatedIssues?: IIssue[];
     projects?: IProject[];
 }
@@ -27,6 +28,7 @@ export class Epic implements IEpic {
         public key?: string,
         public epicBrowserURL?: string,
         public unestimatedIssues?: IIssue[],
-        public projects?: IProject[]
+        public projects?: IProject[],
+        public version?: number
     ) {}
 }
@@ -1,5 +1,4 @@
 import { IRelease } from 'app/shared/model//release.model';
-import { IIssue } from 'app/shared/model//issue.model';
 import { IVersion } from 'app/shared/model//version.model';
 
 export interface IProject {
@@ -7,7 +6,6 @@ export interface IProject {
     name?: string;
     key?: string;
     release?: IRelease;
-    issues?: IIssue[];
     versions?: IVersion[];
 }
 
@@ -17,7 +15,6 @@ export class Project implements IProject {
         public name?: string,
         public key?: string,
         public release?: IRelease,
-        public issues?: IIssue[],
         public versions?: IVersion[]
     ) {}
 }
@@ -0,0 +1,11 @@
+import { Moment } from 'moment';
+
+export interface IReleaseHealth {
+    releaseId?: number;
+    score?: number;
+    percentageCompleted?: number;
+    burndownSlope?: number;
+    unestimatedRatio?: number;
+    forecastConfidence?: number;
+    computedAt?: Moment;
+}
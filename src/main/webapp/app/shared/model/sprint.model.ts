@@ -1,5 +1,4 @@
 import { Moment } from 'moment';
-import { IIssue } from 'app/shared/model//issue.model';
 
 export interface ISprint {
     id?: number;
@@ -7,7 +6,6 @@ export interface ISprint {
     startDatetime?: Moment;
     endDatetime?: Moment;
     velocity?: number;
-    issues?: IIssue[];
 }
 
 export class Sprint implements ISprint {
@@ -16,7 +14,6 @@ export class Sprint implements ISprint {
         public name?: string,
         public startDatetime?: Moment,
         public endDatetime?: Moment,
-        public velocity?: number,
-        public issues?: IIssue[]
+        public velocity?: number
     ) {}
 }
@@ -0,0 +1,93 @@
+package com.saimir.gasa.releasevitals.config;
+
+import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.User;
+import io.github.jhipster.config.JHipsterProperties;
+import org.ehcache.config.CacheRuntimeConfiguration;
+import org.ehcache.config.ResourcePools;
+import org.ehcache.config.ResourceType;
+import org.ehcache.config.SizedResourcePool;
+import org.ehcache.config.units.EntryUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.jsr107.Eh107Configuration;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the CacheConfiguration of the cache regions.
+ *
+ * @see CacheConfiguration
+ */
+public class CacheConfigurationUnitTest {
+
+    private CacheManager cacheManager;
+
+    @Before
+    public void setup() {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getCache().getEhcache().setMaxEntries(100);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        ApplicationProperties.CacheRegion issue = new ApplicationProperties.CacheRegion();
+        issue.setHeapEntries(10L);
+        issue.setOffHeapMegabytes(1);
+        applicationProperties.getCache().getRegions().put("Issue", issue);
+        ApplicationProperties.CacheRegion release = new ApplicationProperties.CacheRegion();
+        release.setHeapEntries(500L);
+        applicationProperties.getCache().getRegions().put("Release", release);
+
+        CachingProvider cachingProvider = Caching.getCachingProvider("org.ehcache.jsr107.EhcacheCachingProvider");
+        cacheManager = cachingProvider.getCacheManager(cachingProvider.getDefaultURI(), getClass().getClassLoader());
+        new CacheConfiguration(jHipsterProperties, applicationProperties).cacheManagerCustomizer().customize(cacheManager);
+    }
+
+    @After
+    public void tearDown() {
+        cacheManager.close();
+    }
+
+    @Test
+    public void regionsAreSizedOnTheirOwn() {
+        ResourcePools issue = resourcePools(Issue.class.getName());
+        assertThat(heap(issue).getSize()).isEqualTo(10);
+        assertThat(issue.getPoolForResource(ResourceType.Core.OFFHEAP).getSize()).isEqualTo(1);
+        assertThat(issue.getPoolForResource(ResourceType.Core.OFFHEAP).getUnit()).isEqualTo(MemoryUnit.MB);
+
+        assertThat(heap(resourcePools(Release.class.getName())).getSize()).isEqualTo(500);
+        assertThat(resourcePools(Release.class.getName()).getPoolForResource(ResourceType.Core.OFFHEAP)).isNull();
+
+        // a region without settings takes the jhipster ones
+        assertThat(heap(resourcePools(User.class.getName())).getSize()).isEqualTo(100);
+    }
+
+    @Test
+    public void statisticsAreEnabled() throws Exception {
+        // the JCacheGaugeSet reports the statistics MBean of every cache
+        for (String cacheName : cacheManager.getCacheNames()) {
+            assertThat(ManagementFactory.getPlatformMBeanServer()
+                .queryNames(new ObjectName("javax.cache:type=CacheStatistics,Cache=" + cacheName + ",*"), null))
+                .as(cacheName).hasSize(1);
+        }
+    }
+
+    private ResourcePools resourcePools(String cacheName) {
+        @SuppressWarnings("unchecked")
+        Eh107Configuration<Object, Object> configuration = cacheManager.getCache(cacheName).getConfiguration(Eh107Configuration.class);
+        return configuration.unwrap(CacheRuntimeConfiguration.class).getResourcePools();
+    }
+
+    private static SizedResourcePool heap(ResourcePools resourcePools) {
+        SizedResourcePool heap = resourcePools.getPoolForResource(ResourceType.Core.HEAP);
+        assertThat(heap.getUnit()).isEqualTo(EntryUnit.ENTRIES);
+        return heap;
+    }
+}
@@ -0,0 +1,112 @@
+package com.saimir.gasa.releasevitals.config;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the ReplicaRoutingDataSource, with a primary and a replica in two H2 databases.
+ *
+ * @see ReplicaRoutingDataSource
+ */
+public class ReplicaRoutingDataSourceUnitTest {
+
+    private JdbcTemplate primary;
+
+    private JdbcTemplate replica;
+
+    private ReplicaRoutingDataSource replicaRoutingDataSource;
+
+    private JdbcTemplate routed;
+
+    private TransactionTemplate readWrite;
+
+    private TransactionTemplate readOnly;
+
+    @Before
+    public void setup() {
+        primary = new JdbcTemplate(h2("primary"));
+        replica = new JdbcTemplate(h2("replica"));
+        primary.execute("create table marker (name varchar(10))");
+        primary.update("insert into marker values ('primary')");
+        replica.execute("create table marker (name varchar(10))");
+        replica.update("insert into marker values ('replica')");
+        replica.execute("create table replica_lag (lag bigint)");
+        replica.update("insert into replica_lag values (0)");
+
+        replicaRoutingDataSource = new ReplicaRoutingDataSource(primary.getDataSource(),
+            Collections.singletonMap("replica-1", replica.getDataSource()), 1000, "select lag from replica_lag");
+        replicaRoutingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        routed = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @After
+    public void tearDown() {
+        primary.execute("drop all objects");
+        replica.execute("drop all objects");
+    }
+
+    @Test
+    public void readOnlyTransactionsReadFromReplicaInTime() {
+        // no replica is used before its lag is measured
+        assertThat(readOnlyMarker()).isEqualTo("primary");
+
+        replicaRoutingDataSource.checkReplicas();
+        assertThat(replicaRoutingDataSource.getReplicasInTime()).containsExactly("replica-1");
+        assertThat(readOnlyMarker()).isEqualTo("replica");
+        assertThat(readWriteMarker()).isEqualTo("primary");
+        assertThat(marker()).isEqualTo("primary");
+    }
+
+    @Test
+    public void laggingOrUnavailableReplicaFallsBackToPrimary() {
+        replicaRoutingDataSource.checkReplicas();
+        replica.update("update replica_lag set lag = 5000");
+        replicaRoutingDataSource.checkReplicas();
+        assertThat(replicaRoutingDataSource.getReplicasInTime()).isEmpty();
+        assertThat(readOnlyMarker()).isEqualTo("primary");
+
+        replica.update("update replica_lag set lag = 200");
+        replicaRoutingDataSource.checkReplicas();
+        assertThat(readOnlyMarker()).isEqualTo("replica");
+
+        replica.execute("drop table replica_lag");
+        replicaRoutingDataSource.checkReplicas();
+        assertThat(readOnlyMarker()).isEqualTo("primary");
+    }
+
+    private String readOnlyMarker() {
+        String name = readOnly.execute(status -> marker());
+        return name;
+    }
+
+    private String readWriteMarker() {
+        String name = readWrite.execute(status -> marker());
+        return name;
+    }
+
+    private String marker() {
+        return routed.queryForObject("select name from marker", String.class);
+    }
+
+    private static DataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:ReplicaRouting" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
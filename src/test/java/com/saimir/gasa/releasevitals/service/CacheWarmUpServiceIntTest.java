@@ -0,0 +1,123 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+import com.saimir.gasa.releasevitals.config.ApplicationProperties;
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.service.dto.CacheWarmUpDTO;
+import com.saimir.gasa.releasevitals.service.impl.CacheWarmUpServiceImpl;
+
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the CacheWarmUpService.
+ *
+ * @see CacheWarmUpService
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+@Transactional
+public class CacheWarmUpServiceIntTest {
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager em;
+
+    private MetricRegistry metricRegistry;
+
+    private Release active;
+
+    private Release ended;
+
+    @Before
+    public void setup() {
+        metricRegistry = new MetricRegistry();
+
+        Version version = new Version().name("Warm 1.0");
+        em.persist(version);
+        active = new Release().name("Warm Active").startDate(Instant.now().minus(10, ChronoUnit.DAYS));
+        em.persist(active);
+        ended = new Release().name("Warm Ended").startDate(Instant.now().minus(60, ChronoUnit.DAYS))
+            .endDate(Instant.now().minus(30, ChronoUnit.DAYS));
+        em.persist(ended);
+        Project project = new Project().name("Warm UI").key("WARMUI").release(active).addVersion(version);
+        em.persist(project);
+        em.persist(new Project().name("Warm EE").key("WARMEE").release(ended));
+        em.persist(new Epic().name("Warm epic").key("WARMUI-1").addProject(project));
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    public void warmUpLoadsActiveReleases() {
+        List<Long> activeIds = releaseRepository.findActiveIds(Instant.now());
+        assertThat(activeIds).contains(active.getId()).doesNotContain(ended.getId());
+
+        CacheWarmUpDTO result = cacheWarmUpService(60000, 1).warmUp();
+
+        assertThat(result.isComplete()).isTrue();
+        assertThat(result.getActiveReleaseCount()).isEqualTo(activeIds.size());
+        assertThat(result.getReleaseCount()).isEqualTo(activeIds.size());
+        assertThat(result.getProjectCount()).isGreaterThanOrEqualTo(1);
+        assertThat(result.getVersionCount()).isGreaterThanOrEqualTo(1);
+        assertThat(result.getEpicCount()).isGreaterThanOrEqualTo(1);
+        assertThat(metricRegistry.timer(MetricRegistry.name(CacheWarmUpService.class, "duration")).getCount()).isEqualTo(1);
+        assertThat(metricRegistry.counter(MetricRegistry.name(CacheWarmUpService.class, "releases")).getCount())
+            .isEqualTo(activeIds.size());
+        assertThat(metricRegistry.counter(MetricRegistry.name(CacheWarmUpService.class, "incomplete")).getCount()).isZero();
+    }
+
+    @Test
+    public void warmUpStopsAtTimeBudget() {
+        CacheWarmUpDTO result = cacheWarmUpService(0, 50).warmUp();
+
+        assertThat(result.isComplete()).isFalse();
+        assertThat(result.getActiveReleaseCount()).isGreaterThanOrEqualTo(1);
+        assertThat(result.getReleaseCount()).isZero();
+        assertThat(metricRegistry.counter(MetricRegistry.name(CacheWarmUpService.class, "incomplete")).getCount()).isEqualTo(1);
+    }
+
+    private CacheWarmUpService cacheWarmUpService(long timeBudget, int releaseBatchSize) {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getCacheWarmUp().setTimeBudget(timeBudget);
+        applicationProperties.getCacheWarmUp().setReleaseBatchSize(releaseBatchSize);
+        return new CacheWarmUpServiceImpl(releaseRepository, projectRepository, epicRepository, entityManagerFactory,
+            new SyncTaskExecutor(), applicationProperties, transactionManager, metricRegistry);
+    }
+}
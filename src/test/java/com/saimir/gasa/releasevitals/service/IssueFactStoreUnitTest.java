@@ -0,0 +1,110 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.util.EpicMetricsTotals;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Test class for the IssueFactStore.
+ *
+ * @see IssueFactStore
+ */
+public class IssueFactStoreUnitTest {
+
+    private static final Instant START = Instant.parse("2018-06-25T00:00:00Z");
+    private static final Instant END = Instant.parse("2018-11-30T23:59:59Z");
+    private static final Instant IN_WINDOW = Instant.parse("2018-08-01T10:00:00Z");
+    private static final Instant AFTER_WINDOW = Instant.parse("2018-12-15T10:00:00Z");
+
+    private IssueFactStore issueFactStore;
+
+    @Before
+    public void setup() {
+        issueFactStore = new IssueFactStore();
+        issueFactStore.replace(1L, Arrays.asList(
+            new IssueFact("MGNLUI-1", "MGNLUI", "6.0", "Closed", "Fixed", 3d, IN_WINDOW),
+            new IssueFact("MGNLUI-2", "MGNLUI", "6.0", "Open", null, 5d, null),
+            new IssueFact("MGNLUI-3", "MGNLUI", "6.0", "Closed", "Duplicate", 8d, IN_WINDOW),
+            new IssueFact("MGNLUI-4", "MGNLUI", "6.0", "In Progress", null, null, null),
+            new IssueFact("MGNLUI-5", "MGNLUI", "6.0", "Closed", "Done", 2d, AFTER_WINDOW),
+            new IssueFact("MGNLUI-6", "MGNLUI", "5.7", "Closed", "Done", 13d, IN_WINDOW),
+            new IssueFact("MAGNOLIA-1", "MAGNOLIA", "6.0", "Resolved", "Incomplete", 1d, IN_WINDOW)));
+    }
+
+    @Test
+    public void aggregatesLikeTheEpicRefresh() {
+        IssueFactStore.Query query = issueFactStore.newQuery()
+            .include("MGNLUI", "6.0", START, END)
+            .include("MAGNOLIA", "6.0", START, END);
+
+        EpicMetricsTotals totals = issueFactStore.aggregate(1L, query, new EpicMetricsTotals());
+
+        assertThat(totals.getIssueCount()).isEqualTo(6);
+        assertThat(totals.getUnestimatedIssueCount()).isEqualTo(1);
+        assertThat(totals.getTotalStoryPoints()).isEqualTo(19d);
+        assertThat(totals.getStoryPointsCompleted()).isEqualTo(3d);
+        assertThat(totals.getRemainingStoryPoints()).isEqualTo(6d);
+    }
+
+    @Test
+    public void aggregatesOtherWindowsAndVersions() {
+        IssueFactStore.Query query = issueFactStore.newQuery()
+            .include("mgnlui", "6.0", START, AFTER_WINDOW.plusSeconds(1))
+            .include("MGNLUI", "5.7", START, END);
+
+        EpicMetricsTotals totals = issueFactStore.aggregate(1L, query, new EpicMetricsTotals());
+
+        assertThat(totals.getIssueCount()).isEqualTo(6);
+        assertThat(totals.getStoryPointsCompleted()).isEqualTo(18d);
+        assertThat(totals.getRemainingStoryPoints()).isEqualTo(5d);
+    }
+
+    @Test
+    public void ignoresUnknownPairsAndEpics() {
+        IssueFactStore.Query query = issueFactStore.newQuery().include("PAGES", "6.0", START, END);
+
+        assertThat(issueFactStore.aggregate(1L, query, new EpicMetricsTotals()).getIssueCount()).isZero();
+        assertThat(issueFactStore.aggregate(2L, issueFactStore.newQuery().include("MGNLUI", "6.0", START, END),
+            new EpicMetricsTotals()).getIssueCount()).isZero();
+    }
+
+    @Test
+    public void replacesAndRemovesEpics() {
+        issueFactStore.replace(1L, Arrays.asList(new IssueFact("MGNLUI-1", "MGNLUI", "6.0", "Open", null, 1d, null)));
+        IssueFactStore.Query query = issueFactStore.newQuery().include("MGNLUI", "6.0", START, END);
+
+        assertThat(issueFactStore.size()).isEqualTo(1);
+        assertThat(issueFactStore.aggregate(1L, query, new EpicMetricsTotals()).getRemainingStoryPoints()).isEqualTo(1d);
+
+        issueFactStore.remove(1L);
+        assertThat(issueFactStore.contains(1L)).isFalse();
+        assertThat(issueFactStore.size()).isZero();
+    }
+
+    @Test
+    public void aggregatesLargeEpics() {
+        List<IssueFact> issueFacts = new ArrayList<>();
+        for (int i = 0; i < 500_000; i++) {
+            issueFacts.add(new IssueFact("MGNLUI-" + i, "MGNLUI", i % 2 == 0 ? "6.0" : "5.7", "Closed", "Fixed", 1d, IN_WINDOW));
+        }
+        issueFactStore.replace(3L, issueFacts);
+        IssueFactStore.Query query = issueFactStore.newQuery().include("MGNLUI", "6.0", START, END);
+        EpicMetricsTotals totals = new EpicMetricsTotals();
+
+        for (int i = 0; i < 10; i++) {
+            issueFactStore.aggregate(3L, query, totals.reset());
+        }
+
+        assertThat(totals.getIssueCount()).isEqualTo(250_000);
+        assertThat(totals.getStoryPointsCompleted()).isCloseTo(250_000d, within(0.001));
+    }
+}
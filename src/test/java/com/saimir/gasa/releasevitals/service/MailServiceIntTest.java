@@ -3,6 +3,8 @@ import com.saimir.gasa.releasevitals.config.Constants;
 
 import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
 import com.saimir.gasa.releasevitals.domain.User;
+import com.saimir.gasa.releasevitals.domain.enumeration.BurndownAnomalyType;
+import com.saimir.gasa.releasevitals.service.dto.BurndownAnomalyDTO;
 import io.github.jhipster.config.JHipsterProperties;
 import org.junit.Before;
 import org.junit.Test;
@@ -24,6 +26,8 @@ import javax.mail.internet.MimeBodyPart;
 import javax.mail.internet.MimeMessage;
 import javax.mail.internet.MimeMultipart;
 import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -178,6 +182,22 @@ public class MailServiceIntTest {
         assertThat(message.getDataHandler().getContentType()).isEqualTo("text/html;charset=UTF-8");
     }
 
+    @Test
+    public void testSendBurndownAnomalyDigest() throws Exception {
+        User user = new User();
+        user.setLangKey(Constants.DEFAULT_LANGUAGE);
+        user.setLogin("john");
+        user.setEmail("john.doe@example.com");
+        mailService.sendBurndownAnomalyDigest(user, Collections.singletonList(new BurndownAnomalyDTO(1L, "Burndown", "MGNL-100",
+            BurndownAnomalyType.SCOPE_CREEP, 13, 4.5, 45, Instant.parse("2018-10-06T08:00:00Z"))));
+        verify(javaMailSender).send(messageCaptor.capture());
+        MimeMessage message = messageCaptor.getValue();
+        assertThat(message.getSubject()).isEqualTo("ReleaseVitals burndown anomalies in 1 epics");
+        assertThat(message.getAllRecipients()[0].toString()).isEqualTo(user.getEmail());
+        assertThat(message.getContent().toString()).contains("MGNL-100 Burndown", "Scope creep: 13.0 points added, above 4.5");
+        assertThat(message.getDataHandler().getContentType()).isEqualTo("text/html;charset=UTF-8");
+    }
+
     @Test
     public void testSendEmailWithException() throws Exception {
         doThrow(MailSendException.class).when(javaMailSender).send(any(MimeMessage.class));
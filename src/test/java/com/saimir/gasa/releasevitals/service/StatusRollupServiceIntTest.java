@@ -0,0 +1,141 @@
+package com.saimir.gasa.releasevitals.service;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.domain.StatusRollup;
+import com.saimir.gasa.releasevitals.repository.IssueRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.repository.StatusRepository;
+import com.saimir.gasa.releasevitals.repository.StatusRollupRepository;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Test class for the StatusRollupService, with changes committed by concurrent transactions.
+ *
+ * @see StatusRollupService
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class StatusRollupServiceIntTest {
+
+    private static final int CHANGES = 4;
+
+    private static final Instant TUESDAY = Instant.parse("2018-10-02T10:00:00Z");
+
+    @Autowired
+    private StatusRollupService statusRollupService;
+
+    @Autowired
+    private StatusRollupRepository statusRollupRepository;
+
+    @Autowired
+    private StatusRepository statusRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private Release release;
+
+    private Project project;
+
+    private final List<Issue> issues = new ArrayList<>();
+
+    private final List<Status> statuses = new ArrayList<>();
+
+    @Before
+    public void initTest() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.execute(status -> {
+            release = releaseRepository.save(new Release().name("Concurrent Rollup"));
+            project = projectRepository.save(new Project().name("Concurrent Rollup").key("CONROLL").release(release));
+            for (int i = 0; i < CHANGES; i++) {
+                issues.add(issueRepository.save(new Issue().key("CONROLL-" + i).project(project)));
+            }
+            return null;
+        });
+    }
+
+    @After
+    public void tearDown() {
+        transactionTemplate.execute(status -> {
+            statusRepository.deleteAll(statuses);
+            issues.forEach(issueRepository::delete);
+            statusRollupRepository.deleteAll(statusRollupRepository.findAllByProjectId(project.getId()));
+            projectRepository.delete(project);
+            releaseRepository.delete(release);
+            return null;
+        });
+    }
+
+    @Test
+    public void concurrentChangesCreatingOneCountAllAddToIt() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(CHANGES);
+        ExecutorService executor = Executors.newFixedThreadPool(CHANGES);
+        try {
+            List<Future<Status>> changes = new ArrayList<>();
+            for (Issue issue : issues) {
+                // every change reaches the missing count together
+                changes.add(executor.submit(() -> statusRollupService.track(Collections.singleton(issue.getId()), () -> {
+                    Status status = statusRepository.save(new Status().fromStatus("Open").toStatus("In Progress")
+                        .timeChaged(TUESDAY).issue(issue));
+                    await(barrier);
+                    return status;
+                })));
+            }
+            for (Future<Status> change : changes) {
+                statuses.add(change.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<StatusRollup> rollups = statusRollupRepository.findAllByProjectId(project.getId());
+        assertThat(rollups).hasSize(1);
+        assertThat(rollups.get(0).getStatus()).isEqualTo("In Progress");
+        assertThat(rollups.get(0).getTransitionCount()).isEqualTo(CHANGES);
+    }
+
+    private static void await(CyclicBarrier barrier) {
+        try {
+            barrier.await(10, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
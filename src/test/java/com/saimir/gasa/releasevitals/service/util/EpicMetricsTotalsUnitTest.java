@@ -0,0 +1,75 @@
+package com.saimir.gasa.releasevitals.service.util;
+
+import com.saimir.gasa.releasevitals.service.dto.EpicMetricsDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Test class for the EpicMetricsTotals.
+ *
+ * @see EpicMetricsTotals
+ */
+public class EpicMetricsTotalsUnitTest {
+
+    private static final Instant START = Instant.parse("2018-06-25T00:00:00Z");
+    private static final Instant END = Instant.parse("2018-11-30T23:59:59Z");
+    private static final Instant IN_WINDOW = Instant.parse("2018-08-01T10:00:00Z");
+    private static final Instant AFTER_WINDOW = Instant.parse("2018-12-15T10:00:00Z");
+
+    private static void add(EpicMetricsTotals totals, String status, String resolution, Double estimate, Instant resolutionDate) {
+        totals.add(EpicMetricsUtil.resolutionClass(status, resolution), estimate, resolutionDate, START, END);
+    }
+
+    @Test
+    public void rollsIssuesUpWithTheEpicRules() {
+        EpicMetricsTotals totals = new EpicMetricsTotals();
+        add(totals, "Closed", "Fixed", 3d, IN_WINDOW);
+        add(totals, "Open", null, 5d, null);
+        add(totals, "Closed", "Duplicate", 8d, IN_WINDOW);
+        add(totals, "In Progress", null, null, null);
+        add(totals, "Closed", "Done", 2d, AFTER_WINDOW);
+        add(totals, "Resolved", "Incomplete", 1d, IN_WINDOW);
+
+        assertThat(totals.getIssueCount()).isEqualTo(6);
+        assertThat(totals.getUnestimatedIssueCount()).isEqualTo(1);
+        assertThat(totals.getTotalStoryPoints()).isEqualTo(19d);
+        assertThat(totals.getStoryPointsCompleted()).isEqualTo(3d);
+        assertThat(totals.getRemainingStoryPoints()).isEqualTo(6d);
+        assertThat(totals.getPercentageCompleted()).isEqualTo(3d / 19d);
+    }
+
+    @Test
+    public void totalsEpicsAndResets() {
+        EpicMetricsTotals epic = new EpicMetricsTotals();
+        add(epic, "Closed", "Done", 2d, IN_WINDOW);
+        add(epic, "Open", null, 6d, null);
+        EpicMetricsDTO metrics = epic.copyTo(new EpicMetricsDTO(1L, "Epic", "MGNLUI-100"));
+
+        EpicMetricsTotals release = new EpicMetricsTotals().add(metrics).add(metrics);
+
+        assertThat(metrics.getPercentageCompleted()).isEqualTo(0.25d);
+        assertThat(release.getIssueCount()).isEqualTo(4);
+        assertThat(release.getStoryPointsCompleted()).isEqualTo(4d);
+        assertThat(release.getRemainingStoryPoints()).isEqualTo(12d);
+        assertThat(release.reset().getPercentageCompleted()).isNull();
+    }
+
+    @Test
+    public void keepsOneFactPerIssue() {
+        assertThat(EpicMetricsUtil.oneFactPerIssue(Arrays.asList(
+            new IssueFact("MGNLUI-1", "MGNLUI", "6.0", "Open", null, 3d, null),
+            new IssueFact("MGNLUI-1", "MGNLUI", "6.1", "Open", null, 3d, null),
+            new IssueFact(null, "MGNLUI", "6.0", "Open", null, 1d, null),
+            new IssueFact("MGNLUI-2", "MGNLUI", "6.1", "Open", null, 2d, null))))
+            .extracting(IssueFact::getIssueKey, IssueFact::getVersion)
+            .containsExactly(
+                tuple("MGNLUI-1", "6.0"),
+                tuple("MGNLUI-2", "6.1"));
+    }
+}
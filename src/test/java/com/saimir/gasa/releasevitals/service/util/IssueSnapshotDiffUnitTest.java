@@ -0,0 +1,122 @@
+package com.saimir.gasa.releasevitals.service.util;
+
+import com.saimir.gasa.releasevitals.service.dto.ChangeDigestSummaryDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueChangeDTO;
+import org.junit.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * Test class for the IssueSnapshotDiff.
+ *
+ * @see IssueSnapshotDiff
+ */
+public class IssueSnapshotDiffUnitTest {
+
+    private static final Instant RESOLVED = Instant.parse("2018-08-01T10:00:00Z");
+
+    private static final Comparator<Object[]> KEY_ORDER = (row, other) -> IssueSnapshotDiff.compareKeys(
+        (Long) row[IssueSnapshotDiff.KEY_HASH], (String) row[IssueSnapshotDiff.ISSUE_KEY], (String) row[IssueSnapshotDiff.FIX_VERSION],
+        (Long) other[IssueSnapshotDiff.KEY_HASH], (String) other[IssueSnapshotDiff.ISSUE_KEY], (String) other[IssueSnapshotDiff.FIX_VERSION]);
+
+    private static Object[] row(String issueKey, String fixVersion, String status, String resolution, Double estimate) {
+        return new Object[] {IssueSnapshotDiff.keyHash(issueKey, fixVersion), issueKey, fixVersion, "MGNLUI",
+            status, resolution, estimate, resolution == null ? null : RESOLVED};
+    }
+
+    private static List<Object[]> sorted(Object[]... rows) {
+        List<Object[]> result = new ArrayList<>(Arrays.asList(rows));
+        result.sort(KEY_ORDER);
+        return result;
+    }
+
+    @Test
+    public void keyHashIsStable() {
+        assertThat(IssueSnapshotDiff.keyHash("MGNLUI-1", "6.0")).isEqualTo(IssueSnapshotDiff.keyHash("MGNLUI-1", "6.0"));
+        assertThat(IssueSnapshotDiff.keyHash("MGNLUI-1", "6.0")).isNotEqualTo(IssueSnapshotDiff.keyHash("MGNLUI-16", ".0"));
+        assertThat(IssueSnapshotDiff.keyHash("MGNLUI-1", null)).isNotEqualTo(IssueSnapshotDiff.keyHash("MGNLUI-1", ""));
+    }
+
+    @Test
+    public void diffClassifiesChanges() {
+        List<Object[]> before = sorted(
+            row("MGNLUI-1", "6.0", "Open", null, 3d),
+            row("MGNLUI-2", "6.0", "Open", null, 5d),
+            row("MGNLUI-3", "6.0", "In Progress", null, 8d),
+            row("MGNLUI-4", "6.0", "Closed", "Done", 2d),
+            row("MGNLUI-5", "6.0", "Open", null, 1d));
+        List<Object[]> after = sorted(
+            row("MGNLUI-1", "6.0", "Closed", "Fixed", 3d),
+            row("MGNLUI-3", "6.0", "In Progress", null, 13d),
+            row("MGNLUI-4", "6.0", "Reopened", null, 2d),
+            row("MGNLUI-5", "6.0", "Open", null, 1d),
+            row("MGNLUI-6", "6.0", "Open", null, 5d),
+            row("MGNLUI-7", "6.0", "Closed", "Done", 1d));
+
+        List<IssueChangeDTO> changes = new ArrayList<>();
+        ChangeDigestSummaryDTO summary = IssueSnapshotDiff.diff(before.iterator(), after.iterator(), changes::add);
+
+        assertThat(changes).extracting(IssueChangeDTO::getIssueKey)
+            .containsExactlyInAnyOrder("MGNLUI-1", "MGNLUI-2", "MGNLUI-3", "MGNLUI-4", "MGNLUI-6", "MGNLUI-7");
+        assertThat(changes).filteredOn(change -> change.getIssueKey().equals("MGNLUI-1")).first()
+            .satisfies(change -> assertThat(change.getKinds())
+                .containsExactlyInAnyOrder(IssueChangeDTO.Kind.COMPLETED, IssueChangeDTO.Kind.STATUS_CHANGED));
+        assertThat(changes).filteredOn(change -> change.getIssueKey().equals("MGNLUI-3")).first()
+            .satisfies(change -> assertThat(change.getKinds()).containsExactly(IssueChangeDTO.Kind.ESTIMATE_CHANGED));
+        assertThat(summary.getAddedIssueCount()).isEqualTo(2);
+        assertThat(summary.getAddedStoryPoints()).isCloseTo(6d, within(1e-9));
+        assertThat(summary.getRemovedIssueCount()).isEqualTo(1);
+        assertThat(summary.getRemovedStoryPoints()).isCloseTo(5d, within(1e-9));
+        assertThat(summary.getCompletedIssueCount()).isEqualTo(2);
+        assertThat(summary.getReopenedIssueCount()).isEqualTo(1);
+        assertThat(summary.getStoryPointsCompleted()).isCloseTo(2d, within(1e-9));
+        assertThat(summary.getReestimatedIssueCount()).isEqualTo(1);
+        assertThat(summary.getEstimateDelta()).isCloseTo(5d, within(1e-9));
+    }
+
+    @Test
+    public void diffKeepsLastRowOfRepeatedKey() {
+        List<Object[]> before = sorted(row("MGNLUI-1", "6.0", "Open", null, 3d));
+        List<Object[]> after = new ArrayList<>(Arrays.asList(
+            row("MGNLUI-1", "6.0", "Open", null, 3d),
+            row("MGNLUI-1", "6.0", "Open", null, 5d)));
+
+        List<IssueChangeDTO> changes = new ArrayList<>();
+        IssueSnapshotDiff.diff(before.iterator(), after.iterator(), changes::add);
+
+        assertThat(changes).hasSize(1);
+        assertThat(changes.get(0).getToEstimate()).isEqualTo(5d);
+    }
+
+    @Test
+    public void diffLargeRelease() {
+        int size = 100_000;
+        List<Object[]> before = new ArrayList<>(size);
+        List<Object[]> after = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            before.add(row("MGNLUI-" + i, "6.0", "Open", null, 1d));
+            if (i % 10 == 0) {
+                after.add(row("MGNLUI-" + i, "6.0", "Closed", "Done", 1d));
+            } else if (i % 10 != 1) {
+                after.add(row("MGNLUI-" + i, "6.0", "Open", null, 1d));
+            }
+        }
+        before.sort(KEY_ORDER);
+        after.sort(KEY_ORDER);
+
+        int[] changeCount = new int[1];
+        ChangeDigestSummaryDTO summary = IssueSnapshotDiff.diff(before.iterator(), after.iterator(), change -> changeCount[0]++);
+
+        assertThat(changeCount[0]).isEqualTo(size / 5);
+        assertThat(summary.getCompletedIssueCount()).isEqualTo(size / 10);
+        assertThat(summary.getRemovedIssueCount()).isEqualTo(size / 10);
+        assertThat(summary.getAddedIssueCount()).isZero();
+    }
+}
@@ -0,0 +1,115 @@
+package com.saimir.gasa.releasevitals.service.util;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+/**
+ * Test class for the SingleFlight.
+ *
+ * @see SingleFlight
+ */
+public class SingleFlightUnitTest {
+
+    private static final int CALLERS = 4;
+
+    private final SingleFlight<Long, Integer> singleFlight = new SingleFlight<>();
+
+    private final AtomicInteger computations = new AtomicInteger();
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private ExecutorService executor;
+
+    @Before
+    public void setup() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void concurrentCallersShareOneComputation() throws Exception {
+        List<Future<Integer>> results = callConcurrently(() -> {
+            await(release);
+            return computations.incrementAndGet();
+        });
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        }
+        assertThat(computations.get()).isEqualTo(1);
+        assertThat(singleFlight.isInFlight(1L)).isFalse();
+
+        // a caller arriving once the computation is done computes again
+        assertThat(singleFlight.execute(1L, computations::incrementAndGet)).isEqualTo(2);
+    }
+
+    @Test
+    public void concurrentCallersShareTheFailure() throws Exception {
+        List<Future<Integer>> results = callConcurrently(() -> {
+            await(release);
+            computations.incrementAndGet();
+            throw new IllegalStateException("Jira is down");
+        });
+        release.countDown();
+
+        for (Future<Integer> result : results) {
+            Throwable thrown = catchThrowable(() -> result.get(5, TimeUnit.SECONDS));
+            assertThat(thrown).isInstanceOf(ExecutionException.class);
+            assertThat(thrown.getCause()).isInstanceOf(IllegalStateException.class).hasMessage("Jira is down");
+        }
+        assertThat(computations.get()).isEqualTo(1);
+    }
+
+    @Test
+    public void keysAreComputedIndependently() {
+        assertThat(singleFlight.execute(1L, () -> singleFlight.execute(2L, () -> 2) + 1)).isEqualTo(3);
+    }
+
+    private List<Future<Integer>> callConcurrently(Supplier<Integer> computation) throws InterruptedException {
+        List<Future<Integer>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.execute(1L, computation)));
+        // the other callers arrive while the first one computes
+        while (!singleFlight.isInFlight(1L)) {
+            Thread.sleep(1);
+        }
+        CountDownLatch arrived = new CountDownLatch(CALLERS - 1);
+        for (int i = 1; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                arrived.countDown();
+                return singleFlight.execute(1L, computation);
+            }));
+        }
+        arrived.await(5, TimeUnit.SECONDS);
+        // let the last callers reach the computation in flight
+        Thread.sleep(100);
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.service.AgingWipService;
+import com.saimir.gasa.releasevitals.service.EpicService;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the AgingWipResource REST controller.
+ *
+ * @see AgingWipResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class AgingWipResourceIntTest {
+
+    private static final Instant STARTED_PROGRESS = Instant.parse("2018-09-20T10:00:00Z");
+    private static final Instant FIRST_REFRESH = Instant.parse("2018-10-01T10:00:00Z");
+    private static final Instant SECOND_REFRESH = Instant.parse("2018-10-08T10:00:00Z");
+
+    @Autowired
+    private AgingWipService agingWipService;
+
+    @Autowired
+    private EpicService epicService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PageableHandlerMethodArgumentResolver pageableArgumentResolver;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restAgingWipMockMvc;
+
+    private Epic epic;
+
+    private Project project;
+
+    @Before
+    public void setup() {
+        final AgingWipResource agingWipResource = new AgingWipResource(agingWipService);
+        this.restAgingWipMockMvc = MockMvcBuilders.standaloneSetup(agingWipResource)
+            .setCustomArgumentResolvers(pageableArgumentResolver)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Before
+    public void initTest() {
+        Release release = new Release().name("6.0");
+        em.persist(release);
+        project = new Project().name("Magnolia").key("MGNL").release(release);
+        em.persist(project);
+        epic = new Epic().name("Aging").projects(Collections.singleton(project));
+        em.persist(epic);
+        // The only issue with a known history
+        Issue issue = new Issue().key("MGNL-1").project(project);
+        em.persist(issue);
+        em.persist(new Status().fromStatus("Open").toStatus("In Progress").timeChaged(STARTED_PROGRESS).issue(issue));
+        em.flush();
+    }
+
+    @Test
+    @Transactional
+    public void refreshesMaintainTheOpenIssues() throws Exception {
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "In Progress", null, 3d, null),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 5d, null),
+            new IssueFact("MGNL-2", "MGNL", "6.1", "Open", null, 5d, null),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Closed", "Done", 2d, FIRST_REFRESH),
+            new IssueFact("OTHER-1", "OTHER", "1.0", "Open", null, null, null)), FIRST_REFRESH));
+
+        restAgingWipMockMvc.perform(get("/api/epics/{id}/aging-wip", epic.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(header().string("X-Total-Count", "3"))
+            .andExpect(jsonPath("$[*].issueKey").value(contains("MGNL-1", "MGNL-2", "OTHER-1")))
+            .andExpect(jsonPath("$[*].statusEnteredAt").value(contains(
+                "2018-09-20T10:00:00Z", "2018-10-01T10:00:00Z", "2018-10-01T10:00:00Z")))
+            .andExpect(jsonPath("$[0].status").value("In Progress"));
+
+        // MGNL-2 moves on, MGNL-1 stays where it is
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "In Progress", null, 5d, null),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "In Review", null, 5d, null),
+            new IssueFact("MGNL-4", "MGNL", "6.0", "Open", null, 1d, null)), SECOND_REFRESH));
+
+        restAgingWipMockMvc.perform(get("/api/epics/{id}/aging-wip", epic.getId()).param("projectKey", "mgnl"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].issueKey").value(contains("MGNL-1", "MGNL-2", "MGNL-4")))
+            .andExpect(jsonPath("$[*].statusEnteredAt").value(contains(
+                "2018-09-20T10:00:00Z", "2018-10-08T10:00:00Z", "2018-10-08T10:00:00Z")))
+            .andExpect(jsonPath("$[0].estimate").value(5d));
+
+        restAgingWipMockMvc.perform(get("/api/projects/{id}/aging-wip", project.getId()).param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "3"))
+            .andExpect(jsonPath("$[*].issueKey").value(contains("MGNL-1")));
+
+        // Resolving MGNL-1 takes it out of the report
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Closed", "Done", 5d, SECOND_REFRESH),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "In Review", null, 5d, null)), SECOND_REFRESH.plusSeconds(60)));
+
+        restAgingWipMockMvc.perform(get("/api/epics/{id}/aging-wip", epic.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].issueKey").value(contains("MGNL-2")));
+
+        epicService.delete(epic.getId());
+        restAgingWipMockMvc.perform(get("/api/projects/{id}/aging-wip", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void getAgingWipOfNonExistingEpicOrProject() throws Exception {
+        restAgingWipMockMvc.perform(get("/api/epics/{id}/aging-wip", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+        restAgingWipMockMvc.perform(get("/api/projects/{id}/aging-wip", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+}
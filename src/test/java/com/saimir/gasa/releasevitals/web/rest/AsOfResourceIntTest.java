@@ -0,0 +1,192 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Sprint;
+import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.service.AsOfService;
+import com.saimir.gasa.releasevitals.service.IssueSnapshotService;
+import com.saimir.gasa.releasevitals.service.StatusService;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the AsOfResource REST controller.
+ *
+ * @see AsOfResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class AsOfResourceIntTest {
+
+    private static final Instant FIRST_REFRESH = Instant.parse("2018-10-01T10:00:00Z");
+    private static final Instant SPRINT_START = Instant.parse("2018-10-08T00:00:00Z");
+    private static final Instant SECOND_REFRESH = Instant.parse("2018-10-08T10:00:00Z");
+
+    @Autowired
+    private AsOfService asOfService;
+
+    @Autowired
+    private IssueSnapshotService issueSnapshotService;
+
+    @Autowired
+    private StatusService statusService;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restAsOfMockMvc;
+
+    private Release release;
+
+    private Project project;
+
+    private Epic epic;
+
+    @Before
+    public void setup() {
+        final AsOfResource asOfResource = new AsOfResource(asOfService);
+        this.restAsOfMockMvc = MockMvcBuilders.standaloneSetup(asOfResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Before
+    public void initTest() {
+        release = new Release().name("6.0")
+            .startDate(Instant.parse("2018-10-01T00:00:00Z"))
+            .endDate(Instant.parse("2018-10-31T00:00:00Z"));
+        em.persist(release);
+        Version version = new Version().name("6.0");
+        em.persist(version);
+        project = new Project().name("Magnolia").key("MGNL").release(release).addVersion(version);
+        em.persist(project);
+        epic = new Epic().name("As of").key("MGNL-100").addProject(project);
+        em.persist(epic);
+        em.persist(new Sprint().name("Sprint 1").startDatetime(SPRINT_START).endDatetime(Instant.parse("2018-10-22T00:00:00Z")));
+        em.flush();
+    }
+
+    @Test
+    @Transactional
+    public void getEpicAsOf() throws Exception {
+        issueSnapshotService.record(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Open", null, 3d, null),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 5d, null),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Open", null, null, null),
+            new IssueFact("OTHER-1", "OTHER", "1.0", "Open", null, 1d, null)), FIRST_REFRESH);
+        issueSnapshotService.record(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Closed", "Done", 3d, SECOND_REFRESH),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 8d, null),
+            new IssueFact("MGNL-4", "MGNL", "6.0", "Open", null, 2d, null)), SECOND_REFRESH);
+
+        restAsOfMockMvc.perform(get("/api/epics/{id}/as-of", epic.getId()).param("at", "2018-10-05T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.metrics.epicId").value(epic.getId().intValue()))
+            .andExpect(jsonPath("$.metrics.totalIssueCount").value(3))
+            .andExpect(jsonPath("$.metrics.unestimatedIssueCount").value(1))
+            .andExpect(jsonPath("$.metrics.totalStoryPoints").value(8d))
+            .andExpect(jsonPath("$.metrics.storyPointsCompleted").value(0d))
+            .andExpect(jsonPath("$.issueCountByStatus.Open").value(4));
+
+        restAsOfMockMvc.perform(get("/api/epics/{id}/as-of", epic.getId()).param("at", "2018-10-09T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.metrics.totalIssueCount").value(3))
+            .andExpect(jsonPath("$.metrics.totalStoryPoints").value(13d))
+            .andExpect(jsonPath("$.metrics.storyPointsCompleted").value(3d))
+            .andExpect(jsonPath("$.metrics.remainingStoryPoints").value(10d))
+            .andExpect(jsonPath("$.issueCountByStatus.Closed").value(1))
+            .andExpect(jsonPath("$.issueCountByStatus.Open").value(2));
+
+        restAsOfMockMvc.perform(get("/api/releases/{id}/as-of", release.getId()).param("at", "2018-10-09T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.epics[0].epicId").value(epic.getId().intValue()))
+            .andExpect(jsonPath("$.epics[0].storyPointsCompleted").value(3d));
+
+        // Before the first refresh nothing was known
+        restAsOfMockMvc.perform(get("/api/epics/{id}/as-of", epic.getId()).param("at", "2018-09-01T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.metrics.totalIssueCount").value(0))
+            .andExpect(jsonPath("$.issueCountByStatus").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void getReleaseAsOfReplaysFromTheSprintBoundary() throws Exception {
+        Issue first = new Issue().key("MGNL-1").project(project);
+        em.persist(first);
+        Issue second = new Issue().key("MGNL-2").project(project);
+        em.persist(second);
+        em.persist(new Status().toStatus("In Progress").timeChaged(Instant.parse("2018-10-02T10:00:00Z")).issue(first));
+        em.persist(new Status().toStatus("Closed").timeChaged(Instant.parse("2018-10-10T10:00:00Z")).issue(first));
+        em.persist(new Status().toStatus("Open").timeChaged(Instant.parse("2018-10-03T10:00:00Z")).issue(second));
+        em.flush();
+
+        restAsOfMockMvc.perform(get("/api/releases/{id}/as-of", release.getId()).param("at", "2018-10-09T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.releaseId").value(release.getId().intValue()))
+            .andExpect(jsonPath("$.checkpoint").value("2018-10-08T00:00:00Z"))
+            .andExpect(jsonPath("$.replayedTransitionCount").value(0))
+            .andExpect(jsonPath("$.issueCountByStatus.['In Progress']").value(1))
+            .andExpect(jsonPath("$.issueCountByStatus.Open").value(1))
+            .andExpect(jsonPath("$.epics[0].totalIssueCount").value(0));
+
+        restAsOfMockMvc.perform(get("/api/releases/{id}/as-of", release.getId()).param("at", "2018-10-12T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.checkpoint").value("2018-10-08T00:00:00Z"))
+            .andExpect(jsonPath("$.replayedTransitionCount").value(1))
+            .andExpect(jsonPath("$.issueCountByStatus.Closed").value(1))
+            .andExpect(jsonPath("$.issueCountByStatus.Open").value(1));
+
+        // A transition before the boundary drops the checkpoint
+        statusService.save(new Status().fromStatus("Open").toStatus("In Progress")
+            .timeChaged(Instant.parse("2018-10-04T10:00:00Z")).issue(second));
+        restAsOfMockMvc.perform(get("/api/releases/{id}/as-of", release.getId()).param("at", "2018-10-09T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.issueCountByStatus.['In Progress']").value(2))
+            .andExpect(jsonPath("$.issueCountByStatus.Open").doesNotExist());
+    }
+
+    @Test
+    @Transactional
+    public void getAsOfOfNonExistingEpicOrRelease() throws Exception {
+        restAsOfMockMvc.perform(get("/api/epics/{id}/as-of", Long.MAX_VALUE).param("at", "2018-10-09T00:00:00Z"))
+            .andExpect(status().isNotFound());
+        restAsOfMockMvc.perform(get("/api/releases/{id}/as-of", Long.MAX_VALUE).param("at", "2018-10-09T00:00:00Z"))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,245 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.saimir.gasa.releasevitals.config.ApplicationProperties;
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.repository.VersionRepository;
+import com.saimir.gasa.releasevitals.repository.search.EpicSearchRepository;
+import com.saimir.gasa.releasevitals.repository.search.ProjectSearchRepository;
+import com.saimir.gasa.releasevitals.repository.search.ReleaseSearchRepository;
+import com.saimir.gasa.releasevitals.repository.search.VersionSearchRepository;
+import com.saimir.gasa.releasevitals.service.BulkImportService;
+import com.saimir.gasa.releasevitals.service.ReleaseHealthService;
+import com.saimir.gasa.releasevitals.service.impl.BulkImportServiceImpl;
+import com.saimir.gasa.releasevitals.service.util.BulkImportReader;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the BulkImportResource REST controller.
+ *
+ * @see BulkImportResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class BulkImportResourceIntTest {
+
+    private static final String RELEASE = "Bulk Release";
+
+    @Autowired
+    private BulkImportService bulkImportService;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private VersionRepository versionRepository;
+
+    @Autowired
+    private ReleaseSearchRepository releaseSearchRepository;
+
+    @Autowired
+    private VersionSearchRepository versionSearchRepository;
+
+    @Autowired
+    private ProjectSearchRepository projectSearchRepository;
+
+    @Autowired
+    private EpicSearchRepository epicSearchRepository;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restBulkImportMockMvc;
+
+    @Before
+    public void setup() {
+        final BulkImportResource bulkImportResource = new BulkImportResource(bulkImportService, objectMapper);
+        this.restBulkImportMockMvc = MockMvcBuilders.standaloneSetup(bulkImportResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Test
+    @Transactional
+    public void importNdjson() throws Exception {
+        String document = String.join("\n",
+            "{\"type\":\"release\",\"name\":\"" + RELEASE + "\",\"startDate\":\"2018-10-01T00:00:00Z\"}",
+            "{\"type\":\"project\",\"release\":\"" + RELEASE + "\",\"key\":\"BULKUI\",\"name\":\"Bulk UI\",\"versions\":[\"6.0\",\"6.1\"]}",
+            "{\"type\":\"project\",\"release\":\"" + RELEASE + "\",\"key\":\"BULKEE\",\"name\":\"Bulk EE\",\"versions\":[\"6.0\"]}",
+            "{\"type\":\"project\",\"release\":\"Unknown Release\",\"key\":\"BULKCE\"}",
+            "{\"type\":\"epic\",\"release\":\"" + RELEASE + "\",\"key\":\"BULKUI-1\",\"name\":\"Bulk epic\"," +
+                "\"browserURL\":\"http://jira/BULKUI-1\",\"projects\":[\"BULKUI\",\"BULKEE\"]}",
+            "{\"type\":\"epic\",\"release\":\"" + RELEASE + "\",\"key\":\"BULKUI-2\",\"projects\":[\"BULKCE\"]}",
+            "",
+            "{\"type\":\"release\",\"name\":\"" + RELEASE + "\",\"endDate\":\"2018-12-01T00:00:00Z\"}",
+            "{\"type\":\"project\",\"release\":\"" + RELEASE + "\",\"key\":\"BULKEE\",\"versions\":[\"6.1\"]}");
+
+        restBulkImportMockMvc.perform(post("/api/bulk-import")
+            .contentType(BulkImportResource.NDJSON_VALUE)
+            .content(document))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.createdCount").value(4))
+            .andExpect(jsonPath("$.updatedCount").value(2))
+            .andExpect(jsonPath("$.rejectedCount").value(2))
+            .andExpect(jsonPath("$.complete").value(true))
+            .andExpect(jsonPath("$.errors").value(hasSize(2)))
+            .andExpect(jsonPath("$.errors").value(hasItem("Line 4: unknown release 'Unknown Release'")))
+            .andExpect(jsonPath("$.errors").value(hasItem("Line 6: unknown project 'BULKCE' in release '" + RELEASE + "'")));
+
+        em.clear();
+        List<Release> releases = releaseRepository.findAllByNameIn(Collections.singleton(RELEASE));
+        assertThat(releases).hasSize(1);
+        assertThat(releases.get(0).getStartDate()).isEqualTo(Instant.parse("2018-10-01T00:00:00Z"));
+        assertThat(releases.get(0).getEndDate()).isEqualTo(Instant.parse("2018-12-01T00:00:00Z"));
+
+        List<Project> projects = projectRepository.findAllByReleaseNameInAndKeyIn(Collections.singleton(RELEASE),
+            Arrays.asList("BULKUI", "BULKEE", "BULKCE"));
+        assertThat(projects).extracting(Project::getKey).containsExactly("BULKUI", "BULKEE");
+        assertThat(projects.get(0).getVersions()).extracting(Version::getName).containsExactlyInAnyOrder("6.0", "6.1");
+        assertThat(projects.get(1).getName()).isEqualTo("Bulk EE");
+        assertThat(projects.get(1).getVersions()).extracting(Version::getName).containsExactly("6.1");
+        // the versions are resolved by name, so the two projects share version 6.1
+        assertThat(projects.get(1).getVersions()).isSubsetOf(projects.get(0).getVersions());
+
+        List<Epic> epics = epicRepository.findAllByKeyIn(Arrays.asList("BULKUI-1", "BULKUI-2"));
+        assertThat(epics).hasSize(1);
+        assertThat(epics.get(0).getEpicBrowserURL()).isEqualTo("http://jira/BULKUI-1");
+        assertThat(epics.get(0).getProjects()).extracting(Project::getKey).containsExactlyInAnyOrder("BULKUI", "BULKEE");
+    }
+
+    @Test
+    @Transactional
+    public void importCsvStopsAtMalformedLine() throws Exception {
+        String document = String.join("\n",
+            "type,name,release,key,versions",
+            "release,\"" + RELEASE + ", CSV\",,,",
+            "project,\"Bulk \"\"CSV\"\"\",\"" + RELEASE + ", CSV\",BULKCSV,6.0|6.1",
+            "version,6.2,,,",
+            "project,Broken,,");
+
+        restBulkImportMockMvc.perform(post("/api/bulk-import")
+            .contentType(BulkImportResource.CSV_VALUE)
+            .content(document))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.createdCount").value(3))
+            .andExpect(jsonPath("$.rejectedCount").value(0))
+            .andExpect(jsonPath("$.complete").value(false))
+            .andExpect(jsonPath("$.errors[0]").value(startsWith("Line 5: expected 5 fields")));
+
+        em.clear();
+        List<Project> projects = projectRepository.findAllByReleaseNameInAndKeyIn(Collections.singleton(RELEASE + ", CSV"),
+            Collections.singleton("BULKCSV"));
+        assertThat(projects).hasSize(1);
+        assertThat(projects.get(0).getName()).isEqualTo("Bulk \"CSV\"");
+        assertThat(projects.get(0).getVersions()).extracting(Version::getName).containsExactlyInAnyOrder("6.0", "6.1");
+    }
+
+    @Test
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public void importMarksTheTouchedReleasesDirty() throws Exception {
+        ReleaseHealthService releaseHealthService = mock(ReleaseHealthService.class);
+        BulkImportService service = new BulkImportServiceImpl(releaseRepository, versionRepository, projectRepository,
+            epicRepository, releaseSearchRepository, versionSearchRepository, projectSearchRepository, epicSearchRepository,
+            releaseHealthService, em, applicationProperties, transactionManager);
+        service.importRows(ndjson(
+            "{\"type\":\"release\",\"name\":\"" + RELEASE + " A\"}",
+            "{\"type\":\"release\",\"name\":\"" + RELEASE + " B\"}",
+            "{\"type\":\"project\",\"release\":\"" + RELEASE + " A\",\"key\":\"BULKA\"}",
+            "{\"type\":\"project\",\"release\":\"" + RELEASE + " B\",\"key\":\"BULKB\"}",
+            "{\"type\":\"epic\",\"release\":\"" + RELEASE + " A\",\"key\":\"BULKA-1\",\"projects\":[\"BULKA\"]}"));
+        Long releaseA = releaseRepository.findAllByNameIn(Collections.singleton(RELEASE + " A")).get(0).getId();
+        Long releaseB = releaseRepository.findAllByNameIn(Collections.singleton(RELEASE + " B")).get(0).getId();
+        // each chunk marks the releases it changed
+        ArgumentCaptor<Collection<Long>> marked = ArgumentCaptor.forClass(Collection.class);
+        verify(releaseHealthService, times(3)).markDirty(marked.capture());
+        assertThat(marked.getAllValues().stream().flatMap(Collection::stream)).contains(releaseA, releaseB);
+
+        // moving the epic changes the release it leaves as well as the one it joins
+        ReleaseHealthService movedHealthService = mock(ReleaseHealthService.class);
+        new BulkImportServiceImpl(releaseRepository, versionRepository, projectRepository, epicRepository,
+            releaseSearchRepository, versionSearchRepository, projectSearchRepository, epicSearchRepository,
+            movedHealthService, em, applicationProperties, transactionManager)
+            .importRows(ndjson(
+                "{\"type\":\"epic\",\"release\":\"" + RELEASE + " B\",\"key\":\"BULKA-1\",\"projects\":[\"BULKB\"]}"));
+        verify(movedHealthService).markDirty(marked.capture());
+        assertThat(marked.getValue()).containsExactlyInAnyOrder(releaseA, releaseB);
+    }
+
+    private BulkImportReader ndjson(String... lines) throws Exception {
+        return BulkImportReader.ndjson(objectMapper, new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    public void importCsvWithUnknownColumn() throws Exception {
+        restBulkImportMockMvc.perform(post("/api/bulk-import")
+            .contentType(BulkImportResource.CSV_VALUE)
+            .content("type,name,colour\nrelease,Bulk,red"))
+            .andExpect(status().isBadRequest());
+    }
+}
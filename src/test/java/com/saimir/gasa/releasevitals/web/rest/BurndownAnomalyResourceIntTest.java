@@ -0,0 +1,208 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.config.ApplicationProperties;
+import com.saimir.gasa.releasevitals.domain.BurndownStats;
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.User;
+import com.saimir.gasa.releasevitals.repository.BurndownStatsRepository;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.UserRepository;
+import com.saimir.gasa.releasevitals.service.BurndownAnomalyService;
+import com.saimir.gasa.releasevitals.service.MailService;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.service.impl.BurndownAnomalyServiceImpl;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the BurndownAnomalyResource REST controller.
+ *
+ * @see BurndownAnomalyResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class BurndownAnomalyResourceIntTest {
+
+    private static final Instant FIRST_REFRESH = Instant.parse("2018-10-01T08:00:00Z");
+
+    @Autowired
+    private BurndownAnomalyService burndownAnomalyService;
+
+    @Autowired
+    private BurndownStatsRepository burndownStatsRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restBurndownAnomalyMockMvc;
+
+    private Epic epic;
+
+    private int day;
+
+    @Before
+    public void setup() {
+        final BurndownAnomalyResource burndownAnomalyResource = new BurndownAnomalyResource(burndownAnomalyService);
+        this.restBurndownAnomalyMockMvc = MockMvcBuilders.standaloneSetup(burndownAnomalyResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Before
+    public void initTest() {
+        epic = new Epic().name("Burndown").key("MGNL-100");
+        em.persist(epic);
+        em.flush();
+        day = 0;
+    }
+
+    /**
+     * Refresh the epic one day after the previous refresh.
+     */
+    private void refresh(double remaining, double completed) {
+        refresh(remaining, completed, FIRST_REFRESH.plus(Duration.ofDays(day++)));
+    }
+
+    private void refresh(double remaining, double completed, Instant refreshedAt) {
+        List<IssueFact> issueFacts = Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Open", null, remaining, null),
+            // the same issue in another fix version is counted once
+            new IssueFact("MGNL-1", "MGNL", "6.1", "Open", null, remaining, null),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Closed", "Done", completed, FIRST_REFRESH),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Closed", "Duplicate", 100d, FIRST_REFRESH));
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), issueFacts, refreshedAt));
+    }
+
+    @Test
+    @Transactional
+    public void refreshesFlagScopeCreepAndStalls() throws Exception {
+        // a steady burndown of 2 points a day
+        refresh(40, 0);
+        refresh(38, 2);
+        refresh(36, 4);
+        refresh(34, 6);
+        refresh(32, 8);
+        restBurndownAnomalyMockMvc.perform(get("/api/burndown-anomalies"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].epicId").value(not(hasItem(epic.getId().intValue()))));
+
+        refresh(45, 10);
+        restBurndownAnomalyMockMvc.perform(get("/api/burndown-anomalies"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$[?(@.epicId == " + epic.getId() + ")].anomaly").value(hasItem("SCOPE_CREEP")))
+            .andExpect(jsonPath("$[?(@.epicId == " + epic.getId() + ")].value").value(hasItem(13.0)))
+            .andExpect(jsonPath("$[?(@.epicId == " + epic.getId() + ")].epicKey").value(hasItem("MGNL-100")))
+            .andExpect(jsonPath("$[?(@.epicId == " + epic.getId() + ")].flaggedAt").value(hasItem("2018-10-06T08:00:00Z")));
+
+        // back on track
+        refresh(43, 12);
+        assertThat(burndownStatsRepository.findOneByEpicId(epic.getId()).get().getAnomaly()).isNull();
+
+        refresh(43, 12);
+        restBurndownAnomalyMockMvc.perform(get("/api/burndown-anomalies"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[?(@.epicId == " + epic.getId() + ")].anomaly").value(hasItem("STALL")))
+            .andExpect(jsonPath("$[?(@.epicId == " + epic.getId() + ")].value").value(hasItem(0.0)));
+        assertThat(burndownStatsRepository.findOneByEpicId(epic.getId()).get().getObservationCount()).isEqualTo(8);
+    }
+
+    @Test
+    @Transactional
+    public void backToBackRefreshesAreOnePoint() throws Exception {
+        refresh(40, 0);
+        refresh(38, 2);
+        refresh(36, 4);
+        refresh(34, 6);
+        BurndownStats before = burndownStatsRepository.findOneByEpicId(epic.getId()).get();
+        Instant lastRefresh = before.getObservedAt();
+        double completionRateMean = before.getCompletionRateMean();
+
+        // on-demand refreshes seconds after the last one complete nothing
+        refresh(34, 6, lastRefresh.plusSeconds(5));
+        refresh(34, 7, lastRefresh.plusSeconds(10));
+
+        BurndownStats stats = burndownStatsRepository.findOneByEpicId(epic.getId()).get();
+        assertThat(stats.getAnomaly()).isNull();
+        assertThat(stats.getObservationCount()).isEqualTo(4);
+        assertThat(stats.getObservedAt()).isEqualTo(lastRefresh);
+        assertThat(stats.getCompletionRateMean()).isEqualTo(completionRateMean);
+
+        // the next day is a point again, measured from the last one
+        refresh(32, 8, lastRefresh.plus(Duration.ofDays(1)));
+        stats = burndownStatsRepository.findOneByEpicId(epic.getId()).get();
+        assertThat(stats.getAnomaly()).isNull();
+        assertThat(stats.getObservationCount()).isEqualTo(5);
+        assertThat(stats.getCompletionRateMean()).isCloseTo(2d, within(0.001));
+    }
+
+    @Test
+    @Transactional
+    public void digestIsMailedToTheAdministrators() throws Exception {
+        refresh(40, 0);
+        refresh(38, 2);
+        refresh(36, 4);
+        refresh(34, 6);
+        refresh(60, 8);
+
+        MailService mailService = mock(MailService.class);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        BurndownAnomalyService digestService = new BurndownAnomalyServiceImpl(burndownStatsRepository, epicRepository,
+            userRepository, mailService, applicationProperties);
+        assertThat(digestService.sendDigest()).isZero();
+
+        applicationProperties.getBurndownAnomaly().setDigestEnabled(true);
+        assertThat(digestService.sendDigest()).isGreaterThanOrEqualTo(1);
+        User admin = userRepository.findOneByLogin("admin").get();
+        verify(mailService).sendBurndownAnomalyDigest(argThat(admin::equals),
+            argThat(anomalies -> anomalies.stream().anyMatch(anomaly -> epic.getId().equals(anomaly.getEpicId()))));
+    }
+}
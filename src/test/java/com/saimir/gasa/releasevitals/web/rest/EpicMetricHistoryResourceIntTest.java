@@ -0,0 +1,117 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.service.EpicMetricHistoryService;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the EpicMetricHistoryResource REST controller.
+ *
+ * @see EpicMetricHistoryResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class EpicMetricHistoryResourceIntTest {
+
+    @Autowired
+    private EpicMetricHistoryService epicMetricHistoryService;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    private MockMvc restEpicMetricHistoryMockMvc;
+
+    @Before
+    public void setup() {
+        final EpicMetricHistoryResource epicMetricHistoryResource = new EpicMetricHistoryResource(epicMetricHistoryService);
+        this.restEpicMetricHistoryMockMvc = MockMvcBuilders.standaloneSetup(epicMetricHistoryResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Test
+    public void metricChangesAreVersioned() throws Exception {
+        // Envers writes the revisions when the transaction commits
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Instant before = Instant.now();
+        Epic epic = transactionTemplate.execute(transactionStatus -> epicRepository.save(new Epic().name("History")
+            .totalStoryPoints(10d).storyPointsCompleted(0d).remainingStoryPoints(10d).totalIssueCount(3)));
+        transactionTemplate.execute(transactionStatus -> epicRepository.findById(epic.getId()).get()
+            .storyPointsCompleted(4d).remainingStoryPoints(6d).percentageCompleted(0.4));
+        // a field that is not audited leaves no revision
+        transactionTemplate.execute(transactionStatus -> epicRepository.findById(epic.getId()).get().name("Renamed"));
+        Epic other = transactionTemplate.execute(transactionStatus -> epicRepository.save(new Epic().name("Other")
+            .totalStoryPoints(5d).totalIssueCount(1)));
+        try {
+            restEpicMetricHistoryMockMvc.perform(get("/api/epic-metric-history")
+                .param("epicId", other.getId().toString(), epic.getId().toString(), String.valueOf(Long.MAX_VALUE))
+                .param("from", before.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+                .andExpect(jsonPath("$[*].epicId").value(contains(epic.getId().intValue(), other.getId().intValue())))
+                .andExpect(jsonPath("$[0].revisionTimes").value(hasSize(2)))
+                .andExpect(jsonPath("$[0].totalIssueCount[*]").value(contains(3, 3)))
+                .andExpect(jsonPath("$[0].totalStoryPoints[*]").value(contains(10d, 10d)))
+                .andExpect(jsonPath("$[0].storyPointsCompleted[*]").value(contains(0d, 4d)))
+                .andExpect(jsonPath("$[0].remainingStoryPoints[*]").value(contains(10d, 6d)))
+                .andExpect(jsonPath("$[0].percentageCompleted[1]").value(0.4d))
+                .andExpect(jsonPath("$[1].totalStoryPoints[*]").value(contains(5d)));
+
+            restEpicMetricHistoryMockMvc.perform(get("/api/epic-metric-history")
+                .param("epicId", epic.getId().toString())
+                .param("from", "2018-10-01T00:00:00Z")
+                .param("to", "2018-10-31T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+        } finally {
+            transactionTemplate.execute(transactionStatus -> {
+                epicRepository.deleteById(epic.getId());
+                epicRepository.deleteById(other.getId());
+                return null;
+            });
+        }
+    }
+
+    @Test
+    public void getEpicMetricHistoryWithInvalidRange() throws Exception {
+        restEpicMetricHistoryMockMvc.perform(get("/api/epic-metric-history")
+            .param("epicId", "1")
+            .param("from", "2018-10-31T00:00:00Z")
+            .param("to", "2018-10-01T00:00:00Z"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -3,11 +3,15 @@ package com.saimir.gasa.releasevitals.web.rest;
 import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
 
 import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Project;
 import com.saimir.gasa.releasevitals.repository.EpicRepository;
 import com.saimir.gasa.releasevitals.repository.search.EpicSearchRepository;
 import com.saimir.gasa.releasevitals.service.EpicService;
 import com.saimir.gasa.releasevitals.service.IssueService;
+import com.saimir.gasa.releasevitals.service.IssueSnapshotService;
 import com.saimir.gasa.releasevitals.service.JiraService;
+import com.saimir.gasa.releasevitals.service.ScopeEventService;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
 import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
 
 import org.junit.Before;
@@ -28,7 +32,9 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -36,6 +42,7 @@ import java.util.List;
 import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.elasticsearch.index.query.QueryBuilders.queryStringQuery;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -93,6 +100,12 @@ public class EpicResourceIntTest {
     @Autowired
     private JiraService jiraService;
 
+    @Autowired
+    private ScopeEventService scopeEventService;
+
+    @Autowired
+    private IssueSnapshotService issueSnapshotService;
+
     /**
      * This repository is mocked in the com.saimir.gasa.releasevitals.repository.search test package.
      *
@@ -120,7 +133,7 @@ public class EpicResourceIntTest {
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final EpicResource epicResource = new EpicResource(epicService, jiraService, issueService);
+        final EpicResource epicResource = new EpicResource(epicService, jiraService, issueService, scopeEventService);
         this.restEpicMockMvc = MockMvcBuilders.standaloneSetup(epicResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -223,9 +236,30 @@ public class EpicResourceIntTest {
             .andExpect(jsonPath("$.[*].epicBrowserURL").value(hasItem(DEFAULT_EPIC_BROWSER_URL.toString())));
     }
 
+    @Test
+    @Transactional
+    public void getAllEpicsWithEagerRelationshipsPagesIds() throws Exception {
+        // Initialize the database
+        long databaseSize = epicRepository.count();
+        Project project = ProjectResourceIntTest.createEntity(em);
+        em.persist(project);
+        epicRepository.saveAndFlush(epic);
+        Epic second = epicRepository.saveAndFlush(createEntity(em));
+        Epic third = epicRepository.saveAndFlush(createEntity(em).addProject(project));
+        em.clear();
+
+        // Only the ids of the page are fetched with their relationships, in the order of the page
+        restEpicMockMvc.perform(get("/api/epics?eagerload=true&sort=id,desc&size=2"))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", String.valueOf(databaseSize + 3)))
+            .andExpect(jsonPath("$.[*].id").value(contains(third.getId().intValue(), second.getId().intValue())))
+            .andExpect(jsonPath("$.[0].projects.[*].id").value(contains(project.getId().intValue())))
+            .andExpect(jsonPath("$.[1].projects").isEmpty());
+    }
+
     public void getAllEpicsWithEagerRelationshipsIsEnabled() throws Exception {
-        EpicResource epicResource = new EpicResource(epicServiceMock, jiraService, issueService);
-        when(epicServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        EpicResource epicResource = new EpicResource(epicServiceMock, jiraService, issueService, scopeEventService);
+        when(epicServiceMock.findAllProjectedWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
 
         MockMvc restEpicMockMvc = MockMvcBuilders.standaloneSetup(epicResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
@@ -236,12 +270,12 @@ public class EpicResourceIntTest {
         restEpicMockMvc.perform(get("/api/epics?eagerload=true"))
         .andExpect(status().isOk());
 
-        verify(epicServiceMock, times(1)).findAllWithEagerRelationships(any());
+        verify(epicServiceMock, times(1)).findAllProjectedWithEagerRelationships(any());
     }
 
     public void getAllEpicsWithEagerRelationshipsIsNotEnabled() throws Exception {
-        EpicResource epicResource = new EpicResource(epicServiceMock, jiraService, issueService);
-            when(epicServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        EpicResource epicResource = new EpicResource(epicServiceMock, jiraService, issueService, scopeEventService);
+            when(epicServiceMock.findAllProjectedWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
             MockMvc restEpicMockMvc = MockMvcBuilders.standaloneSetup(epicResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -251,7 +285,7 @@ public class EpicResourceIntTest {
         restEpicMockMvc.perform(get("/api/epics?eagerload=true"))
         .andExpect(status().isOk());
 
-            verify(epicServiceMock, times(1)).findAllWithEagerRelationships(any());
+            verify(epicServiceMock, times(1)).findAllProjectedWithEagerRelationships(any());
     }
 
     @Test
@@ -283,6 +317,46 @@ public class EpicResourceIntTest {
             .andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    public void getScopeChurn() throws Exception {
+        // Initialize the database
+        epicRepository.saveAndFlush(epic);
+        issueSnapshotService.record(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Open", null, 3d, null),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 5d, null)), Instant.parse("2018-10-01T10:00:00Z"));
+        issueSnapshotService.record(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Closed", "Done", 5d, Instant.parse("2018-10-05T10:00:00Z")),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Open", null, 1d, null)), Instant.parse("2018-10-08T10:00:00Z"));
+
+        // Get the churn after the first refresh
+        restEpicMockMvc.perform(get("/api/epics/{id}/scope-churn", epic.getId())
+            .param("from", "2018-10-02T00:00:00Z").param("to", "2018-10-09T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.epicId").value(epic.getId().intValue()))
+            .andExpect(jsonPath("$.events[?(@.eventType == 'ADDED')].count").value(hasItem(1)))
+            .andExpect(jsonPath("$.events[?(@.eventType == 'REMOVED')].points").value(hasItem(-5d)))
+            .andExpect(jsonPath("$.events[?(@.eventType == 'REESTIMATED')].points").value(hasItem(2d)))
+            .andExpect(jsonPath("$.events[?(@.eventType == 'RESOLVED')].points").value(hasItem(5d)))
+            .andExpect(jsonPath("$.events[?(@.eventType == 'REOPENED')].count").value(hasItem(0)))
+            .andExpect(jsonPath("$.scopeChange").value(-4d))
+            .andExpect(jsonPath("$.estimateChange").value(2d));
+
+        // Get the churn since the beginning
+        restEpicMockMvc.perform(get("/api/epics/{id}/scope-churn", epic.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.events[?(@.eventType == 'ADDED')].count").value(hasItem(3)))
+            .andExpect(jsonPath("$.events[?(@.eventType == 'ADDED')].points").value(hasItem(9d)));
+    }
+
+    @Test
+    @Transactional
+    public void getScopeChurnOfNonExistingEpic() throws Exception {
+        restEpicMockMvc.perform(get("/api/epics/{id}/scope-churn", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     public void updateEpic() throws Exception {
@@ -350,6 +424,46 @@ public class EpicResourceIntTest {
         verify(mockEpicSearchRepository, times(0)).save(epic);
     }
 
+    @Test
+    @Transactional
+    public void updateEpicWithStaleVersion() throws Exception {
+        // Initialize the database
+        epicService.save(epic);
+        em.flush();
+        Epic staleEpic = epicRepository.findById(epic.getId()).get();
+        em.detach(staleEpic);
+        // Another user updates the epic meanwhile
+        epicRepository.findById(epic.getId()).get().name(UPDATED_NAME);
+        em.flush();
+        reset(mockEpicSearchRepository);
+
+        // The update based on the stale epic is rejected
+        restEpicMockMvc.perform(put("/api/epics")
+            .contentType(TestUtil.APPLICATION_JSON_UTF8)
+            .content(TestUtil.convertObjectToJsonBytes(staleEpic.totalStoryPoints(UPDATED_TOTAL_STORY_POINTS))))
+            .andExpect(status().isConflict());
+
+        // Validate the Epic in Elasticsearch
+        verify(mockEpicSearchRepository, times(0)).save(any(Epic.class));
+    }
+
+    @Test
+    @Transactional
+    public void updateEpicWithoutVersion() throws Exception {
+        // Initialize the database
+        epicService.save(epic);
+        em.flush();
+        Epic updatedEpic = epicRepository.findById(epic.getId()).get();
+        em.detach(updatedEpic);
+        updatedEpic.setVersion(null);
+
+        // An epic without version cannot be checked against the newer changes
+        restEpicMockMvc.perform(put("/api/epics")
+            .contentType(TestUtil.APPLICATION_JSON_UTF8)
+            .content(TestUtil.convertObjectToJsonBytes(updatedEpic.name(UPDATED_NAME))))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     public void deleteEpic() throws Exception {
@@ -0,0 +1,165 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.service.EpicService;
+import com.saimir.gasa.releasevitals.service.EstimateHistogramService;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the EstimateHistogramResource REST controller.
+ *
+ * @see EstimateHistogramResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class EstimateHistogramResourceIntTest {
+
+    private static final Instant FIRST_REFRESH = Instant.parse("2018-10-01T10:00:00Z");
+    private static final Instant SECOND_REFRESH = Instant.parse("2018-10-08T10:00:00Z");
+
+    @Autowired
+    private EstimateHistogramService estimateHistogramService;
+
+    @Autowired
+    private EpicService epicService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restEstimateHistogramMockMvc;
+
+    private Epic epic;
+
+    private Project project;
+
+    @Before
+    public void setup() {
+        final EstimateHistogramResource estimateHistogramResource = new EstimateHistogramResource(estimateHistogramService);
+        this.restEstimateHistogramMockMvc = MockMvcBuilders.standaloneSetup(estimateHistogramResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Before
+    public void initTest() {
+        Release release = new Release().name("6.0");
+        em.persist(release);
+        project = new Project().name("Magnolia").key("MGNL").release(release);
+        em.persist(project);
+        epic = new Epic().name("Estimates").projects(Collections.singleton(project));
+        em.persist(epic);
+        em.flush();
+    }
+
+    @Test
+    @Transactional
+    public void refreshesMaintainTheHistograms() throws Exception {
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Open", null, 1d, null),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 3d, null),
+            new IssueFact("MGNL-2", "MGNL", "6.1", "Open", null, 3d, null),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Closed", "Done", 40d, FIRST_REFRESH),
+            new IssueFact("MGNL-4", "MGNL", "6.0", "Open", null, null, null),
+            new IssueFact("OTHER-1", "other", "1.0", "Open", null, 0.5d, null)), FIRST_REFRESH));
+
+        restEstimateHistogramMockMvc.perform(get("/api/epics/{id}/estimate-histogram", epic.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.upperBounds[*]").value(contains(0d, 1d, 2d, 3d, 5d, 8d, 13d, 21d)))
+            .andExpect(jsonPath("$.counts[*]").value(contains(0, 2, 0, 1, 0, 0, 0, 0, 1)))
+            .andExpect(jsonPath("$.issueCount").value(5))
+            .andExpect(jsonPath("$.unestimatedCount").value(1))
+            .andExpect(jsonPath("$.unestimatedShare").value(0.2d));
+
+        restEstimateHistogramMockMvc.perform(get("/api/epics/{id}/estimate-histogram", epic.getId()).param("projectKey", "mgnl"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.counts[*]").value(contains(0, 1, 0, 1, 0, 0, 0, 0, 1)))
+            .andExpect(jsonPath("$.unestimatedShare").value(0.25d));
+
+        // OTHER leaves the epic and MGNL-4 gets its estimate
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Open", null, 2d, null),
+            new IssueFact("MGNL-4", "MGNL", "6.0", "Open", null, 8d, null)), SECOND_REFRESH));
+
+        restEstimateHistogramMockMvc.perform(get("/api/epics/{id}/estimate-histogram", epic.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.counts[*]").value(contains(0, 0, 1, 0, 0, 1, 0, 0, 0)))
+            .andExpect(jsonPath("$.unestimatedShare").value(0d));
+    }
+
+    @Test
+    @Transactional
+    public void projectHistogramMergesItsEpics() throws Exception {
+        Epic other = new Epic().name("Other").projects(Collections.singleton(project));
+        em.persist(other);
+        em.flush();
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Open", null, 5d, null),
+            new IssueFact("OTHER-1", "OTHER", "1.0", "Open", null, 5d, null)), FIRST_REFRESH));
+        eventPublisher.publishEvent(new EpicRefreshedEvent(other.getId(), Arrays.asList(
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 5d, null),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Open", null, null, null)), FIRST_REFRESH));
+
+        restEstimateHistogramMockMvc.perform(get("/api/projects/{id}/estimate-histogram", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.counts[*]").value(contains(0, 0, 0, 0, 2, 0, 0, 0, 0)))
+            .andExpect(jsonPath("$.issueCount").value(3))
+            .andExpect(jsonPath("$.unestimatedCount").value(1));
+
+        // Deleting an epic drops its counters
+        epicService.delete(other.getId());
+
+        restEstimateHistogramMockMvc.perform(get("/api/projects/{id}/estimate-histogram", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.counts[*]").value(contains(0, 0, 0, 0, 1, 0, 0, 0, 0)))
+            .andExpect(jsonPath("$.issueCount").value(1));
+    }
+
+    @Test
+    @Transactional
+    public void getHistogramOfUnknownEpicOrProject() throws Exception {
+        restEstimateHistogramMockMvc.perform(get("/api/epics/{id}/estimate-histogram", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+        restEstimateHistogramMockMvc.perform(get("/api/projects/{id}/estimate-histogram", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+}
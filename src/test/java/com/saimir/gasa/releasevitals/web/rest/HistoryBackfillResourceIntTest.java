@@ -0,0 +1,239 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.IssueStatusDuration;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.ScopeEvent;
+import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.domain.StatusRollup;
+import com.saimir.gasa.releasevitals.repository.BackfillCheckpointRepository;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.IssueRepository;
+import com.saimir.gasa.releasevitals.repository.IssueSnapshotRepository;
+import com.saimir.gasa.releasevitals.repository.IssueStatusDurationRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.repository.ScopeEventRepository;
+import com.saimir.gasa.releasevitals.repository.StatusRepository;
+import com.saimir.gasa.releasevitals.repository.StatusRollupRepository;
+import com.saimir.gasa.releasevitals.service.HistoryBackfillService;
+import com.saimir.gasa.releasevitals.service.IssueSnapshotService;
+import com.saimir.gasa.releasevitals.service.dto.HistoryBackfillDTO;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the HistoryBackfillResource REST controller.
+ *
+ * @see HistoryBackfillResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class HistoryBackfillResourceIntTest {
+
+    private static final Instant STARTED = Instant.parse("2018-10-02T08:00:00Z");
+
+    @Autowired
+    private HistoryBackfillService historyBackfillService;
+
+    @Autowired
+    private IssueSnapshotService issueSnapshotService;
+
+    @Autowired
+    private BackfillCheckpointRepository backfillCheckpointRepository;
+
+    @Autowired
+    private IssueStatusDurationRepository issueStatusDurationRepository;
+
+    @Autowired
+    private StatusRollupRepository statusRollupRepository;
+
+    @Autowired
+    private ScopeEventRepository scopeEventRepository;
+
+    @Autowired
+    private IssueSnapshotRepository issueSnapshotRepository;
+
+    @Autowired
+    private StatusRepository statusRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    private MockMvc restHistoryBackfillMockMvc;
+
+    @Before
+    public void setup() {
+        final HistoryBackfillResource historyBackfillResource = new HistoryBackfillResource(historyBackfillService);
+        this.restHistoryBackfillMockMvc = MockMvcBuilders.standaloneSetup(historyBackfillResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    private static Status transition(Issue issue, String fromStatus, String toStatus, Duration afterStart) {
+        return new Status().fromStatus(fromStatus).toStatus(toStatus).timeChaged(STARTED.plus(afterStart)).issue(issue);
+    }
+
+    private HistoryBackfillDTO awaitBackfill(HistoryBackfillDTO backfill) throws InterruptedException {
+        for (int i = 0; i < 100 && backfill.getFinishedAt() == null; i++) {
+            Thread.sleep(100);
+            backfill = historyBackfillService.getProgress().get();
+        }
+        assertThat(backfill.getFinishedAt()).isNotNull();
+        assertThat(backfill.getFailedUnitCount()).isZero();
+        return backfill;
+    }
+
+    private List<ScopeEvent> scopeEventsOf(Epic epic) {
+        return scopeEventRepository.findAll().stream()
+            .filter(event -> epic.getId().equals(event.getEpicId()))
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    public void backfillRebuildsTheHistoryAndResumes() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        // Written behind the services and committed, so that the backfill units can read it
+        Issue issue = transactionTemplate.execute(transactionStatus -> {
+            Release release = releaseRepository.save(new Release().name("6.0"));
+            Project project = projectRepository.save(new Project().name("Magnolia UI").key("MGNLUI").release(release));
+            Issue saved = issueRepository.save(new Issue().key("MGNLUI-1").project(project));
+            statusRepository.save(transition(saved, "Open", "In Progress", Duration.ZERO));
+            statusRepository.save(transition(saved, "In Progress", "Closed", Duration.ofMinutes(90)));
+            return saved;
+        });
+        Epic epic = transactionTemplate.execute(transactionStatus -> {
+            Epic saved = epicRepository.save(new Epic().name("Backfill").key("MGNLUI-100")
+                .addProject(projectRepository.getOne(issue.getProject().getId())));
+            issueSnapshotService.record(saved.getId(), Arrays.asList(
+                new IssueFact("MGNLUI-1", "MGNLUI", "6.0", "Open", null, 3d, null)), STARTED);
+            issueSnapshotService.record(saved.getId(), Arrays.asList(
+                new IssueFact("MGNLUI-1", "MGNLUI", "6.0", "Closed", "Done", 5d, STARTED.plus(Duration.ofDays(1))),
+                new IssueFact("MGNLUI-2", "MGNLUI", "6.0", "Open", null, 2d, null)), STARTED.plus(Duration.ofDays(1)));
+            return saved;
+        });
+        Long projectId = issue.getProject().getId();
+        try {
+            List<ScopeEvent> recorded = scopeEventsOf(epic);
+            assertThat(recorded).isNotEmpty();
+            transactionTemplate.execute(transactionStatus -> {
+                scopeEventRepository.deleteAll(recorded);
+                return null;
+            });
+
+            HistoryBackfillDTO backfill = awaitBackfill(historyBackfillService.start(false));
+            assertThat(backfill.isResumed()).isFalse();
+            assertThat(backfill.getSkippedUnitCount()).isZero();
+            assertThat(backfill.getCompletedUnitCount()).isEqualTo(backfill.getUnitCount());
+            assertThat(backfill.getRowCount()).isGreaterThanOrEqualTo(1 + 2 + recorded.size());
+
+            assertThat(issueStatusDurationRepository.findAll().stream()
+                .filter(duration -> issue.getId().equals(duration.getIssueId())))
+                .extracting(IssueStatusDuration::getStatus, IssueStatusDuration::getDurationSeconds)
+                .containsExactly(tuple("In Progress", 5400L));
+            assertThat(statusRollupRepository.findAllByProjectId(projectId))
+                .extracting(StatusRollup::getStatus, StatusRollup::getTransitionCount)
+                .containsExactlyInAnyOrder(tuple("In Progress", 1), tuple("Closed", 1));
+            assertThat(scopeEventsOf(epic))
+                .extracting(ScopeEvent::getEventType, ScopeEvent::getIssueKey, ScopeEvent::getOccurredAt, ScopeEvent::getPointsDelta)
+                .containsExactlyInAnyOrderElementsOf(recorded.stream()
+                    .map(event -> tuple(event.getEventType(), event.getIssueKey(), event.getOccurredAt(), event.getPointsDelta()))
+                    .collect(Collectors.toList()));
+
+            // rebuilding again appends nothing to the log
+            List<Long> rebuilt = scopeEventsOf(epic).stream().map(ScopeEvent::getId).collect(Collectors.toList());
+            Integer appended = transactionTemplate.execute(transactionStatus -> issueSnapshotService.rebuildScopeEvents(epic.getId()));
+            assertThat(appended).isZero();
+            assertThat(scopeEventsOf(epic)).extracting(ScopeEvent::getId).containsExactlyInAnyOrderElementsOf(rebuilt);
+
+            restHistoryBackfillMockMvc.perform(get("/api/history-backfill"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+                .andExpect(jsonPath("$.failedUnitCount").value(0))
+                .andExpect(jsonPath("$.rowsPerSecond").isNumber());
+
+            // every unit was checkpointed, so resuming has nothing left to do
+            HistoryBackfillDTO resumed = awaitBackfill(historyBackfillService.start(true));
+            assertThat(resumed.isResumed()).isTrue();
+            assertThat(resumed.getSkippedUnitCount()).isEqualTo(resumed.getUnitCount());
+            assertThat(resumed.getCompletedUnitCount()).isZero();
+            assertThat(resumed.getRowCount()).isZero();
+        } finally {
+            transactionTemplate.execute(transactionStatus -> {
+                backfillCheckpointRepository.deleteAllCheckpoints();
+                issueStatusDurationRepository.deleteAllByIssueIdIn(Collections.singleton(issue.getId()));
+                statusRollupRepository.deleteAll(statusRollupRepository.findAllByProjectId(projectId));
+                scopeEventRepository.deleteAll(scopeEventRepository.findAllByEpicId(epic.getId()));
+                issueSnapshotRepository.deleteAll(issueSnapshotRepository.findAllByEpicId(epic.getId()));
+                statusRepository.deleteAll(statusRepository.findAll().stream()
+                    .filter(status -> status.getIssue() != null && issue.getId().equals(status.getIssue().getId()))
+                    .collect(Collectors.toList()));
+                epicRepository.delete(epicRepository.getOne(epic.getId()));
+                Issue saved = issueRepository.getOne(issue.getId());
+                Project project = saved.getProject();
+                issueRepository.delete(saved);
+                projectRepository.delete(project);
+                releaseRepository.delete(project.getRelease());
+                return null;
+            });
+        }
+    }
+
+    @Test
+    public void startHistoryBackfillReturnsAccepted() throws Exception {
+        restHistoryBackfillMockMvc.perform(post("/api/history-backfill").param("resume", "true"))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.resumed").value(true))
+            .andExpect(jsonPath("$.unitCount").isNumber());
+        awaitBackfill(historyBackfillService.getProgress().get());
+    }
+}
@@ -2,12 +2,17 @@ package com.saimir.gasa.releasevitals.web.rest;
 
 import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
 
+import com.saimir.gasa.releasevitals.domain.Epic;
 import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Sprint;
 import com.saimir.gasa.releasevitals.repository.IssueRepository;
 import com.saimir.gasa.releasevitals.repository.search.IssueSearchRepository;
 import com.saimir.gasa.releasevitals.service.IssueService;
 import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -32,6 +37,7 @@ import java.util.List;
 import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.elasticsearch.index.query.QueryBuilders.queryStringQuery;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -182,6 +188,51 @@ public class IssueResourceIntTest {
             .andExpect(jsonPath("$.[*].browserURL").value(hasItem(DEFAULT_BROWSER_URL.toString())));
     }
     
+    @Test
+    @Transactional
+    public void getAllIssuesWithReferences() throws Exception {
+        // Initialize the database
+        Project project = ProjectResourceIntTest.createEntity(em);
+        em.persist(project);
+        issueRepository.saveAndFlush(issue.project(project));
+
+        // The related entities are rendered as references
+        restIssueMockMvc.perform(get("/api/issues?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[0].id").value(issue.getId().intValue()))
+            .andExpect(jsonPath("$.[0].project.id").value(project.getId().intValue()))
+            .andExpect(jsonPath("$.[0].project.name").value(project.getName()))
+            .andExpect(jsonPath("$.[0].epic").isEmpty())
+            .andExpect(jsonPath("$.[0].sprint").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void getAllIssuesAfter() throws Exception {
+        // Initialize the database
+        issueRepository.saveAndFlush(issue);
+        Issue second = issueRepository.saveAndFlush(createEntity(em));
+        Issue third = issueRepository.saveAndFlush(createEntity(em));
+
+        // Seek past the first issue, one page of one
+        restIssueMockMvc.perform(get("/api/issues?after={id}&size=1", issue.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string("Link", "</api/issues?after=" + second.getId() + "&size=1>; rel=\"next\"," +
+                "</api/issues?after=0&size=1>; rel=\"first\""))
+            .andExpect(jsonPath("$.[*].id").value(contains(second.getId().intValue())));
+
+        // The last page has no next link
+        restIssueMockMvc.perform(get("/api/issues?after={id}&size=2&estimate=true", issue.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("Link", "</api/issues?after=0&size=2>; rel=\"first\""))
+            .andExpect(header().string("X-Total-Count-Estimate", String.valueOf(issueRepository.count())))
+            .andExpect(jsonPath("$.[*].id").value(contains(second.getId().intValue(), third.getId().intValue())));
+
+        restIssueMockMvc.perform(get("/api/issues?after=0&size=0"))
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     public void getIssue() throws Exception {
@@ -199,6 +250,67 @@ public class IssueResourceIntTest {
             .andExpect(jsonPath("$.browserURL").value(DEFAULT_BROWSER_URL.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getProjectAndSprintIssues() throws Exception {
+        // Initialize the database
+        Project project = ProjectResourceIntTest.createEntity(em);
+        em.persist(project);
+        Sprint sprint = SprintResourceIntTest.createEntity(em);
+        em.persist(sprint);
+        issueRepository.saveAndFlush(issue.project(project).sprint(sprint));
+        Issue second = issueRepository.saveAndFlush(createEntity(em).project(project));
+        issueRepository.saveAndFlush(createEntity(em));
+
+        // The issues of the project, a page at a time with the total from the count query
+        restIssueMockMvc.perform(get("/api/projects/{id}/issues?sort=id,desc&size=1", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(jsonPath("$.[*].id").value(contains(second.getId().intValue())))
+            .andExpect(jsonPath("$.[0].project.name").value(project.getName()));
+
+        restIssueMockMvc.perform(get("/api/sprints/{id}/issues", sprint.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string("X-Total-Count", "1"))
+            .andExpect(jsonPath("$.[*].id").value(contains(issue.getId().intValue())));
+
+        restIssueMockMvc.perform(get("/api/sprints/{id}/issues", Long.MAX_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void getIssuesStatementCount() throws Exception {
+        // Initialize the database
+        Project project = ProjectResourceIntTest.createEntity(em);
+        em.persist(project);
+        Sprint sprint = SprintResourceIntTest.createEntity(em);
+        em.persist(sprint);
+        Epic epic = EpicResourceIntTest.createEntity(em);
+        em.persist(epic);
+        issueRepository.saveAndFlush(issue.project(project).sprint(sprint).epic(epic));
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // The detail fetch plan reads the issue with its sprint, project and epic in one statement
+        statistics.clear();
+        restIssueMockMvc.perform(get("/api/issues/{id}", issue.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.sprint.name").value(sprint.getName()))
+            .andExpect(jsonPath("$.project.name").value(project.getName()))
+            .andExpect(jsonPath("$.epic.name").value(epic.getName()));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // The list reads its rows in one statement; a short first page is not counted
+        em.clear();
+        statistics.clear();
+        restIssueMockMvc.perform(get("/api/issues?size=1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].epic.name").value(hasItem(epic.getName())));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
     @Test
     @Transactional
     public void getNonExistingIssue() throws Exception {
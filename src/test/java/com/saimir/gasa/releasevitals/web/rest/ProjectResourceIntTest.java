@@ -3,11 +3,15 @@ package com.saimir.gasa.releasevitals.web.rest;
 import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
 
 import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Version;
 import com.saimir.gasa.releasevitals.repository.ProjectRepository;
 import com.saimir.gasa.releasevitals.repository.search.ProjectSearchRepository;
 import com.saimir.gasa.releasevitals.service.ProjectService;
 import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -181,7 +185,7 @@ public class ProjectResourceIntTest {
     
     public void getAllProjectsWithEagerRelationshipsIsEnabled() throws Exception {
         ProjectResource projectResource = new ProjectResource(projectServiceMock);
-        when(projectServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+        when(projectServiceMock.findAllProjectedWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
 
         MockMvc restProjectMockMvc = MockMvcBuilders.standaloneSetup(projectResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
@@ -192,12 +196,12 @@ public class ProjectResourceIntTest {
         restProjectMockMvc.perform(get("/api/projects?eagerload=true"))
         .andExpect(status().isOk());
 
-        verify(projectServiceMock, times(1)).findAllWithEagerRelationships(any());
+        verify(projectServiceMock, times(1)).findAllProjectedWithEagerRelationships(any());
     }
 
     public void getAllProjectsWithEagerRelationshipsIsNotEnabled() throws Exception {
         ProjectResource projectResource = new ProjectResource(projectServiceMock);
-            when(projectServiceMock.findAllWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
+            when(projectServiceMock.findAllProjectedWithEagerRelationships(any())).thenReturn(new PageImpl(new ArrayList<>()));
             MockMvc restProjectMockMvc = MockMvcBuilders.standaloneSetup(projectResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -207,7 +211,7 @@ public class ProjectResourceIntTest {
         restProjectMockMvc.perform(get("/api/projects?eagerload=true"))
         .andExpect(status().isOk());
 
-            verify(projectServiceMock, times(1)).findAllWithEagerRelationships(any());
+            verify(projectServiceMock, times(1)).findAllProjectedWithEagerRelationships(any());
     }
 
     @Test
@@ -225,6 +229,35 @@ public class ProjectResourceIntTest {
             .andExpect(jsonPath("$.key").value(DEFAULT_KEY.toString()));
     }
 
+    @Test
+    @Transactional
+    public void getProjectsStatementCount() throws Exception {
+        // Initialize the database
+        Release release = ReleaseResourceIntTest.createEntity(em);
+        em.persist(release);
+        Version version = VersionResourceIntTest.createEntity(em);
+        em.persist(version);
+        projectRepository.saveAndFlush(project.release(release).addVersion(version));
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        // The detail fetch plan reads the project, its release and versions in one statement
+        statistics.clear();
+        restProjectMockMvc.perform(get("/api/projects/{id}", project.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.release.name").value(release.getName()))
+            .andExpect(jsonPath("$.versions.[*].id").value(hasItem(version.getId().intValue())));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        // The list reads the rows, then the versions of the page; a short first page is not counted
+        em.clear();
+        statistics.clear();
+        restProjectMockMvc.perform(get("/api/projects?eagerload=true&size=1000"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].release.name").value(hasItem(release.getName())));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+    }
+
     @Test
     @Transactional
     public void getNonExistingProject() throws Exception {
@@ -0,0 +1,258 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.ReleaseHealth;
+import com.saimir.gasa.releasevitals.repository.EpicRepository;
+import com.saimir.gasa.releasevitals.repository.IssueRepository;
+import com.saimir.gasa.releasevitals.repository.ProjectRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseHealthMarkRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseHealthRepository;
+import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
+import com.saimir.gasa.releasevitals.service.ReleaseHealthService;
+import com.saimir.gasa.releasevitals.service.ReleaseService;
+import com.saimir.gasa.releasevitals.service.dto.ReleaseHealthDTO;
+import com.saimir.gasa.releasevitals.service.event.EpicRefreshedEvent;
+import com.saimir.gasa.releasevitals.service.impl.ReleaseHealthServiceImpl;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Optional;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the ReleaseHealthResource REST controller. The health is recomputed in transactions of
+ * its own, so the data is committed by the test.
+ *
+ * @see ReleaseHealthResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class ReleaseHealthResourceIntTest {
+
+    @Autowired
+    private ReleaseHealthService releaseHealthService;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private ReleaseHealthRepository releaseHealthRepository;
+
+    @Autowired
+    private ReleaseHealthMarkRepository releaseHealthMarkRepository;
+
+    @Autowired
+    private ReleaseRepository releaseRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private EpicRepository epicRepository;
+
+    @Autowired
+    private IssueRepository issueRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    private MockMvc restReleaseHealthMockMvc;
+
+    private Release release;
+
+    private Project project;
+
+    private Epic epic;
+
+    private Issue issue;
+
+    private Issue refreshedIssue;
+
+    @Before
+    public void setup() {
+        final ReleaseHealthResource releaseHealthResource = new ReleaseHealthResource(releaseHealthService);
+        this.restReleaseHealthMockMvc = MockMvcBuilders.standaloneSetup(releaseHealthResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Before
+    public void initTest() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        Instant now = Instant.now();
+        transactionTemplate.execute(status -> {
+            release = releaseRepository.save(new Release().name("6.0")
+                .startDate(now.minus(Duration.ofDays(10))).endDate(now.plus(Duration.ofDays(10))));
+            project = projectRepository.save(new Project().name("Magnolia").key("MGNL").release(release));
+            epic = epicRepository.save(new Epic().name("Health").key("MGNL-100").addProject(project)
+                .totalIssueCount(4).totalStoryPoints(10d).storyPointsCompleted(5d).remainingStoryPoints(5d));
+            issue = issueRepository.save(new Issue().key("MGNL-4").project(project).epic(epic));
+            return null;
+        });
+        releaseHealthService.recomputeDirty();
+    }
+
+    @After
+    public void tearDown() {
+        transactionTemplate.execute(status -> {
+            releaseHealthMarkRepository.deleteByReleaseId(release.getId());
+            releaseHealthRepository.deleteByReleaseId(release.getId());
+            if (refreshedIssue != null) {
+                issueRepository.findById(refreshedIssue.getId()).ifPresent(issueRepository::delete);
+            }
+            issueRepository.findById(issue.getId()).ifPresent(issueRepository::delete);
+            epicRepository.findById(epic.getId()).ifPresent(epicRepository::delete);
+            projectRepository.findById(project.getId()).ifPresent(projectRepository::delete);
+            releaseRepository.findById(release.getId()).ifPresent(releaseRepository::delete);
+            return null;
+        });
+    }
+
+    @Test
+    public void recomputeCommitsOutsideTheTransactionOfTheCaller() {
+        releaseHealthService.markDirty(Collections.singleton(release.getId()));
+        Integer recomputed = transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return releaseHealthService.recomputeDirty();
+        });
+        assertThat(recomputed).isEqualTo(1);
+
+        Optional<ReleaseHealth> health = transactionTemplate.execute(status -> releaseHealthRepository.findOneByReleaseId(release.getId()));
+        assertThat(health).isPresent();
+        assertThat(health.get().getPercentageCompleted()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void recomputeWaitsForTheChangeToCommit() {
+        transactionTemplate.execute(status -> {
+            epicRepository.save(epicRepository.findById(epic.getId()).get().storyPointsCompleted(10d).remainingStoryPoints(0d));
+            releaseHealthService.markDirtyByEpic(epic.getId());
+            // the change and its mark are not committed yet
+            releaseHealthService.recomputeDirty();
+            return null;
+        });
+        assertThat(releaseHealthService.getHealth(release.getId()).get().getPercentageCompleted()).isEqualTo(0.5);
+
+        releaseHealthService.recomputeDirty();
+        assertThat(releaseHealthService.getHealth(release.getId()).get().getPercentageCompleted()).isEqualTo(1.0);
+        assertThat(releaseHealthMarkRepository.findIdsByReleaseId(release.getId())).isEmpty();
+    }
+
+    @Test
+    public void marksSurviveARestart() {
+        transactionTemplate.execute(status -> {
+            epicRepository.save(epicRepository.findById(epic.getId()).get().storyPointsCompleted(10d).remainingStoryPoints(0d));
+            releaseHealthService.markDirtyByEpic(epic.getId());
+            return null;
+        });
+
+        ReleaseHealthService restarted = new ReleaseHealthServiceImpl(releaseHealthRepository, releaseHealthMarkRepository,
+            releaseRepository, epicRepository, issueRepository, transactionManager);
+        assertThat(restarted.recomputeDirty()).isGreaterThanOrEqualTo(1);
+        assertThat(releaseHealthService.getHealth(release.getId()).get().getPercentageCompleted()).isEqualTo(1.0);
+    }
+
+    @Test
+    public void refreshingAnEpicAgainKeepsTheUnestimatedRatio() {
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), Collections.emptyList(), Instant.now()));
+        releaseHealthService.recomputeDirty();
+        assertThat(releaseHealthService.getHealth(release.getId()).get().getUnestimatedRatio()).isEqualTo(0.25);
+
+        // a refresh links a new row of the same unestimated issue to the epic
+        transactionTemplate.execute(status -> {
+            refreshedIssue = issueRepository.save(new Issue().key("MGNL-4").project(project).epic(epic));
+            releaseHealthService.markDirtyByEpic(epic.getId());
+            return null;
+        });
+        releaseHealthService.recomputeDirty();
+        assertThat(releaseHealthService.getHealth(release.getId()).get().getUnestimatedRatio()).isEqualTo(0.25);
+    }
+
+    @Test
+    public void ingestionRecomputesTheHealthOfTouchedReleases() throws Exception {
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), Collections.emptyList(), Instant.now()));
+        assertThat(releaseHealthService.recomputeDirty()).isEqualTo(1);
+        // nothing changed since
+        assertThat(releaseHealthService.recomputeDirty()).isZero();
+
+        // completed half, on pace, a quarter unestimated, half of the window elapsed
+        restReleaseHealthMockMvc.perform(get("/api/release-health").param("releaseId", release.getId().toString(), String.valueOf(Long.MAX_VALUE)))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$[*].releaseId").value(contains(release.getId().intValue())))
+            .andExpect(jsonPath("$[0].percentageCompleted").value(0.5))
+            .andExpect(jsonPath("$[0].unestimatedRatio").value(0.25))
+            .andExpect(jsonPath("$[0].score").value(66.9));
+        ReleaseHealthDTO health = releaseHealthService.getHealth(release.getId()).get();
+        assertThat(health.getBurndownSlope()).isCloseTo(0.5, within(0.001));
+        assertThat(health.getForecastConfidence()).isCloseTo(0.375, within(0.001));
+
+        transactionTemplate.execute(status -> epicRepository.save(epicRepository.findById(epic.getId()).get()
+            .storyPointsCompleted(10d).remainingStoryPoints(0d)));
+        eventPublisher.publishEvent(new EpicRefreshedEvent(epic.getId(), Collections.emptyList(), Instant.now()));
+        releaseHealthService.recomputeDirty();
+
+        restReleaseHealthMockMvc.perform(get("/api/releases/{id}/health", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.percentageCompleted").value(1.0))
+            .andExpect(jsonPath("$.score").value(86.9));
+    }
+
+    @Test
+    public void deletingTheReleaseRemovesItsHealth() throws Exception {
+        releaseHealthService.markDirty(Collections.singleton(release.getId()));
+        releaseHealthService.recomputeDirty();
+        assertThat(releaseHealthService.getHealth(release.getId())).isPresent();
+
+        transactionTemplate.execute(status -> {
+            issueRepository.deleteById(issue.getId());
+            epicRepository.deleteById(epic.getId());
+            projectRepository.deleteById(project.getId());
+            return null;
+        });
+        releaseService.delete(release.getId());
+
+        restReleaseHealthMockMvc.perform(get("/api/releases/{id}/health", release.getId()))
+            .andExpect(status().isNotFound());
+    }
+}
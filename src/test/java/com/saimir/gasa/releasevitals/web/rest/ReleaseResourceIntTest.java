@@ -2,10 +2,22 @@ package com.saimir.gasa.releasevitals.web.rest;
 
 import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
 
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.Project;
 import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.domain.Version;
 import com.saimir.gasa.releasevitals.repository.ReleaseRepository;
 import com.saimir.gasa.releasevitals.repository.search.ReleaseSearchRepository;
+import com.saimir.gasa.releasevitals.service.CumulativeFlowService;
+import com.saimir.gasa.releasevitals.service.IssueService;
+import com.saimir.gasa.releasevitals.service.StatusService;
+import com.saimir.gasa.releasevitals.service.IssueFactStore;
+import com.saimir.gasa.releasevitals.service.IssueSnapshotService;
 import com.saimir.gasa.releasevitals.service.ReleaseService;
+import com.saimir.gasa.releasevitals.service.WhatIfService;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
 import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
 
 import org.junit.Before;
@@ -26,7 +38,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -34,6 +49,8 @@ import java.util.List;
 import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.elasticsearch.index.query.QueryBuilders.queryStringQuery;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasItem;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -63,6 +80,24 @@ public class ReleaseResourceIntTest {
     @Autowired
     private ReleaseService releaseService;
 
+    @Autowired
+    private CumulativeFlowService cumulativeFlowService;
+
+    @Autowired
+    private StatusService statusService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private WhatIfService whatIfService;
+
+    @Autowired
+    private IssueFactStore issueFactStore;
+
+    @Autowired
+    private IssueSnapshotService issueSnapshotService;
+
     /**
      * This repository is mocked in the com.saimir.gasa.releasevitals.repository.search test package.
      *
@@ -90,7 +125,8 @@ public class ReleaseResourceIntTest {
     @Before
     public void setup() {
         MockitoAnnotations.initMocks(this);
-        final ReleaseResource releaseResource = new ReleaseResource(releaseService);
+        final ReleaseResource releaseResource = new ReleaseResource(releaseService, cumulativeFlowService, whatIfService,
+            issueSnapshotService, jacksonMessageConverter.getObjectMapper());
         this.restReleaseMockMvc = MockMvcBuilders.standaloneSetup(releaseResource)
             .setCustomArgumentResolvers(pageableArgumentResolver)
             .setControllerAdvice(exceptionTranslator)
@@ -297,6 +333,248 @@ public class ReleaseResourceIntTest {
             .andExpect(jsonPath("$.[*].endDate").value(hasItem(DEFAULT_END_DATE.toString())));
     }
 
+    @Test
+    @Transactional
+    public void getCumulativeFlow() throws Exception {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Instant twoDaysAgo = today.minusDays(2).atStartOfDay(ZoneOffset.UTC).toInstant().plusSeconds(3600);
+        Instant yesterday = today.minusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().plusSeconds(3600);
+        release.startDate(twoDaysAgo).endDate(today.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+        em.persist(release);
+        Project project = new Project().name(DEFAULT_NAME).release(release);
+        em.persist(project);
+        Issue first = new Issue().key("FIRST-1").project(project);
+        em.persist(first);
+        Issue second = new Issue().key("SECOND-1").project(project);
+        em.persist(second);
+        em.persist(new Status().fromStatus("Open").toStatus("In Progress").timeChaged(twoDaysAgo).issue(first));
+        em.persist(new Status().fromStatus("In Progress").toStatus("Closed").timeChaged(yesterday).issue(first));
+        em.persist(new Status().fromStatus("Open").toStatus("In Progress").timeChaged(yesterday).issue(second));
+        em.flush();
+
+        restReleaseMockMvc.perform(get("/api/releases/{id}/cumulative-flow", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.statuses").value(contains("In Progress", "Closed")))
+            .andExpect(jsonPath("$.days.length()").value(3))
+            .andExpect(jsonPath("$.days[0].date").value(today.minusDays(2).toString()))
+            .andExpect(jsonPath("$.days[0].counts").value(contains(1, 0)))
+            .andExpect(jsonPath("$.days[1].counts").value(contains(1, 1)))
+            .andExpect(jsonPath("$.days[2].date").value(today.toString()))
+            .andExpect(jsonPath("$.days[2].counts").value(contains(1, 1)));
+
+        // A transition of the current day is picked up on top of the cached days
+        em.persist(new Status().fromStatus("In Progress").toStatus("Closed").timeChaged(Instant.now()).issue(second));
+        em.flush();
+
+        restReleaseMockMvc.perform(get("/api/releases/{id}/cumulative-flow", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.days.length()").value(3))
+            .andExpect(jsonPath("$.days[1].counts").value(contains(1, 1)))
+            .andExpect(jsonPath("$.days[2].counts").value(contains(0, 2)));
+    }
+
+    @Test
+    @Transactional
+    public void movingATransitionLaterEvictsTheDaysItLeft() throws Exception {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Instant twoDaysAgo = today.minusDays(2).atStartOfDay(ZoneOffset.UTC).toInstant().plusSeconds(3600);
+        em.persist(release.startDate(null).endDate(null));
+        Project project = new Project().name(DEFAULT_NAME).release(release);
+        em.persist(project);
+        Issue issue = new Issue().key("FIRST-1").project(project);
+        em.persist(issue);
+        Status started = new Status().fromStatus("Open").toStatus("In Progress").timeChaged(twoDaysAgo).issue(issue);
+        em.persist(started);
+        em.flush();
+
+        restReleaseMockMvc.perform(get("/api/releases/{id}/cumulative-flow", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.days.length()").value(3));
+
+        statusService.save(started.timeChaged(Instant.now()));
+
+        restReleaseMockMvc.perform(get("/api/releases/{id}/cumulative-flow", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.days.length()").value(1))
+            .andExpect(jsonPath("$.days[0].date").value(today.toString()));
+    }
+
+    @Test
+    @Transactional
+    public void movingAnIssueEvictsTheDaysOfItsRelease() throws Exception {
+        Instant yesterday = LocalDate.now(ZoneOffset.UTC).minusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant().plusSeconds(3600);
+        em.persist(release.startDate(null).endDate(null));
+        Project project = new Project().name(DEFAULT_NAME).release(release);
+        em.persist(project);
+        Release otherRelease = new Release().name(UPDATED_NAME);
+        em.persist(otherRelease);
+        Project otherProject = new Project().name(UPDATED_NAME).release(otherRelease);
+        em.persist(otherProject);
+        Issue issue = new Issue().key("FIRST-1").project(project);
+        em.persist(issue);
+        em.persist(new Status().fromStatus("Open").toStatus("In Progress").timeChaged(yesterday).issue(issue));
+        em.flush();
+
+        restReleaseMockMvc.perform(get("/api/releases/{id}/cumulative-flow", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.days.length()").value(2));
+
+        issueService.save(issue.project(otherProject));
+
+        restReleaseMockMvc.perform(get("/api/releases/{id}/cumulative-flow", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.days").isEmpty());
+        restReleaseMockMvc.perform(get("/api/releases/{id}/cumulative-flow", otherRelease.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.days.length()").value(2));
+    }
+
+    @Test
+    @Transactional
+    public void getCumulativeFlowOfNonExistingRelease() throws Exception {
+        restReleaseMockMvc.perform(get("/api/releases/{id}/cumulative-flow", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    public void getWhatIf() throws Exception {
+        Instant now = Instant.now();
+        release.startDate(now.minus(10, ChronoUnit.DAYS)).endDate(now.minus(2, ChronoUnit.DAYS));
+        em.persist(release);
+        Version version = new Version().name("6.0");
+        em.persist(version);
+        Project project = new Project().name(DEFAULT_NAME).key("MGNL").release(release).addVersion(version);
+        em.persist(project);
+        Epic epic = new Epic().name(DEFAULT_NAME).key("MGNL-100").addProject(project);
+        em.persist(epic);
+        em.flush();
+        Instant yesterday = now.minus(1, ChronoUnit.DAYS);
+        issueFactStore.replace(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Closed", "Done", 3d, yesterday),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 5d, null),
+            new IssueFact("MGNL-3", "MGNL", "6.1", "Closed", "Done", 2d, yesterday)));
+
+        try {
+            // The release window and versions as they are
+            restReleaseMockMvc.perform(get("/api/releases/{id}/what-if", release.getId()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+                .andExpect(jsonPath("$.releaseId").value(release.getId().intValue()))
+                .andExpect(jsonPath("$.epics.length()").value(1))
+                .andExpect(jsonPath("$.epics[0].epicId").value(epic.getId().intValue()))
+                .andExpect(jsonPath("$.epics[0].totalIssueCount").value(2))
+                .andExpect(jsonPath("$.epics[0].totalStoryPoints").value(8d))
+                .andExpect(jsonPath("$.epics[0].storyPointsCompleted").value(0d))
+                .andExpect(jsonPath("$.epics[0].remainingStoryPoints").value(5d));
+
+            // A later end date with the next version added
+            restReleaseMockMvc.perform(get("/api/releases/{id}/what-if", release.getId())
+                .param("endDate", now.plus(1, ChronoUnit.DAYS).toString())
+                .param("versions", "MGNL:6.0", "MGNL:6.1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.endDate").value(now.plus(1, ChronoUnit.DAYS).toString()))
+                .andExpect(jsonPath("$.epics[0].totalIssueCount").value(3))
+                .andExpect(jsonPath("$.epics[0].totalStoryPoints").value(10d))
+                .andExpect(jsonPath("$.epics[0].storyPointsCompleted").value(5d))
+                .andExpect(jsonPath("$.epics[0].remainingStoryPoints").value(5d))
+                .andExpect(jsonPath("$.epics[0].percentageCompleted").value(0.5d));
+
+            // Project keys differing only in case name the same project
+            restReleaseMockMvc.perform(get("/api/releases/{id}/what-if", release.getId())
+                .param("endDate", now.plus(1, ChronoUnit.DAYS).toString())
+                .param("versions", "mgnl:6.0", "MGNL:6.1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.epics[0].totalIssueCount").value(3))
+                .andExpect(jsonPath("$.epics[0].totalStoryPoints").value(10d));
+        } finally {
+            issueFactStore.remove(epic.getId());
+        }
+
+        // Nothing is computed for an epic without cached facts
+        restReleaseMockMvc.perform(get("/api/releases/{id}/what-if", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.epics").isEmpty())
+            .andExpect(jsonPath("$.missingEpicIds").value(contains(epic.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    public void getWhatIfWithInvalidParameters() throws Exception {
+        em.persist(release);
+        em.flush();
+
+        restReleaseMockMvc.perform(get("/api/releases/{id}/what-if", release.getId())
+            .param("startDate", "2018-10-02T00:00:00Z")
+            .param("endDate", "2018-10-01T00:00:00Z"))
+            .andExpect(status().isBadRequest());
+
+        restReleaseMockMvc.perform(get("/api/releases/{id}/what-if", release.getId())
+            .param("versions", "6.0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    public void getWhatIfOfNonExistingRelease() throws Exception {
+        restReleaseMockMvc.perform(get("/api/releases/{id}/what-if", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    public void getChanges() throws Exception {
+        em.persist(release);
+        Version version = new Version().name("6.0");
+        em.persist(version);
+        Project project = new Project().name(DEFAULT_NAME).key("MGNL").release(release).addVersion(version);
+        em.persist(project);
+        Epic epic = new Epic().name(DEFAULT_NAME).key("MGNL-100").addProject(project);
+        em.persist(epic);
+        em.flush();
+        Instant firstRefresh = Instant.parse("2018-10-01T10:00:00Z");
+        Instant secondRefresh = Instant.parse("2018-10-08T10:00:00Z");
+        issueSnapshotService.record(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Open", null, 3d, null),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 5d, null),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Open", null, 8d, null),
+            new IssueFact("OTHER-1", "OTHER", "1.0", "Open", null, 1d, null)), firstRefresh);
+        issueSnapshotService.record(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Closed", "Done", 3d, secondRefresh),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 5d, null),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Open", null, 13d, null),
+            new IssueFact("MGNL-4", "MGNL", "6.0", "Open", null, 2d, null)), secondRefresh);
+
+        restReleaseMockMvc.perform(get("/api/releases/{id}/changes", release.getId())
+            .param("since", "2018-10-02T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.releaseId").value(release.getId().intValue()))
+            .andExpect(jsonPath("$.changes.length()").value(3))
+            .andExpect(jsonPath("$.changes[*].issueKey").value(containsInAnyOrder("MGNL-1", "MGNL-3", "MGNL-4")))
+            .andExpect(jsonPath("$.summary.addedIssueCount").value(1))
+            .andExpect(jsonPath("$.summary.removedIssueCount").value(0))
+            .andExpect(jsonPath("$.summary.completedIssueCount").value(1))
+            .andExpect(jsonPath("$.summary.storyPointsCompleted").value(3d))
+            .andExpect(jsonPath("$.summary.estimateDelta").value(5d));
+
+        // Before the first refresh every issue of the release is new
+        restReleaseMockMvc.perform(get("/api/releases/{id}/changes", release.getId())
+            .param("since", "2018-09-01T00:00:00Z"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.changes.length()").value(4))
+            .andExpect(jsonPath("$.summary.addedIssueCount").value(4));
+    }
+
+    @Test
+    @Transactional
+    public void getChangesOfNonExistingRelease() throws Exception {
+        restReleaseMockMvc.perform(get("/api/releases/{id}/changes", Long.MAX_VALUE)
+            .param("since", "2018-10-02T00:00:00Z"))
+            .andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     public void equalsVerifier() throws Exception {
@@ -0,0 +1,172 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.domain.Epic;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Version;
+import com.saimir.gasa.releasevitals.service.IssueSnapshotService;
+import com.saimir.gasa.releasevitals.service.ReleaseSummaryService;
+import com.saimir.gasa.releasevitals.service.dto.IssueFact;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the ReleaseSummaryResource REST controller.
+ *
+ * @see ReleaseSummaryResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class ReleaseSummaryResourceIntTest {
+
+    private static final Instant FIRST_REFRESH = Instant.parse("2018-10-01T10:00:00Z");
+    private static final Instant SECOND_REFRESH = Instant.parse("2018-10-03T10:00:00Z");
+
+    @Autowired
+    private ReleaseSummaryService releaseSummaryService;
+
+    @Autowired
+    private IssueSnapshotService issueSnapshotService;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restReleaseSummaryMockMvc;
+
+    private Release release;
+
+    private Epic epic;
+
+    @Before
+    public void setup() {
+        final ReleaseSummaryResource releaseSummaryResource = new ReleaseSummaryResource(releaseSummaryService);
+        this.restReleaseSummaryMockMvc = MockMvcBuilders.standaloneSetup(releaseSummaryResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Before
+    public void initTest() {
+        release = new Release().name("6.0")
+            .startDate(Instant.parse("2018-10-01T00:00:00Z"))
+            .endDate(Instant.parse("2018-10-05T00:00:00Z"));
+        em.persist(release);
+        Version version = new Version().name("6.0");
+        em.persist(version);
+        Project project = new Project().name("Magnolia").key("MGNL").release(release).addVersion(version);
+        em.persist(project);
+        epic = new Epic().name("Summary").key("MGNL-100").addProject(project);
+        em.persist(epic);
+        em.flush();
+        issueSnapshotService.record(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Open", null, 3d, null),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 5d, null),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Open", null, null, null)), FIRST_REFRESH);
+        issueSnapshotService.record(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-1", "MGNL", "6.0", "Closed", "Done", 3d, SECOND_REFRESH),
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Open", null, 5d, null),
+            new IssueFact("MGNL-3", "MGNL", "6.0", "Open", null, null, null),
+            new IssueFact("MGNL-4", "MGNL", "6.0", "Open", null, 2d, null)), SECOND_REFRESH);
+    }
+
+    @Test
+    @Transactional
+    public void closeReleaseFreezesItsSummary() throws Exception {
+        restReleaseSummaryMockMvc.perform(post("/api/releases/{id}/close", release.getId()))
+            .andExpect(status().isCreated())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.releaseId").value(release.getId().intValue()))
+            .andExpect(jsonPath("$.releaseName").value("6.0"))
+            .andExpect(jsonPath("$.epicCount").value(1))
+            .andExpect(jsonPath("$.issueCount").value(4))
+            .andExpect(jsonPath("$.unestimatedIssueCount").value(1))
+            .andExpect(jsonPath("$.totalStoryPoints").value(10d))
+            .andExpect(jsonPath("$.storyPointsCompleted").value(3d))
+            .andExpect(jsonPath("$.remainingStoryPoints").value(7d))
+            .andExpect(jsonPath("$.burndownStart").value("2018-10-01"))
+            .andExpect(jsonPath("$.burndown[*]").value(contains(8d, 8d, 7d, 7d, 7d)))
+            .andExpect(jsonPath("$.epics[0].key").value("MGNL-100"))
+            .andExpect(jsonPath("$.epics[0].storyPointsCompleted").value(3d));
+
+        // Later changes to the live data do not reach the summary
+        issueSnapshotService.record(epic.getId(), Arrays.asList(
+            new IssueFact("MGNL-2", "MGNL", "6.0", "Closed", "Done", 5d, Instant.parse("2018-10-04T10:00:00Z"))),
+            Instant.parse("2018-10-04T10:00:00Z"));
+        epic.setName("Renamed");
+        em.flush();
+
+        restReleaseSummaryMockMvc.perform(get("/api/releases/{id}/summary", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.storyPointsCompleted").value(3d))
+            .andExpect(jsonPath("$.burndown[*]").value(contains(8d, 8d, 7d, 7d, 7d)))
+            .andExpect(jsonPath("$.epics[0].name").value("Summary"));
+
+        restReleaseSummaryMockMvc.perform(post("/api/releases/{id}/close", release.getId()))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    public void compareClosedReleases() throws Exception {
+        Release previous = new Release().name("5.7");
+        em.persist(previous);
+        em.flush();
+        releaseSummaryService.close(previous.getId());
+        releaseSummaryService.close(release.getId());
+
+        restReleaseSummaryMockMvc.perform(get("/api/release-comparison")
+            .param("releaseId", previous.getId().toString(), release.getId().toString()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.baselineReleaseId").value(previous.getId().intValue()))
+            .andExpect(jsonPath("$.releases[*].releaseName").value(contains("5.7", "6.0")))
+            .andExpect(jsonPath("$.releases[0].burndown").isEmpty())
+            .andExpect(jsonPath("$.diffs[0].releaseId").value(release.getId().intValue()))
+            .andExpect(jsonPath("$.diffs[0].epicCountDelta").value(1))
+            .andExpect(jsonPath("$.diffs[0].issueCountDelta").value(4))
+            .andExpect(jsonPath("$.diffs[0].totalStoryPointsDelta").value(10d))
+            .andExpect(jsonPath("$.diffs[0].storyPointsCompletedDelta").value(3d))
+            .andExpect(jsonPath("$.diffs[0].percentageCompletedDelta").isEmpty())
+            .andExpect(jsonPath("$.diffs[0].burndownDaysDelta").isEmpty());
+    }
+
+    @Test
+    @Transactional
+    public void compareOpenReleaseOrUnknownSummary() throws Exception {
+        restReleaseSummaryMockMvc.perform(get("/api/release-comparison").param("releaseId", release.getId().toString()))
+            .andExpect(status().isBadRequest());
+        restReleaseSummaryMockMvc.perform(get("/api/releases/{id}/summary", release.getId()))
+            .andExpect(status().isNotFound());
+        restReleaseSummaryMockMvc.perform(post("/api/releases/{id}/close", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+}
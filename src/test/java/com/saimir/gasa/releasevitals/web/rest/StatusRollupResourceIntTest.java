@@ -0,0 +1,214 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.service.IssueService;
+import com.saimir.gasa.releasevitals.service.ProjectService;
+import com.saimir.gasa.releasevitals.service.ReleaseService;
+import com.saimir.gasa.releasevitals.service.StatusRollupService;
+import com.saimir.gasa.releasevitals.service.StatusService;
+import com.saimir.gasa.releasevitals.service.dto.RollupDriftDTO;
+import com.saimir.gasa.releasevitals.service.dto.RollupVerificationDTO;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Instant;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the StatusRollupResource REST controller.
+ *
+ * @see StatusRollupResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class StatusRollupResourceIntTest {
+
+    private static final Instant FIRST_WEEK_TUESDAY = Instant.parse("2018-10-02T10:00:00Z");
+    private static final Instant FIRST_WEEK_THURSDAY = Instant.parse("2018-10-04T10:00:00Z");
+    private static final Instant SECOND_WEEK_TUESDAY = Instant.parse("2018-10-09T10:00:00Z");
+
+    @Autowired
+    private StatusRollupService statusRollupService;
+
+    @Autowired
+    private StatusService statusService;
+
+    @Autowired
+    private IssueService issueService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restStatusRollupMockMvc;
+
+    private Release release;
+
+    private Project project;
+
+    private Issue issue;
+
+    @Before
+    public void setup() {
+        final StatusRollupResource statusRollupResource = new StatusRollupResource(statusRollupService, releaseService);
+        this.restStatusRollupMockMvc = MockMvcBuilders.standaloneSetup(statusRollupResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    @Before
+    public void initTest() {
+        release = new Release().name("6.0");
+        em.persist(release);
+        project = new Project().name("Magnolia UI").key("MGNLUI").release(release);
+        em.persist(project);
+        issue = new Issue().key("MGNLUI-1").project(project);
+        em.persist(issue);
+        em.flush();
+    }
+
+    @Test
+    @Transactional
+    public void statusChangesUpdateTheRollup() throws Exception {
+        statusService.save(new Status().fromStatus("Open").toStatus("In Progress").timeChaged(FIRST_WEEK_TUESDAY).issue(issue));
+        Status closed = statusService.save(new Status().fromStatus("In Progress").toStatus("Closed").timeChaged(FIRST_WEEK_THURSDAY).issue(issue));
+        statusService.save(new Status().fromStatus("Closed").toStatus("In Progress").timeChaged(SECOND_WEEK_TUESDAY).issue(issue));
+
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[*].weekStart").value(contains("2018-10-01", "2018-10-01", "2018-10-08")))
+            .andExpect(jsonPath("$[*].status").value(contains("Closed", "In Progress", "In Progress")))
+            .andExpect(jsonPath("$[0].projectId").value(project.getId().intValue()));
+
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", release.getId()).param("groupBy", "status"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].status").value(contains("Closed", "In Progress")))
+            .andExpect(jsonPath("$[*].transitionCount").value(contains(1, 2)))
+            .andExpect(jsonPath("$[0].weekStart").doesNotExist());
+
+        // Moving a transition to the next week, then deleting one
+        statusService.save(closed.timeChaged(SECOND_WEEK_TUESDAY));
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", release.getId())
+            .param("groupBy", "week").param("from", "2018-10-08"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].transitionCount").value(contains(2)));
+
+        statusService.delete(closed.getId());
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", release.getId()).param("groupBy", "week"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].weekStart").value(contains("2018-10-01", "2018-10-08")))
+            .andExpect(jsonPath("$[*].transitionCount").value(contains(1, 1)));
+    }
+
+    @Test
+    @Transactional
+    public void movingAnIssueMovesItsTransitions() throws Exception {
+        statusService.save(new Status().fromStatus("Open").toStatus("In Progress").timeChaged(FIRST_WEEK_TUESDAY).issue(issue));
+        Release otherRelease = new Release().name("6.1");
+        em.persist(otherRelease);
+        Project otherProject = new Project().name("Magnolia UI").key("MGNLUI").release(otherRelease);
+        em.persist(otherProject);
+
+        issueService.save(issue.project(otherProject));
+
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", otherRelease.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].projectId").value(contains(otherProject.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    public void movingAProjectMovesItsTransitions() throws Exception {
+        statusService.save(new Status().fromStatus("Open").toStatus("In Progress").timeChaged(FIRST_WEEK_TUESDAY).issue(issue));
+        Release otherRelease = new Release().name("6.1");
+        em.persist(otherRelease);
+
+        projectService.save(project.release(otherRelease));
+
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", otherRelease.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].projectId").value(contains(project.getId().intValue())))
+            .andExpect(jsonPath("$[*].transitionCount").value(contains(1)));
+    }
+
+    @Test
+    @Transactional
+    public void verifyRepairsDrift() throws Exception {
+        // Written behind the service, so the rollup does not know about it
+        em.persist(new Status().fromStatus("Open").toStatus("In Progress").timeChaged(FIRST_WEEK_TUESDAY).issue(issue));
+        em.flush();
+
+        RollupVerificationDTO verification = statusRollupService.verify();
+        assertThat(verification.getDrifts()).filteredOn(drift -> release.getId().equals(drift.getReleaseId()))
+            .extracting(RollupDriftDTO::getExpectedCount, RollupDriftDTO::getActualCount)
+            .containsExactly(tuple(1, 0));
+
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].transitionCount").value(contains(1)));
+
+        restStatusRollupMockMvc.perform(post("/api/status-rollup/verification"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.driftCount").value(0));
+        restStatusRollupMockMvc.perform(get("/api/status-rollup/verification"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.driftCount").value(0));
+    }
+
+    @Test
+    @Transactional
+    public void getStatusRollupWithInvalidGroupBy() throws Exception {
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", release.getId()).param("groupBy", "epic"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    public void getStatusRollupOfNonExistingRelease() throws Exception {
+        restStatusRollupMockMvc.perform(get("/api/releases/{id}/status-rollup", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+}
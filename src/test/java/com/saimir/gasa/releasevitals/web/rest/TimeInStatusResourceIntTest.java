@@ -0,0 +1,150 @@
+package com.saimir.gasa.releasevitals.web.rest;
+
+import com.saimir.gasa.releasevitals.ReleaseVitalsApp;
+
+import com.saimir.gasa.releasevitals.domain.Issue;
+import com.saimir.gasa.releasevitals.domain.Project;
+import com.saimir.gasa.releasevitals.domain.Release;
+import com.saimir.gasa.releasevitals.domain.Status;
+import com.saimir.gasa.releasevitals.service.ProjectService;
+import com.saimir.gasa.releasevitals.service.ReleaseService;
+import com.saimir.gasa.releasevitals.service.StatusService;
+import com.saimir.gasa.releasevitals.service.TimeInStatusService;
+import com.saimir.gasa.releasevitals.web.rest.errors.ExceptionTranslator;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.saimir.gasa.releasevitals.web.rest.TestUtil.createFormattingConversionService;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Test class for the TimeInStatusResource REST controller.
+ *
+ * @see TimeInStatusResource
+ */
+@RunWith(SpringRunner.class)
+@SpringBootTest(classes = ReleaseVitalsApp.class)
+public class TimeInStatusResourceIntTest {
+
+    private static final Instant STARTED = Instant.parse("2018-10-02T08:00:00Z");
+
+    @Autowired
+    private TimeInStatusService timeInStatusService;
+
+    @Autowired
+    private StatusService statusService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ReleaseService releaseService;
+
+    @Autowired
+    private MappingJackson2HttpMessageConverter jacksonMessageConverter;
+
+    @Autowired
+    private ExceptionTranslator exceptionTranslator;
+
+    @Autowired
+    private EntityManager em;
+
+    private MockMvc restTimeInStatusMockMvc;
+
+    @Before
+    public void setup() {
+        final TimeInStatusResource timeInStatusResource = new TimeInStatusResource(timeInStatusService, releaseService);
+        this.restTimeInStatusMockMvc = MockMvcBuilders.standaloneSetup(timeInStatusResource)
+            .setControllerAdvice(exceptionTranslator)
+            .setConversionService(createFormattingConversionService())
+            .setMessageConverters(jacksonMessageConverter).build();
+    }
+
+    private static Status transition(Issue issue, String fromStatus, String toStatus, Duration afterStart) {
+        return new Status().fromStatus(fromStatus).toStatus(toStatus).timeChaged(STARTED.plus(afterStart)).issue(issue);
+    }
+
+    @Test
+    @Transactional
+    public void statusChangesUpdateTheTimeInStatus() throws Exception {
+        Release release = new Release().name("6.0");
+        em.persist(release);
+        Project project = new Project().name("Magnolia UI").key("MGNLUI").release(release);
+        em.persist(project);
+        Issue issue = new Issue().key("MGNLUI-1").project(project);
+        em.persist(issue);
+        em.flush();
+
+        statusService.save(transition(issue, "Open", "In Progress", Duration.ZERO));
+        Status closed = statusService.save(transition(issue, "In Progress", "Closed", Duration.ofHours(2)));
+        statusService.save(transition(issue, "Closed", "In Progress", Duration.ofHours(3)));
+        // the current visit is not counted until it ends
+        statusService.save(transition(issue, "In Progress", "Done", Duration.ofHours(4)));
+
+        restTimeInStatusMockMvc.perform(get("/api/releases/{id}/time-in-status", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_UTF8_VALUE))
+            .andExpect(jsonPath("$[*].status").value(contains("Closed", "In Progress")))
+            .andExpect(jsonPath("$[*].projectId").value(contains(project.getId().intValue(), project.getId().intValue())))
+            .andExpect(jsonPath("$[*].issueCount").value(contains(1, 1)))
+            .andExpect(jsonPath("$[*].visitCount").value(contains(1, 2)))
+            .andExpect(jsonPath("$[*].totalSeconds").value(contains(3600, 10800)));
+
+        statusService.delete(closed.getId());
+        restTimeInStatusMockMvc.perform(get("/api/releases/{id}/time-in-status", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].status").value(contains("In Progress")))
+            .andExpect(jsonPath("$[*].visitCount").value(contains(2)))
+            .andExpect(jsonPath("$[*].totalSeconds").value(contains(14400)));
+    }
+
+    @Test
+    @Transactional
+    public void getTimeInStatusOfNonExistingRelease() throws Exception {
+        restTimeInStatusMockMvc.perform(get("/api/releases/{id}/time-in-status", Long.MAX_VALUE))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @Transactional
+    public void movingAProjectMovesItsTimeInStatus() throws Exception {
+        Release release = new Release().name("6.0");
+        em.persist(release);
+        Release nextRelease = new Release().name("6.1");
+        em.persist(nextRelease);
+        Project project = new Project().name("Magnolia UI").key("MGNLUI").release(release);
+        em.persist(project);
+        Issue issue = new Issue().key("MGNLUI-1").project(project);
+        em.persist(issue);
+        em.flush();
+
+        statusService.save(transition(issue, "Open", "In Progress", Duration.ZERO));
+        statusService.save(transition(issue, "In Progress", "Closed", Duration.ofMinutes(90)));
+
+        projectService.save(project.release(nextRelease));
+
+        restTimeInStatusMockMvc.perform(get("/api/releases/{id}/time-in-status", release.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$").isEmpty());
+        restTimeInStatusMockMvc.perform(get("/api/releases/{id}/time-in-status", nextRelease.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[*].status").value(contains("In Progress")))
+            .andExpect(jsonPath("$[*].totalSeconds").value(contains(5400)));
+    }
+}
@@ -5,12 +5,14 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.HttpHeaders;
 
 /**
@@ -41,6 +43,24 @@ public class PaginationUtilUnitTest {
         assertTrue(Long.valueOf(xTotalCountHeaders.get(0)).equals(400L));
     }
 
+    @Test
+    public void generateKeysetPaginationHttpHeadersTest() {
+        String baseUrl = "/api/example";
+        HttpHeaders headers = PaginationUtil.generateKeysetPaginationHttpHeaders(
+            new SliceImpl<>(Arrays.asList(3L, 8L), PageRequest.of(0, 2), true), id -> id, baseUrl);
+        List<String> strHeaders = headers.get(HttpHeaders.LINK);
+        assertNotNull(strHeaders);
+        assertTrue(strHeaders.size() == 1);
+        String expectedData = "</api/example?after=8&size=2>; rel=\"next\","
+                + "</api/example?after=0&size=2>; rel=\"first\"";
+        assertEquals(expectedData, strHeaders.get(0));
+        assertTrue(headers.get("X-Total-Count") == null);
+
+        headers = PaginationUtil.generateKeysetPaginationHttpHeaders(
+            new SliceImpl<>(Arrays.asList(3L), PageRequest.of(0, 2), false), id -> id, baseUrl);
+        assertEquals("</api/example?after=0&size=2>; rel=\"first\"", headers.getFirst(HttpHeaders.LINK));
+    }
+
     @Test
     public void commaTest() {
         String baseUrl = "/api/_search/example";